@@ -5,10 +5,14 @@
 */
 package org.robotframework.ide.eclipse.main.plugin.debug.model;
 
+import static com.google.common.collect.Sets.newHashSet;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
 import static org.robotframework.red.junit.jupiter.ProjectExtension.getFile;
@@ -22,6 +26,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.debug.core.IBreakpointListener;
 import org.eclipse.debug.core.IBreakpointManager;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.junit.jupiter.api.AfterEach;
@@ -29,6 +34,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.rf.ide.core.execution.debug.RobotBreakpoint;
 import org.robotframework.red.junit.jupiter.Project;
 import org.robotframework.red.junit.jupiter.ProjectExtension;
@@ -131,6 +137,80 @@ public class RobotBreakpointsTest {
         assertThat(foundBreakpoint).isEmpty();
     }
 
+    @Test
+    public void locationsOfEnabledLineBreakpointsAreReturned() throws Exception {
+        final IFile file = getFile(project, "suite.robot");
+        final IMarker marker1 = createMarker(file, true);
+        marker1.setAttribute(IMarker.LINE_NUMBER, 42);
+        final IMarker marker2 = createMarker(file, false);
+        marker2.setAttribute(IMarker.LINE_NUMBER, 43);
+        final IMarker marker3 = createMarker(file, true);
+        marker3.setAttribute(IMarker.LINE_NUMBER, 44);
+
+        when(breakpointManager.isEnabled()).thenReturn(true);
+        when(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID)).thenReturn(new IBreakpoint[] {
+                new RobotLineBreakpoint(marker1), new RobotLineBreakpoint(marker2), new RobotLineBreakpoint(marker3) });
+
+        assertThat(breakpoints.getLineBreakpointsLocations().asMap())
+                .containsOnlyKeys(file.getLocationURI())
+                .containsEntry(file.getLocationURI(), newHashSet(42, 44));
+    }
+
+    @Test
+    public void lineBreakpointsLocationsAreCachedUntilBreakpointsChange_whenChangesAreTracked() throws Exception {
+        final IFile file = getFile(project, "suite.robot");
+        final IMarker marker = createMarker(file, true);
+        marker.setAttribute(IMarker.LINE_NUMBER, 42);
+
+        when(breakpointManager.isEnabled()).thenReturn(true);
+        when(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID))
+                .thenReturn(new IBreakpoint[] { new RobotLineBreakpoint(marker) });
+
+        breakpoints.startTrackingChanges();
+        final ArgumentCaptor<IBreakpointListener> listener = ArgumentCaptor.forClass(IBreakpointListener.class);
+        verify(breakpointManager).addBreakpointListener(listener.capture());
+
+        assertThat(breakpoints.getLineBreakpointsLocations().get(file.getLocationURI())).containsOnly(42);
+        assertThat(breakpoints.getLineBreakpointsLocations().get(file.getLocationURI())).containsOnly(42);
+        verify(breakpointManager, times(1)).getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID);
+
+        marker.setAttribute(IMarker.LINE_NUMBER, 43);
+        listener.getValue().breakpointChanged(null, null);
+        assertThat(breakpoints.getLineBreakpointsLocations().get(file.getLocationURI())).containsOnly(43);
+        verify(breakpointManager, times(2)).getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID);
+
+        breakpoints.stopTrackingChanges();
+        verify(breakpointManager).removeBreakpointListener(listener.getValue());
+        verify(breakpointManager).removeBreakpointManagerListener(any());
+    }
+
+    @Test
+    public void noLineBreakpointsLocationsAreReturned_whenBreakpointsAreGloballyDisabled() throws Exception {
+        final IMarker marker = createMarker(getFile(project, "suite.robot"), true);
+        marker.setAttribute(IMarker.LINE_NUMBER, 42);
+
+        when(breakpointManager.isEnabled()).thenReturn(false);
+        when(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID))
+                .thenReturn(new IBreakpoint[] { new RobotLineBreakpoint(marker) });
+
+        assertThat(breakpoints.getLineBreakpointsLocations().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void kwFailBreakpointsExistenceIsReported_onlyForEnabledBreakpoints() throws Exception {
+        final RobotKeywordFailBreakpoint enabledBp = new RobotKeywordFailBreakpoint(createMarker(true));
+        final RobotKeywordFailBreakpoint disabledBp = new RobotKeywordFailBreakpoint(createMarker(false));
+        when(breakpointManager.isEnabled()).thenReturn(true);
+
+        when(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID))
+                .thenReturn(new IBreakpoint[] { disabledBp });
+        assertThat(breakpoints.hasKeywordFailBreakpoints()).isFalse();
+
+        when(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID))
+                .thenReturn(new IBreakpoint[] { disabledBp, enabledBp });
+        assertThat(breakpoints.hasKeywordFailBreakpoints()).isTrue();
+    }
+
     @Test
     public void kwFailBreakpointForGivenNameIsReturnedIfItMatchesPattern() throws Exception {
         final IMarker marker = createMarker(true);
@@ -311,6 +311,21 @@ public class RobotDebugTargetTest {
         verify(controller).changeVariableInnerValue(frame, variable, newArrayList("p1", "p2"), newArrayList("a", "b"));
     }
 
+    @Test
+    public void variableExpansionRequestsAreSendThroughUserController() {
+        final ILaunch launch = mock(ILaunch.class);
+        final Stacktrace stack = new Stacktrace();
+        final UserProcessDebugController controller = mock(UserProcessDebugController.class);
+
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.GLOBAL, false, "var", "int", 10);
+        final StackFrame frame = mock(StackFrame.class);
+
+        final RobotDebugTarget target = new RobotDebugTarget("target", launch, stack, controller);
+        target.expandVariable(frame, variable, newArrayList("p1", 2));
+
+        verify(controller).expandVariable(frame, variable, newArrayList("p1", 2));
+    }
+
     @Test
     public void expressionEvaluationOfRobotRequestsAreSendThroughUserController() {
         final ILaunch launch = mock(ILaunch.class);
@@ -474,6 +489,25 @@ public class RobotDebugTargetTest {
         verify(thread).fireSuspendEvent(DebugEvent.EVALUATION);
     }
 
+    @Test
+    public void executionSuspendsListenerNotifiesProcessAndThreadAboutVariableExpansionSuspension() {
+        final Stacktrace stack = new Stacktrace();
+        final UserProcessDebugController controller = new UserProcessDebugController(stack,
+                mock(DebuggerPreferences.class));
+        final IRobotProcess process = mock(IRobotProcess.class);
+        final RobotThread thread = mock(RobotThread.class);
+
+        final RobotDebugTarget target = new RobotDebugTarget("target", mock(ILaunch.class), stack, controller);
+        target.setProcess(process);
+        target.setThread(thread);
+
+        final ExecutionPauseReasonsListener listener = target.new ExecutionPauseReasonsListener();
+        listener.pausedAfterVariableExpansion();
+
+        verify(process).suspended();
+        verify(thread).fireSuspendEvent(DebugEvent.EVALUATION_IMPLICIT);
+    }
+
     private static ArgumentMatcher<DebugEvent> isDebugEventOn(final RobotDebugElement element, final int kind) {
         return isDebugEventOn(element, kind, 0);
     }
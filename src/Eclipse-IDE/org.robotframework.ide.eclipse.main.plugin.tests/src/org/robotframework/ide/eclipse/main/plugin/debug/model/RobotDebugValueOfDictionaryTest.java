@@ -52,4 +52,27 @@ public class RobotDebugValueOfDictionaryTest {
         assertThat(var.getValue().getValueString()).isEqualTo("2");
         assertThat(dictValue.getVariable("x")).isNull();
     }
+
+    @Test
+    public void unexpandedDictionaryPropertiesCheck() {
+        final RobotDebugValueOfDictionary dictValue = RobotDebugValueOfDictionary
+                .createUnexpanded(mock(RobotDebugVariable.class), "DotDict", 500);
+
+        assertThat(dictValue.getReferenceTypeName()).isEqualTo("DotDict");
+        assertThat(dictValue.getValueString()).isEqualTo("DotDict[500]");
+        assertThat(dictValue.getDetailedValue()).isEqualTo("DotDict[500]");
+        assertThat(dictValue.hasVariables()).isTrue();
+    }
+
+    @Test
+    public void expansionIsRequestedOnce_whenEntriesOfUnexpandedDictionaryAreNeeded() {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugValueOfDictionary dictValue = RobotDebugValueOfDictionary.createUnexpanded(parent, "dict",
+                500);
+
+        assertThat(dictValue.getVariables()).isEmpty();
+        assertThat(dictValue.getVariables()).isEmpty();
+
+        verify(parent, times(1)).requestExpansion();
+    }
 }
@@ -9,6 +9,7 @@ import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -57,4 +58,39 @@ public class RobotDebugValueOfListTest {
         assertThat(var.getValue().getValueString()).isEqualTo("2");
         assertThat(listValue.getVariable("x")).isNull();
     }
+
+    @Test
+    public void unexpandedListPropertiesCheck() {
+        final RobotDebugValueOfList listValue = RobotDebugValueOfList.createUnexpanded(mock(RobotDebugVariable.class),
+                "list", 1000);
+
+        assertThat(listValue.getReferenceTypeName()).isEqualTo("list");
+        assertThat(listValue.getValueString()).isEqualTo("list[1000]");
+        assertThat(listValue.getDetailedValue()).isEqualTo("list[1000]");
+        assertThat(listValue.hasVariables()).isTrue();
+    }
+
+    @Test
+    public void expansionIsRequestedOnce_whenElementsOfUnexpandedListAreNeeded() {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugValueOfList listValue = RobotDebugValueOfList.createUnexpanded(parent, "list", 1000);
+
+        assertThat(listValue.getVariables()).isEmpty();
+        assertThat(listValue.getVariables()).isEmpty();
+
+        verify(parent, times(1)).requestExpansion();
+    }
+
+    @Test
+    public void expansionIsNotRequested_whenSearchingOrVisitingVariablesOfUnexpandedList() {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugValueOfList listValue = RobotDebugValueOfList.createUnexpanded(parent, "list", 1000);
+
+        final RobotDebugVariableVisitor visitor = mock(RobotDebugVariableVisitor.class);
+        listValue.visitAllVariables(visitor);
+
+        assertThat(listValue.getVariable("[1]")).isNull();
+        verify(visitor, never()).visit(any(RobotDebugVariable.class));
+        verify(parent, never()).requestExpansion();
+    }
 }
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.agent.event.VariableCollectionHandle;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
 
@@ -83,4 +84,16 @@ public class RobotDebugValueTest {
         };
     }
 
+
+    @Test
+    public void unexpandedValueIsCreated_forCollectionHandle() {
+        final RobotDebugValue val1 = RobotDebugValue.createFromValue(mock(RobotDebugVariable.class), "list",
+                new VariableCollectionHandle(false, 100));
+        assertThat(val1).isInstanceOf(RobotDebugValueOfList.class);
+        assertThat(val1.getValueString()).isEqualTo("list[100]");
+        final RobotDebugValue val2 = RobotDebugValue.createFromValue(mock(RobotDebugVariable.class), "DotDict",
+                new VariableCollectionHandle(true, 200));
+        assertThat(val2).isInstanceOf(RobotDebugValueOfDictionary.class);
+        assertThat(val2.getValueString()).isEqualTo("DotDict[200]");
+    }
 }
@@ -21,6 +21,7 @@ import java.util.List;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IValue;
 import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.agent.event.VariableCollectionHandle;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.debug.StackFrameVariable;
 import org.rf.ide.core.testdata.model.table.variables.AVariable.VariableScope;
@@ -547,4 +548,32 @@ public class RobotDebugVariableTest {
         assertThat(var1.equals(var2)).isFalse();
         assertThat(var1.equals(var3)).isFalse();
     }
+
+    @Test
+    public void topLevelUnexpandedListRequestsExpansionFromStackFrame() {
+        final RobotStackFrame frame = mock(RobotStackFrame.class);
+
+        final StackFrameVariable stackVar = new StackFrameVariable(VariableScope.GLOBAL, false, "var", "list",
+                new VariableCollectionHandle(false, 1000));
+        final RobotDebugVariable topLevelList = new RobotDebugVariable(frame, stackVar);
+
+        assertThat(topLevelList.getValue().getVariables()).isEmpty();
+
+        verify(frame).expandVariable(same(stackVar), eq(newArrayList()));
+    }
+
+    @Test
+    public void innerLevelUnexpandedDictionaryRequestsExpansionFromStackFrame() {
+        final RobotStackFrame frame = mock(RobotStackFrame.class);
+
+        final StackFrameVariable stackVar = new StackFrameVariable(VariableScope.GLOBAL, false, "var", "list",
+                newArrayList(new VariableTypedValue("int", 1), new VariableTypedValue("dict", ImmutableMap.of("key",
+                        new VariableTypedValue("dict", new VariableCollectionHandle(true, 500))))));
+        final RobotDebugVariable topLevelList = new RobotDebugVariable(frame, stackVar);
+        final RobotDebugVariable innerDict = topLevelList.getValue().getVariable("[1]").getValue().getVariable("key");
+
+        assertThat(innerDict.getValue().getVariables()).isEmpty();
+
+        verify(frame).expandVariable(same(stackVar), eq(newArrayList(1, "key")));
+    }
 }
@@ -29,6 +29,7 @@ import org.eclipse.ui.commands.ICommandService;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.rf.ide.core.execution.agent.event.Variable;
+import org.rf.ide.core.execution.agent.event.VariableCollectionHandle;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.debug.StackFrame;
 import org.rf.ide.core.execution.debug.StackFrameVariable;
@@ -782,6 +783,26 @@ public class RobotStackFrameTest {
         verify(controller).changeVariableInnerValue(frame, variable, path, args);
     }
 
+    @Test
+    public void variableExpansionRequestsArePassedToDebugTarget() {
+        final Stacktrace stacktrace = new Stacktrace();
+        final StackFrame frame = mock(StackFrame.class);
+        stacktrace.push(frame);
+
+        final UserProcessDebugController controller = mock(UserProcessDebugController.class);
+        final RobotDebugTarget target = new RobotDebugTarget("target", null, stacktrace, controller);
+
+        final RobotThread thread = new RobotThread(target, stacktrace, controller);
+        final RobotStackFrame stackFrame = new RobotStackFrame(thread, frame, controller);
+
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.GLOBAL, false, "var", "list",
+                new VariableCollectionHandle(false, 1000));
+        final List<Object> path = newArrayList(1, "key");
+        stackFrame.expandVariable(variable, path);
+
+        verify(controller).expandVariable(frame, variable, path);
+    }
+
     private static PersistentState provideSortingState() {
         final ICommandService commandService = PlatformUI.getWorkbench().getService(ICommandService.class);
         final Command command = commandService.getCommand(AlwaysDisplaySortedVariablesHandler.COMMAND_ID);
@@ -372,4 +372,34 @@ public class SourceHyperlinksToKeywordsDetectorTest {
         assertThat(((CompoundHyperlink) hyperlinks[3]).getHyperlinks().get(1))
                 .isInstanceOf(UserKeywordDocumentationHyperlink.class);
     }
+
+    @Test
+    public void multipleHyperlinksAreProvided_whenKeywordIsDefinedMultipleTimesInTheSameFile() throws Exception {
+        final IFile file = createFile(project, "f10.robot", "*** Test Cases ***", "case", "  kw1  ${x}",
+                "*** Keywords ***", "kw1", "  log  1", "kw1", "  log  2");
+        final RobotModel model = new RobotModel();
+        final RobotSuiteFile suiteFile = model.createSuiteFile(file);
+        final Document document = new Document(getFileContent(file));
+
+        final ITextViewer textViewer = mock(ITextViewer.class);
+        when(textViewer.getDocument()).thenReturn(document);
+
+        final int begin = 26;
+        assertThat(document.get(begin, 3)).isEqualTo("kw1");
+        assertThat(document.get(53, 3)).isEqualTo("kw1");
+        assertThat(document.get(66, 3)).isEqualTo("kw1");
+
+        final SourceHyperlinksToKeywordsDetector detector = new SourceHyperlinksToKeywordsDetector(() -> true, model,
+                suiteFile);
+        final IHyperlink[] hyperlinks = detector.detectHyperlinks(textViewer, new Region(begin + 1, 1), true);
+
+        assertThat(hyperlinks).hasSize(4);
+        assertThat(hyperlinks[2]).isInstanceOf(CompoundHyperlink.class);
+        assertThat(((CompoundHyperlink) hyperlinks[2]).getHyperlinks()).hasSize(2);
+        assertThat(((CompoundHyperlink) hyperlinks[2]).getHyperlinks())
+                .extracting(hyperlink -> ((RegionsHyperlink) hyperlink).getDestinationRegion())
+                .containsExactlyInAnyOrder(new Region(53, 3), new Region(66, 3));
+        assertThat(hyperlinks[3]).isInstanceOf(CompoundHyperlink.class);
+        assertThat(((CompoundHyperlink) hyperlinks[3]).getHyperlinks()).hasSize(2);
+    }
 }
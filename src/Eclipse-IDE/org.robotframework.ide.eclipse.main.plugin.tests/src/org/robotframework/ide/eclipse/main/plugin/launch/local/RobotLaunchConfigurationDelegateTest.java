@@ -5,9 +5,13 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.launch.local;
 
+import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -21,6 +25,8 @@ import org.robotframework.red.junit.jupiter.LaunchConfigExtension;
 import org.robotframework.red.junit.jupiter.Project;
 import org.robotframework.red.junit.jupiter.ProjectExtension;
 
+import com.google.common.collect.ImmutableMap;
+
 @ExtendWith({ ProjectExtension.class, LaunchConfigExtension.class })
 public class RobotLaunchConfigurationDelegateTest {
 
@@ -54,6 +60,33 @@ public class RobotLaunchConfigurationDelegateTest {
         assertThat(consoleData.getSuiteExecutorVersion()).isEqualTo("RF 1.2.3");
     }
 
+    @Test
+    public void selectedSuitesAreSplitBetweenWorkers_withoutSuitesNestedInOtherSelectedOnes() {
+        final Map<String, List<String>> suitePaths = ImmutableMap.<String, List<String>> builder()
+                .put("d/s3.robot", newArrayList())
+                .put("a", newArrayList())
+                .put("a/s1.robot", newArrayList("t1"))
+                .put("b/s2.robot", newArrayList("t2", "t3"))
+                .put("c", newArrayList())
+                .build();
+
+        final List<Map<String, List<String>>> workersSuitePaths = RobotLaunchConfigurationDelegate
+                .splitSuitePaths(suitePaths, 3);
+
+        assertThat(workersSuitePaths).containsExactly(
+                ImmutableMap.<String, List<String>> of("a", newArrayList(), "d/s3.robot", newArrayList()),
+                ImmutableMap.<String, List<String>> of("b/s2.robot", newArrayList("t2", "t3")),
+                ImmutableMap.<String, List<String>> of("c", newArrayList()));
+    }
+
+    @Test
+    public void thereAreLessWorkersThanRequested_whenThereAreNotEnoughSelectedSuites() {
+        final Map<String, List<String>> suitePaths = ImmutableMap.of("a", newArrayList(), "b", newArrayList());
+
+        assertThat(RobotLaunchConfigurationDelegate.splitSuitePaths(suitePaths, 4)).hasSize(2);
+        assertThat(RobotLaunchConfigurationDelegate.splitSuitePaths(ImmutableMap.of(), 4)).isEmpty();
+    }
+
     private RobotLaunchConfiguration createRobotLaunchConfiguration(final String projectName) throws CoreException {
         final RobotLaunchConfiguration robotConfig = new RobotLaunchConfiguration(launchCfg);
         robotConfig.fillDefaults();
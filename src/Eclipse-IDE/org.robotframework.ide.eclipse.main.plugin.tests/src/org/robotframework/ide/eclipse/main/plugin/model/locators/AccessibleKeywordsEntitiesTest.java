@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.model.locators;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.libraries.ArgumentsDescriptor;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
+
+public class AccessibleKeywordsEntitiesTest {
+
+    private static final IPath SUITE_PATH = new Path("/project/suite.robot");
+
+    private static final IPath RESOURCE_PATH = new Path("/project/res.robot");
+
+    private static final IPath OTHER_RESOURCE_PATH = new Path("/project/other.robot");
+
+    @Test
+    public void sameKeywordsAreReturnedOnlyOnce() {
+        final KeywordEntity kw1 = newKeyword(KeywordScope.STD_LIBRARY, "BuiltIn", "Log", SUITE_PATH);
+        final KeywordEntity kw2 = newKeyword(KeywordScope.STD_LIBRARY, "BuiltIn", "Log", RESOURCE_PATH);
+        final KeywordEntity kw3 = newKeyword(KeywordScope.STD_LIBRARY, "BuiltIn", "Log Many", RESOURCE_PATH);
+        final KeywordEntity kw4 = newKeyword(KeywordScope.STD_LIBRARY, "BuiltIn", "Log Many", SUITE_PATH);
+
+        final Map<String, Collection<KeywordEntity>> keywords = new LinkedHashMap<>();
+        keywords.put("BuiltIn", newArrayList(kw1, kw2, kw3, kw4));
+
+        final AccessibleKeywordsEntities entities = new AccessibleKeywordsEntities(SUITE_PATH, () -> keywords);
+
+        assertThat(entities.getPossibleKeywords().values()).containsExactly(kw1, kw4);
+    }
+
+    @Test
+    public void keywordsOfDifferentSourcesOrScopes_areNotDuplicates() {
+        final KeywordEntity kw1 = newKeyword(KeywordScope.STD_LIBRARY, "BuiltIn", "Log", SUITE_PATH);
+        final KeywordEntity kw2 = newKeyword(KeywordScope.REF_LIBRARY, "BuiltIn", "Log", SUITE_PATH);
+        final KeywordEntity kw3 = newKeyword(null, "res", "Log", RESOURCE_PATH);
+        final KeywordEntity kw4 = newKeyword(null, "res", "Log", OTHER_RESOURCE_PATH);
+        final KeywordEntity kw5 = newKeyword(null, "res", "Log", SUITE_PATH);
+
+        final Map<String, Collection<KeywordEntity>> keywords = new LinkedHashMap<>();
+        keywords.put("log", newArrayList(kw1, kw2, kw3, kw4, kw5));
+
+        final AccessibleKeywordsEntities entities = new AccessibleKeywordsEntities(SUITE_PATH, () -> keywords);
+
+        assertThat(entities.getPossibleKeywords().values()).containsExactlyInAnyOrder(kw1, kw2, kw3, kw5);
+        assertThat(entities.getPossibleKeywords().get(KeywordScope.RESOURCE)).containsExactly(kw3);
+        assertThat(entities.getPossibleKeywords().get(KeywordScope.LOCAL)).containsExactly(kw5);
+    }
+
+    private static KeywordEntity newKeyword(final KeywordScope scope, final String sourceName, final String name,
+            final IPath exposingPath) {
+        return new KeywordEntity(scope, sourceName, name, Optional.empty(), false,
+                ArgumentsDescriptor.createDescriptor(), exposingPath) {
+        };
+    }
+}
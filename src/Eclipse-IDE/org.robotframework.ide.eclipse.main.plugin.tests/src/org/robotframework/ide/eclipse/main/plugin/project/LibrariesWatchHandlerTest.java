@@ -6,6 +6,7 @@
 package org.robotframework.ide.eclipse.main.plugin.project;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -15,6 +16,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -99,12 +101,11 @@ public class LibrariesWatchHandlerTest {
 
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
 
-        assertThat(librariesWatchHandler.getRegisteredPaths()).hasSize(1)
-                .containsEntry(PYTHON_LIBRARY_FILE_NAME, pythonLibraryFile.getParentFile().getPath());
+        assertThat(librariesWatchHandler.getRegisteredFiles()).containsOnly(pythonLibraryFile.toPath());
         assertThat(librariesWatchHandler.getRegisteredRefLibraries()).hasSize(1)
                 .containsEntry(referencedLibrary, new Path(pythonLibraryFile.getPath()).toPortableString());
         assertThat(librariesWatchHandler.getLibrarySpecifications().get(libSpec)).hasSize(1)
-                .containsOnly(pythonLibraryFile.getName());
+                .containsOnly(pythonLibraryFile.toPath());
     }
 
     @Test
@@ -126,8 +127,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
         librariesWatchHandler.registerLibrary(referencedLibrary3, libSpec3);
 
-        assertThat(librariesWatchHandler.getRegisteredPaths()).hasSize(1)
-                .containsEntry(PYTHON_LIBRARY_FILE_NAME, pythonLibraryFile.getParentFile().getPath());
+        assertThat(librariesWatchHandler.getRegisteredFiles()).containsOnly(pythonLibraryFile.toPath());
         assertThat(librariesWatchHandler.getRegisteredRefLibraries().get(referencedLibrary1))
                 .isEqualTo(new Path(pythonLibraryFile.getPath()).toPortableString());
         assertThat(librariesWatchHandler.getRegisteredRefLibraries().get(referencedLibrary2))
@@ -135,11 +135,11 @@ public class LibrariesWatchHandlerTest {
         assertThat(librariesWatchHandler.getRegisteredRefLibraries().get(referencedLibrary3))
                 .isEqualTo(new Path(pythonLibraryFile.getPath()).toPortableString());
         assertThat(librariesWatchHandler.getLibrarySpecifications().get(libSpec1)).hasSize(1)
-                .containsOnly(pythonLibraryFile.getName());
+                .containsOnly(pythonLibraryFile.toPath());
         assertThat(librariesWatchHandler.getLibrarySpecifications().get(libSpec2)).hasSize(1)
-                .containsOnly(pythonLibraryFile.getName());
+                .containsOnly(pythonLibraryFile.toPath());
         assertThat(librariesWatchHandler.getLibrarySpecifications().get(libSpec3)).hasSize(1)
-                .containsOnly(pythonLibraryFile.getName());
+                .containsOnly(pythonLibraryFile.toPath());
     }
 
     @Test
@@ -153,13 +153,12 @@ public class LibrariesWatchHandlerTest {
 
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
 
-        assertThat(librariesWatchHandler.getRegisteredPaths()).hasSize(2)
-                .containsEntry(PYTHON_MODULE_LIBRARY_INIT_FILE_NAME, pythonModuleLibraryFolder.getPath())
-                .containsEntry(PYTHON_MODULE_LIBRARY_FILE_NAME, pythonModuleLibraryFolder.getPath());
+        assertThat(librariesWatchHandler.getRegisteredFiles()).containsOnly(pythonModuleLibraryInitFile.toPath(),
+                pythonModuleLibraryFile.toPath());
         assertThat(librariesWatchHandler.getRegisteredRefLibraries()).hasSize(1)
                 .containsEntry(referencedLibrary, new Path(pythonModuleLibraryInitFile.getPath()).toPortableString());
         assertThat(librariesWatchHandler.getLibrarySpecifications().get(libSpec)).hasSize(2)
-                .containsOnly(pythonModuleLibraryFile.getName(), pythonModuleLibraryInitFile.getName());
+                .containsOnly(pythonModuleLibraryFile.toPath(), pythonModuleLibraryInitFile.toPath());
     }
 
     @Test
@@ -173,12 +172,11 @@ public class LibrariesWatchHandlerTest {
 
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
 
-        assertThat(librariesWatchHandler.getRegisteredPaths()).hasSize(1)
-                .containsEntry(JAVA_LIBRARY_FILE_NAME, javaLibraryFile.getParentFile().getPath());
+        assertThat(librariesWatchHandler.getRegisteredFiles()).containsOnly(javaLibraryFile.toPath());
         assertThat(librariesWatchHandler.getRegisteredRefLibraries()).hasSize(1)
                 .containsEntry(referencedLibrary, new Path(javaLibraryFile.getPath()).toPortableString());
         assertThat(librariesWatchHandler.getLibrarySpecifications().get(libSpec)).hasSize(1)
-                .containsOnly(javaLibraryFile.getName());
+                .containsOnly(javaLibraryFile.toPath());
     }
 
     @Test
@@ -191,7 +189,7 @@ public class LibrariesWatchHandlerTest {
 
         librariesWatchHandler.registerLibrary(referencedLibrary, new LibrarySpecification());
 
-        assertThat(librariesWatchHandler.getRegisteredPaths()).isEmpty();
+        assertThat(librariesWatchHandler.getRegisteredFiles()).isEmpty();
         assertThat(librariesWatchHandler.getRegisteredRefLibraries()).isEmpty();
         assertThat(librariesWatchHandler.getLibrarySpecifications().asMap()).isEmpty();
     }
@@ -206,7 +204,7 @@ public class LibrariesWatchHandlerTest {
 
         librariesWatchHandler.registerLibrary(referencedLibrary, new LibrarySpecification());
 
-        assertThat(librariesWatchHandler.getRegisteredPaths()).isEmpty();
+        assertThat(librariesWatchHandler.getRegisteredFiles()).isEmpty();
         assertThat(librariesWatchHandler.getRegisteredRefLibraries()).isEmpty();
         assertThat(librariesWatchHandler.getLibrarySpecifications().asMap()).isEmpty();
     }
@@ -230,13 +228,12 @@ public class LibrariesWatchHandlerTest {
 
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
 
-        assertThat(librariesWatchHandler.getRegisteredPaths()).hasSize(1)
-                .containsEntry(PYTHON_LIBRARY_FILE_NAME, pythonLibraryFile.getParentFile().getPath());
+        assertThat(librariesWatchHandler.getRegisteredFiles()).containsOnly(pythonLibraryFile.toPath());
         assertThat(librariesWatchHandler.getRegisteredRefLibraries()).hasSize(1)
                 .containsEntry(referencedLibrary, new Path(pythonLibraryFile.getPath()).toPortableString());
         assertThat(librariesWatchHandler.getLibrarySpecifications().size()).isEqualTo(1);
         assertThat(librariesWatchHandler.getLibrarySpecifications().get(libSpec)).hasSize(1)
-                .containsOnly(pythonLibraryFile.getName());
+                .containsOnly(pythonLibraryFile.toPath());
         assertThat(librariesWatchHandler.getLibrarySpecifications().keySet().iterator().next().getKeywords().get(0))
                 .isEqualTo(kwSpec);
     }
@@ -258,7 +255,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.unregisterLibraries(newArrayList(referencedLibrary1, referencedLibrary2));
 
         assertThat(librariesWatchHandler.getUnregisteredFiles()).hasSize(2)
-                .containsOnly(pythonLibraryFile.getName(), pythonLibraryFile.getName());
+                .containsOnly(pythonLibraryFile.toPath(), pythonLibraryFile.toPath());
         assertThat(librariesWatchHandler.getRegisteredRefLibraries()).isEmpty();
         assertThat(librariesWatchHandler.getLibrarySpecifications().asMap()).isEmpty();
     }
@@ -276,7 +273,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.unregisterLibraries(newArrayList(referencedLibrary));
 
         assertThat(librariesWatchHandler.getUnregisteredFiles()).hasSize(2)
-                .containsOnly(pythonModuleLibraryFile.getName(), pythonModuleLibraryInitFile.getName());
+                .containsOnly(pythonModuleLibraryFile.toPath(), pythonModuleLibraryInitFile.toPath());
         assertThat(librariesWatchHandler.getRegisteredRefLibraries()).isEmpty();
         assertThat(librariesWatchHandler.getLibrarySpecifications().asMap()).isEmpty();
     }
@@ -297,7 +294,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
         librariesWatchHandler.setRebuildTasksQueueSizeBeforeBuilderInvoke(1);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonLibraryFile.toPath()));
         librariesWatchHandler.execAllAwaitingMessages();
         librariesWatchHandler.waitForRebuildJobs();
 
@@ -319,7 +316,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
         librariesWatchHandler.setRebuildTasksQueueSizeBeforeBuilderInvoke(1);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_INIT_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonModuleLibraryInitFile.toPath()));
         librariesWatchHandler.execAllAwaitingMessages();
         librariesWatchHandler.waitForRebuildJobs();
 
@@ -330,7 +327,7 @@ public class LibrariesWatchHandlerTest {
 
         librariesWatchHandler.getSpecificationsToRebuild().clear();
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonModuleLibraryFile.toPath()));
         librariesWatchHandler.execAllAwaitingMessages();
         librariesWatchHandler.waitForRebuildJobs();
 
@@ -357,9 +354,9 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
         librariesWatchHandler.setRebuildTasksQueueSizeBeforeBuilderInvoke(8);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonModuleLibraryFile.toPath()));
         for (int i = 1; i <= 7; i++) {
-            librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+            librariesWatchHandler.handleModifyEvents(newHashSet(pythonLibraryFile.toPath()));
         }
         librariesWatchHandler.execAllAwaitingMessages();
         librariesWatchHandler.waitForRebuildJobs();
@@ -370,6 +367,32 @@ public class LibrariesWatchHandlerTest {
         assertThat(librariesWatchHandler.getRebuildTasksQueueSize()).isEqualTo(0);
     }
 
+    @BooleanPreference(key = RedPreferences.LIBDOCS_AUTO_RELOAD_ENABLED, value = true)
+    @Test
+    public void testHandleModifyEvents_whenAutoReloadIsEnabledAndFilesOfManyLibrariesAreModifiedTogether() {
+        final IProject project = createNewProjectMock(true);
+        final RobotProject robotProject = createNewRobotProject(project);
+        final DummyLibrariesWatchHandler librariesWatchHandler = new DummyLibrariesWatchHandler(robotProject);
+        final ReferencedLibrary referencedLibrary1 = createNewReferencedLibrary(PYTHON_LIBRARY_NAME,
+                pythonLibraryFile.getPath(), LibraryType.PYTHON);
+        final LibrarySpecification libSpec1 = createNewLibSpec(referencedLibrary1);
+        librariesWatchHandler.registerLibrary(referencedLibrary1, libSpec1);
+        final ReferencedLibrary referencedLibrary2 = createNewReferencedLibrary(PYTHON_MODULE_LIBRARY_NAME,
+                pythonModuleLibraryInitFile.getPath(), LibraryType.PYTHON);
+        final LibrarySpecification libSpec2 = createNewLibSpec(referencedLibrary2);
+        librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
+        librariesWatchHandler.setRebuildTasksQueueSizeBeforeBuilderInvoke(1);
+
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonLibraryFile.toPath(),
+                pythonModuleLibraryInitFile.toPath(), pythonModuleLibraryFile.toPath()));
+        librariesWatchHandler.execAllAwaitingMessages();
+        librariesWatchHandler.waitForRebuildJobs();
+
+        assertThat(librariesWatchHandler.getSpecificationsToRebuild().get(project)).containsOnly(libSpec1, libSpec2);
+        assertThat(librariesWatchHandler.getRebuildTasksQueueSizeAfterEachBuilderInvoke()).containsExactly(1);
+        assertThat(librariesWatchHandler.getRebuildTasksQueueSize()).isEqualTo(0);
+    }
+
     @BooleanPreference(key = RedPreferences.LIBDOCS_AUTO_RELOAD_ENABLED, value = false)
     @Test
     public void testHandleModifyEvent_whenAutoReloadIsDisabled() {
@@ -389,7 +412,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary1, libSpec1);
         librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonLibraryFile.toPath()));
         librariesWatchHandler.execAllAwaitingMessages();
         librariesWatchHandler.waitForRebuildJobs();
 
@@ -420,7 +443,7 @@ public class LibrariesWatchHandlerTest {
         librariesWatchHandler.registerLibrary(referencedLibrary2, libSpec2);
 
         for (int i = 1; i <= 5; i++) {
-            librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+            librariesWatchHandler.handleModifyEvents(newHashSet(pythonLibraryFile.toPath()));
         }
         librariesWatchHandler.execAllAwaitingMessages();
         librariesWatchHandler.waitForRebuildJobs();
@@ -446,8 +469,8 @@ public class LibrariesWatchHandlerTest {
         final DummyLibrariesWatchHandler librariesWatchHandler = new DummyLibrariesWatchHandler(robotProject);
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_INIT_FILE_NAME);
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonModuleLibraryInitFile.toPath()));
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonModuleLibraryFile.toPath()));
         librariesWatchHandler.execAllAwaitingMessages();
         librariesWatchHandler.waitForRebuildJobs();
 
@@ -470,7 +493,7 @@ public class LibrariesWatchHandlerTest {
         final DummyLibrariesWatchHandler librariesWatchHandler = new DummyLibrariesWatchHandler(robotProject);
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_MODULE_LIBRARY_INIT_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonModuleLibraryInitFile.toPath()));
         librariesWatchHandler.execAllAwaitingMessages();
         librariesWatchHandler.waitForRebuildJobs();
 
@@ -495,7 +518,7 @@ public class LibrariesWatchHandlerTest {
         final LibrarySpecification libSpec = createNewLibSpec(referencedLibrary);
         librariesWatchHandler.registerLibrary(referencedLibrary, libSpec);
 
-        librariesWatchHandler.handleModifyEvent(PYTHON_LIBRARY_FILE_NAME);
+        librariesWatchHandler.handleModifyEvents(newHashSet(pythonLibraryFile.toPath()));
         librariesWatchHandler.execAllAwaitingMessages();
         librariesWatchHandler.waitForRebuildJobs();
 
@@ -537,9 +560,9 @@ public class LibrariesWatchHandlerTest {
 
     static class DummyLibrariesWatchHandler extends LibrariesWatchHandler {
 
-        private final Map<String, String> registeredPaths = new HashMap<>();
+        private final Set<java.nio.file.Path> registeredFiles = new LinkedHashSet<>();
 
-        private final List<String> unregisteredFiles = new ArrayList<>();
+        private final List<java.nio.file.Path> unregisteredFiles = new ArrayList<>();
 
         private final Multimap<IProject, LibrarySpecification> specificationsToRebuild = LinkedHashMultimap.create();
 
@@ -554,13 +577,13 @@ public class LibrariesWatchHandlerTest {
         }
 
         @Override
-        public void registerPath(final java.nio.file.Path dir, final String fileName) {
-            registeredPaths.put(fileName, dir.toString());
+        public void registerFile(final java.nio.file.Path file) {
+            registeredFiles.add(file);
         }
 
         @Override
-        public void unregisterFile(final String fileName) {
-            unregisteredFiles.add(fileName);
+        public void unregisterFile(final java.nio.file.Path file) {
+            unregisteredFiles.add(file);
         }
 
         @Override
@@ -576,11 +599,11 @@ public class LibrariesWatchHandlerTest {
             rebuildTasksQueueSizeAfterEachBuilderInvoke.add(getRebuildTasksQueueSize());
         }
 
-        public Map<String, String> getRegisteredPaths() {
-            return registeredPaths;
+        public Set<java.nio.file.Path> getRegisteredFiles() {
+            return registeredFiles;
         }
 
-        public List<String> getUnregisteredFiles() {
+        public List<java.nio.file.Path> getUnregisteredFiles() {
             return unregisteredFiles;
         }
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class ExposedDefinitionsSignaturesTest {
+
+    @Project
+    IProject project;
+
+    private final RobotModel robotModel = new RobotModel();
+
+    private IFile file;
+
+    @AfterEach
+    public void afterTest() {
+        ExposedDefinitionsSignatures.forget(robotModel.createRobotProject(project), file);
+    }
+
+    @Test
+    public void signatureIsChanged_whenItWasNotRecordedBefore() throws Exception {
+        file = createFile(project, "res.robot", "*** Keywords ***", "kw");
+
+        assertThat(ExposedDefinitionsSignatures.hasChanged(model(file))).isTrue();
+        assertThat(ExposedDefinitionsSignatures.hasChanged(model(file))).isFalse();
+    }
+
+    @Test
+    public void signatureIsNotChanged_whenOnlyKeywordsBodiesAreChanged() throws Exception {
+        file = createFile(project, "res.robot", "*** Variables ***", "${a}  1", "*** Keywords ***", "kw",
+                "  [Arguments]  ${x}", "  Log  ${x}");
+        ExposedDefinitionsSignatures.recordIfParsed(parsedModel(file));
+
+        createFile(project, "res.robot", "*** Variables ***", "${a}  2", "*** Keywords ***", "kw",
+                "  [Arguments]  ${x}", "  Log Many  ${x}  ${a}");
+
+        assertThat(ExposedDefinitionsSignatures.hasChanged(model(file))).isFalse();
+    }
+
+    @Test
+    public void signatureIsChanged_whenExposedDefinitionsAreChanged() throws Exception {
+        file = createFile(project, "res.robot", "*** Settings ***", "Library  Collections", "*** Variables ***",
+                "${a}  1", "*** Keywords ***", "kw", "  [Arguments]  ${x}");
+        ExposedDefinitionsSignatures.recordIfParsed(parsedModel(file));
+
+        createFile(project, "res.robot", "*** Settings ***", "Library  Collections", "*** Variables ***",
+                "${a}  1", "*** Keywords ***", "kw", "  [Arguments]  ${x}  ${y}");
+        assertThat(ExposedDefinitionsSignatures.hasChanged(model(file))).isTrue();
+
+        createFile(project, "res.robot", "*** Settings ***", "Library  Collections", "*** Variables ***",
+                "${b}  1", "*** Keywords ***", "kw", "  [Arguments]  ${x}  ${y}");
+        assertThat(ExposedDefinitionsSignatures.hasChanged(model(file))).isTrue();
+
+        createFile(project, "res.robot", "*** Settings ***", "Library  String", "*** Variables ***",
+                "${b}  1", "*** Keywords ***", "kw", "  [Arguments]  ${x}  ${y}");
+        assertThat(ExposedDefinitionsSignatures.hasChanged(model(file))).isTrue();
+
+        createFile(project, "res.robot", "*** Settings ***", "Library  String", "*** Variables ***",
+                "${b}  1", "*** Keywords ***", "renamed kw", "  [Arguments]  ${x}  ${y}");
+        assertThat(ExposedDefinitionsSignatures.hasChanged(model(file))).isTrue();
+    }
+
+    @Test
+    public void librarySignatureIsChangedOnlyWhenKeywordsOrArgumentsAreChanged() throws Exception {
+        file = createFile(project, "lib.libspec", "<keywordspec name=\"lib\" format=\"ROBOT\">",
+                "<kw name=\"kw\"><arguments><arg>a</arg></arguments><doc>doc</doc></kw>", "</keywordspec>");
+        final RobotProject robotProject = robotModel.createRobotProject(project);
+        assertThat(ExposedDefinitionsSignatures.hasLibrarySpecificationChanged(robotProject, file)).isTrue();
+
+        createFile(project, "lib.libspec", "<keywordspec name=\"lib\" format=\"ROBOT\">",
+                "<kw name=\"kw\"><arguments><arg>a</arg></arguments><doc>changed doc</doc></kw>", "</keywordspec>");
+        assertThat(ExposedDefinitionsSignatures.hasLibrarySpecificationChanged(robotProject, file)).isFalse();
+
+        createFile(project, "lib.libspec", "<keywordspec name=\"lib\" format=\"ROBOT\">",
+                "<kw name=\"kw\"><arguments><arg>a</arg><arg>b</arg></arguments><doc></doc></kw>", "</keywordspec>");
+        assertThat(ExposedDefinitionsSignatures.hasLibrarySpecificationChanged(robotProject, file)).isTrue();
+    }
+
+    @Test
+    public void symbolsAreNotRecorded_whenFileIsNotParsed() throws Exception {
+        file = createFile(project, "res.robot", "*** Keywords ***", "kw");
+        ExposedDefinitionsSignatures.recordIfParsed(model(file));
+
+        assertThat(robotModel.createRobotProject(project).getSymbolsIndex().get(file.getLocation().toFile()))
+                .isEmpty();
+    }
+
+    @Test
+    public void symbolsOfTestsAndTasksAreRecorded_whenFileIsParsed() throws Exception {
+        file = createFile(project, "suite.robot", "*** Test Cases ***", "case 1", "case 2");
+        ExposedDefinitionsSignatures.recordIfParsed(parsedModel(file));
+
+        assertThat(robotModel.createRobotProject(project).getSymbolsIndex().getUpToDate(file.getLocation().toFile()))
+                .hasValueSatisfying(symbols -> assertThat(symbols.getTestCases()).containsExactly("case 1", "case 2"));
+    }
+
+    private RobotSuiteFile model(final IFile file) {
+        // the model of given file is dropped, so that current content is parsed again
+        final RobotSuiteFile suiteFile = robotModel.createSuiteFile(file);
+        suiteFile.dispose();
+        return suiteFile;
+    }
+
+    private RobotSuiteFile parsedModel(final IFile file) {
+        final RobotSuiteFile suiteFile = model(file);
+        suiteFile.parse();
+        return suiteFile;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.getFile;
+
+import java.util.HashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rf.ide.core.validation.ProblemPosition;
+import org.robotframework.ide.eclipse.main.plugin.project.build.causes.KeywordsProblem;
+import org.robotframework.ide.eclipse.main.plugin.project.build.RobotTask.Priority;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+import com.google.common.collect.Range;
+
+@ExtendWith(ProjectExtension.class)
+public class FileMarkersUpdateTest {
+
+    @Project(files = "file.robot")
+    static IProject project;
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        project.deleteMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_INFINITE);
+        project.deleteMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_INFINITE);
+    }
+
+    @Test
+    public void collectedMarkersAreCreated_whenThereWereNoMarkersBefore() throws Exception {
+        final IFile file = getFile(project, "file.robot");
+
+        final FileMarkersUpdate update = new FileMarkersUpdate(file);
+        update.addTask(new RobotTask(Priority.NORMAL, "task 1", 1).createMarkerAttributes());
+        update.addTask(new RobotTask(Priority.HIGH, "task 2", 4).createMarkerAttributes());
+        update.apply();
+
+        final IMarker[] markers = file.findMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ZERO);
+        assertThat(markers).extracting(marker -> marker.getAttribute(IMarker.MESSAGE, ""))
+                .containsOnly("task 1", "task 2");
+    }
+
+    @Test
+    public void unchangedMarkersAreKept_whileOutdatedOnesAreReplaced() throws Exception {
+        final IFile file = getFile(project, "file.robot");
+        new RobotTask(Priority.NORMAL, "task 1", 1).createMarker(file);
+        new RobotTask(Priority.NORMAL, "task 2", 2).createMarker(file);
+        final IMarker unchangedMarker = findTask(file, "task 1");
+
+        final FileMarkersUpdate update = new FileMarkersUpdate(file);
+        update.addTask(new RobotTask(Priority.NORMAL, "task 1", 1).createMarkerAttributes());
+        update.addTask(new RobotTask(Priority.NORMAL, "task 2", 3).createMarkerAttributes());
+        update.apply();
+
+        final IMarker[] markers = file.findMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ZERO);
+        assertThat(markers).hasSize(2).contains(unchangedMarker);
+        assertThat(findTask(file, "task 2").getAttribute(IMarker.LINE_NUMBER, -1)).isEqualTo(3);
+    }
+
+    @Test
+    public void unchangedProblemMarkersAreKept() throws Exception {
+        final IFile file = getFile(project, "file.robot");
+        final RobotProblem problem = RobotProblem.causedBy(KeywordsProblem.UNKNOWN_KEYWORD).formatMessageWith("kw");
+        final ProblemPosition position = new ProblemPosition(2, Range.closed(10, 12));
+        problem.createMarker(file, position, new HashMap<>());
+        final IMarker unchangedMarker = file.findMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_ZERO)[0];
+
+        final FileMarkersUpdate update = new FileMarkersUpdate(file);
+        update.addProblem(problem.createMarkerAttributes(position, new HashMap<>()));
+        update.apply();
+
+        assertThat(file.findMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_ZERO))
+                .containsExactly(unchangedMarker);
+    }
+
+    @Test
+    public void allMarkersAreRemoved_whenNothingWasCollected() throws Exception {
+        final IFile file = getFile(project, "file.robot");
+        new RobotTask(Priority.NORMAL, "task", 1).createMarker(file);
+
+        new FileMarkersUpdate(file).apply();
+
+        assertThat(file.findMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ZERO)).isEmpty();
+    }
+
+    private static IMarker findTask(final IFile file, final String message) throws Exception {
+        for (final IMarker marker : file.findMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ZERO)) {
+            if (message.equals(marker.getAttribute(IMarker.MESSAGE))) {
+                return marker;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robotframework.ide.eclipse.main.plugin.project.editor.libraries.Libraries.createRefLibs;
+import static org.robotframework.ide.eclipse.main.plugin.project.editor.libraries.Libraries.createStdLibs;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.getFile;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rf.ide.core.libraries.LibraryDescriptor;
+import org.rf.ide.core.project.RobotProjectConfig.LibraryType;
+import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibrary;
+import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibraryArgumentsVariant;
+import org.robotframework.ide.eclipse.main.plugin.model.LibspecsFolder;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class LibspecsDependenciesTest {
+
+    @Project(createDefaultRedXml = true)
+    IProject project;
+
+    private RobotModel model;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        model = new RobotModel();
+        final RobotProject robotProject = model.createRobotProject(project);
+        robotProject.setStandardLibraries(createStdLibs("BuiltIn", "Collections", "OperatingSystem"));
+        robotProject.setReferencedLibraries(createRefLibs("myLib"));
+
+        createFile(project, "res.robot", "*** Settings ***", "Library  Collections", "*** Keywords ***", "kw");
+        createFile(project, "suite1.robot", "*** Settings ***", "Resource  res.robot", "*** Test Cases ***",
+                "case");
+        createFile(project, "suite2.robot", "*** Settings ***", "Library  OperatingSystem", "*** Test Cases ***",
+                "case");
+        createFile(project, "suite3.robot", "*** Settings ***", "Library  myLib", "*** Test Cases ***", "case");
+        createFile(project, "suite4.robot", "*** Settings ***", "Library  unknownLib", "*** Test Cases ***",
+                "case");
+    }
+
+    @Test
+    public void onlyPendingLibspecsOfLibrariesImportedDirectlyOrThroughResourcesAreRequired() throws Exception {
+        final IFile collectionsLibspec = stdLibspec("Collections");
+        final IFile myLibLibspec = refLibspec("myLib");
+        final LibspecsDependencies dependencies = new LibspecsDependencies(model, project,
+                newHashSet(collectionsLibspec, myLibLibspec));
+
+        assertThat(dependencies.getRequiredPendingLibspecs(getFile(project, "res.robot")))
+                .containsOnly(collectionsLibspec);
+        assertThat(dependencies.getRequiredPendingLibspecs(getFile(project, "suite1.robot")))
+                .containsOnly(collectionsLibspec);
+        assertThat(dependencies.getRequiredPendingLibspecs(getFile(project, "suite2.robot"))).isEmpty();
+        assertThat(dependencies.getRequiredPendingLibspecs(getFile(project, "suite3.robot")))
+                .containsOnly(myLibLibspec);
+    }
+
+    @Test
+    public void allPendingLibspecsAreRequired_whenFileImportsUnknownLibrary() throws Exception {
+        final IFile collectionsLibspec = stdLibspec("Collections");
+        final IFile myLibLibspec = refLibspec("myLib");
+        final LibspecsDependencies dependencies = new LibspecsDependencies(model, project,
+                newHashSet(collectionsLibspec, myLibLibspec));
+
+        assertThat(dependencies.getRequiredPendingLibspecs(getFile(project, "suite4.robot")))
+                .containsOnly(collectionsLibspec, myLibLibspec);
+    }
+
+    @Test
+    public void pendingBuiltInLibspecIsAlwaysRequired() throws Exception {
+        final IFile builtInLibspec = stdLibspec("BuiltIn");
+        final LibspecsDependencies dependencies = new LibspecsDependencies(model, project,
+                newHashSet(builtInLibspec));
+
+        assertThat(dependencies.getRequiredPendingLibspecs(getFile(project, "suite1.robot")))
+                .containsOnly(builtInLibspec);
+        assertThat(dependencies.getRequiredPendingLibspecs(getFile(project, "suite2.robot")))
+                .containsOnly(builtInLibspec);
+    }
+
+    @Test
+    public void noLibspecsAreRequired_whenThereAreNoPendingLibspecs() throws Exception {
+        final LibspecsDependencies dependencies = new LibspecsDependencies(model, project, newHashSet());
+
+        assertThat(dependencies.getRequiredPendingLibspecs(getFile(project, "suite1.robot"))).isEmpty();
+        assertThat(dependencies.getRequiredPendingLibspecs(getFile(project, "suite4.robot"))).isEmpty();
+    }
+
+    private IFile stdLibspec(final String name) {
+        return LibspecsFolder.get(project)
+                .getXmlSpecFile(LibraryDescriptor.ofStandardLibrary(name).generateLibspecFileName());
+    }
+
+    private IFile refLibspec(final String name) {
+        final ReferencedLibrary library = ReferencedLibrary.create(LibraryType.PYTHON, name, name + ".py");
+        return LibspecsFolder.get(project).getXmlSpecFile(LibraryDescriptor
+                .ofReferencedLibrary(library, ReferencedLibraryArgumentsVariant.create())
+                .generateLibspecFileName());
+    }
+}
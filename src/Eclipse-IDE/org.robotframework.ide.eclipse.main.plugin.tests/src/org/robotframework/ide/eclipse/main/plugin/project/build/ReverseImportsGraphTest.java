@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.getFile;
+
+import org.eclipse.core.resources.IProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class ReverseImportsGraphTest {
+
+    @Project
+    IProject project;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        createFile(project, "vars.py", "a = 1");
+        createFile(project, "res1.robot", "*** Settings ***", "Resource  res2.robot", "*** Keywords ***", "kw1");
+        createFile(project, "res2.robot", "*** Settings ***", "Variables  vars.py", "*** Keywords ***", "kw2");
+        createFile(project, "res3.robot", "*** Keywords ***", "kw3");
+        createFile(project, "suite1.robot", "*** Settings ***", "Resource  res1.robot", "*** Test Cases ***",
+                "case");
+        createFile(project, "suite2.robot", "*** Settings ***", "Resource  res3.robot", "*** Test Cases ***",
+                "case");
+        createFile(project, "suite3.robot", "*** Settings ***", "Variables  vars.py", "Resource  missing.robot",
+                "*** Test Cases ***", "case");
+    }
+
+    @Test
+    public void filesImportingGivenFilesDirectlyOrIndirectlyAreDependent() throws Exception {
+        final ReverseImportsGraph graph = ReverseImportsGraph.create(new RobotModel(), project);
+
+        assertThat(graph.getDependentFiles(newArrayList(getFile(project, "res1.robot"))))
+                .containsOnly(getFile(project, "suite1.robot"));
+        assertThat(graph.getDependentFiles(newArrayList(getFile(project, "res2.robot"))))
+                .containsOnly(getFile(project, "res1.robot"), getFile(project, "suite1.robot"));
+        assertThat(graph.getDependentFiles(newArrayList(getFile(project, "vars.py")))).containsOnly(
+                getFile(project, "res2.robot"), getFile(project, "res1.robot"), getFile(project, "suite1.robot"),
+                getFile(project, "suite3.robot"));
+        assertThat(graph.getDependentFiles(
+                newArrayList(getFile(project, "res3.robot"), getFile(project, "res1.robot"))))
+                        .containsOnly(getFile(project, "suite1.robot"), getFile(project, "suite2.robot"));
+    }
+
+    @Test
+    public void noFilesAreDependent_whenGivenFilesAreNotImported() throws Exception {
+        final ReverseImportsGraph graph = ReverseImportsGraph.create(new RobotModel(), project);
+
+        assertThat(graph.getDependentFiles(newArrayList(getFile(project, "suite1.robot")))).isEmpty();
+        assertThat(graph.getDependentFiles(newArrayList(getFile(project, "missing.robot")))).isEmpty();
+    }
+
+    @Test
+    public void dependentFilesAreChanged_whenImportsOfFileAreUpdated() throws Exception {
+        final ReverseImportsGraph graph = ReverseImportsGraph.create(new RobotModel(), project);
+
+        createFile(project, "suite2.robot", "*** Settings ***", "Resource  res1.robot", "*** Test Cases ***",
+                "case");
+        graph.update(new RobotModel().createSuiteFile(getFile(project, "suite2.robot")));
+
+        assertThat(graph.getDependentFiles(newArrayList(getFile(project, "res3.robot")))).isEmpty();
+        assertThat(graph.getDependentFiles(newArrayList(getFile(project, "res1.robot"))))
+                .containsOnly(getFile(project, "suite1.robot"), getFile(project, "suite2.robot"));
+    }
+
+    @Test
+    public void filesImportingRemovedFileAreStillDependent_whenItIsRemovedFromGraph() throws Exception {
+        final ReverseImportsGraph graph = ReverseImportsGraph.create(new RobotModel(), project);
+
+        graph.remove(getFile(project, "res2.robot"));
+
+        assertThat(graph.getDependentFiles(newArrayList(getFile(project, "res2.robot"))))
+                .containsOnly(getFile(project, "res1.robot"), getFile(project, "suite1.robot"));
+        assertThat(graph.getDependentFiles(newArrayList(getFile(project, "vars.py"))))
+                .containsOnly(getFile(project, "suite3.robot"));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.junit.jupiter.api.Test;
+
+public class LibspecsGenerationProgressTest {
+
+    @Test
+    public void pendingLibspecsAreReturned_whenGenerationHasStarted() throws Exception {
+        final IFile libspec1 = mock(IFile.class);
+        final IFile libspec2 = mock(IFile.class);
+
+        final LibspecsGenerationProgress progress = new LibspecsGenerationProgress();
+        progress.generationStarted(newArrayList(libspec1, libspec2));
+
+        assertThat(progress.awaitPendingLibspecs()).hasValue(newHashSet(libspec1, libspec2));
+    }
+
+    @Test
+    public void noPendingLibspecsAreReturned_whenBuildHasFinishedWithoutGeneration() throws Exception {
+        final LibspecsGenerationProgress progress = new LibspecsGenerationProgress();
+        progress.buildFinished();
+
+        assertThat(progress.awaitPendingLibspecs()).isEmpty();
+    }
+
+    @Test
+    public void waitingForPendingLibspecsEnds_whenGenerationStartsInOtherThread() throws Exception {
+        final IFile libspec = mock(IFile.class);
+
+        final LibspecsGenerationProgress progress = new LibspecsGenerationProgress();
+        final CompletableFuture<Optional<Set<IFile>>> pendingLibspecs = CompletableFuture.supplyAsync(() -> {
+            try {
+                return progress.awaitPendingLibspecs();
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        progress.generationStarted(newArrayList(libspec));
+
+        assertThat(pendingLibspecs.get(5, TimeUnit.SECONDS)).hasValue(newHashSet(libspec));
+    }
+
+    @Test
+    public void generatedLibspecsAreNoLongerPending() throws Exception {
+        final IFile libspec1 = mock(IFile.class);
+        final IFile libspec2 = mock(IFile.class);
+
+        final LibspecsGenerationProgress progress = new LibspecsGenerationProgress();
+        progress.generationStarted(newArrayList(libspec1, libspec2));
+        progress.libspecGenerated(libspec2);
+
+        assertThat(progress.awaitGeneratedLibspecs(newHashSet(libspec1, libspec2), 5000)).containsOnly(libspec1);
+    }
+
+    @Test
+    public void currentlyPendingLibspecsAreReturned_whenNothingWasGeneratedInGivenTime() throws Exception {
+        final IFile libspec1 = mock(IFile.class);
+        final IFile libspec2 = mock(IFile.class);
+
+        final LibspecsGenerationProgress progress = new LibspecsGenerationProgress();
+        progress.generationStarted(newArrayList(libspec1, libspec2));
+
+        assertThat(progress.awaitGeneratedLibspecs(newHashSet(libspec1, libspec2), 10)).containsOnly(libspec1,
+                libspec2);
+    }
+
+    @Test
+    public void noLibspecsArePending_whenBuildHasFinished() throws Exception {
+        final IFile libspec1 = mock(IFile.class);
+        final IFile libspec2 = mock(IFile.class);
+
+        final LibspecsGenerationProgress progress = new LibspecsGenerationProgress();
+        progress.generationStarted(newArrayList(libspec1, libspec2));
+        progress.buildFinished();
+
+        assertThat(progress.awaitGeneratedLibspecs(newHashSet(libspec1, libspec2), 5000)).isEmpty();
+    }
+}
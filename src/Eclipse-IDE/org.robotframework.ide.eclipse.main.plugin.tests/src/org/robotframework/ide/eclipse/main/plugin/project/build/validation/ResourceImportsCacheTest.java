@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.getFile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rf.ide.core.libraries.KeywordSpecification;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordDefinition;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.ContinueDecision;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator.KeywordDetector;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class ResourceImportsCacheTest {
+
+    @Project
+    IProject project;
+
+    private RobotModel model;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        model = RedPlugin.getModelManager().getModel();
+
+        createFile(project, "a.robot", "*** Settings ***", "Resource  c.robot", "Resource  d.robot",
+                "*** Keywords ***", "kw");
+        createFile(project, "b.robot", "*** Settings ***", "Resource  c.robot", "Resource  e.robot",
+                "*** Keywords ***", "kw");
+        createFile(project, "c.robot", "*** Settings ***", "Resource  f.robot", "*** Keywords ***", "kw");
+        createFile(project, "d.robot", "*** Settings ***", "Resource  suite1.robot", "Resource  f.robot",
+                "*** Keywords ***", "kw");
+        createFile(project, "e.robot", "*** Settings ***", "Resource  a.robot", "Resource  missing.robot",
+                "*** Keywords ***", "kw");
+        createFile(project, "f.robot", "*** Settings ***", "Resource  c.robot", "*** Keywords ***", "kw");
+        // every file defines keyword, so that locator reports each visited file
+        createFile(project, "suite1.robot", "*** Settings ***", "Resource  b.robot", "Resource  a.robot",
+                "*** Keywords ***", "kw");
+        createFile(project, "suite2.robot", "*** Settings ***", "Resource  e.robot", "Resource  d.robot",
+                "*** Keywords ***", "kw");
+        createFile(project, "suite3.robot", "*** Settings ***", "Resource  f.robot", "*** Keywords ***", "kw");
+    }
+
+    @AfterEach
+    public void afterTest() {
+        RedPlugin.getModelManager().dispose();
+    }
+
+    @Test
+    public void resourcesAreReturnedInSameOrderAsVisitedByLocator_whenCacheIsSharedBetweenFiles() {
+        final ResourceImportsCache cache = new ResourceImportsCache(model);
+
+        for (final String suiteName : new String[] { "suite1.robot", "suite2.robot", "suite3.robot", "a.robot",
+                "d.robot", "suite1.robot" }) {
+            final RobotSuiteFile suite = model.createSuiteFile(getFile(project, suiteName));
+
+            assertThat(names(cache.getImportedResources(suite))).as("resources of %s", suiteName)
+                    .isEqualTo(resourcesVisitedByLocator(suite.getFile()));
+        }
+    }
+
+    @Test
+    public void noResourcesAreReturned_whenFileDoesNotImportAny() throws Exception {
+        final ResourceImportsCache cache = new ResourceImportsCache(model);
+        final IFile file = createFile(project, "other.robot", "*** Test Cases ***", "case");
+
+        assertThat(cache.getImportedResources(model.createSuiteFile(file))).isEmpty();
+    }
+
+    private List<String> resourcesVisitedByLocator(final IFile file) {
+        final List<String> visited = new ArrayList<>();
+        new KeywordDefinitionLocator(file, model).locateKeywordDefinition(new KeywordDetector() {
+
+            @Override
+            public ContinueDecision keywordDetected(final RobotSuiteFile suiteFile,
+                    final RobotKeywordDefinition keyword) {
+                if (!suiteFile.getFile().equals(file)) {
+                    visited.add(suiteFile.getName());
+                }
+                return ContinueDecision.CONTINUE;
+            }
+
+            @Override
+            public ContinueDecision accessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
+                    final KeywordSpecification kwSpec, final Collection<Optional<String>> libraryAliases,
+                    final RobotSuiteFile exposingFile) {
+                return ContinueDecision.CONTINUE;
+            }
+
+            @Override
+            public ContinueDecision nonAccessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
+                    final KeywordSpecification kwSpec, final RobotSuiteFile exposingFile) {
+                return ContinueDecision.CONTINUE;
+            }
+        });
+        return visited;
+    }
+
+    private static List<String> names(final List<IFile> files) {
+        return files.stream().map(IFile::getName).collect(toList());
+    }
+}
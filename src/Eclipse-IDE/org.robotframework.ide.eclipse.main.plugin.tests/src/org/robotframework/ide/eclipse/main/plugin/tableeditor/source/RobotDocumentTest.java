@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.tableeditor.source;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class RobotDocumentTest {
+
+    @Project
+    static IProject project;
+
+    @Test
+    public void modelIsUpdatedInPlace_whenDocumentIsEditedInsideToken() throws Exception {
+        final RobotDocument document = createDocument("*** Keywords ***", "keyword", "    Log    message",
+                "    Log    other");
+        final RobotFile model = document.getNewestModel();
+
+        document.replace(document.get().indexOf("message") + 7, 0, "s");
+
+        assertThat(document.getNewestModel()).isSameAs(model);
+        assertThat(element(model, 2, "messages").getStartOffset()).isEqualTo(document.get().indexOf("messages"));
+        assertThat(element(model, 3, "other").getStartOffset()).isEqualTo(document.get().indexOf("other"));
+    }
+
+    @Test
+    public void modelTakenByOtherThreadIsNotChanged_whenDocumentIsEditedInsideToken() throws Exception {
+        final RobotDocument document = createDocument("*** Keywords ***", "keyword", "    Log    message",
+                "    Log    other");
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final RobotFile takenModel = executor.submit(document::getNewestModel).get(5, TimeUnit.SECONDS);
+            final int otherOffset = document.get().indexOf("other");
+
+            document.replace(document.get().indexOf("message") + 7, 0, "s");
+
+            assertThat(element(takenModel, 2, "message").getStartOffset())
+                    .isEqualTo(document.get().indexOf("messages"));
+            assertThat(element(takenModel, 3, "other").getStartOffset()).isEqualTo(otherOffset);
+
+            final RobotFile newestModel = document.getNewestModel();
+            assertThat(newestModel).isNotSameAs(takenModel);
+            assertThat(element(newestModel, 2, "messages").getStartOffset())
+                    .isEqualTo(document.get().indexOf("messages"));
+            assertThat(element(newestModel, 3, "other").getStartOffset()).isEqualTo(otherOffset + 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static IRobotLineElement element(final RobotFile model, final int line, final String text) {
+        return model.getFileContent()
+                .get(line)
+                .getLineElements()
+                .stream()
+                .filter(element -> element.getText().equals(text))
+                .findFirst()
+                .get();
+    }
+
+    private static RobotDocument createDocument(final String... lines) {
+        final RobotProject robotProject = new RobotModel().createRobotProject(project);
+
+        final RobotParser parser = new RobotParser(robotProject.getRobotProjectHolder(), new RobotVersion(3, 1));
+        final File file = new File("file.robot");
+
+        final RobotDocument document = new RobotDocument(parser, file);
+        document.set(String.join("\n", lines));
+        return document;
+    }
+}
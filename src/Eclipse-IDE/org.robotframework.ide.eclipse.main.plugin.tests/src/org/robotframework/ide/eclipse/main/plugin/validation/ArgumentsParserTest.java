@@ -91,4 +91,59 @@ public class ArgumentsParserTest {
         assertThat(parser.parseArguments(newArrayList("-report", "my_report.xml", "-noReport")).getReportFilePath())
                 .isNull();
     }
+
+    @Test
+    public void thereIsNoCacheDirectoryIfNotProvided() {
+        final ArgumentsParser parser = new ArgumentsParser();
+
+        assertThat(parser.parseArguments(newArrayList("-projects", "project1")).getCacheDirectoryPath()).isNull();
+    }
+
+    @Test
+    public void givenCacheDirectoryIsUsedIfProvided() {
+        final ArgumentsParser parser = new ArgumentsParser();
+
+        assertThat(parser.parseArguments(newArrayList("-cache", "cache_dir", "-projects", "project1"))
+                .getCacheDirectoryPath()).isEqualTo("cache_dir");
+    }
+
+    @Test
+    public void exceptionIsThrown_whenNoCacheDirectoryIsProvided() {
+        final ArgumentsParser parser = new ArgumentsParser();
+
+        assertThatExceptionOfType(InvalidArgumentsProvidedException.class)
+                .isThrownBy(() -> parser.parseArguments(newArrayList("-cache")));
+        assertThatExceptionOfType(InvalidArgumentsProvidedException.class)
+                .isThrownBy(() -> parser.parseArguments(newArrayList("-cache", "-projects", "project1")));
+    }
+
+    @Test
+    public void checkstyleReportFormatIsUsedIfNotProvided() {
+        final ArgumentsParser parser = new ArgumentsParser();
+
+        assertThat(parser.parseArguments(newArrayList("-projects", "project1")).getReportFormat())
+                .isEqualTo(ReportFormat.CHECKSTYLE);
+    }
+
+    @Test
+    public void givenReportFormatIsUsedIfProvided() {
+        final ArgumentsParser parser = new ArgumentsParser();
+
+        assertThat(parser.parseArguments(newArrayList("-reportFormat", "jsonl")).getReportFormat())
+                .isEqualTo(ReportFormat.JSON_LINES);
+        assertThat(parser.parseArguments(newArrayList("-reportFormat", "sarif")).getReportFormat())
+                .isEqualTo(ReportFormat.SARIF);
+        assertThat(parser.parseArguments(newArrayList("-reportFormat", "checkstyle")).getReportFormat())
+                .isEqualTo(ReportFormat.CHECKSTYLE);
+    }
+
+    @Test
+    public void exceptionIsThrown_whenNoOrUnknownReportFormatIsProvided() {
+        final ArgumentsParser parser = new ArgumentsParser();
+
+        assertThatExceptionOfType(InvalidArgumentsProvidedException.class)
+                .isThrownBy(() -> parser.parseArguments(newArrayList("-reportFormat")));
+        assertThatExceptionOfType(InvalidArgumentsProvidedException.class)
+                .isThrownBy(() -> parser.parseArguments(newArrayList("-reportFormat", "html")));
+    }
 }
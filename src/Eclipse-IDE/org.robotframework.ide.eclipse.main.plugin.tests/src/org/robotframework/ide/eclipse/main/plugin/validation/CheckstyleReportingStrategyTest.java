@@ -6,8 +6,11 @@
 package org.robotframework.ide.eclipse.main.plugin.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -17,6 +20,7 @@ import java.io.File;
 
 import org.assertj.core.util.Files;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.Path;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -65,7 +69,7 @@ public class CheckstyleReportingStrategyTest {
 
         strategy.projectValidationStarted("p");
         try {
-            strategy.handleProblem(mock(RobotProblem.class), mock(IFile.class), 5);
+            strategy.handleProblem(mock(RobotProblem.class), fileInProject("p"), 5);
         } catch (final ReportingInterruptedException e) {
         }
         strategy.projectValidationFinished("p");
@@ -75,6 +79,27 @@ public class CheckstyleReportingStrategyTest {
         verifyNoMoreInteractions(logger);
     }
 
+    @Test
+    public void whenProjectsAreValidatedInParallel_problemsAreCountedForEachProjectSeparately() {
+        final Logger logger = mock(Logger.class);
+        final CheckstyleReportingStrategy strategy = new CheckstyleReportingStrategy(false, null, logger);
+        final RobotProblem problem = mock(RobotProblem.class);
+
+        strategy.projectValidationStarted("p1");
+        strategy.projectValidationStarted("p2");
+        strategy.handleProblem(problem, fileInProject("p1"), 1);
+        strategy.handleProblem(problem, fileInProject("p2"), 2);
+        strategy.handleProblem(problem, fileInProject("p1"), 3);
+        strategy.projectValidationFinished("p2");
+        strategy.projectValidationFinished("p1");
+
+        verify(logger).log(
+                matches("Project p1 validation has FINISHED \\(took \\d[.,]\\d{3} seconds and found 2 problems\\)"));
+        verify(logger).log(
+                matches("Project p2 validation has FINISHED \\(took \\d[.,]\\d{3} seconds and found 1 problems\\)"));
+        verifyNoMoreInteractions(logger);
+    }
+
     @Test
     public void whenReportingIsFinished_strategyGeneratesTheReportFile() throws Exception {
         final File file = RedTempDirectory.createNewFile(tempFolder, "my_report.xml");
@@ -104,4 +129,67 @@ public class CheckstyleReportingStrategyTest {
         assertThat(content).contains("<error line=\"5\" message=\"some issue found\" severity=\"error\"/>");
     }
 
+    @Test
+    public void whenReportingIsFinished_problemsAreWrittenOrderedByFilePath_regardlessOfValidationOrder()
+            throws Exception {
+        final File file = RedTempDirectory.createNewFile(tempFolder, "my_report.jsonl");
+
+        final Logger logger = mock(Logger.class);
+        final CheckstyleReportingStrategy strategy = new CheckstyleReportingStrategy(false, file.getAbsolutePath(),
+                ReportFormat.JSON_LINES, logger);
+
+        final IFile firstFile = mock(IFile.class);
+        when(firstFile.getLocation()).thenReturn(new Path("path/to/a"));
+        final IFile secondFile = mock(IFile.class);
+        when(secondFile.getLocation()).thenReturn(new Path("path/to/b"));
+
+        final RobotProblem problem = mock(RobotProblem.class);
+        when(problem.getMessage()).thenReturn("issue");
+        when(problem.getSeverity()).thenReturn(Severity.WARNING);
+
+        strategy.startCollectingMarkers(secondFile);
+        strategy.startCollectingMarkers(firstFile);
+        strategy.handleProblem(problem, secondFile, 3);
+        strategy.handleProblem(problem, firstFile, 8);
+        strategy.handleProblem(problem, firstFile, 1);
+        strategy.applyCollectedMarkers(secondFile);
+        strategy.applyCollectedMarkers(firstFile);
+        strategy.finishReporting();
+
+        final String content = Files.contentOf(file, Charsets.UTF_8);
+
+        assertThat(content).isEqualTo(
+                "{\"file\":\"path/to/a\",\"line\":8,\"severity\":\"warning\",\"message\":\"issue\"}\n"
+                        + "{\"file\":\"path/to/a\",\"line\":1,\"severity\":\"warning\",\"message\":\"issue\"}\n"
+                        + "{\"file\":\"path/to/b\",\"line\":3,\"severity\":\"warning\",\"message\":\"issue\"}\n");
+        verify(logger, never()).logError(anyString(), any());
+    }
+
+    @Test
+    public void whenReportingIsFinished_problemsWithoutSeverityAndMessageAreWritten() throws Exception {
+        final File file = RedTempDirectory.createNewFile(tempFolder, "my_report.jsonl");
+
+        final Logger logger = mock(Logger.class);
+        final CheckstyleReportingStrategy strategy = new CheckstyleReportingStrategy(false, file.getAbsolutePath(),
+                ReportFormat.JSON_LINES, logger);
+
+        final IFile reportedFile = mock(IFile.class);
+        when(reportedFile.getLocation()).thenReturn(new Path("path/to/file"));
+
+        strategy.handleProblem(mock(RobotProblem.class), reportedFile, 4);
+        strategy.finishReporting();
+
+        final String content = Files.contentOf(file, Charsets.UTF_8);
+
+        assertThat(content).isEqualTo("{\"file\":\"path/to/file\",\"line\":4,\"message\":\"\"}\n");
+        verify(logger, never()).logError(anyString(), any());
+    }
+
+    private static IFile fileInProject(final String projectName) {
+        final IProject project = mock(IProject.class);
+        when(project.getName()).thenReturn(projectName);
+        final IFile file = mock(IFile.class);
+        when(file.getProject()).thenReturn(project);
+        return file;
+    }
 }
@@ -30,4 +30,17 @@ public class ProblemsReportingStrategyFactoryTest {
         assertThat(strategy).hasFieldOrPropertyWithValue("shouldPanic", true);
     }
 
+    @Test
+    public void strategiesWritingReportInGivenFormatAreCreated() {
+        final HeadlessValidationReportingStrategy strategy = ProblemsReportingStrategyFactory.reporter("filepath",
+                ReportFormat.SARIF, mock(Logger.class));
+        final HeadlessValidationReportingStrategy panicStrategy = ProblemsReportingStrategyFactory
+                .panicReporter("filepath", ReportFormat.SARIF, mock(Logger.class));
+
+        assertThat(strategy).hasFieldOrPropertyWithValue("shouldPanic", false);
+        assertThat(strategy).hasFieldOrPropertyWithValue("reportFormat", ReportFormat.SARIF);
+        assertThat(panicStrategy).hasFieldOrPropertyWithValue("shouldPanic", true);
+        assertThat(panicStrategy).hasFieldOrPropertyWithValue("reportFormat", ReportFormat.SARIF);
+    }
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.validation;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.robotframework.ide.eclipse.main.plugin.project.editor.libraries.Libraries.createStdLibs;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.getFile;
+
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.util.Files;
+import org.eclipse.core.resources.IProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.validation.ValidationCache;
+import org.rf.ide.core.validation.ValidationCache.CachedProblem;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
+import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsValidator.ModelUnitValidator;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.ValidationContext;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+import com.google.common.base.Charsets;
+
+@ExtendWith(ProjectExtension.class)
+public class ProjectValidationCacheTest {
+
+    @Project(createDefaultRedXml = true)
+    IProject project;
+
+    @TempDir
+    File tempFolder;
+
+    private RobotProject robotProject;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        robotProject = new RobotModel().createRobotProject(project);
+        robotProject.setStandardLibraries(createStdLibs("BuiltIn"));
+
+        createFile(project, "res.robot", "*** Keywords ***", "kw", "  Log  1");
+        createFile(project, "suite1.robot", "*** Settings ***", "Resource  res.robot", "*** Test Cases ***", "case",
+                "  kw");
+        createFile(project, "suite2.robot", "*** Test Cases ***", "case", "  Log  2");
+    }
+
+    @Test
+    public void onlyFilesWithoutCachedResultsAreValidated_andCachedProblemsAreReported() throws Exception {
+        final File cacheFile = new File(tempFolder, "cache.json");
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "signature");
+        cache.store(location("suite2.robot"), newArrayList(), false,
+                newArrayList(new CachedProblem(3, "cached problem", "ERROR")));
+
+        final File reportFile = new File(tempFolder, "report.xml");
+        final CheckstyleReportingStrategy reporter = new CheckstyleReportingStrategy(false,
+                reportFile.getAbsolutePath(), mock(Logger.class));
+        final ProjectValidationCache validationCache = new ProjectValidationCache(robotProject, cacheFile, cache);
+        final List<ModelUnitValidator> validators = validationCache.createValidatorConfig(reporter)
+                .createValidators(new ValidationContext(robotProject, new BuildLogger()));
+
+        assertThat(validators.stream()
+                .map(ModelUnitValidator::getValidatedFile)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(toList())).containsOnly(getFile(project, "res.robot"), getFile(project, "suite1.robot"));
+        assertThat(validationCache.getNumberOfFilesToValidate()).isEqualTo(2);
+        assertThat(validationCache.getNumberOfFilesWithValidators()).isEqualTo(3);
+
+        reporter.finishReporting();
+        final String content = Files.contentOf(reportFile, Charsets.UTF_8);
+        assertThat(content).contains("<file name=\"" + location("suite2.robot").getPath().replace('\\', '/') + "\">");
+        assertThat(content).contains("<error line=\"3\" message=\"cached problem\" severity=\"error\"/>");
+    }
+
+    @Test
+    public void cachedProblemsWithoutSeverityAreReported() throws Exception {
+        final File cacheFile = new File(tempFolder, "cache.json");
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "signature");
+        cache.store(location("suite2.robot"), newArrayList(), false,
+                newArrayList(new CachedProblem(3, "cached problem", null)));
+
+        final File reportFile = new File(tempFolder, "report.xml");
+        final CheckstyleReportingStrategy reporter = new CheckstyleReportingStrategy(false,
+                reportFile.getAbsolutePath(), mock(Logger.class));
+        final ProjectValidationCache validationCache = new ProjectValidationCache(robotProject, cacheFile, cache);
+        validationCache.createValidatorConfig(reporter)
+                .createValidators(new ValidationContext(robotProject, new BuildLogger()));
+
+        reporter.finishReporting();
+        final String content = Files.contentOf(reportFile, Charsets.UTF_8);
+        assertThat(content).contains("<error line=\"3\" message=\"cached problem\"/>");
+    }
+
+    @Test
+    public void cacheIsWrittenOnlyWhenAllOutdatedFilesWereValidated() throws Exception {
+        final File cacheFile = new File(tempFolder, "cache.json");
+        final CheckstyleReportingStrategy reporter = new CheckstyleReportingStrategy(false, null, mock(Logger.class));
+
+        final ProjectValidationCache validationCache = new ProjectValidationCache(robotProject, cacheFile,
+                ValidationCache.readFrom(cacheFile, "signature"));
+        final List<ModelUnitValidator> validators = validationCache.createValidatorConfig(reporter)
+                .createValidators(new ValidationContext(robotProject, new BuildLogger()));
+        assertThat(validationCache.store()).isFalse();
+        assertThat(cacheFile).doesNotExist();
+
+        validators.forEach(ModelUnitValidator::validate);
+        assertThat(validationCache.store()).isTrue();
+        assertThat(cacheFile).exists();
+
+        final ProjectValidationCache nextValidationCache = new ProjectValidationCache(robotProject, cacheFile,
+                ValidationCache.readFrom(cacheFile, "signature"));
+        final List<ModelUnitValidator> nextValidators = nextValidationCache.createValidatorConfig(reporter)
+                .createValidators(new ValidationContext(robotProject, new BuildLogger()));
+        assertThat(nextValidators).allMatch(validator -> !validator.getValidatedFile().isPresent());
+    }
+
+    private File location(final String fileName) {
+        return getFile(project, fileName).getLocation().toFile();
+    }
+}
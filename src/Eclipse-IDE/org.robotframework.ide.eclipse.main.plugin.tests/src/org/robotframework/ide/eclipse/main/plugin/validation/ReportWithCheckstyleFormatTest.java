@@ -11,13 +11,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.assertj.core.util.Files;
-import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.Path;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
@@ -40,7 +35,8 @@ public class ReportWithCheckstyleFormatTest {
         final File file = RedTempDirectory.createNewFile(tempFolder, "empty.xml");
 
         try (ReportWithCheckstyleFormat reporter = new ReportWithCheckstyleFormat(file)) {
-            reporter.write(new HashMap<>());
+            reporter.writeHeader();
+            reporter.writeFooter();
         }
         final String content = Files.contentOf(file, Charsets.UTF_8);
 
@@ -67,15 +63,14 @@ public class ReportWithCheckstyleFormatTest {
         when(problem3.getMessage()).thenReturn("MinorIssue");
         when(problem3.getSeverity()).thenReturn(Severity.INFO);
 
-        final Map<IPath, Collection<RobotProblemWithPosition>> problems = new HashMap<>();
-        problems.put(new Path("first_file"), newArrayList(
-                    new RobotProblemWithPosition(problem1, new ProblemPosition(7)),
-                    new RobotProblemWithPosition(problem2, new ProblemPosition(9))));
-        problems.put(new Path("second_file"),
-                newArrayList(new RobotProblemWithPosition(problem3, new ProblemPosition(1))));
-
         try (ReportWithCheckstyleFormat reporter = new ReportWithCheckstyleFormat(file)) {
-            reporter.write(problems);
+            reporter.writeHeader();
+            reporter.writeFileProblems("first_file",
+                    newArrayList(new RobotProblemWithPosition(problem1, new ProblemPosition(7)),
+                            new RobotProblemWithPosition(problem2, new ProblemPosition(9))));
+            reporter.writeFileProblems("second_file",
+                    newArrayList(new RobotProblemWithPosition(problem3, new ProblemPosition(1))));
+            reporter.writeFooter();
         }
         final String content = Files.contentOf(file, Charsets.UTF_8);
 
@@ -91,4 +86,20 @@ public class ReportWithCheckstyleFormatTest {
         assertThat(content).contains("<error line=\"1\" message=\"MinorIssue\" severity=\"info\"/>");
     }
 
+    @Test
+    public void violationWithoutSeverityAndWithEmptyMessageIsWritten_whenProblemDoesNotProvideThem()
+            throws Exception {
+        final File file = RedTempDirectory.createNewFile(tempFolder, "report.xml");
+
+        try (ReportWithCheckstyleFormat reporter = new ReportWithCheckstyleFormat(file)) {
+            reporter.writeHeader();
+            reporter.writeFileProblems("file",
+                    newArrayList(new RobotProblemWithPosition(mock(RobotProblem.class), new ProblemPosition(3))));
+            reporter.writeFooter();
+        }
+        final String content = Files.contentOf(file, Charsets.UTF_8);
+
+        assertThat(content).contains("<error line=\"3\" message=\"\"/>");
+    }
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.validation;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.validation.ProblemPosition;
+import org.robotframework.ide.eclipse.main.plugin.project.build.causes.ProblemCategory.Severity;
+import org.robotframework.ide.eclipse.main.plugin.validation.CheckstyleReportingStrategy.RobotProblemWithPosition;
+import org.robotframework.red.junit.jupiter.RedTempDirectory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(RedTempDirectory.class)
+public class ReportWithSarifFormatTest {
+
+    @TempDir
+    File tempFolder;
+
+    @Test
+    public void sarifLogWithoutResultsIsWritten_whenThereAreNoProblems() throws Exception {
+        final File file = RedTempDirectory.createNewFile(tempFolder, "report.sarif");
+
+        try (ReportWithSarifFormat reporter = new ReportWithSarifFormat(file)) {
+            reporter.writeHeader();
+            reporter.writeFooter();
+        }
+        final JsonNode log = new ObjectMapper().readTree(file);
+
+        assertThat(log.get("version").asText()).isEqualTo("2.1.0");
+        assertThat(log.get("runs")).hasSize(1);
+        assertThat(log.get("runs").get(0).get("tool").get("driver").get("name").asText()).isEqualTo("RED");
+        assertThat(log.get("runs").get(0).get("results")).isEmpty();
+    }
+
+    @Test
+    public void sarifLogWithResultsIsWritten_whenThereAreProblems() throws Exception {
+        final File file = RedTempDirectory.createNewFile(tempFolder, "report.sarif");
+        final File suite = new File(tempFolder, "suite.robot");
+
+        try (ReportWithSarifFormat reporter = new ReportWithSarifFormat(file)) {
+            reporter.writeHeader();
+            reporter.writeFileProblems(suite.getAbsolutePath(),
+                    newArrayList(problem("Unknown keyword", Severity.ERROR, 4),
+                            problem("Deprecated", Severity.WARNING, -1), problem("Note", Severity.INFO, 2)));
+            reporter.writeFooter();
+        }
+        final JsonNode results = new ObjectMapper().readTree(file).get("runs").get(0).get("results");
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).get("level").asText()).isEqualTo("error");
+        assertThat(results.get(0).get("message").get("text").asText()).isEqualTo("Unknown keyword");
+        final JsonNode location = results.get(0).get("locations").get(0).get("physicalLocation");
+        assertThat(location.get("artifactLocation").get("uri").asText()).isEqualTo(suite.toURI().toString());
+        assertThat(location.get("region").get("startLine").asInt()).isEqualTo(4);
+
+        assertThat(results.get(1).get("level").asText()).isEqualTo("warning");
+        assertThat(results.get(1).get("locations").get(0).get("physicalLocation").has("region")).isFalse();
+
+        assertThat(results.get(2).get("level").asText()).isEqualTo("note");
+    }
+
+    private static RobotProblemWithPosition problem(final String message, final Severity severity, final int line) {
+        return new RobotProblemWithPosition(message, severity, new ProblemPosition(line));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.validation;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.assertj.core.util.Files;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.validation.ProblemPosition;
+import org.robotframework.ide.eclipse.main.plugin.project.build.causes.ProblemCategory.Severity;
+import org.robotframework.ide.eclipse.main.plugin.validation.CheckstyleReportingStrategy.RobotProblemWithPosition;
+import org.robotframework.red.junit.jupiter.RedTempDirectory;
+
+import com.google.common.base.Charsets;
+
+@ExtendWith(RedTempDirectory.class)
+public class ReportedProblemsSpoolTest {
+
+    @TempDir
+    File tempFolder;
+
+    @Test
+    public void onlyHeaderAndFooterAreWritten_whenNoProblemsWereAdded() throws Exception {
+        final File file = RedTempDirectory.createNewFile(tempFolder, "report.xml");
+
+        try (ReportedProblemsSpool spool = new ReportedProblemsSpool();
+                ReportWriter writer = new ReportWithCheckstyleFormat(file)) {
+            spool.add("file", newArrayList());
+            spool.writeTo(writer);
+
+            assertThat(spool.getNumberOfProblems()).isZero();
+        }
+        final String content = Files.contentOf(file, Charsets.UTF_8);
+
+        assertThat(content).contains("<checkstyle");
+        assertThat(content).contains("</checkstyle>");
+        assertThat(content).doesNotContain("<file");
+    }
+
+    @Test
+    public void problemsAreWrittenOrderedByFilePath_regardlessOfTheOrderTheyWereAdded() throws Exception {
+        final File file = RedTempDirectory.createNewFile(tempFolder, "report.jsonl");
+
+        try (ReportedProblemsSpool spool = new ReportedProblemsSpool();
+                ReportWriter writer = new ReportWithJsonLinesFormat(file)) {
+            spool.add("/project/b.robot", newArrayList(problem("b", Severity.ERROR, 3)));
+            spool.add("/project/a.robot",
+                    newArrayList(problem("a1", Severity.WARNING, 7), problem("a2", Severity.INFO, 2)));
+            spool.add("/project/c.robot", newArrayList(problem("c", Severity.ERROR, 1)));
+            spool.writeTo(writer);
+
+            assertThat(spool.getNumberOfProblems()).isEqualTo(4);
+        }
+        final String content = Files.contentOf(file, Charsets.UTF_8);
+
+        assertThat(content).isEqualTo(
+                "{\"file\":\"/project/a.robot\",\"line\":7,\"severity\":\"warning\",\"message\":\"a1\"}\n"
+                        + "{\"file\":\"/project/a.robot\",\"line\":2,\"severity\":\"info\",\"message\":\"a2\"}\n"
+                        + "{\"file\":\"/project/b.robot\",\"line\":3,\"severity\":\"error\",\"message\":\"b\"}\n"
+                        + "{\"file\":\"/project/c.robot\",\"line\":1,\"severity\":\"error\",\"message\":\"c\"}\n");
+    }
+
+    @Test
+    public void problemsOfFileAddedSeveralTimesAreWrittenTogetherOrderedByLine() throws Exception {
+        final File file = RedTempDirectory.createNewFile(tempFolder, "report.jsonl");
+
+        try (ReportedProblemsSpool spool = new ReportedProblemsSpool();
+                ReportWriter writer = new ReportWithJsonLinesFormat(file)) {
+            spool.add("/project/a.robot", newArrayList(problem("second", Severity.ERROR, 5)));
+            spool.add("/project/b.robot", newArrayList(problem("other", Severity.ERROR, 1)));
+            spool.add("/project/a.robot", newArrayList(problem("first", Severity.WARNING, 2)));
+            spool.writeTo(writer);
+        }
+        final String content = Files.contentOf(file, Charsets.UTF_8);
+
+        assertThat(content).isEqualTo(
+                "{\"file\":\"/project/a.robot\",\"line\":2,\"severity\":\"warning\",\"message\":\"first\"}\n"
+                        + "{\"file\":\"/project/a.robot\",\"line\":5,\"severity\":\"error\",\"message\":\"second\"}\n"
+                        + "{\"file\":\"/project/b.robot\",\"line\":1,\"severity\":\"error\",\"message\":\"other\"}\n");
+    }
+
+    private static RobotProblemWithPosition problem(final String message, final Severity severity, final int line) {
+        return new RobotProblemWithPosition(message, severity, new ProblemPosition(line));
+    }
+}
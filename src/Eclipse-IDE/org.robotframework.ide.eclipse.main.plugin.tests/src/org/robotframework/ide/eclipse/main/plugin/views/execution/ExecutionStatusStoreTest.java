@@ -222,6 +222,121 @@ public class ExecutionStatusStoreTest {
         assertThat(store.checkDirtyAndReset()).isFalse();
     }
 
+    @Test
+    public void onlyNodesChangedSinceLastTakeAreReported() throws Exception {
+        final ExecutionTreeNode root = ExecutionTreeNode.newSuiteNode(null, "suite", null);
+        final ExecutionTreeNode current = ExecutionTreeNode.newSuiteNode(root, "inner", null);
+        final ExecutionTreeNode test = ExecutionTreeNode.newTestNode(current, "t1", null);
+        root.addChildren(current);
+        current.addChildren(test);
+
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+        store.setExecutionTree(root);
+        store.setCurrent(current);
+
+        store.testStarted("t1", "t1");
+        assertThat(store.takeNodesWithChangedChildren()).isEmpty();
+        assertThat(store.takeNodesWithChangedLabels()).containsExactly(test);
+
+        store.testEnded(100, Status.PASS, "");
+        assertThat(store.takeNodesWithChangedChildren()).isEmpty();
+        assertThat(store.takeNodesWithChangedLabels()).containsExactly(test);
+
+        assertThat(store.takeNodesWithChangedChildren()).isEmpty();
+        assertThat(store.takeNodesWithChangedLabels()).isEmpty();
+    }
+
+    @Test
+    public void childrenOfParentAreReportedAsChanged_whenTestOrSuiteEndsWithFailure() throws Exception {
+        final ExecutionTreeNode root = ExecutionTreeNode.newSuiteNode(null, "suite", null);
+        final ExecutionTreeNode current = ExecutionTreeNode.newSuiteNode(root, "inner", null);
+        final ExecutionTreeNode t1 = ExecutionTreeNode.newTestNode(current, "t1", null);
+        final ExecutionTreeNode t2 = ExecutionTreeNode.newTestNode(current, "t2", null);
+        root.addChildren(current);
+        current.addChildren(t1, t2);
+
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+        store.setExecutionTree(root);
+        store.setCurrent(current);
+
+        store.testStarted("t1", "t1");
+        store.testEnded(100, Status.PASS, "");
+        assertThat(store.takeNodesWithChangedChildren()).isEmpty();
+
+        store.testStarted("t2", "t2");
+        store.testEnded(100, Status.FAIL, "error");
+        assertThat(store.takeNodesWithChangedChildren()).containsExactly(current);
+
+        store.suiteEnded(200, Status.FAIL, "");
+        assertThat(store.takeNodesWithChangedChildren()).containsExactly(root);
+    }
+
+    @Test
+    public void childrenAreReportedAsChanged_onlyWhenStartedTestIsAddedOrMoved() throws Exception {
+        final ExecutionTreeNode root = ExecutionTreeNode.newSuiteNode(null, "suite", null);
+        final ExecutionTreeNode t1 = ExecutionTreeNode.newTestNode(root, "t1", null);
+        final ExecutionTreeNode t2 = ExecutionTreeNode.newTestNode(root, "t2", null);
+        root.addChildren(t1, t2);
+
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+        store.setExecutionTree(root);
+        store.setCurrent(root);
+
+        store.testStarted("t2", "t2");
+        assertThat(store.takeNodesWithChangedChildren()).containsExactly(root);
+        store.testEnded(100, Status.PASS, "");
+
+        store.testStarted("t1", "t1");
+        assertThat(store.takeNodesWithChangedChildren()).isEmpty();
+        store.testEnded(100, Status.PASS, "");
+
+        store.testStarted("t3", "t3");
+        assertThat(store.takeNodesWithChangedChildren()).containsExactly(root);
+    }
+
+    @Test
+    public void suitesOfParallelWorkersArePutUnderCommonRoot_whichEndsWhenAllWorkersEnd() throws Exception {
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+        store.open();
+
+        store.suiteStarted(0, "suite", new URI("file:///suite"), ExecutionMode.TESTS, 2, newArrayList("t1", "t2"),
+                new ArrayList<>(), new ArrayList<>());
+        store.suiteStarted(1, "suite", new URI("file:///suite"), ExecutionMode.TESTS, 1, newArrayList("t3"),
+                new ArrayList<>(), new ArrayList<>());
+        store.testStarted(1, "t3", "t3");
+        store.testStarted(0, "t1", "t1");
+        store.testEnded(1, 100, Status.FAIL, "error");
+        store.testEnded(0, 100, Status.PASS, "");
+
+        final ExecutionTreeNode root = store.getExecutionTree();
+        assertThat(root.getName()).isEqualTo("suite");
+        assertThat(root.getChildren()).hasSize(2);
+        assertThat(root.getChildren().get(0).getChildren()).extracting(ExecutionTreeNode::getStatus)
+                .containsExactly(Optional.of(Status.PASS), Optional.empty());
+        assertThat(root.getChildren().get(1).getChildren()).extracting(ExecutionTreeNode::getStatus)
+                .containsExactly(Optional.of(Status.FAIL));
+        assertThat(store.getTotalTests()).isEqualTo(3);
+        assertThat(store.getPassedTests()).isEqualTo(1);
+        assertThat(store.getFailedTests()).isEqualTo(1);
+
+        store.suiteEnded(1, 150, Status.FAIL, "");
+        store.close();
+        assertThat(root.getStatus()).isEqualTo(Optional.of(Status.RUNNING));
+        assertThat(store.isOpen()).isTrue();
+
+        store.testStarted(0, "t2", "t2");
+        store.testEnded(0, 100, Status.PASS, "");
+        store.suiteEnded(0, 250, Status.PASS, "");
+        store.close();
+        assertThat(root.getStatus()).isEqualTo(Optional.of(Status.FAIL));
+        assertThat(root.getElapsedTime()).isEqualTo(250);
+        assertThat(store.isOpen()).isFalse();
+    }
+
     @Test
     public void whenSuiteEnds_currentNodeChangesStatus_currentIsMovedToParent() {
         final ExecutionTreeNode parent = ExecutionTreeNode.newSuiteNode(null, "suite", null);
@@ -355,6 +470,18 @@ public class ExecutionStatusStoreTest {
         assertThat(store.getOutputFilePath()).isEqualTo(new URI("file:///output.xml"));
     }
 
+    @Test
+    public void whenOutputsOfParallelExecutionAreCombined_combinedOutputIsStoredInClosedStore() throws Exception {
+        final ExecutionStatusStore store = new ExecutionStatusStore();
+        store.open();
+        store.close();
+        store.checkDirtyAndReset();
+        store.setCombinedOutputFilePath(new URI("file:///output.xml"));
+
+        assertThat(store.getOutputFilePath()).isEqualTo(new URI("file:///output.xml"));
+        assertThat(store.checkDirtyAndReset()).isTrue();
+    }
+
     @Test
     public void whenStoreIsDisposed_treeIsRemoved() {
         final ExecutionStatusStore store = new ExecutionStatusStore();
@@ -72,8 +72,8 @@ public class ExecutionStatusTrackerTest {
         tracker.handleSuiteStarted(new SuiteStartedEvent("suite", new URI("file:///suite.robot"), false,
                 ExecutionMode.TESTS, 2, new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
 
-        verify(store).suiteStarted("suite", new URI("file:///suite.robot"), ExecutionMode.TESTS, 2, new ArrayList<>(),
-                new ArrayList<>(), new ArrayList<>());
+        verify(store).suiteStarted(ExecutionStatusStore.NO_WORKER, "suite", new URI("file:///suite.robot"),
+                ExecutionMode.TESTS, 2, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
         verifyNoMoreInteractions(store);
     }
 
@@ -87,7 +87,7 @@ public class ExecutionStatusTrackerTest {
         final ExecutionStatusTracker tracker = new ExecutionStatusTracker(context);
         tracker.handleSuiteEnded(new SuiteEndedEvent("suite", 100, Status.PASS, ""));
 
-        verify(store).suiteEnded(100, Status.PASS, "");
+        verify(store).suiteEnded(ExecutionStatusStore.NO_WORKER, 100, Status.PASS, "");
         verifyNoMoreInteractions(store);
     }
 
@@ -101,7 +101,7 @@ public class ExecutionStatusTrackerTest {
         final ExecutionStatusTracker tracker = new ExecutionStatusTracker(context);
         tracker.handleTestStarted(new TestStartedEvent("test", "resolvedTest", "teeeeest", null));
 
-        verify(store).testStarted("test", "resolvedTest");
+        verify(store).testStarted(ExecutionStatusStore.NO_WORKER, "test", "resolvedTest");
         verifyNoMoreInteractions(store);
     }
 
@@ -115,7 +115,7 @@ public class ExecutionStatusTrackerTest {
         final ExecutionStatusTracker tracker = new ExecutionStatusTracker(context);
         tracker.handleTestEnded(new TestEndedEvent("test", "resolvedTest", "teeeeest", 100, Status.FAIL, "error"));
 
-        verify(store).testEnded(100, Status.FAIL, "error");
+        verify(store).testEnded(ExecutionStatusStore.NO_WORKER, 100, Status.FAIL, "error");
         verifyNoMoreInteractions(store);
     }
 
@@ -133,4 +133,17 @@ public class ExecutionStatusTrackerTest {
         verifyNoMoreInteractions(store);
 
     }
+
+    @Test
+    public void storeIsNotNotified_whenOutputFileIsGeneratedByParallelWorker() throws Exception {
+        final ExecutionStatusStore store = mock(ExecutionStatusStore.class);
+
+        final RobotTestsLaunch context = new RobotTestsLaunch(null);
+        context.getExecutionData(ExecutionStatusStore.class, () -> store);
+
+        final ExecutionStatusTracker tracker = new ExecutionStatusTracker(context, 1);
+        tracker.handleOutputFile(new OutputFileEvent(new URI("file:///worker_1.xml")));
+
+        verifyNoMoreInteractions(store);
+    }
 }
@@ -475,4 +475,26 @@ public class ExecutionTreeNodeTest {
         assertThat(suite1.getDynamic()).isEqualTo(DynamicFlag.NONE);
         assertThat(suite2.getDynamic()).isEqualTo(DynamicFlag.NONE);
     }
+
+    @Test
+    public void notExecutedTestsWithTheSameNamesAreReturnedInOrder_whenPreviousOnesGetStatus() {
+        final ExecutionTreeNode parent = ExecutionTreeNode.newSuiteNode(null, "parent", null);
+        final ExecutionTreeNode test1 = ExecutionTreeNode.newTestNode(parent, "t", null);
+        final ExecutionTreeNode test2 = ExecutionTreeNode.newTestNode(parent, "other", null);
+        final ExecutionTreeNode test3 = ExecutionTreeNode.newTestNode(parent, "t", null);
+        parent.addChildren(test1, test2, test3);
+
+        assertThat(parent.getTestOrCreateIfMissing("t", "t")).isSameAs(test1);
+        assertThat(parent.getTestOrCreateIfMissing("t", "t")).isSameAs(test1);
+
+        test1.setStatus(Status.PASS);
+        assertThat(parent.getTestOrCreateIfMissing("t", "t")).isSameAs(test3);
+        assertThat(parent.getChildren()).containsExactly(test1, test3, test2);
+        assertThat(parent.getDynamic()).isEqualTo(DynamicFlag.OTHER);
+
+        test3.setStatus(Status.PASS);
+        final ExecutionTreeNode found = parent.getTestOrCreateIfMissing("t", "t");
+        assertThat(found).isNotIn(test1, test2, test3);
+        assertThat(parent.getChildren()).containsExactly(test1, test3, found, test2);
+    }
 }
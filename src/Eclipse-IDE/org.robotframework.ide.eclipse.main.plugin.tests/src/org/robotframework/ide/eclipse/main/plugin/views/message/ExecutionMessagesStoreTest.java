@@ -18,6 +18,8 @@ import org.robotframework.red.junit.jupiter.Managed;
 import org.robotframework.red.junit.jupiter.PreferencesExtension;
 import org.robotframework.red.junit.jupiter.PreferencesUpdater;
 
+import com.google.common.base.Strings;
+
 @ExtendWith(PreferencesExtension.class)
 public class ExecutionMessagesStoreTest {
 
@@ -93,4 +95,63 @@ public class ExecutionMessagesStoreTest {
         store.append("2");
         assertThat(store.getMessage()).isEqualTo("e12");
     }
+
+    @Test
+    public void storeProperlySavesMessages_whenTheyExceedSingleChunk() {
+        final String longMessage = Strings.repeat("x", ExecutionMessagesStore.CHUNK_SIZE - 2) + "
+yyy
+";
+
+        store.open();
+        store.append("msg
+");
+        store.append(longMessage);
+        store.append(longMessage);
+
+        assertThat(store.getMessage()).isEqualTo("msg
+" + longMessage + longMessage);
+
+        final ExecutionMessagesSnapshot snapshot = store.getSnapshot();
+        assertThat(snapshot.getLineCount()).isEqualTo(6);
+        assertThat(snapshot.getLine(0)).isEqualTo("msg");
+        assertThat(snapshot.getLine(2)).isEqualTo("yyy");
+        assertThat(snapshot.getLine(3)).isEqualTo(Strings.repeat("x", ExecutionMessagesStore.CHUNK_SIZE - 2));
+        assertThat(snapshot.getLine(4)).isEqualTo("yyy");
+        assertThat(snapshot.getLine(5)).isEmpty();
+    }
+
+    @BooleanPreference(key = RedPreferences.LIMIT_MSG_LOG_OUTPUT, value = true)
+    @IntegerPreference(key = RedPreferences.LIMIT_MSG_LOG_LENGTH, value = 10)
+    @Test
+    public void storeOnlyRemembersLastLines_whenCharactersLimitIsSet() {
+        store.open();
+        store.append(Strings.repeat("line
+", ExecutionMessagesStore.CHUNK_SIZE));
+        store.append("last
+");
+
+        final ExecutionMessagesSnapshot snapshot = store.getSnapshot();
+        assertThat(snapshot.getText()).isEqualTo("line
+last
+");
+        assertThat(snapshot.getLineCount()).isEqualTo(3);
+        assertThat(snapshot.getLineAtOffset(7)).isEqualTo(1);
+        assertThat(snapshot.getOffsetAtLine(1)).isEqualTo(5);
+    }
+
+    @Test
+    public void snapshotIsNotChanged_whenMessagesAreAppendedAfterwards() {
+        store.open();
+        store.append("msg1
+");
+
+        final ExecutionMessagesSnapshot snapshot = store.getSnapshot();
+        store.append("msg2
+");
+
+        assertThat(snapshot.getText()).isEqualTo("msg1
+");
+        assertThat(snapshot.getLineCount()).isEqualTo(2);
+        assertThat(store.getSnapshot().getLineCount()).isEqualTo(3);
+    }
 }
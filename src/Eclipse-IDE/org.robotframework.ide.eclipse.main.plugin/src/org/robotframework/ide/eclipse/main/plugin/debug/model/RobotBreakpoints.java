@@ -9,20 +9,32 @@ import java.net.URI;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.eclipse.core.resources.IMarkerDelta;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointListener;
 import org.eclipse.debug.core.IBreakpointManager;
+import org.eclipse.debug.core.IBreakpointManagerListener;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.ILineBreakpoint;
 import org.rf.ide.core.execution.debug.RobotBreakpoint;
 import org.rf.ide.core.execution.debug.RobotBreakpointSupplier;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
 
 public class RobotBreakpoints extends RobotBreakpointSupplier {
 
     private final IBreakpointManager breakpointManager;
 
+    private final BreakpointsChangesTracker changesTracker = new BreakpointsChangesTracker();
+
+    private boolean isTrackingChanges = false;
+
+    private SetMultimap<URI, Integer> lineBreakpointsLocations;
+
     public RobotBreakpoints() {
         this(DebugPlugin.getDefault().getBreakpointManager());
     }
@@ -32,6 +44,31 @@ public class RobotBreakpoints extends RobotBreakpointSupplier {
         this.breakpointManager = breakpointManager;
     }
 
+    /**
+     * Starts tracking changes of breakpoints, so that locations of line breakpoints are cached and
+     * computed again only after breakpoints are added, removed, changed or globally switched.
+     */
+    public synchronized void startTrackingChanges() {
+        if (!isTrackingChanges) {
+            breakpointManager.addBreakpointListener(changesTracker);
+            breakpointManager.addBreakpointManagerListener(changesTracker);
+            isTrackingChanges = true;
+        }
+    }
+
+    public synchronized void stopTrackingChanges() {
+        if (isTrackingChanges) {
+            breakpointManager.removeBreakpointListener(changesTracker);
+            breakpointManager.removeBreakpointManagerListener(changesTracker);
+            isTrackingChanges = false;
+            lineBreakpointsLocations = null;
+        }
+    }
+
+    private synchronized void breakpointsChanged() {
+        lineBreakpointsLocations = null;
+    }
+
     public void enableBreakpointsDisabledByHitCounter() {
         for (final IBreakpoint breakpoint : breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID)) {
             try {
@@ -76,6 +113,41 @@ public class RobotBreakpoints extends RobotBreakpointSupplier {
                 .findFirst();
     }
 
+    @Override
+    public synchronized SetMultimap<URI, Integer> getLineBreakpointsLocations() {
+        if (lineBreakpointsLocations != null) {
+            return lineBreakpointsLocations;
+        }
+        final SetMultimap<URI, Integer> locations = findLineBreakpointsLocations();
+        if (isTrackingChanges) {
+            lineBreakpointsLocations = locations;
+        }
+        return locations;
+    }
+
+    private SetMultimap<URI, Integer> findLineBreakpointsLocations() {
+        final SetMultimap<URI, Integer> locations = HashMultimap.create();
+        if (breakpointManager.isEnabled()) {
+            Stream.of(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID))
+                    .filter(RobotLineBreakpoint.class::isInstance)
+                    .map(RobotLineBreakpoint.class::cast)
+                    .filter(RobotBreakpoints::isEnabled)
+                    .filter(bp -> bp.getMarker().getResource().getLocationURI() != null)
+                    .forEach(bp -> locations.put(bp.getMarker().getResource().getLocationURI(), getLineNumber(bp)));
+        }
+        return ImmutableSetMultimap.copyOf(locations);
+    }
+
+    @Override
+    public boolean hasKeywordFailBreakpoints() {
+        if (!breakpointManager.isEnabled()) {
+            return false;
+        }
+        return Stream.of(breakpointManager.getBreakpoints(RobotDebugElement.DEBUG_MODEL_ID))
+                .filter(RobotKeywordFailBreakpoint.class::isInstance)
+                .anyMatch(RobotBreakpoints::isEnabled);
+    }
+
     private static boolean isEnabled(final IBreakpoint bp) {
         try {
             return bp.isEnabled();
@@ -91,4 +163,27 @@ public class RobotBreakpoints extends RobotBreakpointSupplier {
             return -1;
         }
     }
+
+    private class BreakpointsChangesTracker implements IBreakpointListener, IBreakpointManagerListener {
+
+        @Override
+        public void breakpointAdded(final IBreakpoint breakpoint) {
+            breakpointsChanged();
+        }
+
+        @Override
+        public void breakpointRemoved(final IBreakpoint breakpoint, final IMarkerDelta delta) {
+            breakpointsChanged();
+        }
+
+        @Override
+        public void breakpointChanged(final IBreakpoint breakpoint, final IMarkerDelta delta) {
+            breakpointsChanged();
+        }
+
+        @Override
+        public void breakpointManagerEnablementChanged(final boolean enabled) {
+            breakpointsChanged();
+        }
+    }
 }
@@ -190,6 +190,10 @@ public class RobotDebugTarget extends RobotDebugElement implements IDebugTarget
         userController.changeVariableInnerValue(frame, variable, path, arguments);
     }
 
+    void expandVariable(final StackFrame frame, final StackFrameVariable variable, final List<Object> path) {
+        userController.expandVariable(frame, variable, path);
+    }
+
     public void evaluate(final int exprId, final ExpressionType type, final String expression) {
         if (type == ExpressionType.ROBOT) {
             final String[] splitted = expression.split("  +");
@@ -274,6 +278,12 @@ public class RobotDebugTarget extends RobotDebugElement implements IDebugTarget
             suspended(DebugEvent.EVALUATION);
         }
 
+        @Override
+        public void pausedAfterVariableExpansion() {
+            // implicit, so that frame selected by the user is not changed
+            suspended(DebugEvent.EVALUATION_IMPLICIT);
+        }
+
         @Override
         public void pausedAfterExpressionEvaluated() {
             suspended(DebugEvent.EVALUATION);
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.debug.core.model.IValue;
+import org.rf.ide.core.execution.agent.event.VariableCollectionHandle;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
 
 /**
@@ -36,6 +37,12 @@ public abstract class RobotDebugValue extends RobotDebugElement implements IValu
         } else if (value instanceof Map<?, ?>) {
             return RobotDebugValueOfDictionary.create(parent, type, (Map<?, ?>) value);
 
+        } else if (value instanceof VariableCollectionHandle) {
+            final VariableCollectionHandle handle = (VariableCollectionHandle) value;
+            return handle.isDictionary()
+                    ? RobotDebugValueOfDictionary.createUnexpanded(parent, type, handle.getSize())
+                    : RobotDebugValueOfList.createUnexpanded(parent, type, handle.getSize());
+
         } else {
             return RobotDebugValueOfScalar.create(parent, type, value == null ? null : value.toString());
         }
@@ -72,8 +79,15 @@ public abstract class RobotDebugValue extends RobotDebugElement implements IValu
         return new RobotDebugVariable[0];
     }
 
+    /**
+     * Returns nested variables which are already known, without asking agent for missing ones.
+     */
+    RobotDebugVariable[] getFetchedVariables() {
+        return getVariables();
+    }
+
     RobotDebugVariable getVariable(final String varName) {
-        for (final RobotDebugVariable variable : getVariables()) {
+        for (final RobotDebugVariable variable : getFetchedVariables()) {
             if (variable.getName().equals(varName)) {
                 return variable;
             }
@@ -82,7 +96,7 @@ public abstract class RobotDebugValue extends RobotDebugElement implements IValu
     }
 
     public void visitAllVariables(final RobotDebugVariableVisitor visitor) {
-        for (final RobotDebugVariable var : getVariables()) {
+        for (final RobotDebugVariable var : getFetchedVariables()) {
             var.visitAllVariables(visitor);
         }
     }
@@ -23,32 +23,58 @@ public class RobotDebugValueOfList extends RobotDebugValue {
                     new RobotDebugVariable(parent, "[" + i + "]", typeWithValue.getType(), typeWithValue.getValue()));
         }
         final String val = type == null ? "" : type + "[" + nestedVariables.size() + "]";
-        return new RobotDebugValueOfList(parent.getDebugTarget(), type, val, nestedVariables);
+        return new RobotDebugValueOfList(parent.getDebugTarget(), type, val, nestedVariables, null);
+    }
+
+    public static RobotDebugValueOfList createUnexpanded(final RobotDebugVariable parent, final String type,
+            final int size) {
+        final String val = type == null ? "" : type + "[" + size + "]";
+        final Runnable expansionRequest = size > 0 ? parent::requestExpansion : null;
+        return new RobotDebugValueOfList(parent.getDebugTarget(), type, val, new ArrayList<>(), expansionRequest);
     }
 
     
     private final List<RobotDebugVariable> nestedVariables;
 
+    private final boolean hasVariables;
+
+    private Runnable expansionRequest;
+
     private RobotDebugValueOfList(final RobotDebugTarget target, final String type, final String value,
-            final List<RobotDebugVariable> nestedVariables) {
+            final List<RobotDebugVariable> nestedVariables, final Runnable expansionRequest) {
         super(target, type, value);
         this.nestedVariables = nestedVariables;
+        this.hasVariables = !nestedVariables.isEmpty() || expansionRequest != null;
+        this.expansionRequest = expansionRequest;
     }
 
     @Override
     public String getDetailedValue() {
-        return Stream.of(getVariables())
+        if (hasVariables && nestedVariables.isEmpty()) {
+            return getValueString();
+        }
+        return Stream.of(getFetchedVariables())
                 .map(var -> var.getValue().getDetailedValue())
                 .collect(joining(", ", "[", "]"));
     }
 
     @Override
     public boolean hasVariables() {
-        return !nestedVariables.isEmpty();
+        return hasVariables;
+    }
+
+    @Override
+    public synchronized RobotDebugVariable[] getVariables() {
+        if (expansionRequest != null) {
+            // elements are not known yet; they will be provided when variables are refreshed
+            expansionRequest.run();
+            expansionRequest = null;
+        }
+        return getFetchedVariables();
     }
 
     @Override
-    public RobotDebugVariable[] getVariables() {
+    RobotDebugVariable[] getFetchedVariables() {
         return nestedVariables.toArray(new RobotDebugVariable[0]);
     }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ package org.robotframework.ide.eclipse.main.plugin.debug.model;
 import static com.google.common.collect.Lists.newArrayList;
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -195,6 +196,20 @@ public class RobotDebugVariable extends RobotDebugElement implements IVariable {
         throw new IllegalStateException("Every non-artificial IVariable has to have real variable in some predecessor");
     }
 
+    void requestExpansion() {
+        final List<Object> path = new ArrayList<>();
+        RobotDebugVariable current = this;
+        while (current != null) {
+            if (current.stackVariable != null) {
+                frame.expandVariable(current.stackVariable, path);
+                return;
+            }
+            path.add(0, extractIndexOrKey(current.name));
+            current = current.parent;
+        }
+        throw new IllegalStateException("Every non-artificial IVariable has to have real variable in some predecessor");
+    }
+
     private static String typeIdentifierOf(final RobotDebugVariable variable) {
         if (variable.value instanceof RobotDebugValueOfDictionary) {
             return "dict";
@@ -247,6 +247,10 @@ public class RobotStackFrame extends RobotDebugElement implements IStackFrame {
         getDebugTarget().changeVariableInnerValue(frame, variable, path, arguments);
     }
 
+    public void expandVariable(final StackFrameVariable variable, final List<Object> path) {
+        getDebugTarget().expandVariable(frame, variable, path);
+    }
+
     @Override
     public int getLineNumber() {
         return frame.getFileRegion().map(FileRegion::getStart).map(FilePosition::getLine).orElse(-1);
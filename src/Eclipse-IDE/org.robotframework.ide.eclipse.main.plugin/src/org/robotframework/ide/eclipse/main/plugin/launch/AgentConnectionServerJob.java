@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -35,11 +36,16 @@ public class AgentConnectionServerJob extends Job {
 
     private final List<RobotAgentEventListener> agentEventListeners;
 
+    private final int clientsCount;
+
+    private final IntFunction<List<RobotAgentEventListener>> clientEventListeners;
+
     private AgentConnectionServer agentServer;
 
     private AgentConnectionServerJob(final String host, final int port, final int timeout, final TimeUnit timeoutUnit,
             final List<AgentServerStatusListener> serverStatusListeners,
-            final List<RobotAgentEventListener> agentEventListeners) {
+            final List<RobotAgentEventListener> agentEventListeners, final int clientsCount,
+            final IntFunction<List<RobotAgentEventListener>> clientEventListeners) {
         super("Agent connection server");
         setSystem(true);
 
@@ -49,6 +55,8 @@ public class AgentConnectionServerJob extends Job {
         this.timeoutUnit = timeoutUnit;
         this.serverListeners = serverStatusListeners;
         this.agentEventListeners = agentEventListeners;
+        this.clientsCount = clientsCount;
+        this.clientEventListeners = clientEventListeners;
     }
 
     public static AgentConnectionServerJobBuilder setupServerAt(final String host, final int port) {
@@ -62,7 +70,11 @@ public class AgentConnectionServerJob extends Job {
             for (final AgentServerStatusListener serverStatusListener : serverListeners) {
                 agentServer.addStatusListener(serverStatusListener);
             }
-            agentServer.start(agentEventListeners.toArray(new RobotAgentEventListener[0]));
+            agentServer.start(clientsCount, client -> {
+                final List<RobotAgentEventListener> listeners = new ArrayList<>(agentEventListeners);
+                listeners.addAll(clientEventListeners.apply(client));
+                return listeners.toArray(new RobotAgentEventListener[0]);
+            });
             return Status.OK_STATUS;
         } catch (final UnknownHostException e) {
             return new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
@@ -105,6 +117,10 @@ public class AgentConnectionServerJob extends Job {
 
         private final List<RobotAgentEventListener> agentEventListeners = new ArrayList<>();
 
+        private int clientsCount = 1;
+
+        private IntFunction<List<RobotAgentEventListener>> clientEventListeners = client -> new ArrayList<>();
+
         public AgentConnectionServerJobBuilder(final String host, final int port) {
             this.host = host;
             this.port = port;
@@ -138,8 +154,20 @@ public class AgentConnectionServerJob extends Job {
             return this;
         }
 
+        /**
+         * Server will wait for given number of clients; apart from listeners common for all of them,
+         * each client gets listeners created for its index.
+         */
+        public AgentConnectionServerJobBuilder acceptingClients(final int clientsCount,
+                final IntFunction<List<RobotAgentEventListener>> clientEventListeners) {
+            this.clientsCount = clientsCount;
+            this.clientEventListeners = clientEventListeners;
+            return this;
+        }
+
         public AgentConnectionServerJob createJob() {
-            return new AgentConnectionServerJob(host, port, timeout, timeoutUnit, serverListeners, agentEventListeners);
+            return new AgentConnectionServerJob(host, port, timeout, timeoutUnit, serverListeners, agentEventListeners,
+                    clientsCount, clientEventListeners);
         }
 
         public AgentConnectionServerJob start() {
@@ -6,6 +6,7 @@
 package org.robotframework.ide.eclipse.main.plugin.launch;
 
 import java.io.IOException;
+import java.net.SocketTimeoutException;
 
 import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
 import org.rf.ide.core.execution.server.DefaultAgentServerStatusListener;
@@ -14,18 +15,34 @@ import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotBreakpoints;
 
 public class BreakpointsEnabler extends DefaultAgentServerStatusListener {
 
+    private final RobotBreakpoints breakpoints;
+
+    public BreakpointsEnabler(final RobotBreakpoints breakpoints) {
+        this.breakpoints = breakpoints;
+    }
+
     @Override
     public void clientConnectionClosed(final int clientId) {
-        new RobotBreakpoints().enableBreakpointsDisabledByHitCounter();
+        executionFinished();
+    }
+
+    @Override
+    public void clientConnectionTimedOut(final SocketTimeoutException e) {
+        breakpoints.stopTrackingChanges();
     }
 
     @Override
     public void clientConnectionError(final IOException e) {
-        new RobotBreakpoints().enableBreakpointsDisabledByHitCounter();
+        executionFinished();
     }
 
     @Override
     public void clientEventHandlingError(final RobotAgentEventsListenerException e) {
-        new RobotBreakpoints().enableBreakpointsDisabledByHitCounter();
+        executionFinished();
+    }
+
+    private void executionFinished() {
+        breakpoints.stopTrackingChanges();
+        breakpoints.enableBreakpointsDisabledByHitCounter();
     }
 }
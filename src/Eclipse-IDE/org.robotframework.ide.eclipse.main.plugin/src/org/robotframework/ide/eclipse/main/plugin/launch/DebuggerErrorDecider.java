@@ -60,4 +60,8 @@ public class DebuggerErrorDecider implements Supplier<Boolean> {
         }
     }
 
+    public boolean mayPauseOnError() {
+        return debuggerShouldPauseOnError != IssuesStrategy.NEVER;
+    }
+
 }
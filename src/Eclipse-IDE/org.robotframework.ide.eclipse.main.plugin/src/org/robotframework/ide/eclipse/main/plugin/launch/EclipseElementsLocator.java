@@ -60,6 +60,7 @@ import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ListMultimap;
 import com.google.common.io.Files;
 
@@ -92,6 +93,13 @@ public class EclipseElementsLocator implements ElementsLocator {
                 return keywordEntities.getPossibleKeywords(kwWithFile.keywordName, false);
             }));
 
+    // contexts are immutable, so the same ones can be handed to every frame of the same keyword call;
+    // resources imported during execution are part of the call, so no invalidation is needed then
+    private final LoadingCache<KeywordCall, KeywordContext> keywordContextsCache = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .build(CacheLoader.from(call -> resolveContextForKeyword(call.libOrResourceName, call.keywordName,
+                    call.currentSuitePath, call.loadedResources)));
+
     public EclipseElementsLocator(final IProject project) {
         this.model = RedPlugin.getModelManager().getModel();
         this.workspace = new RedWorkspace(project.getWorkspace().getRoot());
@@ -278,6 +286,12 @@ public class EclipseElementsLocator implements ElementsLocator {
     @Override
     public KeywordContext findContextForKeyword(final String libOrResourceName, final String keywordName,
             final URI currentSuitePath, final Set<URI> loadedResources) {
+        return keywordContextsCache
+                .getUnchecked(new KeywordCall(libOrResourceName, keywordName, currentSuitePath, loadedResources));
+    }
+
+    private KeywordContext resolveContextForKeyword(final String libOrResourceName, final String keywordName,
+            final URI currentSuitePath, final Set<URI> loadedResources) {
         if (currentSuitePath == null) {
             return new KeywordUnknownContext(String.format(ErrorMessages.keywordNotFound,
                     QualifiedKeywordName.asCall(keywordName, libOrResourceName)));
@@ -499,4 +513,40 @@ public class EclipseElementsLocator implements ElementsLocator {
             return Objects.hash(file, keywordName);
         }
     }
+
+    private static final class KeywordCall {
+
+        private final String libOrResourceName;
+
+        private final String keywordName;
+
+        private final URI currentSuitePath;
+
+        private final Set<URI> loadedResources;
+
+        public KeywordCall(final String libOrResourceName, final String keywordName, final URI currentSuitePath,
+                final Set<URI> loadedResources) {
+            this.libOrResourceName = libOrResourceName;
+            this.keywordName = keywordName;
+            this.currentSuitePath = currentSuitePath;
+            this.loadedResources = ImmutableSet.copyOf(loadedResources);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj != null && obj.getClass() == KeywordCall.class) {
+                final KeywordCall that = (KeywordCall) obj;
+                return Objects.equals(this.libOrResourceName, that.libOrResourceName)
+                        && Objects.equals(this.keywordName, that.keywordName)
+                        && Objects.equals(this.currentSuitePath, that.currentSuitePath)
+                        && this.loadedResources.equals(that.loadedResources);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(libOrResourceName, keywordName, currentSuitePath, loadedResources);
+        }
+    }
 }
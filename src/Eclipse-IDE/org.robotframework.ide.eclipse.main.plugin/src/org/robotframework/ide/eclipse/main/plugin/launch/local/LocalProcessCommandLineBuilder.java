@@ -72,12 +72,24 @@ class LocalProcessCommandLineBuilder {
 
     RunCommandLine createRunCommandLine(final int port, final RedPreferences preferences)
             throws CoreException, IOException {
+        return createRunCommandLine(port, preferences, robotConfig.getSelectedSuitePaths(), new ArrayList<>());
+    }
+
+    /**
+     * Creates command line running only given part of selected suites, e.g. for one of parallel
+     * processes. Additional arguments are placed after the ones from configuration, so they take
+     * precedence in case of single-valued options.
+     */
+    RunCommandLine createRunCommandLine(final int port, final RedPreferences preferences,
+            final Map<String, List<String>> suitePaths, final List<String> additionalRobotArguments)
+            throws CoreException, IOException {
         final IRunCommandLineBuilder builder = RunCommandLineCallBuilder.create(interpreter.getExecutor(),
                 interpreter.getPath(), port);
         addArgumentEntries(builder, preferences);
+        builder.addUserArgumentsForRobot(additionalRobotArguments);
         addProjectConfigEntries(builder);
         addTags(builder);
-        addDataSources(builder, preferences);
+        addDataSources(builder, preferences, suitePaths);
         return builder.build();
     }
 
@@ -111,10 +123,9 @@ class LocalProcessCommandLineBuilder {
         }
     }
 
-    private void addDataSources(final IRunCommandLineBuilder builder, final RedPreferences preferences)
-            throws CoreException {
+    private void addDataSources(final IRunCommandLineBuilder builder, final RedPreferences preferences,
+            final Map<String, List<String>> suitePaths) throws CoreException {
         final IProject project = robotProject.getProject();
-        final Map<String, List<String>> suitePaths = robotConfig.getSelectedSuitePaths();
         final Map<IResource, List<String>> selectedResources = findResources(project, suitePaths);
         final Map<IResource, List<String>> linkedResources = findLinkedResources(selectedResources);
         final Map<IResource, List<String>> notLinkedResources = Maps.filterKeys(selectedResources,
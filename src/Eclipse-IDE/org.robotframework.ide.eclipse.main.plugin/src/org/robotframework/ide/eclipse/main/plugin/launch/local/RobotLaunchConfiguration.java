@@ -70,8 +70,12 @@ public class RobotLaunchConfiguration extends AbstractRobotLaunchConfiguration {
 
     private static final String EXECUTABLE_FILE_ARGUMENTS_ATTRIBUTE = "Executable file arguments";
 
+    private static final String PARALLEL_WORKERS_ATTRIBUTE = "Parallel workers";
+
     public static final String CURRENT_CONFIGURATION_VERSION = "1";
 
+    public static final int MAX_PARALLEL_WORKERS = 32;
+
     public static ILaunchConfigurationWorkingCopy prepareDefault(final List<IResource> resources) throws CoreException {
         final Map<IResource, List<String>> suitesMapping = resources.stream()
                 .collect(toMap(r -> r, r -> new ArrayList<>()));
@@ -140,6 +144,7 @@ public class RobotLaunchConfiguration extends AbstractRobotLaunchConfiguration {
         setIncludedTags(new ArrayList<>());
         setExcludedTags(new ArrayList<>());
         setIsGeneralPurposeEnabled(true);
+        setNumberOfParallelWorkers(1);
         super.fillDefaults();
     }
 
@@ -340,6 +345,19 @@ public class RobotLaunchConfiguration extends AbstractRobotLaunchConfiguration {
         launchCopy.setAttribute(EXECUTABLE_FILE_ARGUMENTS_ATTRIBUTE, arguments);
     }
 
+    /**
+     * Number of robot processes between which selected suites are split when tests are run. Debug
+     * launches always use single process.
+     */
+    public int getNumberOfParallelWorkers() throws CoreException {
+        return Math.max(1, Math.min(MAX_PARALLEL_WORKERS, configuration.getAttribute(PARALLEL_WORKERS_ATTRIBUTE, 1)));
+    }
+
+    public void setNumberOfParallelWorkers(final int workers) throws CoreException {
+        final ILaunchConfigurationWorkingCopy launchCopy = asWorkingCopy();
+        launchCopy.setAttribute(PARALLEL_WORKERS_ATTRIBUTE, workers);
+    }
+
     public String[] getEnvironmentVariables() throws CoreException {
         final Map<String, String> vars = configuration.getAttribute(ILaunchManager.ATTR_ENVIRONMENT_VARIABLES,
                 (Map<String, String>) null);
@@ -8,11 +8,22 @@ package org.robotframework.ide.eclipse.main.plugin.launch.local;
 import static com.google.common.collect.Lists.newArrayList;
 import static org.robotframework.ide.eclipse.main.plugin.RedPlugin.newCoreException;
 
+import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -30,6 +41,8 @@ import org.rf.ide.core.execution.server.AgentServerStatusListener;
 import org.rf.ide.core.execution.server.AgentServerTestsStarter;
 import org.rf.ide.core.execution.server.AgentServerVersionsChecker;
 import org.rf.ide.core.execution.server.AgentServerVersionsDebugChecker;
+import org.rf.ide.core.execution.server.DefaultAgentServerStatusListener;
+import org.rf.ide.core.execution.server.TestsOutputFileReader;
 import org.rf.ide.core.execution.server.TestsPidReader;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.RedPreferences;
@@ -51,10 +64,13 @@ import org.robotframework.ide.eclipse.main.plugin.launch.TestsExecutionTerminati
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
 import org.robotframework.ide.eclipse.main.plugin.views.debugshell.ExpressionEvaluationTracker;
+import org.robotframework.ide.eclipse.main.plugin.views.execution.ExecutionStatusStore;
 import org.robotframework.ide.eclipse.main.plugin.views.execution.ExecutionStatusTracker;
+import org.robotframework.ide.eclipse.main.plugin.views.execution.ExecutionTreeNode;
 import org.robotframework.ide.eclipse.main.plugin.views.message.ExecutionMessagesTracker;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
 
 public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigurationDelegate {
 
@@ -74,6 +90,14 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
 
             final LaunchExecution launchExecution;
             if (testsMode == TestsMode.RUN) {
+                final Map<String, List<String>> suitePaths = robotConfig.getSelectedSuitePaths();
+                final List<Map<String, List<String>>> workersSuitePaths = splitSuitePaths(suitePaths,
+                        robotConfig.getNumberOfParallelWorkers());
+                if (workersSuitePaths.size() > 1) {
+                    return doParallelLaunch(robotConfig, launch, testsLaunchContext, host, port, timeout,
+                            workersSuitePaths);
+                }
+
                 userController = new UserProcessController();
 
                 final List<AgentServerStatusListener> additionalServerListeners = newArrayList(
@@ -88,17 +112,20 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
             } else {
                 final Stacktrace stacktrace = new Stacktrace();
                 final RedPreferences preferences = RedPlugin.getDefault().getPreferences();
-                userController = new UserProcessDebugController(stacktrace, new DebuggerPreferences(
-                        new DebuggerErrorDecider(preferences), !preferences.shouldDebuggerOmitLibraryKeywords()));
+                final DebuggerErrorDecider errorDecider = new DebuggerErrorDecider(preferences);
+                final RobotBreakpoints breakpoints = new RobotBreakpoints();
+                breakpoints.startTrackingChanges();
+                userController = new UserProcessDebugController(stacktrace, new DebuggerPreferences(errorDecider,
+                        errorDecider::mayPauseOnError, !preferences.shouldDebuggerOmitLibraryKeywords()), breakpoints);
 
                 final RobotDebugTarget debugTarget = new RobotDebugTarget("Robot Test at " + host + ":" + port, launch,
                         stacktrace, (UserProcessDebugController) userController);
 
                 final StacktraceBuilder stacktraceBuilder = new StacktraceBuilder(stacktrace,
-                        new EclipseElementsLocator(robotConfig.getProject()), new RobotBreakpoints());
+                        new EclipseElementsLocator(robotConfig.getProject()), breakpoints);
 
                 final List<AgentServerStatusListener> additionalServerListeners = newArrayList(
-                        new ProcessConnectingInDebugServerListener(launch), new BreakpointsEnabler());
+                        new ProcessConnectingInDebugServerListener(launch), new BreakpointsEnabler(breakpoints));
 
                 final List<RobotAgentEventListener> additionalAgentListeners = newArrayList(
                         new AgentServerVersionsDebugChecker(), testsStarter, stacktraceBuilder,
@@ -172,6 +199,200 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
         return new LaunchExecution(serverJob, execProcess, robotProcess);
     }
 
+    /**
+     * Splits selected suites between given number of workers. Suites nested in other selected ones
+     * are dropped, as they are executed anyway together with the outer suite.
+     */
+    @VisibleForTesting
+    static List<Map<String, List<String>>> splitSuitePaths(final Map<String, List<String>> suitePaths,
+            final int workers) {
+        final Map<String, List<String>> outerSuitePaths = new TreeMap<>();
+        for (final Entry<String, List<String>> entry : new TreeMap<>(suitePaths).entrySet()) {
+            final String path = entry.getKey();
+            if (outerSuitePaths.keySet().stream().noneMatch(outer -> path.startsWith(outer + "/"))) {
+                outerSuitePaths.put(path, entry.getValue());
+            }
+        }
+
+        final List<Map<String, List<String>>> workersSuitePaths = new ArrayList<>();
+        int worker = 0;
+        for (final Entry<String, List<String>> entry : outerSuitePaths.entrySet()) {
+            if (workersSuitePaths.size() == worker) {
+                workersSuitePaths.add(new TreeMap<>());
+            }
+            workersSuitePaths.get(worker).put(entry.getKey(), entry.getValue());
+            worker = (worker + 1) % workers;
+        }
+        return workersSuitePaths;
+    }
+
+    private LaunchExecution doParallelLaunch(final RobotLaunchConfiguration robotConfig, final ILaunch launch,
+            final RobotTestsLaunch testsLaunchContext, final String host, final int port, final int timeout,
+            final List<Map<String, List<String>>> workersSuitePaths)
+            throws InterruptedException, CoreException, IOException {
+
+        final RobotModel model = RedPlugin.getModelManager().getModel();
+        final RobotProject robotProject = model.createRobotProject(robotConfig.getProject());
+        final LocalProcessInterpreter interpreter = LocalProcessInterpreter.create(robotConfig, robotProject);
+
+        final int workers = workersSuitePaths.size();
+        final List<UserProcessController> userControllers = new ArrayList<>();
+        final List<AgentServerTestsStarter> testsStarters = new ArrayList<>();
+        final List<TestsPidReader> pidReaders = new ArrayList<>();
+        final List<TestsOutputFileReader> outputFileReaders = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            userControllers.add(new UserProcessController());
+            testsStarters.add(new AgentServerTestsStarter(TestsMode.RUN, getMaxValueLenght()));
+            pidReaders.add(new TestsPidReader());
+            outputFileReaders.add(new TestsOutputFileReader());
+        }
+
+        final Semaphore workerConnected = new Semaphore(0);
+        final AgentConnectionServerJob serverJob = AgentConnectionServerJob.setupServerAt(host, port)
+                .withConnectionTimeout(timeout, TimeUnit.SECONDS)
+                .serverStatusHandledBy(new ServerProblemsHandler())
+                .serverStatusHandledBy(new DefaultAgentServerStatusListener() {
+
+                    @Override
+                    public void clientConnected(final int clientId) {
+                        workerConnected.release();
+                    }
+                })
+                .acceptingClients(workers, worker -> newArrayList(new AgentServerVersionsChecker(),
+                        testsStarters.get(worker), pidReaders.get(worker), outputFileReaders.get(worker),
+                        new ExecutionPauseContinueListener(userControllers.get(worker)),
+                        new ExecutionMessagesTracker(testsLaunchContext),
+                        new ExecutionStatusTracker(testsLaunchContext, worker),
+                        new ExpressionEvaluationTracker(testsLaunchContext), new AgentServerKeepAlive()))
+                .start()
+                .waitForServer();
+
+        if (serverJob.getResult() != null && !serverJob.getResult().isOK()) {
+            return new LaunchExecution(serverJob, null, null);
+        }
+
+        final ConsoleData consoleData = ConsoleData.create(robotConfig, interpreter);
+        final LocalProcessCommandLineBuilder cmdLineBuilder = new LocalProcessCommandLineBuilder(interpreter,
+                robotConfig, robotProject);
+        final List<Process> execProcesses = new ArrayList<>();
+        final List<RobotConsoleFacade> redConsoles = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            // log and report are generated once, from combined output of all workers
+            final RunCommandLine cmdLine = cmdLineBuilder.createRunCommandLine(port,
+                    RedPlugin.getDefault().getPreferences(), workersSuitePaths.get(worker), newArrayList("--output",
+                            "output_worker" + (worker + 1) + ".xml", "--log", "NONE", "--report", "NONE"));
+            final String processLabel = consoleData.getProcessLabel() + " [worker " + (worker + 1) + "]";
+            final Process execProcess = DebugPlugin.exec(cmdLine.getCommandLine(),
+                    robotProject.getProject().getLocation().toFile(), robotConfig.getEnvironmentVariables());
+            final IRobotProcess robotProcess = (IRobotProcess) DebugPlugin.newProcess(launch, execProcess,
+                    processLabel);
+            robotProcess.setInterruptionData(interpreter.getPath(), pidReaders.get(worker)::getPid);
+            robotProcess.setUserProcessController(userControllers.get(worker));
+            execProcesses.add(execProcess);
+
+            final RobotConsoleFacade redConsole = robotProcess.provideConsoleFacade(processLabel);
+            redConsole.addHyperlinksSupport(new RobotConsolePatternsListener(robotProject));
+            redConsole.writeLine("Command: " + DebugPlugin.renderArguments(cmdLine.getCommandLine(), null));
+            redConsole.writeLine("Suite Executor: " + consoleData.getSuiteExecutorVersion());
+            redConsoles.add(redConsole);
+
+            // next worker is started once this one is connected, so that server handles its events
+            // with listeners created for it
+            if (!workerConnected.tryAcquire(timeout, TimeUnit.SECONDS)) {
+                break;
+            }
+            robotProcess.setConnectedToTests(true);
+            testsStarters.get(worker).allowClientTestsStart();
+        }
+
+        return new ParallelLaunchExecution(serverJob, execProcesses, () -> combineOutputFiles(interpreter,
+                testsLaunchContext, outputFileReaders, redConsoles.get(redConsoles.size() - 1)));
+    }
+
+    private static void combineOutputFiles(final LocalProcessInterpreter interpreter,
+            final RobotTestsLaunch testsLaunchContext, final List<TestsOutputFileReader> outputFileReaders,
+            final RobotConsoleFacade redConsole) throws CoreException {
+        final List<String> outputFiles = new ArrayList<>();
+        for (final TestsOutputFileReader reader : outputFileReaders) {
+            reader.getOutputFile().map(File::new).map(File::getAbsolutePath).ifPresent(outputFiles::add);
+        }
+        if (outputFiles.isEmpty()) {
+            return;
+        }
+        final File outputDir = new File(outputFiles.get(0)).getParentFile();
+
+        final List<String> cmdLine = newArrayList(interpreter.getPath(), "-m", "robot.rebot", "--outputdir",
+                outputDir.getAbsolutePath(), "--output", "output.xml");
+        final Optional<String> topLevelSuiteName = testsLaunchContext.getExecutionData(ExecutionStatusStore.class)
+                .map(ExecutionStatusStore::getExecutionTree)
+                .map(ExecutionTreeNode::getName);
+        if (topLevelSuiteName.isPresent()) {
+            cmdLine.add("--name");
+            cmdLine.add(topLevelSuiteName.get());
+        }
+        cmdLine.addAll(outputFiles);
+
+        try {
+            final String[] rebotCmdLine = cmdLine.toArray(new String[0]);
+            redConsole.writeLine("Combining outputs: " + DebugPlugin.renderArguments(rebotCmdLine, null));
+            final Process rebotProcess = new ProcessBuilder(rebotCmdLine).directory(outputDir)
+                    .redirectErrorStream(true)
+                    .start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(rebotProcess.getInputStream(), Charsets.UTF_8))) {
+                String line = reader.readLine();
+                while (line != null) {
+                    redConsole.writeLine(line);
+                    line = reader.readLine();
+                }
+            }
+            // rebot returns number of failed tests, while codes above 250 are reserved for errors
+            if (rebotProcess.waitFor() <= 250) {
+                final URI combinedOutput = new File(outputDir, "output.xml").toURI();
+                testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
+                        store -> store.setCombinedOutputFilePath(combinedOutput));
+            }
+        } catch (final IOException e) {
+            throw newCoreException("Unable to combine outputs of parallel execution", e);
+        } catch (final InterruptedException e) {
+            throw newCoreException("Waiting for outputs of parallel execution to be combined was interrupted", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ExecutionFinisher {
+
+        void finish() throws CoreException;
+    }
+
+    private static class ParallelLaunchExecution extends LaunchExecution {
+
+        private final List<Process> execProcesses;
+
+        private final ExecutionFinisher finisher;
+
+        ParallelLaunchExecution(final AgentConnectionServerJob serverJob, final List<Process> execProcesses,
+                final ExecutionFinisher finisher) {
+            super(serverJob, execProcesses.get(0), null);
+            this.execProcesses = execProcesses;
+            this.finisher = finisher;
+        }
+
+        @Override
+        public void waitFor(final IProgressMonitor monitor) throws CoreException {
+            try {
+                for (final Process execProcess : execProcesses) {
+                    execProcess.waitFor();
+                }
+                // all the events, including output files, have to be handled before combining
+                getServerJob().join();
+            } catch (final InterruptedException e) {
+                throw newCoreException("Waiting for launch execution was interrupted", e);
+            }
+            finisher.finish();
+        }
+    }
+
     @VisibleForTesting
     static class ConsoleData {
 
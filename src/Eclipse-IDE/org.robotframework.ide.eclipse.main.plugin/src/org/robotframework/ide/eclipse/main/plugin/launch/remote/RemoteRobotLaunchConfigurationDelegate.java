@@ -81,17 +81,20 @@ public class RemoteRobotLaunchConfigurationDelegate extends AbstractRobotLaunchC
             } else {
                 final Stacktrace stacktrace = new Stacktrace();
                 final RedPreferences preferences = RedPlugin.getDefault().getPreferences();
-                userController = new UserProcessDebugController(stacktrace, new DebuggerPreferences(
-                        new DebuggerErrorDecider(preferences), !preferences.shouldDebuggerOmitLibraryKeywords()));
+                final DebuggerErrorDecider errorDecider = new DebuggerErrorDecider(preferences);
+                final RobotBreakpoints breakpoints = new RobotBreakpoints();
+                breakpoints.startTrackingChanges();
+                userController = new UserProcessDebugController(stacktrace, new DebuggerPreferences(errorDecider,
+                        errorDecider::mayPauseOnError, !preferences.shouldDebuggerOmitLibraryKeywords()), breakpoints);
 
                 final RobotDebugTarget debugTarget = new RobotDebugTarget("Remote Robot Test at " + host + ":" + port,
                         launch, stacktrace, (UserProcessDebugController) userController);
 
                 final StacktraceBuilder stacktraceBuilder = new StacktraceBuilder(stacktrace,
-                        new EclipseElementsLocator(robotConfig.getProject()), new RobotBreakpoints());
+                        new EclipseElementsLocator(robotConfig.getProject()), breakpoints);
 
                 final List<AgentServerStatusListener> additionalServerListeners = newArrayList(
-                        new ProcessConnectingInDebugServerListener(launch), new BreakpointsEnabler());
+                        new ProcessConnectingInDebugServerListener(launch), new BreakpointsEnabler(breakpoints));
 
                 final List<RobotAgentEventListener> additionalAgentListeners = newArrayList(
                         new AgentServerVersionsDebugChecker(), testsStarter, stacktraceBuilder,
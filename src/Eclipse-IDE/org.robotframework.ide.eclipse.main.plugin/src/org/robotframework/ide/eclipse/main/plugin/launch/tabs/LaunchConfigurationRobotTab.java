@@ -21,6 +21,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Spinner;
 import org.robotframework.ide.eclipse.main.plugin.RedImages;
 import org.robotframework.ide.eclipse.main.plugin.launch.LaunchConfigurationsWrappers;
 import org.robotframework.ide.eclipse.main.plugin.launch.local.RobotLaunchConfiguration;
@@ -43,6 +44,8 @@ class LaunchConfigurationRobotTab extends AbstractLaunchConfigurationTab impleme
 
     private SuitesToRunComposite suitesToRunComposite;
 
+    private Spinner parallelWorkersSpinner;
+
     @Override
     public void setDefaults(final ILaunchConfigurationWorkingCopy configuration) {
         try {
@@ -61,6 +64,7 @@ class LaunchConfigurationRobotTab extends AbstractLaunchConfigurationTab impleme
             projectComposite.setInput(robotConfig.getProjectName());
             suitesToRunComposite.setInput(robotConfig.getProjectName(), robotConfig.getSuitePaths(),
                     robotConfig.getUnselectedSuitePaths());
+            parallelWorkersSpinner.setSelection(robotConfig.getNumberOfParallelWorkers());
             includeExcludeTagsComposite.setInput(robotConfig.isIncludeTagsEnabled(), robotConfig.getIncludedTags(),
                     robotConfig.isExcludeTagsEnabled(), robotConfig.getExcludedTags());
             includeExcludeTagsComposite.switchTo(robotConfig.getProjectName(), robotConfig.collectSuitesToRun());
@@ -79,6 +83,7 @@ class LaunchConfigurationRobotTab extends AbstractLaunchConfigurationTab impleme
             robotConfig.setProjectName(projectComposite.getSelectedProjectName());
             robotConfig.setSuitePaths(suitesToRunComposite.extractSuitesToRun());
             robotConfig.setUnselectedSuitePaths(suitesToRunComposite.extractUnselectedSuites());
+            robotConfig.setNumberOfParallelWorkers(parallelWorkersSpinner.getSelection());
             robotConfig.setIsIncludeTagsEnabled(includeExcludeTagsComposite.isIncludeTagsEnabled());
             robotConfig.setIncludedTags(includeExcludeTagsComposite.getIncludedTags());
             robotConfig.setIsExcludeTagsEnabled(includeExcludeTagsComposite.isExcludeTagsEnabled());
@@ -217,6 +222,17 @@ class LaunchConfigurationRobotTab extends AbstractLaunchConfigurationTab impleme
 
         suitesToRunComposite = new SuitesToRunComposite(group, () -> updateLaunchConfigurationDialog());
         GridDataFactory.fillDefaults().grab(true, true).applyTo(suitesToRunComposite);
+
+        final Composite parallelWorkersComposite = new Composite(group, SWT.NONE);
+        GridDataFactory.fillDefaults().grab(true, false).applyTo(parallelWorkersComposite);
+        GridLayoutFactory.fillDefaults().numColumns(2).margins(3, 3).applyTo(parallelWorkersComposite);
+
+        final Label parallelWorkersLabel = new Label(parallelWorkersComposite, SWT.NONE);
+        parallelWorkersLabel.setText("Split selected suites between parallel processes (run mode only):");
+
+        parallelWorkersSpinner = new Spinner(parallelWorkersComposite, SWT.BORDER);
+        parallelWorkersSpinner.setValues(1, 1, RobotLaunchConfiguration.MAX_PARALLEL_WORKERS, 0, 1, 4);
+        parallelWorkersSpinner.addModifyListener(e -> updateLaunchConfigurationDialog());
     }
 
 }
@@ -10,6 +10,8 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.core.resources.IFile;
+import org.rf.ide.core.testdata.index.FileSymbols;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotCasesSection;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotCodeHoldingElement;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
@@ -18,6 +20,11 @@ import org.robotframework.ide.eclipse.main.plugin.model.RobotTasksSection;
 class SuiteCasesCollector {
 
     static List<String> collectCaseNames(final RobotSuiteFile suiteModel) {
+        final Optional<FileSymbols> symbols = findUpToDateSymbols(suiteModel);
+        if (symbols.isPresent()) {
+            return Stream.concat(symbols.get().getTestCases().stream(), symbols.get().getTasks().stream())
+                    .collect(Collectors.toList());
+        }
         return collectCases(suiteModel).map(RobotCodeHoldingElement::getName).collect(Collectors.toList());
     }
 
@@ -30,4 +37,17 @@ class SuiteCasesCollector {
                 .map(RobotCodeHoldingElement.class::cast);
     }
 
+    /**
+     * Names of cases are taken from symbols index when the file is not parsed yet and recorded
+     * symbols still describe its content, so that the file does not have to be parsed.
+     */
+    private static Optional<FileSymbols> findUpToDateSymbols(final RobotSuiteFile suiteModel) {
+        final IFile file = suiteModel.getFile();
+        if (suiteModel.getLinkedElement() != null || file == null || file.getLocation() == null
+                || suiteModel.getRobotProject() == null) {
+            return Optional.empty();
+        }
+        return suiteModel.getRobotProject().getSymbolsIndex().getUpToDate(file.getLocation().toFile());
+    }
+
 }
@@ -13,7 +13,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.rf.ide.core.libraries.ArgumentsDescriptor;
@@ -141,7 +140,7 @@ public class RobotKeywordDefinition extends RobotCodeHoldingElement<UserKeyword>
     }
 
     public boolean isDeprecated() {
-        return Pattern.compile("^\\*deprecated[^\\n\\r]*\\*.*").matcher(getDocumentation().toLowerCase()).find();
+        return Documentation.isDeprecating(getDocumentation());
     }
 
     public List<VariableDeclaration> getEmbeddedArguments() {
@@ -9,11 +9,15 @@ import java.util.List;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.ui.PlatformUI;
+import org.rf.ide.core.testdata.importer.VariablesFilesCache;
 import org.rf.ide.core.watcher.RedFileWatcher;
 
 public final class RobotModelManager {
@@ -31,11 +35,43 @@ public final class RobotModelManager {
                 changes = InstanceHolder.INSTANCE.getModel().synchronizeChanges(event.getDelta());
 
                 notifyAboutChanges(changes);
+                invalidateImportedVariables(event.getDelta());
+            } else if (event.getType() == IResourceChangeEvent.PRE_BUILD) {
+                // variables cached for changed files have to be forgotten before they are validated
+                invalidateImportedVariables(event.getDelta());
             } else if (event.getType() == IResourceChangeEvent.PRE_DELETE) {
                 RedFileWatcher.getInstance().closeWatchService();
             }
         }
 
+        private void invalidateImportedVariables(final IResourceDelta delta) {
+            if (delta == null) {
+                return;
+            }
+            try {
+                delta.accept(resourceDelta -> {
+                    final IResource resource = resourceDelta.getResource();
+                    if (resource.getType() == IResource.FILE && isContentChange(resourceDelta)
+                            && isPossiblyImportedByVariableFile(resource) && resource.getLocation() != null) {
+                        VariablesFilesCache.getInstance().invalidate(resource.getLocation().toFile());
+                    }
+                    return true;
+                });
+            } catch (final CoreException e) {
+                VariablesFilesCache.getInstance().invalidateAll();
+            }
+        }
+
+        private static boolean isContentChange(final IResourceDelta delta) {
+            return delta.getKind() != IResourceDelta.CHANGED || (delta.getFlags() & IResourceDelta.CONTENT) != 0;
+        }
+
+        private static boolean isPossiblyImportedByVariableFile(final IResource resource) {
+            final String extension = resource.getFileExtension();
+            return "py".equalsIgnoreCase(extension) || "yaml".equalsIgnoreCase(extension)
+                    || "yml".equalsIgnoreCase(extension);
+        }
+
         private void notifyAboutChanges(final List<RobotElementChange> changes) {
             final IEventBroker eventBroker = PlatformUI.getWorkbench().getService(IEventBroker.class);
 
@@ -55,7 +91,10 @@ public final class RobotModelManager {
     private RobotModelManager() {
         if (PlatformUI.isWorkbenchRunning()) {
             resourceListener = new ModelSynchronizer();
-            ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceListener);
+            ResourcesPlugin.getWorkspace()
+                    .addResourceChangeListener(resourceListener,
+                            IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE
+                                    | IResourceChangeEvent.PRE_BUILD | IResourceChangeEvent.POST_CHANGE);
         } else {
             resourceListener = null;
         }
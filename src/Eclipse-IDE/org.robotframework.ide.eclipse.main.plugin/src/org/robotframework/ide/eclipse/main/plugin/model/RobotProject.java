@@ -9,6 +9,7 @@ import static com.google.common.base.Predicates.notNull;
 import static java.util.stream.Collectors.toList;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -17,11 +18,18 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.ui.IEditorPart;
@@ -44,20 +52,29 @@ import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibrary;
 import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibraryArgumentsVariant;
 import org.rf.ide.core.project.RobotProjectConfig.ReferencedVariableFile;
 import org.rf.ide.core.project.RobotProjectConfigReader.CannotReadProjectConfigurationException;
+import org.rf.ide.core.testdata.importer.VariablesFilesCache;
+import org.rf.ide.core.testdata.index.SymbolsIndex;
 import org.rf.ide.core.testdata.model.RobotProjectHolder;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.RedWorkspace;
 import org.robotframework.ide.eclipse.main.plugin.project.LibrariesWatchHandler;
 import org.robotframework.ide.eclipse.main.plugin.project.RedEclipseProjectConfigReader;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ReverseImportsGraph;
 import org.robotframework.ide.eclipse.main.plugin.project.editor.RedProjectEditor;
 import org.robotframework.ide.eclipse.main.plugin.project.editor.RedProjectEditorInput;
 import org.robotframework.red.swt.SwtThread;
 import org.robotframework.red.swt.SwtThread.Evaluation;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 public class RobotProject extends RobotContainer {
 
+    private static final String SYMBOLS_INDEX_FILE = "symbols.json";
+
+    // shared by all projects, so that reading specifications does not create new threads each time
+    private static final ExecutorService LIBSPECS_READING_POOL = createLibspecsReadingPool();
+
     private RobotProjectHolder projectHolder;
 
     private RobotProjectConfig configuration;
@@ -70,10 +87,23 @@ public class RobotProject extends RobotContainer {
 
     private List<ReferencedVariableFile> referencedVariableFiles;
 
+    private ReverseImportsGraph importsGraph;
+
+    private SymbolsIndex symbolsIndex;
+
     private final LibrariesWatchHandler librariesWatchHandler;
 
     private final Map<String, RobotDryRunKeywordSource> kwSources = new ConcurrentHashMap<>();
 
+    private static ExecutorService createLibspecsReadingPool() {
+        final int threadPoolSize = Runtime.getRuntime().availableProcessors();
+        final ThreadPoolExecutor threadPool = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 30,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("libspecs-reader-%d").setDaemon(true).build());
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
     RobotProject(final RobotModel model, final IProject project) {
         super(model, project);
         this.librariesWatchHandler = new LibrariesWatchHandler(this);
@@ -95,6 +125,53 @@ public class RobotProject extends RobotContainer {
         return LibspecsFolder.get(getProject());
     }
 
+    /**
+     * Returns index of symbols declared in files of this project. The index is read from working
+     * location of the project when requested for the first time, so that it survives workbench
+     * restarts, and it is dropped together with this project model.
+     * <p>
+     * Currently it is used when checking if definitions exposed by changed files have changed and
+     * when collecting test cases for launch configurations; {@code KeywordDefinitionLocator},
+     * {@code VariableDefinitionLocator}, search and navigator are working on parsed models.
+     */
+    public synchronized SymbolsIndex getSymbolsIndex() {
+        if (symbolsIndex == null) {
+            symbolsIndex = getSymbolsIndexFile().map(SymbolsIndex::readFrom).orElseGet(SymbolsIndex::new);
+        }
+        return symbolsIndex;
+    }
+
+    public void saveSymbolsIndex() {
+        final Optional<File> indexFile = getSymbolsIndexFile();
+        if (indexFile.isPresent()) {
+            try {
+                getSymbolsIndex().writeTo(indexFile.get());
+            } catch (final IOException e) {
+                RedPlugin.logError("Unable to store symbols index of '" + getName() + "' project", e);
+            }
+        }
+    }
+
+    /**
+     * Returns graph of imports between files of this project. The graph is created when requested
+     * for the first time and then it should be kept up to date by the builder.
+     */
+    public synchronized ReverseImportsGraph getReverseImportsGraph() throws CoreException {
+        if (importsGraph == null) {
+            importsGraph = ReverseImportsGraph.create((RobotModel) getParent(), getProject());
+        }
+        return importsGraph;
+    }
+
+    public synchronized void clearReverseImportsGraph() {
+        importsGraph = null;
+    }
+
+    private Optional<File> getSymbolsIndexFile() {
+        return Optional.ofNullable(getProject().getWorkingLocation(RedPlugin.PLUGIN_ID))
+                .map(location -> location.append(SYMBOLS_INDEX_FILE).toFile());
+    }
+
     @VisibleForTesting
     public void setRobotParserComplianceVersion(final RobotVersion version) {
         this.parserComplianceVersion = version;
@@ -119,10 +196,8 @@ public class RobotProject extends RobotContainer {
                 .stream()
                 .map(LibraryDescriptor::ofStandardRemoteLibrary);
 
-        stdLibsSpecs = new LinkedHashMap<>();
-        Stream.concat(stdLibsDescriptorsStream, remoteStdLibsDescriptorsStream).forEach(descriptor -> {
-            stdLibsSpecs.put(descriptor, findLibSpec(descriptor));
-        });
+        stdLibsSpecs = findLibSpecs(
+                Stream.concat(stdLibsDescriptorsStream, remoteStdLibsDescriptorsStream).collect(toList()));
         return stdLibsSpecs;
     }
 
@@ -143,21 +218,20 @@ public class RobotProject extends RobotContainer {
             return refLibsSpecs;
         }
 
-        refLibsSpecs = new LinkedHashMap<>();
+        final Map<LibraryDescriptor, ReferencedLibrary> libraries = new LinkedHashMap<>();
         for (final ReferencedLibrary library : getRobotProjectConfig().getReferencedLibraries()) {
             final List<ReferencedLibraryArgumentsVariant> variants = library.getArgsVariantsStream().collect(toList());
             for (final ReferencedLibraryArgumentsVariant argsVariant : variants) {
-                final LibraryDescriptor descriptor = LibraryDescriptor.ofReferencedLibrary(library, argsVariant);
-
-                final LibrarySpecification spec = findLibSpec(descriptor);
-                refLibsSpecs.put(descriptor, spec);
-
-                if (spec != null) {
-                    librariesWatchHandler.registerLibrary(library, spec);
-                }
+                libraries.put(LibraryDescriptor.ofReferencedLibrary(library, argsVariant), library);
             }
-
         }
+
+        refLibsSpecs = findLibSpecs(new ArrayList<>(libraries.keySet()));
+        refLibsSpecs.forEach((descriptor, spec) -> {
+            if (spec != null) {
+                librariesWatchHandler.registerLibrary(libraries.get(descriptor), spec);
+            }
+        });
         return refLibsSpecs;
     }
 
@@ -199,6 +273,60 @@ public class RobotProject extends RobotContainer {
         librariesWatchHandler.removeDirtySpecs(libSpecs);
     }
 
+    /**
+     * Reads again already known specifications of libraries which libspec files were regenerated.
+     * Maps are replaced instead of being modified, as they may be iterated by other threads.
+     */
+    public synchronized void reloadLibrarySpecifications(final Collection<IFile> regeneratedLibspecs) {
+        stdLibsSpecs = reloadLibSpecs(stdLibsSpecs, regeneratedLibspecs);
+        refLibsSpecs = reloadLibSpecs(refLibsSpecs, regeneratedLibspecs);
+    }
+
+    private Map<LibraryDescriptor, LibrarySpecification> reloadLibSpecs(
+            final Map<LibraryDescriptor, LibrarySpecification> specs, final Collection<IFile> regeneratedLibspecs) {
+        if (specs == null) {
+            return null;
+        }
+        final LibspecsFolder libspecsFolder = getLibspecsFolder();
+        final Map<LibraryDescriptor, LibrarySpecification> reloadedSpecs = new LinkedHashMap<>(specs);
+        for (final LibraryDescriptor descriptor : specs.keySet()) {
+            if (regeneratedLibspecs.contains(libspecsFolder.getXmlSpecFile(descriptor.generateLibspecFileName()))) {
+                reloadedSpecs.put(descriptor, findLibSpec(descriptor));
+            }
+        }
+        return reloadedSpecs;
+    }
+
+    private Map<LibraryDescriptor, LibrarySpecification> findLibSpecs(final List<LibraryDescriptor> descriptors) {
+        final Map<LibraryDescriptor, LibrarySpecification> specs = new LinkedHashMap<>();
+        if (descriptors.size() < 2) {
+            descriptors.forEach(descriptor -> specs.put(descriptor, findLibSpec(descriptor)));
+            return specs;
+        }
+
+        // specifications are read in parallel, as big libspec files take a while to be parsed
+        final List<Future<LibrarySpecification>> specsFutures = new ArrayList<>();
+        for (final LibraryDescriptor descriptor : descriptors) {
+            specsFutures.add(LIBSPECS_READING_POOL.submit(() -> findLibSpec(descriptor)));
+        }
+        for (int i = 0; i < descriptors.size(); i++) {
+            specs.put(descriptors.get(i), getLibSpec(specsFutures.get(i), descriptors.get(i)));
+        }
+        return specs;
+    }
+
+    private LibrarySpecification getLibSpec(final Future<LibrarySpecification> specFuture,
+            final LibraryDescriptor descriptor) {
+        try {
+            return specFuture.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return findLibSpec(descriptor);
+        } catch (final ExecutionException e) {
+            return findLibSpec(descriptor);
+        }
+    }
+
     private LibrarySpecification findLibSpec(final LibraryDescriptor descriptor) {
         Optional<File> fileToRead = Optional.empty();
         if (descriptor.getLibraryType() == LibraryType.VIRTUAL) {
@@ -288,6 +416,7 @@ public class RobotProject extends RobotContainer {
         referencedVariableFiles = null;
         stdLibsSpecs = null;
         refLibsSpecs = null;
+        importsGraph = null;
     }
 
     public synchronized void clearKwSources() {
@@ -332,8 +461,9 @@ public class RobotProject extends RobotContainer {
                         .stream()
                         .map(File::getAbsolutePath)
                         .collect(toList());
-                final Map<String, Object> varsMap = env.getVariablesFromFile(findSource(varFile), new ArrayList<>(),
-                        new EnvironmentSearchPaths(new ArrayList<>(), pythonPaths));
+                final Map<String, Object> varsMap = VariablesFilesCache.getInstance()
+                        .getVariablesFromFile(env, findSource(varFile), new ArrayList<>(),
+                                new EnvironmentSearchPaths(new ArrayList<>(), pythonPaths));
                 varFile.setVariables(varsMap);
                 referencedVariableFiles.add(varFile);
             } catch (final RuntimeEnvironmentException e) {
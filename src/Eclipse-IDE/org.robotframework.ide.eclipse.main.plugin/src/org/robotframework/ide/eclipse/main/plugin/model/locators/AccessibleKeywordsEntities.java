@@ -7,13 +7,14 @@ package org.robotframework.ide.eclipse.main.plugin.model.locators;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.core.runtime.IPath;
 import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearchIndex;
 import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher;
 import org.rf.ide.core.testdata.model.table.keywords.names.GherkinStyleSupport;
 import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
@@ -34,6 +35,10 @@ public class AccessibleKeywordsEntities {
 
     private Map<String, Collection<KeywordEntity>> accessibleKeywords;
 
+    private KeywordSearchIndex<KeywordEntity> accessibleKeywordsIndex;
+
+    private KeywordSearchIndex<KeywordEntity> possibleKeywordsIndex;
+
     public AccessibleKeywordsEntities(final IPath filepath, final AccessibleKeywordsCollector collector) {
         this.filepath = filepath;
         this.collector = collector;
@@ -67,10 +72,11 @@ public class AccessibleKeywordsEntities {
 
     public ListMultimap<String, KeywordEntity> findPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
-        final Collection<KeywordEntity> filterAgainstDuplications = getAccessibleKeywordsDeduplicated();
-
-        return keywordSearcher.findKeywords(getAccessibleKeywords(), filterAgainstDuplications,
-                keywordName, stopIfOneWasMatching);
+        if (accessibleKeywordsIndex == null) {
+            accessibleKeywordsIndex = new KeywordSearchIndex<>(getAccessibleKeywordsDeduplicated());
+        }
+        return keywordSearcher.findKeywords(getAccessibleKeywords(), accessibleKeywordsIndex, keywordName,
+                stopIfOneWasMatching);
     }
 
     protected Collection<KeywordEntity> getAccessibleKeywordsDeduplicated() {
@@ -110,38 +116,30 @@ public class AccessibleKeywordsEntities {
     public ListMultimap<KeywordScope, KeywordEntity> getPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
 
-        final List<KeywordEntity> hereKeywords = new ArrayList<>();
-        hereKeywords.addAll(getPossibleKeywords().values());
-
+        if (possibleKeywordsIndex == null) {
+            possibleKeywordsIndex = new KeywordSearchIndex<>(filterDuplicates(getPossibleKeywords().values()));
+        }
         final ListMultimap<String, KeywordEntity> foundKeywords = keywordSearcher.findKeywords(getAccessibleKeywords(),
-                filterDuplicates(hereKeywords), keywordName, stopIfOneWasMatching);
+                possibleKeywordsIndex, keywordName, stopIfOneWasMatching);
 
         return getPossibleKeywords(foundKeywords, keywordName);
     }
 
     private Collection<KeywordEntity> filterDuplicates(final Collection<? extends KeywordEntity> candidates) {
-        final LinkedHashSet<KeywordEntity> entities = new LinkedHashSet<>();
+        final Map<List<?>, KeywordEntity> entities = new LinkedHashMap<>();
         for (final KeywordEntity entity : candidates) {
-            final KeywordEntity onListEntity = getSameEntity(entities, entity);
+            final List<?> key = entity.getSameEntityKey(getFilepath());
+            final KeywordEntity onListEntity = entities.get(key);
             if (onListEntity == null) {
-                entities.add(entity);
+                entities.put(key, entity);
             } else if (!onListEntity.getExposingFilepath().equals(getFilepath())
                     && entity.getExposingFilepath().equals(getFilepath())) {
-                entities.remove(onListEntity);
-                entities.add(entity);
-            }
-        }
-        return entities;
-    }
-
-    private KeywordEntity getSameEntity(final LinkedHashSet<KeywordEntity> entities,
-            final KeywordEntity candidateEntity) {
-        for (final KeywordEntity entity : entities) {
-            if (entity == candidateEntity || entity.isSameAs(candidateEntity, getFilepath())) {
-                return entity;
+                // removed first, so that the entity is placed at the end, as any newly added one
+                entities.remove(key);
+                entities.put(key, entity);
             }
         }
-        return null;
+        return new ArrayList<>(entities.values());
     }
 
     public interface AccessibleKeywordsCollector {
@@ -80,14 +80,21 @@ public class KeywordDefinitionLocator {
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
-        final List<IResource> resources = startingFile.getImportedResources();
-        shouldContinue = locateInResourceFiles(resources, newHashSet(startingFile.getFile()), startingFile, detector);
+        shouldContinue = locateInResourceFiles(startingFile, detector);
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
         locateInLibraries(startingFile, detector);
     }
 
+    /**
+     * Locates keywords exposed by the file when it is imported as resource, without the keywords
+     * of resources imported by it.
+     */
+    public void locateKeywordDefinitionExposedAsResource(final KeywordDetector detector) {
+        locateInResourceFile(model.createSuiteFile(file), detector);
+    }
+
     private ContinueDecision locateInCurrentFile(final RobotSuiteFile file, final KeywordDetector detector) {
         final Optional<RobotKeywordsSection> section = file.findSection(RobotKeywordsSection.class);
         if (!section.isPresent()) {
@@ -102,6 +109,12 @@ public class KeywordDefinitionLocator {
         return ContinueDecision.CONTINUE;
     }
 
+    protected ContinueDecision locateInResourceFiles(final RobotSuiteFile startingFile,
+            final KeywordDetector detector) {
+        final List<IResource> resources = startingFile.getImportedResources();
+        return locateInResourceFiles(resources, newHashSet(startingFile.getFile()), startingFile, detector);
+    }
+
     private ContinueDecision locateInResourceFiles(final List<IResource> resources, final Set<IFile> alreadyVisited,
             final RobotSuiteFile startingFile, final KeywordDetector detector) {
         for (final IResource resourceFile : resources) {
@@ -118,11 +131,7 @@ public class KeywordDefinitionLocator {
             if (shouldContinue == ContinueDecision.STOP) {
                 return ContinueDecision.STOP;
             }
-            shouldContinue = locateInLibraries(resourceSuiteFile, detector);
-            if (shouldContinue == ContinueDecision.STOP) {
-                return ContinueDecision.STOP;
-            }
-            shouldContinue = locateInCurrentFile(resourceSuiteFile, detector);
+            shouldContinue = locateInResourceFile(resourceSuiteFile, detector);
             if (shouldContinue == ContinueDecision.STOP) {
                 return ContinueDecision.STOP;
             }
@@ -130,6 +139,14 @@ public class KeywordDefinitionLocator {
         return ContinueDecision.CONTINUE;
     }
 
+    private ContinueDecision locateInResourceFile(final RobotSuiteFile resourceFile, final KeywordDetector detector) {
+        final ContinueDecision shouldContinue = locateInLibraries(resourceFile, detector);
+        if (shouldContinue == ContinueDecision.STOP) {
+            return ContinueDecision.STOP;
+        }
+        return locateInCurrentFile(resourceFile, detector);
+    }
+
     private ContinueDecision locateInLibraries(final RobotSuiteFile file, final KeywordDetector detector) {
         final Multimap<LibrarySpecification, Optional<String>> importedLibs = file.getImportedLibraries();
         for (final LibrarySpecification libSpec : importedLibs.keySet()) {
@@ -5,6 +5,8 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.model.locators;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.core.runtime.IPath;
@@ -91,6 +93,14 @@ public abstract class KeywordEntity implements SearchableKeyword {
                 && Objects.equal(this.sourceAlias, that.sourceAlias);
     }
 
+    /**
+     * Returns the key which is equal for two entities if and only if one entity is same as the
+     * other in terms of {@link #isSameAs(KeywordEntity, IPath)} method.
+     */
+    public List<?> getSameEntityKey(final IPath useplaceFilepath) {
+        return Arrays.asList(getSourceNameInUse(), keywordName, getScope(useplaceFilepath), sourceAlias);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (obj == null) {
@@ -68,8 +68,7 @@ public class VariableDefinitionLocator {
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
-        shouldContinue = locateInResourceFiles(startingFile.getImportedResources(), newHashSet(startingFile.getFile()),
-                detector);
+        shouldContinue = locateInResourceFiles(startingFile, detector);
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
@@ -92,8 +91,7 @@ public class VariableDefinitionLocator {
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
-        shouldContinue = locateInResourceFiles(startingFile.getImportedResources(), newHashSet(startingFile.getFile()),
-                detector);
+        shouldContinue = locateInResourceFiles(startingFile, detector);
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
@@ -110,8 +108,7 @@ public class VariableDefinitionLocator {
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
-        shouldContinue = locateInResourceFiles(startingFile.getImportedResources(), newHashSet(startingFile.getFile()),
-                detector);
+        shouldContinue = locateInResourceFiles(startingFile, detector);
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
@@ -122,6 +119,14 @@ public class VariableDefinitionLocator {
         locateGlobalVariables(startingFile, detector);
     }
 
+    /**
+     * Locates variables exposed by the file when it is imported as resource, without the
+     * variables of resources imported by it.
+     */
+    public void locateVariableDefinitionExposedAsResource(final VariableDetector detector) {
+        locateInCurrentFile(model.createSuiteFile(file), detector);
+    }
+
     private ContinueDecision locateInLocalScope(final RobotSuiteFile file, final VariableDetector detector,
             final int offset) {
         final Optional<? extends RobotElement> element = file.findElement(offset);
@@ -234,6 +239,12 @@ public class VariableDefinitionLocator {
         return ContinueDecision.CONTINUE;
     }
 
+    protected ContinueDecision locateInResourceFiles(final RobotSuiteFile startingFile,
+            final VariableDetector detector) {
+        return locateInResourceFiles(startingFile.getImportedResources(), newHashSet(startingFile.getFile()),
+                detector);
+    }
+
     private ContinueDecision locateInResourceFiles(final List<IResource> resources, final Set<IFile> alreadyVisited,
             final VariableDetector detector) {
         for (final IResource resourceFile : resources) {
@@ -5,6 +5,9 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.project;
 
+import static com.google.common.collect.Sets.newHashSet;
+import static java.util.stream.Collectors.toCollection;
+
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -13,6 +16,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -60,7 +64,7 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
 
     private IEventBroker eventBroker = null;
 
-    private final ListMultimap<LibrarySpecification, String> registeredLibrarySpecifications = Multimaps
+    private final ListMultimap<LibrarySpecification, Path> registeredLibrarySpecifications = Multimaps
             .synchronizedListMultimap(ArrayListMultimap.create());
 
     private final Set<LibrarySpecification> dirtySpecs = Collections.synchronizedSet(new HashSet<>());
@@ -81,12 +85,11 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
                 final File libDir = libFile.getParentFile();
                 if (libDir != null && libDir.exists() && libDir.isDirectory()) {
                     if (isPythonModule(path)) {
-                        final String[] moduleFiles = extractPythonModuleFiles(libDir);
-                        for (final String moduleFile : moduleFiles) {
-                            addLibraryToWatch(moduleFile, libDir.toPath(), spec);
+                        for (final Path moduleFile : extractPythonModuleFiles(libDir)) {
+                            addLibraryToWatch(moduleFile, spec);
                         }
                     } else {
-                        addLibraryToWatch(libFile.getName(), libDir.toPath(), spec);
+                        addLibraryToWatch(toWatchedPath(libFile), spec);
                     }
                 }
             }
@@ -101,12 +104,11 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
                 final File libFile = new File(path);
                 final File libDir = libFile.getParentFile();
                 if (isPythonModule(path) && libDir != null && libDir.exists()) {
-                    final String[] moduleFiles = extractPythonModuleFiles(libDir);
-                    for (final String moduleFile : moduleFiles) {
+                    for (final Path moduleFile : extractPythonModuleFiles(libDir)) {
                         removeLibraryToWatch(moduleFile);
                     }
                 } else {
-                    removeLibraryToWatch(libFile.getName());
+                    removeLibraryToWatch(toWatchedPath(libFile));
                 }
                 registeredRefLibraries.remove(referencedLibrary);
             }
@@ -117,47 +119,57 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
         return absolutePathToLibraryFile.endsWith("__init__.py");
     }
 
-    private String[] extractPythonModuleFiles(final File fileDir) {
-        final String[] files = fileDir.list((dir, name) -> name.endsWith(".py"));
-        return files == null ? new String[0] : files;
+    private List<Path> extractPythonModuleFiles(final File fileDir) {
+        final File[] files = fileDir.listFiles((dir, name) -> name.endsWith(".py"));
+        final List<Path> paths = new ArrayList<>();
+        if (files != null) {
+            for (final File file : files) {
+                paths.add(toWatchedPath(file));
+            }
+        }
+        return paths;
+    }
+
+    private static Path toWatchedPath(final File file) {
+        return file.toPath().toAbsolutePath().normalize();
     }
 
-    private void addLibraryToWatch(final String fileName, final Path dir, final LibrarySpecification spec) {
+    private void addLibraryToWatch(final Path file, final LibrarySpecification spec) {
         final List<LibrarySpecification> specsToReplace = new ArrayList<>();
         synchronized (registeredLibrarySpecifications) {
-            registeredLibrarySpecifications.forEach((registeredSpec, registeredName) -> {
-                if (registeredName.equals(fileName) && registeredSpec.equalsIgnoreKeywords(spec)) {
+            registeredLibrarySpecifications.forEach((registeredSpec, registeredFile) -> {
+                if (registeredFile.equals(file) && registeredSpec.equalsIgnoreKeywords(spec)) {
                     specsToReplace.add(registeredSpec);
                 }
             });
             for (final LibrarySpecification specToReplace : specsToReplace) {
                 registeredLibrarySpecifications.removeAll(specToReplace);
             }
-            registeredLibrarySpecifications.put(spec, fileName);
+            registeredLibrarySpecifications.put(spec, file);
         }
-        registerPath(dir, fileName);
+        registerFile(file);
     }
 
-    private void removeLibraryToWatch(final String fileName) {
-        removeLibrarySpecification(fileName);
-        unregisterFile(fileName);
+    private void removeLibraryToWatch(final Path file) {
+        removeLibrarySpecifications(newHashSet(file));
+        unregisterFile(file);
     }
 
     @VisibleForTesting
-    void registerPath(final Path dir, final String fileName) {
-        RedFileWatcher.getInstance().registerPath(dir, fileName, this);
+    void registerFile(final Path file) {
+        RedFileWatcher.getInstance().registerFile(file, this);
     }
 
     @VisibleForTesting
-    void unregisterFile(final String fileName) {
-        RedFileWatcher.getInstance().unregisterFile(fileName, this);
+    void unregisterFile(final Path file) {
+        RedFileWatcher.getInstance().unregisterFile(file, this);
     }
 
-    private void removeLibrarySpecification(final String fileName) {
+    private void removeLibrarySpecifications(final Set<Path> files) {
         final List<LibrarySpecification> specsToRemove = new ArrayList<>();
         synchronized (registeredLibrarySpecifications) {
-            registeredLibrarySpecifications.forEach((registeredSpec, registeredName) -> {
-                if (registeredName.equals(fileName)) {
+            registeredLibrarySpecifications.forEach((registeredSpec, registeredFile) -> {
+                if (files.contains(registeredFile)) {
                     specsToRemove.add(registeredSpec);
                 }
             });
@@ -183,17 +195,21 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
     }
 
     @Override
-    public void handleModifyEvent(final String modifiedFileName) {
-        if (registeredLibrarySpecifications.containsValue(modifiedFileName)) {
+    public void handleModifyEvents(final Set<Path> modifiedFiles) {
+        final Set<Path> modifiedLibraryFiles = modifiedFiles.stream()
+                .filter(registeredLibrarySpecifications::containsValue)
+                .collect(toCollection(LinkedHashSet::new));
+        if (!modifiedLibraryFiles.isEmpty()) {
 
             final IProject project = robotProject.getProject();
             if (project == null || !project.exists()) {
-                clearHandler(modifiedFileName);
+                clearHandler(modifiedLibraryFiles);
                 return;
             }
 
+            // all libraries changed in single burst are rebuilt together
             SwtThread.asyncExec(() -> {
-                final List<LibrarySpecification> libSpecsToRebuild = collectModifiedLibSpecs(modifiedFileName);
+                final List<LibrarySpecification> libSpecsToRebuild = collectModifiedLibSpecs(modifiedLibraryFiles);
                 if (RedPlugin.getDefault().getPreferences().isLibdocAutoReloadEnabled()) {
                     rebuildLibSpecs(project, libSpecsToRebuild);
                 } else {
@@ -204,16 +220,16 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
         }
     }
 
-    private List<LibrarySpecification> collectModifiedLibSpecs(final String modifiedFileName) {
-        final List<LibrarySpecification> specsToRebuild = new ArrayList<>();
+    private List<LibrarySpecification> collectModifiedLibSpecs(final Set<Path> modifiedFiles) {
+        final Set<LibrarySpecification> specsToRebuild = new LinkedHashSet<>();
         synchronized (registeredLibrarySpecifications) {
-            registeredLibrarySpecifications.forEach((registeredSpec, registeredName) -> {
-                if (registeredName.equals(modifiedFileName)) {
+            registeredLibrarySpecifications.forEach((registeredSpec, registeredFile) -> {
+                if (modifiedFiles.contains(registeredFile)) {
                     specsToRebuild.add(registeredSpec);
                 }
             });
         }
-        return specsToRebuild;
+        return new ArrayList<>(specsToRebuild);
     }
 
     private void rebuildLibSpecs(final IProject project, final List<LibrarySpecification> specs) {
@@ -330,8 +346,8 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
         return null;
     }
 
-    private void clearHandler(final String modifiedFileName) {
-        removeLibrarySpecification(modifiedFileName);
+    private void clearHandler(final Set<Path> modifiedFiles) {
+        removeLibrarySpecifications(modifiedFiles);
         registeredRefLibraries.clear();
     }
 
@@ -341,7 +357,7 @@ public class LibrariesWatchHandler implements IWatchEventHandler {
     }
 
     @VisibleForTesting
-    ListMultimap<LibrarySpecification, String> getLibrarySpecifications() {
+    ListMultimap<LibrarySpecification, Path> getLibrarySpecifications() {
         return registeredLibrarySpecifications;
     }
 
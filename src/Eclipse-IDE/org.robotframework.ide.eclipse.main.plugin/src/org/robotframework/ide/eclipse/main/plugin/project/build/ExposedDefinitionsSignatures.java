@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import java.io.File;
+import java.util.Optional;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+import org.rf.ide.core.libraries.LibrarySpecificationReader;
+import org.rf.ide.core.testdata.index.FileSymbols;
+import org.rf.ide.core.testdata.index.SymbolsIndex;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+
+/**
+ * Remembers signatures of everything what resource files expose to files importing them: keywords
+ * with their arguments, variables and imports. For libspec files only keywords with their arguments
+ * are remembered. Files importing given resource only have to be revalidated when the signature is
+ * different than the one seen previously. Signatures are kept in symbols index of the project, so
+ * they are not lost when the workbench is restarted.
+ */
+class ExposedDefinitionsSignatures {
+
+    /**
+     * Records symbols of given robot file when it is already parsed, e.g. after it was validated.
+     */
+    static void recordIfParsed(final RobotSuiteFile suiteFile) {
+        final RobotFile model = suiteFile.getLinkedElement();
+        if (model != null) {
+            toLocalFile(suiteFile.getFile()).map(file -> FileSymbols.create(file, model))
+                    .ifPresent(suiteFile.getRobotProject().getSymbolsIndex()::put);
+        }
+    }
+
+    static void forget(final RobotProject project, final IFile file) {
+        toLocalFile(file).ifPresent(project.getSymbolsIndex()::remove);
+    }
+
+    /**
+     * Records current signature of given resource file and checks if it is different than
+     * previously recorded one. The signature is treated as changed when it was not recorded before.
+     */
+    static boolean hasChanged(final RobotSuiteFile resourceFile) {
+        final Optional<FileSymbols> symbols = createSymbols(resourceFile);
+        if (!symbols.isPresent()) {
+            return true;
+        }
+        return replaceSymbols(resourceFile.getRobotProject().getSymbolsIndex(), symbols.get());
+    }
+
+    /**
+     * Records current signature of keywords described by given libspec file and checks if it is
+     * different than previously recorded one, so that regenerating libspec with only documentation
+     * changed does not cause revalidation of files importing the library.
+     */
+    static boolean hasLibrarySpecificationChanged(final RobotProject project, final IFile libspecFile) {
+        final Optional<File> file = toLocalFile(libspecFile);
+        final Optional<FileSymbols> symbols = file.flatMap(
+                f -> LibrarySpecificationReader.readSpecification(f).map(spec -> FileSymbols.create(f, spec)));
+        if (!symbols.isPresent()) {
+            return true;
+        }
+        return replaceSymbols(project.getSymbolsIndex(), symbols.get());
+    }
+
+    private static boolean replaceSymbols(final SymbolsIndex index, final FileSymbols symbols) {
+        final Optional<FileSymbols> previousSymbols = index.put(symbols);
+        return !previousSymbols.isPresent() || !symbols.exposesSameDefinitions(previousSymbols.get());
+    }
+
+    private static Optional<FileSymbols> createSymbols(final RobotSuiteFile resourceFile) {
+        resourceFile.getSections(); // this will parse the file if needed
+        final RobotFile model = resourceFile.getLinkedElement();
+        if (model == null) {
+            return Optional.empty();
+        }
+        return toLocalFile(resourceFile.getFile()).map(file -> FileSymbols.create(file, model));
+    }
+
+    private static Optional<File> toLocalFile(final IFile file) {
+        return Optional.ofNullable(file.getLocation()).map(IPath::toFile);
+    }
+}
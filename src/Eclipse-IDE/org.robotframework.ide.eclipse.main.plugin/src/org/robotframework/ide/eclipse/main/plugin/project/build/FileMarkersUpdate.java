@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.runtime.CoreException;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+
+/**
+ * Collects problems and tasks reported for single file during validation and then writes them as
+ * markers in one workspace operation. Markers which are already present on the file with the same
+ * attributes are left untouched, so that only the difference is written and broadcast to
+ * listeners.
+ */
+class FileMarkersUpdate {
+
+    private final IFile file;
+
+    private final List<Map<String, Object>> problems = new ArrayList<>();
+
+    private final List<Map<String, Object>> tasks = new ArrayList<>();
+
+    FileMarkersUpdate(final IFile file) {
+        this.file = file;
+    }
+
+    synchronized void addProblem(final Map<String, Object> attributes) {
+        problems.add(attributes);
+    }
+
+    synchronized void addTask(final Map<String, Object> attributes) {
+        tasks.add(attributes);
+    }
+
+    synchronized void apply() throws CoreException {
+        if (!file.exists()) {
+            return;
+        }
+        // markers do not require scheduling rule; the operation is only used to batch notifications
+        file.getWorkspace().run(monitor -> {
+            update(RobotProblem.TYPE_ID, problems);
+            update(RobotTask.TYPE_ID, tasks);
+        }, null, IWorkspace.AVOID_UPDATE, null);
+    }
+
+    private void update(final String markerType, final List<Map<String, Object>> expectedMarkers)
+            throws CoreException {
+        final Multiset<Map<String, Object>> markersToCreate = HashMultiset.create(expectedMarkers);
+        for (final IMarker marker : file.findMarkers(markerType, true, IResource.DEPTH_ZERO)) {
+            // attributes are copied, since map returned by marker may not be equal to regular maps
+            final Map<String, Object> attributes = marker.getAttributes();
+            if (attributes == null || !markersToCreate.remove(new HashMap<>(attributes))) {
+                marker.delete();
+            }
+        }
+        for (final Map<String, Object> attributes : markersToCreate) {
+            file.createMarker(markerType).setAttributes(attributes);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.rf.ide.core.libraries.LibraryDescriptor;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.robotframework.ide.eclipse.main.plugin.model.LibspecsFolder;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSetting;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSettingsSection;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+
+/**
+ * Finds pending libspec files which are needed to validate robot files, i.e. libspecs of libraries
+ * imported by the file directly or through imported resource files. Library import which cannot be
+ * resolved may point to the library which libspec is not generated yet, so files having such
+ * imports need all the pending libspecs.
+ */
+class LibspecsDependencies {
+
+    private final RobotModel model;
+
+    private final Set<IFile> pendingLibspecs;
+
+    private final Set<IFile> alwaysRequiredLibspecs;
+
+    private final Map<IFile, Set<IFile>> directlyRequiredLibspecs = new HashMap<>();
+
+    LibspecsDependencies(final RobotModel model, final IProject project, final Set<IFile> pendingLibspecs) {
+        this.model = model;
+        this.pendingLibspecs = pendingLibspecs;
+        this.alwaysRequiredLibspecs = findLibspecsOfLibrariesAccessibleWithoutImport(project);
+    }
+
+    private Set<IFile> findLibspecsOfLibrariesAccessibleWithoutImport(final IProject project) {
+        // those libraries are accessible even when there are no specifications for them yet
+        final LibspecsFolder libspecsFolder = LibspecsFolder.get(project);
+        final Set<IFile> libspecs = Stream.of("BuiltIn", "Easter", "Reserved")
+                .map(LibraryDescriptor::ofStandardLibrary)
+                .map(LibraryDescriptor::generateLibspecFileName)
+                .map(libspecsFolder::getXmlSpecFile)
+                .collect(toSet());
+        libspecs.retainAll(pendingLibspecs);
+        return libspecs;
+    }
+
+    Set<IFile> getRequiredPendingLibspecs(final IFile file) {
+        final Set<IFile> requiredLibspecs = new HashSet<>(alwaysRequiredLibspecs);
+        if (pendingLibspecs.isEmpty()) {
+            return requiredLibspecs;
+        }
+
+        final Set<IFile> visitedFiles = new HashSet<>();
+        final Queue<IFile> filesToVisit = new ArrayDeque<>();
+        visitedFiles.add(file);
+        filesToVisit.add(file);
+        while (!filesToVisit.isEmpty()) {
+            final RobotSuiteFile suiteFile = model.createSuiteFile(filesToVisit.poll());
+            requiredLibspecs.addAll(directlyRequiredLibspecs.computeIfAbsent(suiteFile.getFile(),
+                    f -> findRequiredLibspecs(suiteFile)));
+
+            for (final IResource resource : suiteFile.getImportedResources()) {
+                if (resource.getType() == IResource.FILE && visitedFiles.add((IFile) resource)) {
+                    filesToVisit.add((IFile) resource);
+                }
+            }
+        }
+        return requiredLibspecs;
+    }
+
+    private Set<IFile> findRequiredLibspecs(final RobotSuiteFile suiteFile) {
+        final Set<IFile> requiredLibspecs = new HashSet<>();
+        if (hasUnresolvedLibraryImports(suiteFile)) {
+            requiredLibspecs.addAll(pendingLibspecs);
+            return requiredLibspecs;
+        }
+
+        final LibspecsFolder libspecsFolder = suiteFile.getRobotProject().getLibspecsFolder();
+        for (final LibrarySpecification specification : suiteFile.getImportedLibraries().keySet()) {
+            if (specification.getDescriptor() != null) {
+                final String libspecFileName = specification.getDescriptor().generateLibspecFileName();
+                requiredLibspecs.add(libspecsFolder.getXmlSpecFile(libspecFileName));
+            }
+        }
+        requiredLibspecs.retainAll(pendingLibspecs);
+        return requiredLibspecs;
+    }
+
+    private static boolean hasUnresolvedLibraryImports(final RobotSuiteFile suiteFile) {
+        return suiteFile.findSection(RobotSettingsSection.class)
+                .map(RobotSettingsSection::getLibrariesSettings)
+                .orElseGet(ArrayList::new)
+                .stream()
+                .map(RobotSetting::getImportedLibrary)
+                .anyMatch(library -> !library.isPresent());
+    }
+}
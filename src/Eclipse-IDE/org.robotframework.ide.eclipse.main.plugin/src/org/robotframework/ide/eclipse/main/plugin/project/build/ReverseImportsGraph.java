@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.project.ImportPath;
+import org.robotframework.ide.eclipse.main.plugin.RedWorkspace;
+import org.robotframework.ide.eclipse.main.plugin.model.LibspecsFolder;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProjectPathsProvider;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.project.ASuiteFileDescriber;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * Maps files imported by robot files of the project (resource files, variable files and libspec
+ * files of imported libraries) to the robot files importing them, so that files depending on
+ * changed files can be found without visiting imports of whole project again. The graph is
+ * created once for the project and then updated with imports of changed files only.
+ */
+public class ReverseImportsGraph {
+
+    private final SetMultimap<IFile, IFile> importingFiles = LinkedHashMultimap.create();
+
+    private final SetMultimap<IFile, IFile> importedFiles = LinkedHashMultimap.create();
+
+    public static ReverseImportsGraph create(final RobotModel model, final IProject project)
+            throws CoreException {
+        final ReverseImportsGraph graph = new ReverseImportsGraph();
+        project.accept(resource -> {
+            if (resource.getType() == IResource.FILE && isImportingFile((IFile) resource)) {
+                graph.addImports(model.createSuiteFile((IFile) resource));
+            }
+            return true;
+        });
+        return graph;
+    }
+
+    static boolean isImportingFile(final IFile file) {
+        return ASuiteFileDescriber.isSuiteFile(file) || ASuiteFileDescriber.isRpaSuiteFile(file)
+                || ASuiteFileDescriber.isResourceFile(file) || ASuiteFileDescriber.isInitializationFile(file);
+    }
+
+    private void addImports(final RobotSuiteFile suiteFile) {
+        for (final IFile importedFile : findImportedFiles(suiteFile)) {
+            importingFiles.put(importedFile, suiteFile.getFile());
+            importedFiles.put(suiteFile.getFile(), importedFile);
+        }
+    }
+
+    /**
+     * Replaces imports of given robot file with the ones it currently has.
+     */
+    synchronized void update(final RobotSuiteFile suiteFile) {
+        remove(suiteFile.getFile());
+        addImports(suiteFile);
+    }
+
+    /**
+     * Forgets imports of given file. Files importing it are still known, so that they can be found
+     * as dependent on removed file.
+     */
+    synchronized void remove(final IFile file) {
+        for (final IFile importedFile : importedFiles.removeAll(file)) {
+            importingFiles.remove(importedFile, file);
+        }
+    }
+
+    /**
+     * Returns files imported directly by given robot file: resource files, variable files and
+     * libspec files of imported libraries.
+     */
+    public static Set<IFile> findImportedFiles(final RobotSuiteFile suiteFile) {
+        final IFile file = suiteFile.getFile();
+        final Set<IFile> importedFiles = new LinkedHashSet<>();
+
+        for (final IResource resource : suiteFile.getImportedResources()) {
+            if (resource.getType() == IResource.FILE) {
+                importedFiles.add((IFile) resource);
+            }
+        }
+
+        final RobotProjectPathsProvider pathsProvider = new RobotProjectPathsProvider(suiteFile.getRobotProject());
+        final RedWorkspace workspace = new RedWorkspace(file.getWorkspace().getRoot());
+        for (final String path : suiteFile.getVariablesPaths()) {
+            final Optional<URI> uri = pathsProvider.tryToFindAbsoluteUri(file, ImportPath.from(path));
+            uri.flatMap(workspace::fileForUri).ifPresent(importedFiles::add);
+        }
+
+        final LibspecsFolder libspecsFolder = suiteFile.getRobotProject().getLibspecsFolder();
+        for (final LibrarySpecification specification : suiteFile.getImportedLibraries().keySet()) {
+            if (specification.getDescriptor() != null) {
+                final String libspecFileName = specification.getDescriptor().generateLibspecFileName();
+                importedFiles.add(libspecsFolder.getXmlSpecFile(libspecFileName));
+            }
+        }
+        return importedFiles;
+    }
+
+    /**
+     * Returns files importing given files directly or indirectly through imported resource files.
+     */
+    synchronized Set<IFile> getDependentFiles(final Collection<IFile> files) {
+        final Set<IFile> dependentFiles = new LinkedHashSet<>();
+        final Queue<IFile> filesToVisit = new ArrayDeque<>(files);
+        while (!filesToVisit.isEmpty()) {
+            for (final IFile importingFile : importingFiles.get(filesToVisit.poll())) {
+                if (dependentFiles.add(importingFile)) {
+                    filesToVisit.add(importingFile);
+                }
+            }
+        }
+        return dependentFiles;
+    }
+}
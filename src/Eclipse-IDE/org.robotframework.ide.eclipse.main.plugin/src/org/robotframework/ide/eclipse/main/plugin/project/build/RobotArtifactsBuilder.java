@@ -12,7 +12,9 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.rf.ide.core.environment.IRuntimeEnvironment;
 import org.rf.ide.core.environment.PythonVersion;
 import org.rf.ide.core.project.NullRobotProjectConfig;
@@ -23,6 +25,7 @@ import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
 import org.robotframework.ide.eclipse.main.plugin.project.build.ValidationReportingStrategy.ReportingInterruptedException;
 import org.robotframework.ide.eclipse.main.plugin.project.build.causes.ProjectConfigurationProblem;
 import org.robotframework.ide.eclipse.main.plugin.project.build.libs.LibrariesBuilder;
+import org.robotframework.ide.eclipse.main.plugin.project.build.libs.LibspecsGenerationProgress;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -38,7 +41,21 @@ class RobotArtifactsBuilder {
     }
 
     Job createBuildJob(final boolean rebuildNeeded, final ValidationReportingStrategy reporter,
-            final ValidationReportingStrategy fatalReporter) {
+            final ValidationReportingStrategy fatalReporter, final LibspecsGenerationProgress progress) {
+        final Job job = createJob(rebuildNeeded, reporter, fatalReporter, progress);
+        // job may be cancelled even before running, so progress is finished when job is done
+        job.addJobChangeListener(new JobChangeAdapter() {
+
+            @Override
+            public void done(final IJobChangeEvent event) {
+                progress.buildFinished();
+            }
+        });
+        return job;
+    }
+
+    private Job createJob(final boolean rebuildNeeded, final ValidationReportingStrategy reporter,
+            final ValidationReportingStrategy fatalReporter, final LibspecsGenerationProgress progress) {
         if (rebuildNeeded) {
             return new Job("Building") {
 
@@ -46,7 +63,7 @@ class RobotArtifactsBuilder {
                 protected IStatus run(final IProgressMonitor monitor) {
                     try {
                         refreshConfigFiles();
-                        buildArtifacts(project, monitor, reporter, fatalReporter);
+                        buildArtifacts(project, monitor, reporter, fatalReporter, progress);
                         return Status.OK_STATUS;
                     } catch (final ReportingInterruptedException e) {
                         return new Status(IStatus.CANCEL, RedPlugin.PLUGIN_ID, "Unable to build project", e);
@@ -80,7 +97,8 @@ class RobotArtifactsBuilder {
     }
 
     private void buildArtifacts(final IProject project, final IProgressMonitor monitor,
-            final ValidationReportingStrategy reporter, final ValidationReportingStrategy fatalReporter) {
+            final ValidationReportingStrategy reporter, final ValidationReportingStrategy fatalReporter,
+            final LibspecsGenerationProgress progress) {
         if (monitor.isCanceled()) {
             return;
         }
@@ -107,7 +125,7 @@ class RobotArtifactsBuilder {
         }
 
         new LibrariesBuilder(logger).buildLibraries(robotProject, runtimeEnvironment, configuration,
-                subMonitor.newChild(70));
+                subMonitor.newChild(70), progress);
         logger.log("BUILDING: project '" + project.getName() + "' build finished");
     }
 
@@ -10,9 +10,15 @@ import static com.google.common.collect.Sets.newHashSet;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -33,10 +39,13 @@ import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 import org.rf.ide.core.project.RobotProjectConfig;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.project.ASuiteFileDescriber;
 import org.robotframework.ide.eclipse.main.plugin.project.ExcludedResources;
 import org.robotframework.ide.eclipse.main.plugin.project.RobotProjectNature;
+import org.robotframework.ide.eclipse.main.plugin.project.build.libs.LibspecsGenerationProgress;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotFileValidator;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotInitFileValidator;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotProjectConfigFileValidator;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotResourceFileValidator;
@@ -63,14 +72,16 @@ public class RobotArtifactsValidator {
             final ValidationContext context = new ValidationContext(suiteModel.getRobotProject(), new BuildLogger());
 
             try {
+                final ValidationReportingStrategy reporter = ValidationReportingStrategy.reportOnly();
                 final Optional<? extends ModelUnitValidator> validator = ModelUnitValidatorConfigFactory
-                        .createValidator(context, file, ValidationReportingStrategy.reportOnly(), true);
+                        .createValidator(context, file, reporter, true);
                 if (validator.isPresent()) {
                     final WorkspaceJob wsJob = new WorkspaceJob("Revalidating model") {
 
                         @Override
                         public IStatus runInWorkspace(final IProgressMonitor monitor) throws CoreException {
-                            createSynchronizedValidator(file, validator.get()).validate(new NullProgressMonitor());
+                            createSynchronizedValidator(file, validator.get(), reporter)
+                                    .validate(new NullProgressMonitor());
                             return Status.OK_STATUS;
                         }
                     };
@@ -99,18 +110,24 @@ public class RobotArtifactsValidator {
         return suiteModel.getRobotProject().getRuntimeEnvironment().hasRobotInstalled();
     }
 
-    private static synchronized ModelUnitValidator createSynchronizedValidator(final IResource resource,
-            final ModelUnitValidator validator) {
+    private static synchronized ModelUnitValidator createSynchronizedValidator(final IFile file,
+            final ModelUnitValidator validator, final ValidationReportingStrategy reporter) {
 
         return new ModelUnitValidator() {
 
+            @Override
+            public Optional<IFile> getValidatedFile() {
+                return Optional.of(file);
+            }
+
             @Override
             public void validate(final IProgressMonitor monitor) throws CoreException {
-                synchronized (getLock(resource)) {
-                    resource.deleteMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_ONE);
-                    resource.deleteMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ONE);
-                    validator.validate(monitor);
-                    VALIDATION_LOCKS.remove(resource);
+                synchronized (getLock(file)) {
+                    try {
+                        validateCollectingMarkers(file, validator, reporter, monitor);
+                    } finally {
+                        VALIDATION_LOCKS.remove(file);
+                    }
                 }
             }
 
@@ -122,45 +139,114 @@ public class RobotArtifactsValidator {
         };
     }
 
+    private static ModelUnitValidator createMarkersCollectingValidator(final IFile file,
+            final ModelUnitValidator validator, final ValidationReportingStrategy reporter) {
+        return new ModelUnitValidator() {
+
+            @Override
+            public Optional<IFile> getValidatedFile() {
+                return Optional.of(file);
+            }
+
+            @Override
+            public void validate(final IProgressMonitor monitor) throws CoreException {
+                validateCollectingMarkers(file, validator, reporter, monitor);
+            }
+        };
+    }
+
+    /**
+     * Symbols of robot file are recorded in the index once validation has parsed it, so that files
+     * are never parsed only in order to fill the index.
+     */
+    private static ModelUnitValidator createSymbolsRecordingValidator(final ValidationContext context,
+            final IFile file, final ModelUnitValidator validator) {
+        if (!(validator instanceof RobotFileValidator)) {
+            return validator;
+        }
+        return new ModelUnitValidator() {
+
+            @Override
+            public Optional<IFile> getValidatedFile() {
+                return Optional.of(file);
+            }
+
+            @Override
+            public void validate(final IProgressMonitor monitor) throws CoreException {
+                validator.validate(monitor);
+                ExposedDefinitionsSignatures.recordIfParsed(context.getModel().createSuiteFile(file));
+            }
+        };
+    }
+
+    /**
+     * Markers reported during validation are written at once after it finishes, so that markers
+     * which did not change are kept and listeners are notified only once for given file.
+     */
+    private static void validateCollectingMarkers(final IFile file, final ModelUnitValidator validator,
+            final ValidationReportingStrategy reporter, final IProgressMonitor monitor) throws CoreException {
+        reporter.startCollectingMarkers(file);
+        try {
+            validator.validate(monitor);
+        } finally {
+            reporter.applyCollectedMarkers(file);
+        }
+    }
+
     public static Job createValidationJob(final IProject project, final ModelUnitValidatorConfig validatorConfig) {
         return new WorkspaceJob("Validating") {
 
             @Override
             public IStatus runInWorkspace(final IProgressMonitor monitor) {
                 final RobotArtifactsValidator validator = new RobotArtifactsValidator(project, new BuildLogger());
-                return validator.runValidation(null, validatorConfig, monitor);
+                return validator.runValidation(null, null, validatorConfig, monitor);
             }
         };
     }
 
-    public Job createValidationJob(final Job dependentJob, final ModelUnitValidatorConfig validatorConfig) {
+    /**
+     * Creates validation job which starts as soon as dependent build job begins to generate
+     * libspecs. Files which do not need any of pending libspecs are validated immediately, while
+     * the others are validated once libspecs they need are generated.
+     */
+    public Job createValidationJob(final Job dependentJob, final LibspecsGenerationProgress progress,
+            final ModelUnitValidatorConfig validatorConfig) {
         return new Job("Validating") {
 
             @Override
             protected IStatus run(final IProgressMonitor monitor) {
-                return runValidation(dependentJob, validatorConfig, monitor);
+                return runValidation(dependentJob, progress, validatorConfig, monitor);
             }
         };
     }
 
-    private IStatus runValidation(final Job dependentJob, final ModelUnitValidatorConfig validatorConfig,
-            final IProgressMonitor monitor) {
+    private IStatus runValidation(final Job dependentJob, final LibspecsGenerationProgress progress,
+            final ModelUnitValidatorConfig validatorConfig, final IProgressMonitor monitor) {
         try {
+            Set<IFile> pendingLibspecs = new HashSet<>();
             if (dependentJob != null) {
-                dependentJob.join();
-                if (!dependentJob.getResult().isOK()) {
-                    return Status.CANCEL_STATUS;
+                final Optional<Set<IFile>> libspecs = progress.awaitPendingLibspecs();
+                if (libspecs.isPresent()) {
+                    pendingLibspecs = libspecs.get();
+                } else {
+                    dependentJob.join();
+                    if (!dependentJob.getResult().isOK()) {
+                        return Status.CANCEL_STATUS;
+                    }
                 }
             }
 
             logger.log("VALIDATING: validation of '" + project.getName() + "' project started");
             logger.log("VALIDATING: gathering files to be validated");
 
-            final ValidationContext context = new ValidationContext(RedPlugin.getModelManager().createProject(project),
-                    logger);
+            final RobotProject robotProject = RedPlugin.getModelManager().createProject(project);
+            final ValidationContext context = new ValidationContext(robotProject, logger);
+            context.setPendingLibspecs(pendingLibspecs);
             final List<ModelUnitValidator> validators = validatorConfig.createValidators(context);
 
-            validateModelUnits(monitor, new ArrayDeque<>(validators));
+            validateModelUnits(monitor, robotProject, context, validators, progress, pendingLibspecs);
+            // symbols of validated files are recorded in the index during validation
+            robotProject.saveSymbolsIndex();
 
             return Status.OK_STATUS;
         } catch (final CoreException | InterruptedException e) {
@@ -171,7 +257,9 @@ public class RobotArtifactsValidator {
         }
     }
 
-    private void validateModelUnits(final IProgressMonitor monitor, final Queue<ModelUnitValidator> validators)
+    private void validateModelUnits(final IProgressMonitor monitor, final RobotProject robotProject,
+            final ValidationContext context, final List<ModelUnitValidator> validators,
+            final LibspecsGenerationProgress progress, final Set<IFile> pendingLibspecs)
             throws InterruptedException {
         final SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
         subMonitor.beginTask("Validating files", 100);
@@ -179,16 +267,61 @@ public class RobotArtifactsValidator {
         final SubMonitor validationSubMonitor = subMonitor.newChild(100);
         validationSubMonitor.setWorkRemaining(validators.size());
 
+        final Queue<ModelUnitValidator> readyValidators = new ArrayDeque<>();
+        final Map<ModelUnitValidator, Set<IFile>> waitingValidators = new LinkedHashMap<>();
+        final LibspecsDependencies dependencies = new LibspecsDependencies(context.getModel(), project,
+                new HashSet<>(pendingLibspecs));
+        for (final ModelUnitValidator validator : validators) {
+            // it is unknown what validators not bound to file need, so they wait for all libspecs
+            final Set<IFile> requiredLibspecs = validator.getValidatedFile()
+                    .map(dependencies::getRequiredPendingLibspecs)
+                    .orElseGet(() -> new HashSet<>(pendingLibspecs));
+            if (requiredLibspecs.isEmpty()) {
+                readyValidators.add(validator);
+            } else {
+                waitingValidators.put(validator, requiredLibspecs);
+            }
+        }
+        if (!waitingValidators.isEmpty()) {
+            logger.log("VALIDATING: " + waitingValidators.size() + " files will wait for libspecs generation");
+        }
+
         final int threadPoolSize = Runtime.getRuntime().availableProcessors();
         logger.log("VALIDATING: " + threadPoolSize + " threads will be used");
         final ExecutorService threadPool = Executors.newFixedThreadPool(threadPoolSize);
 
         int current = 1;
         final int total = validators.size();
-        while (!validators.isEmpty()) {
-            final ModelUnitValidator validator = validators.poll();
-            threadPool.submit(createValidationRunnable(monitor, validationSubMonitor, current, total, validator));
-            current++;
+        Set<IFile> stillPendingLibspecs = pendingLibspecs;
+        while (true) {
+            while (!readyValidators.isEmpty()) {
+                final ModelUnitValidator validator = readyValidators.poll();
+                threadPool.submit(createValidationRunnable(monitor, validationSubMonitor, current, total, validator));
+                current++;
+            }
+            if (waitingValidators.isEmpty() || monitor.isCanceled()) {
+                break;
+            }
+
+            final Set<IFile> nowPendingLibspecs = progress.awaitGeneratedLibspecs(stillPendingLibspecs, 100);
+            if (!nowPendingLibspecs.equals(stillPendingLibspecs)) {
+                final Set<IFile> generatedLibspecs = new HashSet<>(stillPendingLibspecs);
+                generatedLibspecs.removeAll(nowPendingLibspecs);
+                robotProject.reloadLibrarySpecifications(generatedLibspecs);
+                context.refreshSpecifications(robotProject);
+
+                final Iterator<Entry<ModelUnitValidator, Set<IFile>>> iterator = waitingValidators.entrySet()
+                        .iterator();
+                while (iterator.hasNext()) {
+                    final Entry<ModelUnitValidator, Set<IFile>> waitingValidator = iterator.next();
+                    waitingValidator.getValue().removeAll(generatedLibspecs);
+                    if (waitingValidator.getValue().isEmpty()) {
+                        readyValidators.add(waitingValidator.getKey());
+                        iterator.remove();
+                    }
+                }
+                stillPendingLibspecs = nowPendingLibspecs;
+            }
         }
         threadPool.shutdown();
         threadPool.awaitTermination(1, TimeUnit.HOURS);
@@ -217,6 +350,10 @@ public class RobotArtifactsValidator {
 
         public void validate(IProgressMonitor monitor) throws CoreException;
 
+        public default Optional<IFile> getValidatedFile() {
+            return Optional.empty();
+        }
+
         public default void validate() {
             try {
                 validate(new NullProgressMonitor());
@@ -252,14 +389,13 @@ public class RobotArtifactsValidator {
                 final List<ModelUnitValidator> validators = new ArrayList<>();
                 for (final RobotSuiteFile suiteModel : suiteModels) {
                     if (RobotArtifactsValidator.shouldValidate(suiteModel)) {
-                        suiteModel.getFile().accept(resource -> {
-                            final Optional<? extends ModelUnitValidator> validator = createValidator(context, resource,
-                                    ValidationReportingStrategy.reportOnly(), false);
-                            if (validator.isPresent()) {
-                                validators.add(createSynchronizedValidator(resource, validator.get()));
-                            }
-                            return true;
-                        });
+                        final IFile file = suiteModel.getFile();
+                        final ValidationReportingStrategy reporter = ValidationReportingStrategy.reportOnly();
+                        final Optional<? extends ModelUnitValidator> validator = createValidator(context, file,
+                                reporter, false);
+                        if (validator.isPresent()) {
+                            validators.add(createSynchronizedValidator(file, validator.get(), reporter));
+                        }
                     }
                 }
                 return validators;
@@ -269,26 +405,34 @@ public class RobotArtifactsValidator {
         private static ModelUnitValidatorConfig createForWholeProject(final IProject project,
                 final ValidationReportingStrategy reporter) {
             return context -> {
+                // those file could have markers reported by prior build job
+                final Collection<IResource> filesToOmit = newHashSet(project.getFile(".project"),
+                        project.getFile(RobotProjectConfig.FILENAME));
+
                 final List<ModelUnitValidator> validators = new ArrayList<>();
                 project.accept(resource -> {
                     final Optional<? extends ModelUnitValidator> validator = createValidator(context, resource,
                             reporter, false);
-                    if (validator.isPresent()) {
+                    if (validator.isPresent() && filesToOmit.contains(resource)) {
                         validators.add(validator.get());
-                    }
-                    return true;
-                });
+                        resource.deleteMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ZERO);
 
-                // those file could have markers reported by prior build job
-                final Collection<IResource> filesToOmit = newHashSet(project.getFile(".project"),
-                        project.getFile(RobotProjectConfig.FILENAME));
+                    } else if (validator.isPresent()) {
+                        // markers will be replaced after validation, only the difference is written
+                        final IFile file = (IFile) resource;
+                        validators.add(createMarkersCollectingValidator(file,
+                                createSymbolsRecordingValidator(context, file, validator.get()), reporter));
 
-                for (final IResource child : project.members()) {
-                    if (!filesToOmit.contains(child)) {
-                        child.deleteMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_INFINITE);
+                    } else {
+                        if (resource != project && !filesToOmit.contains(resource)) {
+                            resource.deleteMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_ZERO);
+                        }
+                        resource.deleteMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ZERO);
                     }
-                }
-                project.deleteMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_INFINITE);
+                    return true;
+                });
+                // imports graph will be created again when needed by incremental build
+                context.getModel().createRobotProject(project).clearReverseImportsGraph();
                 return validators;
             };
         }
@@ -296,24 +440,75 @@ public class RobotArtifactsValidator {
         private static ModelUnitValidatorConfig createForChangedFiles(final IResourceDelta delta,
                 final ValidationReportingStrategy reporter) {
             return context -> {
+                final RobotProject robotProject = context.getModel()
+                        .createRobotProject(delta.getResource().getProject());
+                final ReverseImportsGraph importsGraph = robotProject.getReverseImportsGraph();
+
                 final List<ModelUnitValidator> validators = new ArrayList<>();
+                final Set<IResource> validatedFiles = new HashSet<>();
+                final Set<IFile> changedImportedFiles = new HashSet<>();
                 delta.accept(d -> {
-                    if (d.getKind() != IResourceDelta.REMOVED && (d.getFlags() & IResourceDelta.CONTENT) != 0) {
+                    if (d.getResource().getType() != IResource.FILE) {
+                        return true;
+                    }
+                    final IFile file = (IFile) d.getResource();
+                    if (d.getKind() == IResourceDelta.REMOVED) {
+                        ExposedDefinitionsSignatures.forget(robotProject, file);
+                        importsGraph.remove(file);
+                        changedImportedFiles.add(file);
+
+                    } else if (d.getKind() == IResourceDelta.ADDED || (d.getFlags() & IResourceDelta.CONTENT) != 0) {
+                        if (ReverseImportsGraph.isImportingFile(file)) {
+                            importsGraph.update(context.getModel().createSuiteFile(file));
+                        }
+                        if ((d.getFlags() & IResourceDelta.CONTENT) == 0) {
+                            return true;
+                        }
                         context.setIsValidatingChangedFiles(true);
 
-                        final IResource resource = d.getResource();
-                        final Optional<? extends ModelUnitValidator> validator = createValidator(context, resource,
+                        final Optional<? extends ModelUnitValidator> validator = createValidator(context, file,
                                 reporter, false);
                         if (validator.isPresent()) {
-                            validators.add(createSynchronizedValidator(resource, validator.get()));
+                            validators.add(createSynchronizedValidator(file,
+                                    createSymbolsRecordingValidator(context, file, validator.get()), reporter));
+                            validatedFiles.add(file);
+                        }
+                        if (isImportedFileChanged(context, robotProject, file)) {
+                            changedImportedFiles.add(file);
                         }
                     }
                     return true;
                 });
+
+                // files importing changed files directly or indirectly could have stale markers
+                for (final IFile dependentFile : importsGraph.getDependentFiles(changedImportedFiles)) {
+                    if (validatedFiles.add(dependentFile)) {
+                        final Optional<? extends ModelUnitValidator> validator = createValidator(context,
+                                dependentFile, reporter, false);
+                        if (validator.isPresent()) {
+                            validators.add(createSynchronizedValidator(dependentFile,
+                                    createSymbolsRecordingValidator(context, dependentFile, validator.get()),
+                                    reporter));
+                        }
+                    }
+                }
                 return validators;
             };
         }
 
+        private static boolean isImportedFileChanged(final ValidationContext context, final RobotProject robotProject,
+                final IFile file) {
+            if (ASuiteFileDescriber.isResourceFile(file)) {
+                return ExposedDefinitionsSignatures.hasChanged(context.getModel().createSuiteFile(file));
+            } else if ("libspec".equalsIgnoreCase(file.getFileExtension())) {
+                return ExposedDefinitionsSignatures.hasLibrarySpecificationChanged(robotProject, file);
+            }
+            // there is no way to tell what has changed in variable files, but only files which are
+            // actually imported have dependent files in the graph
+            return "py".equalsIgnoreCase(file.getFileExtension()) || "yml".equalsIgnoreCase(file.getFileExtension())
+                    || "yaml".equalsIgnoreCase(file.getFileExtension());
+        }
+
         private static Optional<? extends ModelUnitValidator> createValidator(final ValidationContext context,
                 final IResource resource, final ValidationReportingStrategy reporter, final boolean isRevalidating)
                 throws CoreException {
@@ -5,6 +5,7 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.project.build;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -94,34 +95,41 @@ public class RobotProblem {
             final Map<String, Object> additionalAttributes) {
         try {
             final IMarker marker = file.createMarker(TYPE_ID);
-            marker.setAttribute(IMarker.MESSAGE, getMessage().intern());
-            marker.setAttribute(IMarker.SEVERITY, getSeverity().getLevel());
-            if (position.getLine() >= 0) {
-                marker.setAttribute(IMarker.LOCATION, ("line " + position.getLine()).intern());
-                marker.setAttribute(IMarker.LINE_NUMBER, position.getLine());
-            } else {
-                marker.setAttribute(IMarker.LOCATION, "unknown line".intern());
-            }
-            if (position.getRange().isPresent() && position.getRange().get().hasLowerBound()
-                    && position.getRange().get().hasUpperBound()) {
-                marker.setAttribute(IMarker.CHAR_START, position.getRange().get().lowerEndpoint());
-                marker.setAttribute(IMarker.CHAR_END, position.getRange().get().upperEndpoint());
-            }
-
-            marker.setAttribute(CAUSE_ENUM_CLASS, cause.getEnumClassName().intern());
-            marker.setAttribute(CAUSE_ATTRIBUTE, cause.toString().intern());
-            for (final Entry<String, Object> entry : additionalAttributes.entrySet()) {
-                Object toPut = entry.getValue();
-                if (entry.getValue() instanceof String) {
-                    toPut = ((String) entry.getValue()).intern();
-                }
-                marker.setAttribute(entry.getKey(), toPut);
-            }
+            marker.setAttributes(createMarkerAttributes(position, additionalAttributes));
         } catch (final CoreException e) {
             throw new IllegalStateException("Unable to create marker!", e);
         }
     }
 
+    Map<String, Object> createMarkerAttributes(final ProblemPosition position,
+            final Map<String, Object> additionalAttributes) {
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put(IMarker.MESSAGE, getMessage().intern());
+        attributes.put(IMarker.SEVERITY, getSeverity().getLevel());
+        if (position.getLine() >= 0) {
+            attributes.put(IMarker.LOCATION, ("line " + position.getLine()).intern());
+            attributes.put(IMarker.LINE_NUMBER, position.getLine());
+        } else {
+            attributes.put(IMarker.LOCATION, "unknown line".intern());
+        }
+        if (position.getRange().isPresent() && position.getRange().get().hasLowerBound()
+                && position.getRange().get().hasUpperBound()) {
+            attributes.put(IMarker.CHAR_START, position.getRange().get().lowerEndpoint());
+            attributes.put(IMarker.CHAR_END, position.getRange().get().upperEndpoint());
+        }
+
+        attributes.put(CAUSE_ENUM_CLASS, cause.getEnumClassName().intern());
+        attributes.put(CAUSE_ATTRIBUTE, cause.toString().intern());
+        for (final Entry<String, Object> entry : additionalAttributes.entrySet()) {
+            Object toPut = entry.getValue();
+            if (entry.getValue() instanceof String) {
+                toPut = ((String) entry.getValue()).intern();
+            }
+            attributes.put(entry.getKey(), toPut);
+        }
+        return attributes;
+    }
+
     public String getMessage() {
         return cause.getProblemDescription() == null ? ""
                 : String.format(cause.getProblemDescription(), objects == null ? new Object[0] : objects);
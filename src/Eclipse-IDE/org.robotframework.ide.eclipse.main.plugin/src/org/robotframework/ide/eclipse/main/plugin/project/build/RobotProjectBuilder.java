@@ -7,6 +7,7 @@ package org.robotframework.ide.eclipse.main.plugin.project.build;
 
 import static java.util.stream.Collectors.toSet;
 
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -26,6 +27,7 @@ import org.robotframework.ide.eclipse.main.plugin.model.LibspecsFolder;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
 import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsValidator.ModelUnitValidatorConfig;
 import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsValidator.ModelUnitValidatorConfigFactory;
+import org.robotframework.ide.eclipse.main.plugin.project.build.libs.LibspecsGenerationProgress;
 
 public class RobotProjectBuilder extends IncrementalProjectBuilder {
 
@@ -54,20 +56,36 @@ public class RobotProjectBuilder extends IncrementalProjectBuilder {
 
     public void build(final int kind, final RobotProject robotProject, final IProgressMonitor monitor)
             throws CoreException {
+        final IProject project = robotProject.getProject();
+        final IResourceDelta delta = getDelta(project);
+        final ModelUnitValidatorConfig validatorConfig = ModelUnitValidatorConfigFactory.create(project, delta, kind,
+                reporter);
+        build(kind, delta, robotProject, validatorConfig, monitor);
+    }
+
+    /**
+     * Performs full build of given project, but validates only those files for which the validators
+     * are created by given configuration.
+     */
+    public void build(final RobotProject robotProject, final ModelUnitValidatorConfig validatorConfig,
+            final IProgressMonitor monitor) throws CoreException {
+        build(IncrementalProjectBuilder.FULL_BUILD, null, robotProject, validatorConfig, monitor);
+    }
+
+    private void build(final int kind, final IResourceDelta delta, final RobotProject robotProject,
+            final ModelUnitValidatorConfig validatorConfig, final IProgressMonitor monitor) throws CoreException {
         final boolean isValidationEnabled = !RedPlugin.getDefault().getPreferences().isValidationTurnedOff();
         try {
             final IProject project = robotProject.getProject();
             final LibspecsFolder libspecsFolder = LibspecsFolder.createIfNeeded(project);
-            final IResourceDelta delta = getDelta(project);
             final boolean rebuildNeeded = libspecsFolder.shouldRegenerateLibspecs(delta, kind);
 
+            final LibspecsGenerationProgress progress = new LibspecsGenerationProgress();
             final Job buildJob = new RobotArtifactsBuilder(project, logger).createBuildJob(rebuildNeeded, reporter,
-                    fatalReporter);
+                    fatalReporter, progress);
             Job validationJob = null;
             if (isValidationEnabled) {
-                final ModelUnitValidatorConfig validatorConfig = ModelUnitValidatorConfigFactory.create(project, delta,
-                        kind, reporter);
-                validationJob = new RobotArtifactsValidator(project, logger).createValidationJob(buildJob,
+                validationJob = new RobotArtifactsValidator(project, logger).createValidationJob(buildJob, progress,
                         validatorConfig);
             }
             try {
@@ -78,6 +96,7 @@ public class RobotProjectBuilder extends IncrementalProjectBuilder {
                 if (isValidationEnabled) {
                     validationJob.schedule();
                 }
+                publishGeneratedLibspecs(progress);
                 buildJob.join();
 
                 robotProject.clearConfiguration();
@@ -91,7 +110,8 @@ public class RobotProjectBuilder extends IncrementalProjectBuilder {
                         return;
                     }
                 }
-                project.refreshLocal(IResource.DEPTH_INFINITE, null);
+                // libspecs are the only files written by the build
+                libspecsFolder.getResource().refreshLocal(IResource.DEPTH_ONE, null);
 
                 if (isValidationEnabled && !monitor.isCanceled()) {
                     monitor.subTask("waiting for project " + projectPath + " validation end");
@@ -105,6 +125,27 @@ public class RobotProjectBuilder extends IncrementalProjectBuilder {
         }
     }
 
+    /**
+     * Refreshes libspec files one by one as they are generated. This has to be done in the builder
+     * thread, as it holds the rule needed for refreshing during the build.
+     */
+    private static void publishGeneratedLibspecs(final LibspecsGenerationProgress progress)
+            throws InterruptedException {
+        Set<IFile> pendingLibspecs = progress.awaitPendingLibspecs().orElseGet(HashSet::new);
+        while (!pendingLibspecs.isEmpty()) {
+            final Set<IFile> stillPendingLibspecs = progress.awaitGeneratedLibspecs(pendingLibspecs, 100);
+            for (final IFile libspec : pendingLibspecs) {
+                if (!stillPendingLibspecs.contains(libspec)) {
+                    try {
+                        libspec.refreshLocal(IResource.DEPTH_ZERO, null);
+                    } catch (final CoreException e) {
+                        // libspecs folder will be refreshed after the build anyway
+                    }
+                }
+            }
+            pendingLibspecs = stillPendingLibspecs;
+        }
+    }
 
     @Override
     protected void clean(final IProgressMonitor monitor) throws CoreException {
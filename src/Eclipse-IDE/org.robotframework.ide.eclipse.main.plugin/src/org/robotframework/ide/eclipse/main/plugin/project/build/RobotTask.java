@@ -5,6 +5,8 @@
 */
 package org.robotframework.ide.eclipse.main.plugin.project.build;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import org.eclipse.core.resources.IFile;
@@ -31,17 +33,23 @@ public final class RobotTask {
     void createMarker(final IFile file) {
         try {
             final IMarker marker = file.createMarker(TYPE_ID);
-            marker.setAttribute(IMarker.DONE, false);
-            marker.setAttribute(IMarker.USER_EDITABLE, false);
-            marker.setAttribute(IMarker.PRIORITY, priority.priority);
-            marker.setAttribute(IMarker.MESSAGE, description.intern());
-            marker.setAttribute(IMarker.LOCATION, ("line " + lineNumber).intern());
-            marker.setAttribute(IMarker.LINE_NUMBER, lineNumber);
+            marker.setAttributes(createMarkerAttributes());
         } catch (final CoreException e) {
             throw new IllegalStateException("Unable to create marker!", e);
         }
     }
 
+    Map<String, Object> createMarkerAttributes() {
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put(IMarker.DONE, false);
+        attributes.put(IMarker.USER_EDITABLE, false);
+        attributes.put(IMarker.PRIORITY, priority.priority);
+        attributes.put(IMarker.MESSAGE, description.intern());
+        attributes.put(IMarker.LOCATION, ("line " + lineNumber).intern());
+        attributes.put(IMarker.LINE_NUMBER, lineNumber);
+        return attributes;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (obj != null && obj.getClass() == RobotTask.class) {
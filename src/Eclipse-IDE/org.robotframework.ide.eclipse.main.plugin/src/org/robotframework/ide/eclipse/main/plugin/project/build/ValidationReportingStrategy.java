@@ -7,8 +7,10 @@ package org.robotframework.ide.eclipse.main.plugin.project.build;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.ui.PlatformUI;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.validation.ProblemPosition;
@@ -28,12 +30,38 @@ public class ValidationReportingStrategy {
 
     protected final boolean shouldPanic;
 
+    private final Map<IFile, FileMarkersUpdate> pendingMarkersUpdates = new ConcurrentHashMap<>();
+
     protected ValidationReportingStrategy(final boolean shouldPanic) {
         this.shouldPanic = shouldPanic;
     }
 
+    /**
+     * Starting from now markers reported for given file are collected instead of being written
+     * one-by-one, until {@link #applyCollectedMarkers(IFile)} is called.
+     */
+    protected void startCollectingMarkers(final IFile file) {
+        pendingMarkersUpdates.put(file, new FileMarkersUpdate(file));
+    }
+
+    /**
+     * Replaces markers of given file with the ones collected since
+     * {@link #startCollectingMarkers(IFile)} was called.
+     */
+    protected void applyCollectedMarkers(final IFile file) throws CoreException {
+        final FileMarkersUpdate update = pendingMarkersUpdates.remove(file);
+        if (update != null) {
+            update.apply();
+        }
+    }
+
     public void handleTask(final RobotTask task, final IFile file) {
-        task.createMarker(file);
+        final FileMarkersUpdate update = pendingMarkersUpdates.get(file);
+        if (update != null) {
+            update.addTask(task.createMarkerAttributes());
+        } else {
+            task.createMarker(file);
+        }
     }
 
     public void handleProblem(final RobotProblem problem, final IFile file, final int line) throws ReportingInterruptedException {
@@ -81,7 +109,12 @@ public class ValidationReportingStrategy {
 
     protected void reportProblem(final RobotProblem problem, final IFile file, final ProblemPosition filePosition,
             final Map<String, Object> additionalAttributes) {
-        problem.createMarker(file, filePosition, additionalAttributes);
+        final FileMarkersUpdate update = pendingMarkersUpdates.get(file);
+        if (update != null) {
+            update.addProblem(problem.createMarkerAttributes(filePosition, additionalAttributes));
+        } else {
+            problem.createMarker(file, filePosition, additionalAttributes);
+        }
     }
 
     public static class ReportingInterruptedException extends RuntimeException {
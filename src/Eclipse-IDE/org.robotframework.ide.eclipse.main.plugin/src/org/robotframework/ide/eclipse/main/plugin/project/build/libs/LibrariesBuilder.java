@@ -6,11 +6,24 @@
 package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -23,6 +36,7 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.ui.statushandlers.StatusManager;
+import org.rf.ide.core.RedSystemProperties;
 import org.rf.ide.core.environment.EnvironmentSearchPaths;
 import org.rf.ide.core.environment.IRuntimeEnvironment;
 import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
@@ -44,18 +58,32 @@ import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.project.RedEclipseProjectConfig;
 import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 public class LibrariesBuilder {
 
+    // shared by all builds, as there is no use in running more generations than session servers
+    private static final ExecutorService GENERATION_POOL = createGenerationPool();
+
     private final BuildLogger logger;
 
     public LibrariesBuilder(final BuildLogger logger) {
         this.logger = logger;
     }
 
+    private static ExecutorService createGenerationPool() {
+        final int threadPoolSize = RedSystemProperties.getSessionServersPoolSize();
+        final ThreadPoolExecutor threadPool = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 30,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("libdoc-generator-%d").setDaemon(true).build());
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
     public IFile buildHtmlLibraryDoc(final IFile resourceFile) {
         final RobotModel model = RedPlugin.getModelManager().getModel();
         final RobotSuiteFile suiteFile = model.createSuiteFile(resourceFile);
@@ -133,44 +161,106 @@ public class LibrariesBuilder {
 
             final RobotProject robotProject = RedPlugin.getModelManager().createProject(project);
             final IRuntimeEnvironment runtimeEnvironment = robotProject.getRuntimeEnvironment();
+            final Collection<ILibdocGenerator> generators = groupedGenerators.get(project);
 
-            MultiStatus multiStatus = null;
-            for (final ILibdocGenerator generator : groupedGenerators.get(project)) {
-                if (monitor.isCanceled()) {
-                    return;
-                }
-                monitor.subTask(generator.getMessage());
+            if (!project.exists()) {
+                monitor.worked(generators.size());
+                continue;
+            }
+
+            final List<IStatus> statuses = new ArrayList<>();
+            final boolean finished = generateLibdocs(generators, runtimeEnvironment,
+                    () -> new RedEclipseProjectConfig(project, robotProject.getRobotProjectConfig())
+                            .createAdditionalEnvironmentSearchPaths(),
+                    monitor, generator -> {}, (generator, e) -> {
+                        statuses.add(new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
+                                "\nProblem occurred during " + generator.getMessage() + ".", e));
+                        try {
+                            generator.getTargetFile().delete(true, new NullProgressMonitor());
+                        } catch (final CoreException e1) {
+                            statuses.add(e1.getStatus());
+                        }
+                    });
+            if (!finished) {
+                return;
+            }
 
+            if (!statuses.isEmpty()) {
+                final MultiStatus multiStatus = new MultiStatus(RedPlugin.PLUGIN_ID, IStatus.ERROR,
+                        statuses.toArray(new IStatus[0]), "Library specification generation problem", null);
+                StatusManager.getManager().handle(multiStatus, StatusManager.BLOCK);
+            }
+        }
+        monitor.done();
+    }
+
+    /**
+     * Generates libdocs concurrently, as each of them may be handled by different session server.
+     * The monitor is only touched from calling thread, while finished generations are reported from
+     * generating threads. Returns false when generation was cancelled.
+     */
+    private boolean generateLibdocs(final Collection<ILibdocGenerator> generators,
+            final IRuntimeEnvironment environment, final Supplier<EnvironmentSearchPaths> additionalPathsSupplier,
+            final SubMonitor monitor, final Consumer<ILibdocGenerator> generationFinishedHandler,
+            final LibdocGenerationErrorHandler errorHandler) {
+        final Map<ILibdocGenerator, Future<?>> generations = new LinkedHashMap<>();
+        try {
+            for (final ILibdocGenerator generator : generators) {
+                generations.put(generator, GENERATION_POOL.submit(() -> {
+                    logger.log("BUILDING: " + generator.getMessage());
+                    try {
+                        // search paths are modified by generators, so each of them needs its own paths
+                        generator.generateLibdoc(environment, additionalPathsSupplier.get());
+                    } finally {
+                        generationFinishedHandler.accept(generator);
+                    }
+                }));
+            }
+
+            for (final Entry<ILibdocGenerator, Future<?>> generation : generations.entrySet()) {
+                monitor.subTask(generation.getKey().getMessage());
                 try {
-                    if (project.exists()) {
-                        generator.generateLibdoc(runtimeEnvironment,
-                                new RedEclipseProjectConfig(project, robotProject.getRobotProjectConfig())
-                                        .createAdditionalEnvironmentSearchPaths());
+                    if (!waitForGeneration(generation.getValue(), monitor)) {
+                        return false;
                     }
-                } catch (final RuntimeEnvironmentException e) {
-                    final Status status = new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
-                            "\nProblem occurred during " + generator.getMessage() + ".", e);
-                    if (multiStatus == null) {
-                        multiStatus = new MultiStatus(RedPlugin.PLUGIN_ID, IStatus.ERROR, new Status[] { status },
-                                "Library specification generation problem", null);
+                } catch (final ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeEnvironmentException) {
+                        errorHandler.handle(generation.getKey(), (RuntimeEnvironmentException) e.getCause());
                     } else {
-                        multiStatus.add(status);
-                    }
-
-                    try {
-                        generator.getTargetFile().delete(true, new NullProgressMonitor());
-                    } catch (final CoreException e1) {
-                        multiStatus.add(e1.getStatus());
+                        Throwables.throwIfUnchecked(e.getCause());
+                        throw new IllegalStateException(e.getCause());
                     }
                 }
                 monitor.worked(1);
             }
+            return true;
+        } finally {
+            generations.values().forEach(generation -> generation.cancel(true));
+        }
+    }
 
-            if (multiStatus != null) {
-                StatusManager.getManager().handle(multiStatus, StatusManager.BLOCK);
+    private static boolean waitForGeneration(final Future<?> generation, final SubMonitor monitor)
+            throws ExecutionException {
+        while (true) {
+            if (monitor.isCanceled()) {
+                return false;
+            }
+            try {
+                generation.get(100, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (final TimeoutException e) {
+                // let's check if generation was cancelled in the meantime
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
             }
         }
-        monitor.done();
+    }
+
+    @FunctionalInterface
+    private interface LibdocGenerationErrorHandler {
+
+        void handle(ILibdocGenerator generator, RuntimeEnvironmentException exception);
     }
 
     private ILibdocGenerator provideGenerator(final LibraryDescriptor libraryDescriptor, final IFile targetFile,
@@ -205,7 +295,8 @@ public class LibrariesBuilder {
     }
 
     public void buildLibraries(final RobotProject robotProject, final IRuntimeEnvironment environment,
-            final RobotProjectConfig configuration, final SubMonitor monitor) {
+            final RobotProjectConfig configuration, final SubMonitor monitor,
+            final LibspecsGenerationProgress progress) {
         logger.log("BUILDING: generating library docs");
         monitor.subTask("generating libdocs");
 
@@ -223,33 +314,29 @@ public class LibrariesBuilder {
         }
 
         monitor.setWorkRemaining(libdocGenerators.size());
+        progress.generationStarted(libdocGenerators.stream().map(ILibdocGenerator::getTargetFile).collect(toList()));
 
-        for (final ILibdocGenerator generator : libdocGenerators) {
-            if (monitor.isCanceled()) {
-                return;
-            }
-
-            logger.log("BUILDING: " + generator.getMessage());
-            monitor.subTask(generator.getMessage());
-            try {
-                final EnvironmentSearchPaths additionalSearchPaths = new RedEclipseProjectConfig(
-                        robotProject.getProject(), configuration).createAdditionalEnvironmentSearchPaths();
-                generator.generateLibdoc(environment, additionalSearchPaths);
-
-            } catch (final RuntimeEnvironmentException e) {
-                // the libraries with missing libspec are reported in validation phase
-            }
-            monitor.worked(1);
+        final boolean finished = generateLibdocs(libdocGenerators, environment,
+                () -> new RedEclipseProjectConfig(robotProject.getProject(), configuration)
+                        .createAdditionalEnvironmentSearchPaths(),
+                monitor, generator -> progress.libspecGenerated(generator.getTargetFile()), (generator, e) -> {
+                    // the libraries with missing libspec are reported in validation phase
+                });
+        if (finished) {
+            monitor.done();
         }
-
-        monitor.done();
     }
 
     private List<ILibdocGenerator> getStandardLibrariesToRecreate(final IRuntimeEnvironment environment,
             final LibspecsFolder libspecsFolder) {
         final List<ILibdocGenerator> generators = new ArrayList<>();
 
-        for (final String stdLib : environment.getStandardLibrariesNames()) {
+        // BuiltIn is used by every file, so it goes first to let validation start as soon as possible
+        final List<String> stdLibs = environment.getStandardLibrariesNames()
+                .stream()
+                .sorted(comparing(stdLib -> !"BuiltIn".equals(stdLib)))
+                .collect(toList());
+        for (final String stdLib : stdLibs) {
             final String fileName = LibraryDescriptor.ofStandardLibrary(stdLib).generateLibspecFileName();
 
             final IFile xmlSpecFile = libspecsFolder.getXmlSpecFile(fileName);
@@ -365,8 +452,7 @@ public class LibrariesBuilder {
 
     private static boolean hasSameVersion(final IFile file, final String version) {
         final String fileVersion = RedWorkspace.getLocalFile(file)
-                .flatMap(LibrarySpecificationReader::readSpecification)
-                .map(LibrarySpecification::getVersion)
+                .flatMap(LibrarySpecificationReader::readVersion)
                 .orElse("unknown");
         return version.startsWith(String.format("Robot Framework %s (", fileVersion));
     }
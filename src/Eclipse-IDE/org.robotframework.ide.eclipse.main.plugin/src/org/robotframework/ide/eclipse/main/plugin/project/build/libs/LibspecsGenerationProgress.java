@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * Tells which libspec files are still being generated by the build, so that they can be published
+ * and used by validation one by one instead of waiting for the whole build to finish. Libspec
+ * files which generation failed are also reported as no longer pending; once build is finished
+ * there are no pending libspecs at all.
+ */
+public class LibspecsGenerationProgress {
+
+    private final Set<IFile> pendingLibspecs = new HashSet<>();
+
+    private boolean started = false;
+
+    private boolean finished = false;
+
+    public synchronized void generationStarted(final Collection<IFile> libspecs) {
+        if (!finished) {
+            pendingLibspecs.addAll(libspecs);
+            started = true;
+            notifyAll();
+        }
+    }
+
+    public synchronized void libspecGenerated(final IFile libspec) {
+        if (pendingLibspecs.remove(libspec)) {
+            notifyAll();
+        }
+    }
+
+    public synchronized void buildFinished() {
+        pendingLibspecs.clear();
+        finished = true;
+        notifyAll();
+    }
+
+    /**
+     * Waits until libspecs generation starts and returns libspec files which are pending at that
+     * moment. Returns empty optional when build finished without generating libspecs.
+     */
+    public synchronized Optional<Set<IFile>> awaitPendingLibspecs() throws InterruptedException {
+        while (!started && !finished) {
+            wait();
+        }
+        return started ? Optional.of(new HashSet<>(pendingLibspecs)) : Optional.empty();
+    }
+
+    /**
+     * Waits at most given time until some of given pending libspec files are generated and returns
+     * the ones which are still pending.
+     */
+    public synchronized Set<IFile> awaitGeneratedLibspecs(final Set<IFile> knownPendingLibspecs,
+            final long timeoutMillis) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        long timeToWait = timeoutMillis;
+        while (!pendingLibspecs.isEmpty() && pendingLibspecs.equals(knownPendingLibspecs) && timeToWait > 0) {
+            wait(timeToWait);
+            timeToWait = deadline - System.currentTimeMillis();
+        }
+        return new HashSet<>(pendingLibspecs);
+    }
+}
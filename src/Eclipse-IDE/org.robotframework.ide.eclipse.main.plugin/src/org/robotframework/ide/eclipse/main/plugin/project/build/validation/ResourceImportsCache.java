@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
+
+import static com.google.common.collect.Sets.newHashSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+
+/**
+ * Memoizes the order in which resource files imported directly or indirectly by some file are
+ * visited by definition locators. The order of resources reachable from each resource file is
+ * computed once per validation run and reused for every validated file importing it.
+ */
+class ResourceImportsCache {
+
+    private final RobotModel model;
+
+    private final Map<IFile, Set<IFile>> visitingOrders = new ConcurrentHashMap<>();
+
+    ResourceImportsCache(final RobotModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Returns resource files imported by given file, directly or indirectly, in the order in which
+     * they are visited by locators.
+     */
+    List<IFile> getImportedResources(final RobotSuiteFile file) {
+        final List<IFile> resources = new ArrayList<>();
+        visit(file.getImportedResources(), file.getFile(), newHashSet(file.getFile()), resources, true);
+        return resources;
+    }
+
+    private Set<IFile> getVisitingOrder(final IFile resourceFile) {
+        return visitingOrders.computeIfAbsent(resourceFile, file -> {
+            final List<IFile> resources = new ArrayList<>();
+            visit(model.createSuiteFile(file).getImportedResources(), file, newHashSet(file), resources, false);
+            resources.add(file);
+            return Collections.unmodifiableSet(new LinkedHashSet<>(resources));
+        });
+    }
+
+    private void visit(final List<IResource> imports, final IFile startingFile, final Set<IFile> alreadyVisited,
+            final List<IFile> resources, final boolean useVisitingOrders) {
+        for (final IResource resource : imports) {
+            if (!resource.exists() || resource.getType() != IResource.FILE || alreadyVisited.contains(resource)) {
+                continue;
+            }
+            final IFile resourceFile = (IFile) resource;
+            final Set<IFile> visitingOrder = useVisitingOrders ? getVisitingOrder(resourceFile) : null;
+
+            if (visitingOrder != null && !visitingOrder.contains(startingFile)) {
+                // all the resources reachable from already visited files were visited too, so
+                // the order is the same as for this resource alone, only without visited files
+                for (final IFile file : visitingOrder) {
+                    if (alreadyVisited.add(file)) {
+                        resources.add(file);
+                    }
+                }
+            } else {
+                alreadyVisited.add(resourceFile);
+                visit(model.createSuiteFile(resourceFile).getImportedResources(), startingFile, alreadyVisited,
+                        resources, useVisitingOrders);
+                resources.add(resourceFile);
+            }
+        }
+    }
+}
@@ -5,13 +5,16 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IFile;
 import org.rf.ide.core.environment.RobotVersion;
@@ -57,12 +60,20 @@ public class ValidationContext {
 
     private final RobotProjectConfig projectConfig;
 
-    private final ListMultimap<String, LibrarySpecification> accessibleLibraries;
+    private volatile ListMultimap<String, LibrarySpecification> accessibleLibraries;
 
     private BuildLogger logger;
 
     private boolean isValidatingChangedFiles;
 
+    private Set<IFile> pendingLibspecs = new HashSet<>();
+
+    private final ResourceImportsCache resourceImports;
+
+    private final Map<IFile, List<ValidationKeywordEntity>> resourcesKeywords = new ConcurrentHashMap<>();
+
+    private final Map<IFile, Set<String>> resourcesVariables = new ConcurrentHashMap<>();
+
     public ValidationContext(final RobotProject robotProject, final BuildLogger logger) {
         this.model = (RobotModel) robotProject.getParent();
         this.logger = logger;
@@ -70,6 +81,7 @@ public class ValidationContext {
         this.version = robotProject.getRobotParserComplianceVersion();
         this.executorInUse = robotProject.getRuntimeEnvironment().getInterpreter();
         this.accessibleLibraries = collectLibraries(robotProject);
+        this.resourceImports = new ResourceImportsCache(model);
     }
 
     @VisibleForTesting
@@ -80,6 +92,7 @@ public class ValidationContext {
         this.version = version;
         this.executorInUse = executor;
         this.accessibleLibraries = libs;
+        this.resourceImports = new ResourceImportsCache(model);
     }
 
     private static ListMultimap<String, LibrarySpecification> collectLibraries(final RobotProject robotProject) {
@@ -111,6 +124,14 @@ public class ValidationContext {
         return accessibleLibraries;
     }
 
+    /**
+     * Takes libraries currently known by given project, e.g. when libspecs were regenerated while
+     * validation was already running. Files validated before keep the libraries they have used.
+     */
+    public void refreshSpecifications(final RobotProject robotProject) {
+        this.accessibleLibraries = collectLibraries(robotProject);
+    }
+
     public boolean isValidatingChangedFiles() {
         return isValidatingChangedFiles;
     }
@@ -119,89 +140,147 @@ public class ValidationContext {
         this.isValidatingChangedFiles = isValidatingChangedFiles;
     }
 
+    /**
+     * Libspecs which were still being generated when validation started, so their current content
+     * is outdated.
+     */
+    public Set<IFile> getPendingLibspecs() {
+        return pendingLibspecs;
+    }
+
+    public void setPendingLibspecs(final Set<IFile> pendingLibspecs) {
+        this.pendingLibspecs = pendingLibspecs;
+    }
+
     public FileValidationContext createUnitContext(final IFile file) {
         return new FileValidationContext(this, file);
     }
 
     public Set<String> collectAccessibleVariables(final IFile file) {
         final Set<String> variables = new HashSet<>();
-        new VariableDefinitionLocator(file, model).locateVariableDefinition(new VariableDetector() {
+        new VariableDefinitionLocator(file, model) {
 
             @Override
-            public ContinueDecision variableDetected(final RobotVariable variable) {
-                variables.add(VariableNamesSupport.extractUnifiedVariableName(variable.getActualName()));
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision localVariableDetected(final RobotFileInternalElement element,
-                    final RobotToken variable) {
-                // local variables will be added to context during validation
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision globalVariableDetected(final String name, final Object value) {
-                variables.add(VariableNamesSupport.extractUnifiedVariableName(name));
+            protected ContinueDecision locateInResourceFiles(final RobotSuiteFile startingFile,
+                    final VariableDetector detector) {
+                for (final IFile resourceFile : resourceImports.getImportedResources(startingFile)) {
+                    variables.addAll(resourcesVariables.computeIfAbsent(resourceFile,
+                            ValidationContext.this::collectVariablesExposedByResource));
+                }
                 return ContinueDecision.CONTINUE;
             }
+        }.locateVariableDefinition(new AccessibleVariablesDetector(variables));
+        return variables;
+    }
 
-            @Override
-            public ContinueDecision varFileVariableDetected(final ReferencedVariableFile file, final String name,
-                    final Object value) {
-                variables.add(VariableNamesSupport.extractUnifiedVariableName(name));
-                return ContinueDecision.CONTINUE;
-            }
-        });
+    private Set<String> collectVariablesExposedByResource(final IFile resourceFile) {
+        final Set<String> variables = new HashSet<>();
+        new VariableDefinitionLocator(resourceFile, model)
+                .locateVariableDefinitionExposedAsResource(new AccessibleVariablesDetector(variables));
         return variables;
     }
 
     public Map<String, Collection<KeywordEntity>> collectAccessibleKeywords(final IFile file) {
-        final Map<String, Collection<KeywordEntity>> accessibleKeywords = new HashMap<>();
-        new KeywordDefinitionLocator(file, model).locateKeywordDefinition(new KeywordDetector() {
+        final List<ValidationKeywordEntity> keywords = new ArrayList<>();
+        new KeywordDefinitionLocator(file, model) {
 
             @Override
-            public ContinueDecision nonAccessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                    final KeywordSpecification kwSpec, final RobotSuiteFile exposingFile) {
+            protected ContinueDecision locateInResourceFiles(final RobotSuiteFile startingFile,
+                    final KeywordDetector detector) {
+                for (final IFile resourceFile : resourceImports.getImportedResources(startingFile)) {
+                    keywords.addAll(resourcesKeywords.computeIfAbsent(resourceFile,
+                            ValidationContext.this::collectKeywordsExposedByResource));
+                }
                 return ContinueDecision.CONTINUE;
             }
+        }.locateKeywordDefinition(new AccessibleKeywordsDetector(keywords));
 
-            @Override
-            public ContinueDecision accessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                    final KeywordSpecification kwSpec, final Collection<Optional<String>> libraryAliases,
-                    final RobotSuiteFile exposingFile) {
+        final Map<String, Collection<KeywordEntity>> accessibleKeywords = new HashMap<>();
+        for (final ValidationKeywordEntity keyword : keywords) {
+            final String unifiedName = QualifiedKeywordName.unifyDefinition(keyword.getNameFromDefinition());
+            accessibleKeywords.computeIfAbsent(unifiedName, name -> new LinkedHashSet<>()).add(keyword);
+        }
+        return accessibleKeywords;
+    }
 
-                final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
-                for (final Optional<String> libraryAlias : libraryAliases) {
-                    final ValidationKeywordEntity keyword = new ValidationKeywordEntity(scope, libSpec.getName(),
-                            kwSpec.getName(), libraryAlias, kwSpec.isDeprecated(), exposingFile.getFile().getFullPath(),
-                            0, kwSpec.createArgumentsDescriptor());
+    private List<ValidationKeywordEntity> collectKeywordsExposedByResource(final IFile resourceFile) {
+        final List<ValidationKeywordEntity> keywords = new ArrayList<>();
+        new KeywordDefinitionLocator(resourceFile, model)
+                .locateKeywordDefinitionExposedAsResource(new AccessibleKeywordsDetector(keywords));
+        return keywords;
+    }
 
-                    addAccessibleKeyword(kwSpec.getName(), keyword);
-                }
-                return ContinueDecision.CONTINUE;
-            }
+    private static final class AccessibleVariablesDetector implements VariableDetector {
+
+        private final Set<String> variables;
+
+        private AccessibleVariablesDetector(final Set<String> variables) {
+            this.variables = variables;
+        }
+
+        @Override
+        public ContinueDecision variableDetected(final RobotVariable variable) {
+            variables.add(VariableNamesSupport.extractUnifiedVariableName(variable.getActualName()));
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision localVariableDetected(final RobotFileInternalElement element,
+                final RobotToken variable) {
+            // local variables will be added to context during validation
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision globalVariableDetected(final String name, final Object value) {
+            variables.add(VariableNamesSupport.extractUnifiedVariableName(name));
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision varFileVariableDetected(final ReferencedVariableFile file, final String name,
+                final Object value) {
+            variables.add(VariableNamesSupport.extractUnifiedVariableName(name));
+            return ContinueDecision.CONTINUE;
+        }
+    }
 
-            @Override
-            public ContinueDecision keywordDetected(final RobotSuiteFile suiteFile,
-                    final RobotKeywordDefinition kwDefinition) {
-                final ValidationKeywordEntity keyword = new ValidationKeywordEntity(null,
-                        Files.getNameWithoutExtension(suiteFile.getName()), kwDefinition.getName(), Optional.empty(),
-                        kwDefinition.isDeprecated(), suiteFile.getFile().getFullPath(),
-                        kwDefinition.getDefinitionPosition().getOffset(), kwDefinition.createArgumentsDescriptor());
-
-                addAccessibleKeyword(kwDefinition.getName(), keyword);
-                return ContinueDecision.CONTINUE;
-            }
+    private static final class AccessibleKeywordsDetector implements KeywordDetector {
 
-            private void addAccessibleKeyword(final String keywordName, final ValidationKeywordEntity keyword) {
-                final String unifiedName = QualifiedKeywordName.unifyDefinition(keywordName);
-                if (!accessibleKeywords.containsKey(unifiedName)) {
-                    accessibleKeywords.put(unifiedName, new LinkedHashSet<>());
-                }
-                accessibleKeywords.get(unifiedName).add(keyword);
+        private final List<ValidationKeywordEntity> keywords;
+
+        private AccessibleKeywordsDetector(final List<ValidationKeywordEntity> keywords) {
+            this.keywords = keywords;
+        }
+
+        @Override
+        public ContinueDecision nonAccessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
+                final KeywordSpecification kwSpec, final RobotSuiteFile exposingFile) {
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision accessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
+                final KeywordSpecification kwSpec, final Collection<Optional<String>> libraryAliases,
+                final RobotSuiteFile exposingFile) {
+
+            final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
+            for (final Optional<String> libraryAlias : libraryAliases) {
+                keywords.add(new ValidationKeywordEntity(scope, libSpec.getName(), kwSpec.getName(), libraryAlias,
+                        kwSpec.isDeprecated(), exposingFile.getFile().getFullPath(), 0,
+                        kwSpec.createArgumentsDescriptor()));
             }
-        });
-        return accessibleKeywords;
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision keywordDetected(final RobotSuiteFile suiteFile,
+                final RobotKeywordDefinition kwDefinition) {
+            keywords.add(new ValidationKeywordEntity(null, Files.getNameWithoutExtension(suiteFile.getName()),
+                    kwDefinition.getName(), Optional.empty(), kwDefinition.isDeprecated(),
+                    suiteFile.getFile().getFullPath(), kwDefinition.getDefinitionPosition().getOffset(),
+                    kwDefinition.createArgumentsDescriptor()));
+            return ContinueDecision.CONTINUE;
+        }
     }
 }
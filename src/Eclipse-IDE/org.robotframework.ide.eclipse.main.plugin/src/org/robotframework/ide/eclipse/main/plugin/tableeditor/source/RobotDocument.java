@@ -22,6 +22,8 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocumentListener;
+import org.rf.ide.core.testdata.IncrementalModelUpdater;
+import org.rf.ide.core.testdata.IncrementalModelUpdater.ChangedToken;
 import org.rf.ide.core.testdata.RobotParser;
 import org.rf.ide.core.testdata.model.RobotFile;
 import org.rf.ide.core.testdata.model.RobotFileOutput;
@@ -38,6 +40,14 @@ public class RobotDocument extends Document {
     private final Semaphore parsingSemaphore = new Semaphore(1, true);
     private final Semaphore parsingFinishedSemaphore = new Semaphore(1, true);
     private boolean reparseInSameThread = true;
+    private ChangedToken incrementalUpdate;
+
+    // the output is changed in place by incremental updates only until it is taken by some other
+    // thread than the one editing the document, as that thread may read it at any time later
+    private volatile Thread editingThread;
+    private boolean isOutputShared = true;
+
+    private final IncrementalModelUpdater incrementalUpdater = new IncrementalModelUpdater();
 
     private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
 
@@ -91,8 +101,14 @@ public class RobotDocument extends Document {
     @Override
     protected void fireDocumentAboutToBeChanged(final DocumentEvent event) {
         createParserIfNeeded();
+        editingThread = Thread.currentThread();
+        // changes made inside single token can be applied directly to the newest model
+        // without reparsing whole document
+        incrementalUpdate = hasNewestVersion.get() && !isOutputShared() ? incrementalUpdater
+                .prepareUpdate(output, event.getOffset(), event.getLength(), event.getText())
+                .orElse(null) : null;
         reparseInSameThread = getNumberOfLines() < LIMIT;
-        if (!reparseInSameThread & hasNewestVersion.getAndSet(false)) {
+        if (incrementalUpdate == null && !reparseInSameThread & hasNewestVersion.getAndSet(false)) {
             try {
                 // it will be acquired only by the first event
                 parsingSemaphore.acquire();
@@ -114,7 +130,12 @@ public class RobotDocument extends Document {
 
     @Override
     protected void fireDocumentChanged(final DocumentEvent event) {
-        if (reparseInSameThread) {
+        if (incrementalUpdate != null) {
+            if (!applyIncrementalUpdate()) {
+                // the output was taken by other thread in the meantime, so new one has to be created
+                reparse();
+            }
+        } else if (reparseInSameThread) {
             // short documents can be reparsed in the same thread as this does not
             // affect performance too much
             reparse();
@@ -126,12 +147,38 @@ public class RobotDocument extends Document {
 
     private synchronized void reparse() {
         output = parser.parseEditorContent(get(), file);
+        isOutputShared = false;
         for (final IRobotDocumentParsingListener listener : parseListeners) {
             listener.reparsingFinished(output);
         }
         hasNewestVersion.set(true);
     }
 
+    private synchronized boolean applyIncrementalUpdate() {
+        final ChangedToken update = incrementalUpdate;
+        incrementalUpdate = null;
+        if (isOutputShared) {
+            return false;
+        }
+        // the change was prepared before document was changed, so it applies to current output
+        update.apply();
+        for (final IRobotDocumentParsingListener listener : parseListeners) {
+            listener.reparsingFinished(output);
+        }
+        return true;
+    }
+
+    private synchronized boolean isOutputShared() {
+        return isOutputShared;
+    }
+
+    private synchronized RobotFileOutput takeOutput() {
+        if (Thread.currentThread() != editingThread) {
+            isOutputShared = true;
+        }
+        return output;
+    }
+
     private void reparseInSeparateThread() {
         if (scheduledOperation != null) {
             scheduledOperation.cancel(true);
@@ -168,7 +215,7 @@ public class RobotDocument extends Document {
                 parsingFinishedSemaphore.acquire();
                 parsingSemaphore.acquire();
                 try {
-                    return output;
+                    return takeOutput();
                 } finally {
                     parsingSemaphore.release();
                     parsingFinishedSemaphore.release();
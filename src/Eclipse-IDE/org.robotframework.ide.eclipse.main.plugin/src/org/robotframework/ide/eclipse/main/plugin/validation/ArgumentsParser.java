@@ -40,6 +40,12 @@ class ArgumentsParser {
                     args.generateReport = false;
                     parseNoReportArgument(passedArgs);
                     break;
+                case CACHE:
+                    args.cacheDirectoryPath = parseCacheArgument(passedArgs);
+                    break;
+                case REPORT_FORMAT:
+                    args.reportFormat = parseReportFormatArgument(passedArgs);
+                    break;
                 default:
                     throw new IllegalStateException();
             }
@@ -77,6 +83,24 @@ class ArgumentsParser {
         passedArgs.remove(0);
     }
 
+    private String parseCacheArgument(final List<String> passedArgs) {
+        passedArgs.remove(0);
+        if (passedArgs.isEmpty() || isSwitch(passedArgs.get(0))) {
+            throw new InvalidArgumentsProvidedException("No cache directory was specified after -cache switch");
+        }
+        return passedArgs.remove(0);
+    }
+
+    private ReportFormat parseReportFormatArgument(final List<String> passedArgs) {
+        passedArgs.remove(0);
+        if (passedArgs.isEmpty() || isSwitch(passedArgs.get(0))) {
+            throw new InvalidArgumentsProvidedException("No report format was specified after -reportFormat switch");
+        }
+        final String format = passedArgs.remove(0);
+        return ReportFormat.from(format).orElseThrow(
+                () -> new InvalidArgumentsProvidedException("Unknown report format " + format + " provided"));
+    }
+
     private boolean isSwitch(final String arg) {
         return arg.startsWith("-");
     }
@@ -91,6 +115,10 @@ class ArgumentsParser {
 
         private final List<String> projectNames = new ArrayList<>();
 
+        private String cacheDirectoryPath = null;
+
+        private ReportFormat reportFormat = ReportFormat.CHECKSTYLE;
+
         String getReportFilePath() {
             return generateReport ? reportFilepath : null;
         }
@@ -103,6 +131,14 @@ class ArgumentsParser {
             return projectNames;
         }
 
+        String getCacheDirectoryPath() {
+            return cacheDirectoryPath;
+        }
+
+        ReportFormat getReportFormat() {
+            return reportFormat;
+        }
+
     }
 
     @SuppressWarnings("serial")
@@ -153,6 +189,20 @@ class ArgumentsParser {
                 return pad("-noReport") + "[OPTIONAL] switches of report generation. This overrides -report switch and "
                         + "may be overridden by it";
             }
+        },
+        CACHE {
+            @Override
+            String getExplanation() {
+                return pad("-cache <dir>") + "[OPTIONAL] <dir> path to the directory where validation results are "
+                        + "stored, so that only changed files and files depending on them are validated next time";
+            }
+        },
+        REPORT_FORMAT {
+            @Override
+            String getExplanation() {
+                return pad("-reportFormat <format>") + "[OPTIONAL] <format> of the report file: checkstyle (default), "
+                        + "jsonl or sarif";
+            }
         };
 
         private static String pad(final String stringToPad) {
@@ -169,6 +219,10 @@ class ArgumentsParser {
                     return REPORT;
                 case "-noReport":
                     return NO_REPORT;
+                case "-cache":
+                    return CACHE;
+                case "-reportFormat":
+                    return REPORT_FORMAT;
                 default:
                     throw new InvalidArgumentsProvidedException("Unexpected argument " + argSwitch + " provided");
             }
@@ -5,21 +5,31 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.validation;
 
+import static com.google.common.collect.Lists.newArrayList;
+
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IFile;
-import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.resources.IProject;
 import org.rf.ide.core.validation.ProblemPosition;
+import org.rf.ide.core.validation.ValidationCache.CachedProblem;
 import org.robotframework.ide.eclipse.main.plugin.project.build.RobotProblem;
+import org.robotframework.ide.eclipse.main.plugin.project.build.causes.ProblemCategory.Severity;
 import org.robotframework.ide.eclipse.main.plugin.validation.ProblemsReportingStrategyFactory.HeadlessValidationReportingStrategy;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimap;
-
 /**
+ * Problems of each file are collected until the file validation finishes and then moved to the
+ * spool file, so that memory usage does not grow with the number of validated files. The report
+ * is written from the spool ordered by file path, regardless of the order in which files were
+ * validated.
+ *
  * @author Michal Anglart
  */
 class CheckstyleReportingStrategy extends HeadlessValidationReportingStrategy {
@@ -28,18 +38,30 @@ class CheckstyleReportingStrategy extends HeadlessValidationReportingStrategy {
 
     private final String reportFilepath;
 
+    private final ReportFormat reportFormat;
+
     private int numberOfProblems;
 
-    private final Multimap<IPath, RobotProblemWithPosition> problems;
+    // projects may be validated in parallel, so problems are counted separately for each of them
+    private final Map<String, Integer> numberOfProjectsProblems = new HashMap<>();
+
+    private final ReportedProblemsSpool spool = new ReportedProblemsSpool();
+
+    private final Map<IFile, List<RobotProblemWithPosition>> pendingProblems = new ConcurrentHashMap<>();
 
-    private long start;
+    private final Map<String, Long> starts = new ConcurrentHashMap<>();
 
     CheckstyleReportingStrategy(final boolean shouldPanic, final String reportFilepath, final Logger logger) {
+        this(shouldPanic, reportFilepath, ReportFormat.CHECKSTYLE, logger);
+    }
+
+    CheckstyleReportingStrategy(final boolean shouldPanic, final String reportFilepath,
+            final ReportFormat reportFormat, final Logger logger) {
         super(shouldPanic);
         this.logger = logger;
         this.reportFilepath = reportFilepath;
+        this.reportFormat = reportFormat;
         this.numberOfProblems = 0;
-        this.problems = ArrayListMultimap.create();
     }
 
     @Override
@@ -48,29 +70,82 @@ class CheckstyleReportingStrategy extends HeadlessValidationReportingStrategy {
     }
 
     @Override
-    protected void reportProblem(final RobotProblem problem, final IFile file, final ProblemPosition filePosition,
-            final Map<String, Object> additionalAttributes) {
-        numberOfProblems++;
+    protected void startCollectingMarkers(final IFile file) {
+        pendingProblems.put(file, new ArrayList<>());
+    }
+
+    @Override
+    protected void applyCollectedMarkers(final IFile file) {
+        final List<RobotProblemWithPosition> problems = pendingProblems.remove(file);
+        if (problems != null) {
+            storeProblems(file, problems);
+        }
+    }
+
+    @Override
+    protected synchronized void reportProblem(final RobotProblem problem, final IFile file,
+            final ProblemPosition filePosition, final Map<String, Object> additionalAttributes) {
+        countProblems(file, 1);
+        if (reportFilepath != null) {
+            final RobotProblemWithPosition problemWithPosition = new RobotProblemWithPosition(problem, filePosition);
+            final List<RobotProblemWithPosition> problems = pendingProblems.get(file);
+            if (problems != null) {
+                problems.add(problemWithPosition);
+            } else {
+                storeProblems(file, newArrayList(problemWithPosition));
+            }
+        }
+    }
+
+    @Override
+    synchronized void reportCachedProblems(final IFile file, final List<CachedProblem> cachedProblems) {
+        countProblems(file, cachedProblems.size());
         if (reportFilepath != null) {
-            problems.put(file.getLocation(), new RobotProblemWithPosition(problem, filePosition));
+            final List<RobotProblemWithPosition> problems = new ArrayList<>();
+            for (final CachedProblem problem : cachedProblems) {
+                final Severity severity = problem.getSeverity() == null ? null
+                        : Severity.valueOf(problem.getSeverity());
+                problems.add(new RobotProblemWithPosition(problem.getMessage(), severity,
+                        new ProblemPosition(problem.getLine())));
+            }
+            storeProblems(file, problems);
+        }
+    }
+
+    private void countProblems(final IFile file, final int count) {
+        numberOfProblems += count;
+        final IProject project = file.getProject();
+        if (project != null) {
+            numberOfProjectsProblems.merge(project.getName(), count, Integer::sum);
+        }
+    }
+
+    private void storeProblems(final IFile file, final Collection<RobotProblemWithPosition> problems) {
+        if (reportFilepath != null) {
+            try {
+                spool.add(String.valueOf(file.getLocation()), problems);
+            } catch (final IOException e) {
+                logger.logError("Unable to store problems of file '" + file.getLocation() + "'. Reason: "
+                        + e.getMessage(), e);
+            }
         }
     }
 
     @Override
-    void finishReporting() {
+    synchronized void finishReporting() {
         if (reportFilepath != null) {
-            if (numberOfProblems != problems.size()) {
+            if (numberOfProblems != spool.getNumberOfProblems()) {
                 logger.logError("There is an invalid number of problems handled: " + numberOfProblems + " counted, but "
-                        + problems.size() + " stored", null);
+                        + spool.getNumberOfProblems() + " stored", null);
             }
-            generateFile(new File(reportFilepath), problems.asMap());
+            generateFile(new File(reportFilepath));
         }
     }
 
-    private void generateFile(final File file, final Map<IPath, Collection<RobotProblemWithPosition>> map) {
+    private void generateFile(final File file) {
         logger.log("Generating report file '" + file.getAbsolutePath() + "'");
-        try (ReportWithCheckstyleFormat checkstyleReporter = new ReportWithCheckstyleFormat(file)) {
-            checkstyleReporter.write(map);
+        try (ReportedProblemsSpool problems = spool; ReportWriter writer = reportFormat.createWriter(file)) {
+            problems.writeTo(writer);
             logger.log("Report file '" + file.getAbsolutePath() + "' has been generated");
         } catch (final IOException e) {
             logger.logError("Unable to create report file '" + file.getAbsolutePath() + "'. Reason: " + e.getMessage(),
@@ -80,32 +155,41 @@ class CheckstyleReportingStrategy extends HeadlessValidationReportingStrategy {
 
     @Override
     void projectValidationStarted(final String projectName) {
-        this.start = System.currentTimeMillis();
+        starts.put(projectName, System.currentTimeMillis());
     }
 
     @Override
-    void projectValidationFinished(final String projectName) {
+    synchronized void projectValidationFinished(final String projectName) {
         final long end = System.currentTimeMillis();
-        final double duration = (end - start) / 1000.0;
+        final double duration = (end - starts.remove(projectName)) / 1000.0;
+        final int numberOfProjectProblems = numberOfProjectsProblems.getOrDefault(projectName, 0);
+        numberOfProjectsProblems.remove(projectName);
 
-        if (shouldPanic && numberOfProblems > 0) {
+        if (shouldPanic && numberOfProjectProblems > 0) {
             logger.log(
                     String.format("Project %s validation has FINISHED (took %.3f seconds and found %d fatal problems)",
-                            projectName, duration, numberOfProblems));
+                            projectName, duration, numberOfProjectProblems));
         } else if (!shouldPanic) {
             logger.log(String.format("Project %s validation has FINISHED (took %.3f seconds and found %d problems)",
-                    projectName, duration, numberOfProblems));
+                    projectName, duration, numberOfProjectProblems));
         }
     }
 
     static class RobotProblemWithPosition {
 
-        private final RobotProblem problem;
+        private final String message;
+
+        private final Severity severity;
 
         private final ProblemPosition position;
 
         RobotProblemWithPosition(final RobotProblem problem, final ProblemPosition filePosition) {
-            this.problem = problem;
+            this(problem.getMessage(), problem.getSeverity(), filePosition);
+        }
+
+        RobotProblemWithPosition(final String message, final Severity severity, final ProblemPosition filePosition) {
+            this.message = message;
+            this.severity = severity;
             this.position = filePosition;
         }
 
@@ -113,8 +197,12 @@ class CheckstyleReportingStrategy extends HeadlessValidationReportingStrategy {
             return position;
         }
 
-        public RobotProblem getProblem() {
-            return problem;
+        public String getMessage() {
+            return message;
+        }
+
+        public Severity getSeverity() {
+            return severity;
         }
     }
 }
@@ -5,7 +5,10 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.validation;
 
+import java.util.List;
+
 import org.eclipse.core.resources.IFile;
+import org.rf.ide.core.validation.ValidationCache.CachedProblem;
 import org.robotframework.ide.eclipse.main.plugin.project.build.RobotTask;
 import org.robotframework.ide.eclipse.main.plugin.project.build.ValidationReportingStrategy;
 
@@ -17,11 +20,21 @@ public class ProblemsReportingStrategyFactory {
 
     static HeadlessValidationReportingStrategy checkstylePanicReporter(final String reportFilepath,
             final Logger logger) {
-        return new CheckstyleReportingStrategy(true, reportFilepath, logger);
+        return panicReporter(reportFilepath, ReportFormat.CHECKSTYLE, logger);
     }
 
     static HeadlessValidationReportingStrategy checkstyleReporter(final String reportFilepath, final Logger logger) {
-        return new CheckstyleReportingStrategy(false, reportFilepath, logger);
+        return reporter(reportFilepath, ReportFormat.CHECKSTYLE, logger);
+    }
+
+    static HeadlessValidationReportingStrategy panicReporter(final String reportFilepath,
+            final ReportFormat reportFormat, final Logger logger) {
+        return new CheckstyleReportingStrategy(true, reportFilepath, reportFormat, logger);
+    }
+
+    static HeadlessValidationReportingStrategy reporter(final String reportFilepath, final ReportFormat reportFormat,
+            final Logger logger) {
+        return new CheckstyleReportingStrategy(false, reportFilepath, reportFormat, logger);
     }
 
     abstract static class HeadlessValidationReportingStrategy extends ValidationReportingStrategy {
@@ -30,8 +43,25 @@ public class ProblemsReportingStrategyFactory {
             super(shouldPanic);
         }
 
+        /**
+         * Problems are not written as markers in headless mode, however reporters are notified
+         * when given file validation starts and finishes, so that problems of each file can be
+         * reported as soon as they are known.
+         */
+        @Override
+        protected abstract void startCollectingMarkers(final IFile file);
+
+        @Override
+        protected abstract void applyCollectedMarkers(final IFile file);
+
         abstract void finishReporting();
 
+        /**
+         * Reports problems of given file which were found in previous validation run and were
+         * taken from validation cache instead of validating the file again.
+         */
+        abstract void reportCachedProblems(final IFile file, final List<CachedProblem> problems);
+
         abstract void projectValidationStarted(final String projectName);
 
         abstract void projectValidationFinished(final String projectName);
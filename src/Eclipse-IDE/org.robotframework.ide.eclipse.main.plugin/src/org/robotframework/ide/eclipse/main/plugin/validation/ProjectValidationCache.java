@@ -0,0 +1,285 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.validation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.project.ImportPath;
+import org.rf.ide.core.project.RobotProjectConfig.ReferencedVariableFile;
+import org.rf.ide.core.validation.ProblemPosition;
+import org.rf.ide.core.validation.ValidationCache;
+import org.rf.ide.core.validation.ValidationCache.CachedProblem;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+import org.robotframework.ide.eclipse.main.plugin.RedWorkspace;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProjectPathsProvider;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSetting;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSettingsSection;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsValidator.ModelUnitValidator;
+import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsValidator.ModelUnitValidatorConfig;
+import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsValidator.ModelUnitValidatorConfigFactory;
+import org.robotframework.ide.eclipse.main.plugin.project.build.RobotProblem;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ReverseImportsGraph;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ValidationReportingStrategy;
+import org.robotframework.ide.eclipse.main.plugin.project.build.causes.ProblemCategory;
+import org.robotframework.ide.eclipse.main.plugin.validation.ProblemsReportingStrategyFactory.HeadlessValidationReportingStrategy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+
+/**
+ * Keeps results of headless validation of single project between validation runs, so that only
+ * files which changed or which import changed files are validated again; problems of remaining
+ * files are reported from the cache. Cache is dropped whenever RED version, python interpreter,
+ * robot version, project configuration or problems severities have changed.
+ */
+class ProjectValidationCache {
+
+    private final RobotProject robotProject;
+
+    private final File cacheFile;
+
+    private final ValidationCache cache;
+
+    private final Map<IFile, File> filesWithValidators = new LinkedHashMap<>();
+
+    private final Set<IFile> filesToValidate = ConcurrentHashMap.newKeySet();
+
+    private final Set<IFile> validatedFiles = ConcurrentHashMap.newKeySet();
+
+    private final Map<IFile, List<CachedProblem>> reportedProblems = new ConcurrentHashMap<>();
+
+    private volatile RobotModel model;
+
+    @VisibleForTesting
+    ProjectValidationCache(final RobotProject robotProject, final File cacheFile, final ValidationCache cache) {
+        this.robotProject = robotProject;
+        this.cacheFile = cacheFile;
+        this.cache = cache;
+    }
+
+    static ProjectValidationCache open(final File cacheDirectory, final RobotProject robotProject) {
+        final File cacheFile = new File(cacheDirectory, robotProject.getName() + ".json");
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, createSignature(robotProject));
+        return new ProjectValidationCache(robotProject, cacheFile, cache);
+    }
+
+    private static String createSignature(final RobotProject robotProject) {
+        final IProject project = robotProject.getProject();
+        final IRuntimeEnvironment environment = robotProject.getRuntimeEnvironment();
+
+        final List<String> signature = new ArrayList<>();
+        signature.add(RedPlugin.getDefault().getBundle().getVersion().toString());
+        signature.add(String.valueOf(environment.getFile()));
+        signature.add(environment.getVersion());
+        signature.add(hash(robotProject.getConfigurationFile().getLocation()));
+        signature.add(hash(project.getFolder(".settings").getLocation()));
+        for (final ReferencedVariableFile variableFile : robotProject.getRobotProjectConfig()
+                .getReferencedVariableFiles()) {
+            IPath path = new Path(variableFile.getPath());
+            if (!path.isAbsolute()) {
+                final IResource resource = project.getWorkspace().getRoot().findMember(path);
+                path = resource != null && resource.exists() ? resource.getLocation() : path;
+            }
+            signature.add(hash(path));
+        }
+        Stream.of(ProblemCategory.values()).map(category -> category.getId() + "=" + category.getSeverity())
+                .forEach(signature::add);
+        return Hashing.sha256().hashString(String.join("\n", signature), StandardCharsets.UTF_8).toString();
+    }
+
+    private static String hash(final IPath location) {
+        return Optional.ofNullable(location).map(IPath::toFile).flatMap(ValidationCache::hash).orElse("");
+    }
+
+    /**
+     * Creates configuration of whole project validation, which skips files having up to date
+     * results in the cache and reports cached problems of those files instead.
+     */
+    ModelUnitValidatorConfig createValidatorConfig(final HeadlessValidationReportingStrategy reporter) {
+        final ValidationReportingStrategy recordingReporter = new ProblemsRecordingReportingStrategy(reporter);
+        final ModelUnitValidatorConfig wholeProjectConfig = ModelUnitValidatorConfigFactory
+                .create(robotProject.getProject(), null, IncrementalProjectBuilder.FULL_BUILD, recordingReporter);
+
+        return context -> {
+            model = context.getModel();
+            final List<ModelUnitValidator> allValidators = wholeProjectConfig.createValidators(context);
+            for (final ModelUnitValidator validator : allValidators) {
+                validator.getValidatedFile()
+                        .ifPresent(file -> filesWithValidators.put(file, file.getLocation().toFile()));
+            }
+            // libspecs which are still generated would be hashed with their old content
+            final List<File> pendingLibspecs = new ArrayList<>();
+            for (final IFile libspec : context.getPendingLibspecs()) {
+                Optional.ofNullable(libspec.getLocation()).map(IPath::toFile).ifPresent(pendingLibspecs::add);
+            }
+            final Set<File> outdatedFiles = cache.findFilesToValidate(filesWithValidators.values(),
+                    pendingLibspecs);
+
+            final List<ModelUnitValidator> validators = new ArrayList<>();
+            for (final ModelUnitValidator validator : allValidators) {
+                final Optional<IFile> file = validator.getValidatedFile();
+                if (!file.isPresent()) {
+                    // e.g. red.xml file, which problems are also reported by the build
+                    validators.add(validator);
+
+                } else if (outdatedFiles.contains(filesWithValidators.get(file.get()))) {
+                    filesToValidate.add(file.get());
+                    validators.add(createCompletionTrackingValidator(file.get(), validator));
+
+                } else {
+                    reporter.reportCachedProblems(file.get(), cache.getProblems(filesWithValidators.get(file.get())));
+                }
+            }
+            return validators;
+        };
+    }
+
+    private ModelUnitValidator createCompletionTrackingValidator(final IFile file,
+            final ModelUnitValidator validator) {
+        return new ModelUnitValidator() {
+
+            @Override
+            public Optional<IFile> getValidatedFile() {
+                return Optional.of(file);
+            }
+
+            @Override
+            public void validate(final IProgressMonitor monitor) throws CoreException {
+                validator.validate(monitor);
+                validatedFiles.add(file);
+            }
+        };
+    }
+
+    int getNumberOfFilesToValidate() {
+        return filesToValidate.size();
+    }
+
+    int getNumberOfFilesWithValidators() {
+        return filesWithValidators.size();
+    }
+
+    /**
+     * Stores results of validated files and writes the cache. Nothing is written when validation
+     * was interrupted, as the cache would describe files which were not validated at all.
+     */
+    boolean store() throws IOException {
+        if (model == null || !validatedFiles.containsAll(filesToValidate)) {
+            return false;
+        }
+        for (final IFile file : filesToValidate) {
+            final RobotSuiteFile suiteFile = model.createSuiteFile(file);
+            final List<File> imports = new ArrayList<>();
+            boolean hasUnresolvedImports = hasUnresolvedImports(suiteFile);
+            for (final IFile importedFile : ReverseImportsGraph.findImportedFiles(suiteFile)) {
+                final IPath location = importedFile.getLocation();
+                if (location == null || !location.toFile().exists()) {
+                    hasUnresolvedImports = true;
+                } else {
+                    imports.add(location.toFile());
+                }
+            }
+            cache.store(filesWithValidators.get(file), imports, hasUnresolvedImports,
+                    reportedProblems.getOrDefault(file, new ArrayList<>()));
+        }
+        cache.retainOnly(filesWithValidators.values());
+
+        cacheFile.getParentFile().mkdirs();
+        cache.writeTo(cacheFile);
+        return true;
+    }
+
+    /**
+     * Imports which cannot be resolved now may point to files created later, or to libraries which
+     * keywords cannot be tracked, so files having such imports are always validated.
+     */
+    private static boolean hasUnresolvedImports(final RobotSuiteFile suiteFile) {
+        final Optional<RobotSettingsSection> section = suiteFile.findSection(RobotSettingsSection.class);
+        if (!section.isPresent()) {
+            return false;
+        }
+        final boolean hasUnresolvedLibraries = section.get()
+                .getLibrariesSettings()
+                .stream()
+                .map(RobotSetting::getImportedLibrary)
+                .anyMatch(library -> !library.isPresent());
+        final boolean hasUnresolvedResources = suiteFile.getImportedResources().size() < section.get()
+                .getResourcesSettings()
+                .size();
+
+        // variable files outside of workspace are not tracked
+        final IFile file = suiteFile.getFile();
+        final RobotProjectPathsProvider pathsProvider = new RobotProjectPathsProvider(suiteFile.getRobotProject());
+        final RedWorkspace workspace = new RedWorkspace(file.getWorkspace().getRoot());
+        final boolean hasUnresolvedVariables = suiteFile.getVariablesPaths()
+                .stream()
+                .map(path -> pathsProvider.tryToFindAbsoluteUri(file, ImportPath.from(path)))
+                .anyMatch(uri -> !uri.flatMap(workspace::fileForUri).isPresent());
+
+        return hasUnresolvedLibraries || hasUnresolvedResources || hasUnresolvedVariables;
+    }
+
+    /**
+     * Passes reported problems to headless reporter, recording them as well, so that they can be
+     * stored in the cache.
+     */
+    private class ProblemsRecordingReportingStrategy extends ValidationReportingStrategy {
+
+        private final HeadlessValidationReportingStrategy reporter;
+
+        ProblemsRecordingReportingStrategy(final HeadlessValidationReportingStrategy reporter) {
+            super(false);
+            this.reporter = reporter;
+        }
+
+        @Override
+        protected void checkMode() {
+            // nothing to do
+        }
+
+        @Override
+        protected void startCollectingMarkers(final IFile file) {
+            reporter.startCollectingMarkers(file);
+        }
+
+        @Override
+        protected void applyCollectedMarkers(final IFile file) {
+            reporter.applyCollectedMarkers(file);
+        }
+
+        @Override
+        protected void reportProblem(final RobotProblem problem, final IFile file,
+                final ProblemPosition filePosition, final Map<String, Object> additionalAttributes) {
+            reportedProblems.computeIfAbsent(file, f -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(new CachedProblem(filePosition.getLine(), problem.getMessage(),
+                            problem.getSeverity() == null ? null : problem.getSeverity().name()));
+            reporter.handleProblem(problem, file, filePosition, additionalAttributes);
+        }
+    }
+}
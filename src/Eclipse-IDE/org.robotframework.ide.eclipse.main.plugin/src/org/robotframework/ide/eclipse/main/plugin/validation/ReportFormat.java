@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.validation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+enum ReportFormat {
+    CHECKSTYLE("checkstyle") {
+
+        @Override
+        ReportWriter createWriter(final File file) throws IOException {
+            return new ReportWithCheckstyleFormat(file);
+        }
+    },
+    JSON_LINES("jsonl") {
+
+        @Override
+        ReportWriter createWriter(final File file) throws IOException {
+            return new ReportWithJsonLinesFormat(file);
+        }
+    },
+    SARIF("sarif") {
+
+        @Override
+        ReportWriter createWriter(final File file) throws IOException {
+            return new ReportWithSarifFormat(file);
+        }
+    };
+
+    private final String name;
+
+    private ReportFormat(final String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    static Optional<ReportFormat> from(final String name) {
+        return Stream.of(values()).filter(format -> format.name.equalsIgnoreCase(name)).findFirst();
+    }
+
+    abstract ReportWriter createWriter(File file) throws IOException;
+}
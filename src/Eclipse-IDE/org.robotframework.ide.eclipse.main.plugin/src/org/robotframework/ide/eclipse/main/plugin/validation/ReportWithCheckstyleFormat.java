@@ -5,77 +5,96 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.validation;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.Writer;
+import java.io.OutputStream;
 import java.util.Collection;
-import java.util.Map;
 
-import org.eclipse.core.runtime.IPath;
-import org.rf.ide.core.validation.ProblemPosition;
-import org.robotframework.ide.eclipse.main.plugin.project.build.RobotProblem;
-import org.robotframework.ide.eclipse.main.plugin.project.build.causes.ProblemCategory.Severity;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
 import org.robotframework.ide.eclipse.main.plugin.validation.CheckstyleReportingStrategy.RobotProblemWithPosition;
 
-import com.google.common.base.Charsets;
 import com.google.common.base.Strings;
-import com.google.common.escape.Escaper;
-import com.google.common.io.Files;
-import com.google.common.xml.XmlEscapers;
 
 /**
  * @author Michal Anglart
  *
  */
-public class ReportWithCheckstyleFormat implements AutoCloseable {
-
-    private final Escaper xmlAttrEscaper = XmlEscapers.xmlAttributeEscaper();
+public class ReportWithCheckstyleFormat implements ReportWriter {
 
-    private final Writer writer;
+    private final OutputStream output;
 
-    public ReportWithCheckstyleFormat(final File file) throws FileNotFoundException {
-        writer = Files.newWriter(file, Charsets.UTF_8);
-    }
+    private final XMLStreamWriter writer;
 
-    void write(final Map<IPath, Collection<RobotProblemWithPosition>> problems) throws IOException {
-        writeHeader();
-        writeEntries(problems);
-        writeFooter();
+    public ReportWithCheckstyleFormat(final File file) throws IOException {
+        output = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            writer = XMLOutputFactory.newInstance().createXMLStreamWriter(output, "utf-8");
+        } catch (final XMLStreamException e) {
+            output.close();
+            throw new IOException(e);
+        }
     }
 
-    private void writeHeader() throws IOException {
-        writer.append("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n");
-        writer.append("<checkstyle version=\"6.14\">\n");
+    @Override
+    public void writeHeader() throws IOException {
+        try {
+            writer.writeStartDocument("utf-8", "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement("checkstyle");
+            writer.writeAttribute("version", "6.14");
+        } catch (final XMLStreamException e) {
+            throw new IOException(e);
+        }
     }
 
-    private void writeEntries(final Map<IPath, Collection<RobotProblemWithPosition>> problems)
+    @Override
+    public void writeFileProblems(final String path, final Collection<RobotProblemWithPosition> problems)
             throws IOException {
-        for (final IPath path : problems.keySet()) {
-            writer.append(Strings.repeat(" ", 2) + "<file name=\"" + xmlAttrEscaper.escape(path.toString()) + "\">\n");
-            writeProblems(problems.get(path));
-            writer.append(Strings.repeat(" ", 2) + "</file>\n");
+        try {
+            writer.writeCharacters("\n  ");
+            writer.writeStartElement("file");
+            writer.writeAttribute("name", path);
+            for (final RobotProblemWithPosition problem : problems) {
+                writer.writeCharacters("\n    ");
+                writer.writeEmptyElement("error");
+                writer.writeAttribute("line", Integer.toString(problem.getPosition().getLine()));
+                writer.writeAttribute("message", Strings.nullToEmpty(problem.getMessage()));
+                if (problem.getSeverity() != null) {
+                    writer.writeAttribute("severity", problem.getSeverity().getName().toLowerCase());
+                }
+            }
+            writer.writeCharacters("\n  ");
+            writer.writeEndElement();
+        } catch (final XMLStreamException e) {
+            throw new IOException(e);
         }
     }
 
-    private void writeProblems(final Collection<RobotProblemWithPosition> problems) throws IOException {
-        for (final RobotProblemWithPosition problemEntry : problems) {
-            final ProblemPosition position = problemEntry.getPosition();
-            final RobotProblem problem = problemEntry.getProblem();
-            final Severity severity = problem.getSeverity();
-            writer.append(Strings.repeat(" ", 4) + "<error line=\"" + position.getLine() + "\" message=\""
-                    + xmlAttrEscaper.escape(problem.getMessage()) + "\" severity=\""
-                    + severity.getName().toLowerCase() + "\""
-                    + "/>\n");
+    @Override
+    public void writeFooter() throws IOException {
+        try {
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+        } catch (final XMLStreamException e) {
+            throw new IOException(e);
         }
     }
 
-    private void writeFooter() throws IOException {
-        writer.append("</checkstyle>");
-    }
-
     @Override
     public void close() throws IOException {
-        writer.close();
+        try {
+            writer.close();
+        } catch (final XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            output.close();
+        }
     }
 }
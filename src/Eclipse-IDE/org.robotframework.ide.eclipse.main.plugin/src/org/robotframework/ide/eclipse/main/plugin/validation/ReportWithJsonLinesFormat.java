@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.validation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+import org.robotframework.ide.eclipse.main.plugin.validation.CheckstyleReportingStrategy.RobotProblemWithPosition;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.google.common.base.Strings;
+
+/**
+ * Writes each problem as separate JSON object in single line.
+ */
+class ReportWithJsonLinesFormat implements ReportWriter {
+
+    private final JsonGenerator generator;
+
+    ReportWithJsonLinesFormat(final File file) throws IOException {
+        generator = new JsonFactory().createGenerator(file, JsonEncoding.UTF8);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+    }
+
+    @Override
+    public void writeHeader() {
+        // nothing to write
+    }
+
+    @Override
+    public void writeFileProblems(final String path, final Collection<RobotProblemWithPosition> problems)
+            throws IOException {
+        for (final RobotProblemWithPosition problem : problems) {
+            generator.writeStartObject();
+            generator.writeStringField("file", path);
+            generator.writeNumberField("line", problem.getPosition().getLine());
+            if (problem.getSeverity() != null) {
+                generator.writeStringField("severity", problem.getSeverity().getName().toLowerCase());
+            }
+            generator.writeStringField("message", Strings.nullToEmpty(problem.getMessage()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+    }
+
+    @Override
+    public void writeFooter() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.validation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+import org.robotframework.ide.eclipse.main.plugin.project.build.causes.ProblemCategory.Severity;
+import org.robotframework.ide.eclipse.main.plugin.validation.CheckstyleReportingStrategy.RobotProblemWithPosition;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.base.Strings;
+
+/**
+ * Writes problems as results of single run in SARIF 2.1.0 format.
+ */
+class ReportWithSarifFormat implements ReportWriter {
+
+    private final JsonGenerator generator;
+
+    ReportWithSarifFormat(final File file) throws IOException {
+        generator = new JsonFactory().createGenerator(file, JsonEncoding.UTF8);
+        generator.useDefaultPrettyPrinter();
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("$schema", "https://json.schemastore.org/sarif-2.1.0.json");
+        generator.writeStringField("version", "2.1.0");
+        generator.writeArrayFieldStart("runs");
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("tool");
+        generator.writeObjectFieldStart("driver");
+        generator.writeStringField("name", "RED");
+        generator.writeStringField("informationUri", "https://github.com/nokia/RED");
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeArrayFieldStart("results");
+    }
+
+    @Override
+    public void writeFileProblems(final String path, final Collection<RobotProblemWithPosition> problems)
+            throws IOException {
+        final String uri = new File(path).toURI().toString();
+        for (final RobotProblemWithPosition problem : problems) {
+            generator.writeStartObject();
+            if (problem.getSeverity() != null) {
+                generator.writeStringField("level", toLevel(problem.getSeverity()));
+            }
+            generator.writeObjectFieldStart("message");
+            generator.writeStringField("text", Strings.nullToEmpty(problem.getMessage()));
+            generator.writeEndObject();
+            generator.writeArrayFieldStart("locations");
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("physicalLocation");
+            generator.writeObjectFieldStart("artifactLocation");
+            generator.writeStringField("uri", uri);
+            generator.writeEndObject();
+            if (problem.getPosition().getLine() > 0) {
+                generator.writeObjectFieldStart("region");
+                generator.writeNumberField("startLine", problem.getPosition().getLine());
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static String toLevel(final Severity severity) {
+        switch (severity) {
+            case FATAL:
+            case ERROR:
+                return "error";
+            case WARNING:
+                return "warning";
+            default:
+                return "note";
+        }
+    }
+
+    @Override
+    public void writeFooter() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.validation;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import org.robotframework.ide.eclipse.main.plugin.validation.CheckstyleReportingStrategy.RobotProblemWithPosition;
+
+/**
+ * Writes headless validation report file by file, so that problems of all the files do not have
+ * to be kept in memory at once. Implementations write directly to the output. Problems may have
+ * no message or severity, when those were not provided by the reporting side.
+ */
+interface ReportWriter extends AutoCloseable {
+
+    void writeHeader() throws IOException;
+
+    void writeFileProblems(String path, Collection<RobotProblemWithPosition> problems) throws IOException;
+
+    void writeFooter() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.validation;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.rf.ide.core.validation.ProblemPosition;
+import org.robotframework.ide.eclipse.main.plugin.project.build.causes.ProblemCategory.Severity;
+import org.robotframework.ide.eclipse.main.plugin.validation.CheckstyleReportingStrategy.RobotProblemWithPosition;
+
+import com.google.common.io.CountingOutputStream;
+
+/**
+ * Temporary storage of reported problems. Problems of each file are written to the temporary file
+ * as soon as they are added, so only positions of the written blocks are kept in memory. Problems
+ * are read back ordered by file path, so that report content does not depend on the order in
+ * which files were validated.
+ */
+class ReportedProblemsSpool implements AutoCloseable {
+
+    private final Map<String, List<Long>> blocksOffsets = new TreeMap<>();
+
+    private File spoolFile;
+
+    private CountingOutputStream counter;
+
+    private DataOutputStream output;
+
+    private int numberOfProblems = 0;
+
+    synchronized void add(final String path, final Collection<RobotProblemWithPosition> problems)
+            throws IOException {
+        if (problems.isEmpty()) {
+            return;
+        }
+        if (output == null) {
+            spoolFile = File.createTempFile("red_validation_", ".problems");
+            spoolFile.deleteOnExit();
+            counter = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(spoolFile)));
+            output = new DataOutputStream(counter);
+        }
+        blocksOffsets.computeIfAbsent(path, p -> new ArrayList<>()).add(counter.getCount());
+        output.writeInt(problems.size());
+        for (final RobotProblemWithPosition problem : problems) {
+            output.writeInt(problem.getPosition().getLine());
+            output.writeByte(problem.getSeverity() == null ? -1 : problem.getSeverity().ordinal());
+            if (problem.getMessage() == null) {
+                output.writeInt(-1);
+            } else {
+                final byte[] message = problem.getMessage().getBytes(StandardCharsets.UTF_8);
+                output.writeInt(message.length);
+                output.write(message);
+            }
+        }
+        numberOfProblems += problems.size();
+    }
+
+    synchronized int getNumberOfProblems() {
+        return numberOfProblems;
+    }
+
+    /**
+     * Writes all the added problems ordered by file path. When problems of single file were added
+     * in several blocks, they are ordered by line and message.
+     */
+    synchronized void writeTo(final ReportWriter writer) throws IOException {
+        writer.writeHeader();
+        if (output != null) {
+            output.flush();
+            try (RandomAccessFile input = new RandomAccessFile(spoolFile, "r")) {
+                for (final Entry<String, List<Long>> entry : blocksOffsets.entrySet()) {
+                    final List<RobotProblemWithPosition> problems = new ArrayList<>();
+                    for (final long offset : entry.getValue()) {
+                        problems.addAll(readBlock(input, offset));
+                    }
+                    if (entry.getValue().size() > 1) {
+                        problems.sort(comparing((final RobotProblemWithPosition p) -> p.getPosition().getLine())
+                                .thenComparing(RobotProblemWithPosition::getMessage, nullsFirst(naturalOrder())));
+                    }
+                    writer.writeFileProblems(entry.getKey(), problems);
+                }
+            }
+        }
+        writer.writeFooter();
+    }
+
+    private static List<RobotProblemWithPosition> readBlock(final RandomAccessFile file, final long offset)
+            throws IOException {
+        file.seek(offset);
+        // the stream is not closed, as it would close the underlying file
+        final DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(file.getChannel())));
+        final int size = input.readInt();
+        final List<RobotProblemWithPosition> problems = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int line = input.readInt();
+            final byte severityIndex = input.readByte();
+            final Severity severity = severityIndex < 0 ? null : Severity.values()[severityIndex];
+            final int messageLength = input.readInt();
+            String message = null;
+            if (messageLength >= 0) {
+                final byte[] messageBytes = new byte[messageLength];
+                input.readFully(messageBytes);
+                message = new String(messageBytes, StandardCharsets.UTF_8);
+            }
+            problems.add(new RobotProblemWithPosition(message, severity, new ProblemPosition(line)));
+        }
+        return problems;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        blocksOffsets.clear();
+        if (output != null) {
+            output.close();
+            output = null;
+            counter = null;
+            spoolFile.delete();
+        }
+    }
+}
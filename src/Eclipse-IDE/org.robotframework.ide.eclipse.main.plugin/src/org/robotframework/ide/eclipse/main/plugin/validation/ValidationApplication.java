@@ -7,7 +7,13 @@ package org.robotframework.ide.eclipse.main.plugin.validation;
 
 import static com.google.common.collect.Lists.newArrayList;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspaceDescription;
@@ -52,10 +58,11 @@ public class ValidationApplication implements IApplication {
             new ProjectsImporter(logger).importNeededProjects(arguments.getProjectPathsToImport());
 
             final String reportFilepath = arguments.getReportFilePath();
+            final ReportFormat reportFormat = arguments.getReportFormat();
             final HeadlessValidationReportingStrategy reporter = ProblemsReportingStrategyFactory
-                    .checkstyleReporter(reportFilepath, logger);
+                    .reporter(reportFilepath, reportFormat, logger);
             final HeadlessValidationReportingStrategy fatalReporter = ProblemsReportingStrategyFactory
-                    .checkstylePanicReporter(reportFilepath, logger);
+                    .panicReporter(reportFilepath, reportFormat, logger);
 
             runValidation(arguments, reporter, fatalReporter);
 
@@ -77,31 +84,76 @@ public class ValidationApplication implements IApplication {
     }
 
     private void runValidation(final ProvidedArguments arguments, final HeadlessValidationReportingStrategy reporter,
-            final HeadlessValidationReportingStrategy fatalReporter) throws CoreException {
+            final HeadlessValidationReportingStrategy fatalReporter) throws Exception {
+        final List<String> projectNames = arguments.getProjectNamesToValidate();
+        final File cacheDirectory = arguments.getCacheDirectoryPath() == null ? null
+                : new File(arguments.getCacheDirectoryPath());
+
+        // projects are validated independently, so they can be validated at the same time
+        final int numberOfThreads = Math.min(projectNames.size(), Runtime.getRuntime().availableProcessors());
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(numberOfThreads, 1));
+        try {
+            final List<Future<?>> validations = new ArrayList<>();
+            for (final String projectName : projectNames) {
+                validations.add(executor.submit(() -> {
+                    validateProject(projectName, cacheDirectory, reporter, fatalReporter);
+                    return null;
+                }));
+            }
+            for (final Future<?> validation : validations) {
+                validation.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-        for (final String projectName : arguments.getProjectNamesToValidate()) {
-            logger.log("Project '" + projectName + "' validation started");
+    private void validateProject(final String projectName, final File cacheDirectory,
+            final HeadlessValidationReportingStrategy reporter,
+            final HeadlessValidationReportingStrategy fatalReporter) throws CoreException {
+        logger.log("Project '" + projectName + "' validation started");
 
-            final IWorkspaceRoot wsRoot = ResourcesPlugin.getWorkspace().getRoot();
-            final IProject project = wsRoot.getProject(projectName);
+        final IWorkspaceRoot wsRoot = ResourcesPlugin.getWorkspace().getRoot();
+        final IProject project = wsRoot.getProject(projectName);
 
-            if (!project.exists()) {
-                logger.log("Project '" + projectName + "' validation was SKIPPED (does not exist in workspace)");
-            } else if (!project.isOpen()) {
-                logger.log("Project '" + projectName + "' validation was SKIPPED (is closed)");
-            } else {
-                final RobotProjectBuilder builder = new RobotProjectBuilder(reporter, fatalReporter, logger);
+        if (!project.exists()) {
+            logger.log("Project '" + projectName + "' validation was SKIPPED (does not exist in workspace)");
+        } else if (!project.isOpen()) {
+            logger.log("Project '" + projectName + "' validation was SKIPPED (is closed)");
+        } else {
+            final RobotProjectBuilder builder = new RobotProjectBuilder(reporter, fatalReporter, logger);
 
-                fatalReporter.projectValidationStarted(projectName);
-                reporter.projectValidationStarted(projectName);
+            fatalReporter.projectValidationStarted(projectName);
+            reporter.projectValidationStarted(projectName);
 
-                final RobotProject robotProject = new RobotModel().createRobotProject(project);
-                RobotProjectBuilder.clean(robotProject);
+            final RobotProject robotProject = new RobotModel().createRobotProject(project);
+            RobotProjectBuilder.clean(robotProject);
+            if (cacheDirectory == null) {
                 builder.build(IncrementalProjectBuilder.FULL_BUILD, robotProject, new NullProgressMonitor());
+            } else {
+                buildUsingCache(builder, robotProject, cacheDirectory, reporter);
+            }
+
+            fatalReporter.projectValidationFinished(projectName);
+            reporter.projectValidationFinished(projectName);
+        }
+    }
 
-                fatalReporter.projectValidationFinished(projectName);
-                reporter.projectValidationFinished(projectName);
+    private void buildUsingCache(final RobotProjectBuilder builder, final RobotProject robotProject,
+            final File cacheDirectory, final HeadlessValidationReportingStrategy reporter) throws CoreException {
+        final String projectName = robotProject.getName();
+        final ProjectValidationCache cache = ProjectValidationCache.open(cacheDirectory, robotProject);
+        builder.build(robotProject, cache.createValidatorConfig(reporter), new NullProgressMonitor());
+        try {
+            if (cache.store()) {
+                logger.log(String.format("Project '%s' had %d of %d files validated, others taken from cache",
+                        projectName, cache.getNumberOfFilesToValidate(), cache.getNumberOfFilesWithValidators()));
+            } else {
+                logger.log("Project '" + projectName + "' validation cache was not updated (validation interrupted)");
             }
+        } catch (final IOException e) {
+            logger.logError("Unable to write validation cache of project '" + projectName + "'. Reason: "
+                    + e.getMessage(), e);
         }
     }
 
@@ -11,9 +11,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -31,13 +33,21 @@ import com.google.common.collect.Streams;
 
 public class ExecutionStatusStore implements IDisposable {
 
-    private boolean isOpen = false;
+    // every process of parallel execution opens the store for itself
+    private int openedByProcesses = 0;
     private boolean isDisposed = false;
     private boolean isDirty = false;
 
+    /**
+     * Identifies events coming from the only process of an execution. Events of parallel execution
+     * are identified by the index of worker process which sent them.
+     */
+    public static final int NO_WORKER = -1;
+
     private ExecutionTreeNode root;
 
-    private ExecutionTreeNode currentNode;
+    // each worker process of parallel execution moves through its own subtree
+    private final Map<Integer, ExecutionTreeNode> currentNodes = new HashMap<>();
 
     private int currentTest;
     private int passedTests;
@@ -47,6 +57,10 @@ public class ExecutionStatusStore implements IDisposable {
 
     private ExecutionMode mode;
 
+    // nodes changed since the view was refreshed, so that it does not have to refresh whole tree
+    private final Set<ExecutionTreeNode> nodesWithChangedChildren = new LinkedHashSet<>();
+    private final Set<ExecutionTreeNode> nodesWithChangedLabels = new LinkedHashSet<>();
+
     public ExecutionTreeNode getExecutionTree() {
         return root;
     }
@@ -58,12 +72,12 @@ public class ExecutionStatusStore implements IDisposable {
 
     @VisibleForTesting
     void setCurrent(final ExecutionTreeNode current) {
-        this.currentNode = current;
+        currentNodes.put(NO_WORKER, current);
     }
 
     @VisibleForTesting
     ExecutionTreeNode getCurrent() {
-        return currentNode;
+        return currentNodes.get(NO_WORKER);
     }
 
     public URI getOutputFilePath() {
@@ -71,12 +85,21 @@ public class ExecutionStatusStore implements IDisposable {
     }
 
     protected void setOutputFilePath(final URI outputFilepath) {
-        Preconditions.checkArgument(isOpen);
+        Preconditions.checkArgument(isOpen());
 
         this.outputFile = outputFilepath;
         isDirty = true;
     }
 
+    /**
+     * Sets the output file combined from outputs of parallel workers. This is done after all the
+     * workers have finished, so the store is already closed at this point.
+     */
+    public void setCombinedOutputFilePath(final URI outputFilepath) {
+        this.outputFile = outputFilepath;
+        isDirty = true;
+    }
+
     int getCurrentTest() {
         return currentTest;
     }
@@ -105,7 +128,9 @@ public class ExecutionStatusStore implements IDisposable {
         failedTests = 0;
 
         root = null;
-        currentNode = null;
+        currentNodes.clear();
+        takeNodesWithChangedChildren();
+        takeNodesWithChangedLabels();
 
         isDisposed = true;
     }
@@ -121,16 +146,39 @@ public class ExecutionStatusStore implements IDisposable {
     protected void suiteStarted(final String suiteName, final URI suiteFilePath, final ExecutionMode executionMode,
             final int totalTestsInSuite, final List<String> childTests, final List<String> childSuites,
             final List<Optional<URI>> childSuitesPaths) {
-        Preconditions.checkArgument(isOpen);
+        suiteStarted(NO_WORKER, suiteName, suiteFilePath, executionMode, totalTestsInSuite, childTests, childSuites,
+                childSuitesPaths);
+    }
 
+    protected void suiteStarted(final int worker, final String suiteName, final URI suiteFilePath,
+            final ExecutionMode executionMode, final int totalTestsInSuite, final List<String> childTests,
+            final List<String> childSuites, final List<Optional<URI>> childSuitesPaths) {
+        Preconditions.checkArgument(isOpen());
+
+        final ExecutionTreeNode currentNode = currentNodes.get(worker);
         final ExecutionTreeNode currentSuiteNode;
-        if (currentNode == null) {
+        if (currentNode == null && worker == NO_WORKER) {
             this.mode = executionMode;
             this.root = ExecutionTreeNode.newSuiteNode(null, suiteName, suiteFilePath);
 
             currentSuiteNode = root;
+        } else if (currentNode == null) {
+            // top-level suites of all workers are put under common root named after the first one
+            if (root == null) {
+                this.mode = executionMode;
+                this.root = ExecutionTreeNode.newSuiteNode(null, suiteName, suiteFilePath);
+            }
+            currentSuiteNode = ExecutionTreeNode.newSuiteNode(root, suiteName, suiteFilePath);
+            root.addChildren(currentSuiteNode);
+            root.setStatus(Status.RUNNING);
+            root.setNumberOfTests(root.getNumberOfTests() + totalTestsInSuite);
+            childrenChanged(root);
         } else {
+            final int modifications = currentNode.getChildrenModificationsCount();
             currentSuiteNode = currentNode.getSuiteOrCreateIfMissing(suiteName, totalTestsInSuite);
+            if (currentNode.getChildrenModificationsCount() != modifications) {
+                childrenChanged(currentNode);
+            }
         }
 
         currentSuiteNode.setStatus(Status.RUNNING);
@@ -143,31 +191,51 @@ public class ExecutionStatusStore implements IDisposable {
                 .map(childTest -> ExecutionTreeNode.newTestNode(currentSuiteNode, childTest, suiteFilePath))
                 .forEach(currentSuiteNode::addChildren);
 
-        this.currentNode = currentSuiteNode;
+        currentNodes.put(worker, currentSuiteNode);
+        childrenChanged(currentSuiteNode);
 
         isDirty = true;
     }
 
     protected void testStarted(final String testName, final String resolvedTestName) {
-        Preconditions.checkArgument(isOpen);
+        testStarted(NO_WORKER, testName, resolvedTestName);
+    }
 
+    protected void testStarted(final int worker, final String testName, final String resolvedTestName) {
+        Preconditions.checkArgument(isOpen());
+
+        final ExecutionTreeNode currentNode = currentNodes.get(worker);
+        final int modifications = currentNode.getChildrenModificationsCount();
         final ExecutionTreeNode currentTestNode = currentNode.getTestOrCreateIfMissing(testName, resolvedTestName);
         currentTestNode.setStatus(Status.RUNNING);
+        // viewer has to refresh children only when test node was created or moved
+        if (currentNode.getChildrenModificationsCount() != modifications) {
+            childrenChanged(currentNode);
+        }
+        labelChanged(currentTestNode);
 
-        this.currentNode = currentTestNode;
+        currentNodes.put(worker, currentTestNode);
 
         currentTest++;
         isDirty = true;
     }
 
     protected void testEnded(final int elapsedTime, final Status status, final String errorMessage) {
-        Preconditions.checkArgument(isOpen);
+        testEnded(NO_WORKER, elapsedTime, status, errorMessage);
+    }
+
+    protected void testEnded(final int worker, final int elapsedTime, final Status status,
+            final String errorMessage) {
+        Preconditions.checkArgument(isOpen());
 
+        final ExecutionTreeNode currentNode = currentNodes.get(worker);
         currentNode.setElapsedTime(elapsedTime);
         currentNode.setStatus(status);
         currentNode.setMessage(errorMessage);
+        labelChanged(currentNode);
+        failedNodeChanged(currentNode);
 
-        this.currentNode = currentNode.getParent();
+        currentNodes.put(worker, currentNode.getParent());
 
         if (status == Status.PASS) {
             passedTests++;
@@ -179,19 +247,70 @@ public class ExecutionStatusStore implements IDisposable {
     }
 
     protected void suiteEnded(final int elapsedTime, final Status status, final String errorMessage) {
-        Preconditions.checkArgument(isOpen);
+        suiteEnded(NO_WORKER, elapsedTime, status, errorMessage);
+    }
+
+    protected void suiteEnded(final int worker, final int elapsedTime, final Status status,
+            final String errorMessage) {
+        Preconditions.checkArgument(isOpen());
 
+        final ExecutionTreeNode currentNode = currentNodes.get(worker);
         currentNode.setElapsedTime(elapsedTime);
         currentNode.setStatus(status);
         currentNode.setMessage(errorMessage);
 
         currentNode.updateNumberOfTestsBalanceOnSuiteEnd();
-
-        this.currentNode = currentNode.getParent();
+        labelChanged(currentNode);
+        failedNodeChanged(currentNode);
+        // children which were not executed are now marked as removed
+        currentNode.getChildren().forEach(this::labelChanged);
+
+        currentNodes.put(worker, currentNode.getParent());
+        if (worker != NO_WORKER && currentNode.getParent() == root) {
+            updateStatusOfWorkersRoot();
+        }
 
         isDirty = true;
     }
 
+    private void updateStatusOfWorkersRoot() {
+        final List<ExecutionTreeNode> workersSuites = root.getChildren();
+        if (workersSuites.stream().allMatch(ExecutionTreeNode::isExecuted)) {
+            final boolean anyFailed = workersSuites.stream().anyMatch(ExecutionTreeNode::isFailed);
+            root.setStatus(anyFailed ? Status.FAIL : Status.PASS);
+            root.setElapsedTime(workersSuites.stream().mapToInt(ExecutionTreeNode::getElapsedTime).max().orElse(0));
+            labelChanged(root);
+        }
+    }
+
+    private synchronized void childrenChanged(final ExecutionTreeNode node) {
+        nodesWithChangedChildren.add(node);
+        nodesWithChangedLabels.add(node);
+    }
+
+    private synchronized void labelChanged(final ExecutionTreeNode node) {
+        nodesWithChangedLabels.add(node);
+    }
+
+    private void failedNodeChanged(final ExecutionTreeNode node) {
+        // view showing failed nodes only has to add the node to children of its parent
+        if (node.isFailed() && node.getParent() != null) {
+            childrenChanged(node.getParent());
+        }
+    }
+
+    synchronized List<ExecutionTreeNode> takeNodesWithChangedChildren() {
+        final List<ExecutionTreeNode> nodes = new ArrayList<>(nodesWithChangedChildren);
+        nodesWithChangedChildren.clear();
+        return nodes;
+    }
+
+    synchronized List<ExecutionTreeNode> takeNodesWithChangedLabels() {
+        final List<ExecutionTreeNode> nodes = new ArrayList<>(nodesWithChangedLabels);
+        nodesWithChangedLabels.clear();
+        return nodes;
+    }
+
     boolean checkDirtyAndReset() {
         final boolean wasDirty = isDirty;
         isDirty = false;
@@ -199,15 +318,15 @@ public class ExecutionStatusStore implements IDisposable {
     }
 
     boolean isOpen() {
-        return isOpen;
+        return openedByProcesses > 0;
     }
 
     void open() {
-        isOpen = true;
+        openedByProcesses++;
     }
 
     void close() {
-        isOpen = false;
+        openedByProcesses = Math.max(0, openedByProcesses - 1);
     }
 
     public Map<String, List<String>> getFailedSuitePaths(final IProject project) {
@@ -19,8 +19,15 @@ public class ExecutionStatusTracker extends RobotDefaultAgentEventListener {
 
     private final RobotTestsLaunch testsLaunchContext;
 
+    private final int worker;
+
     public ExecutionStatusTracker(final RobotTestsLaunch testsLaunchContext) {
+        this(testsLaunchContext, ExecutionStatusStore.NO_WORKER);
+    }
+
+    public ExecutionStatusTracker(final RobotTestsLaunch testsLaunchContext, final int worker) {
         this.testsLaunchContext = testsLaunchContext;
+        this.worker = worker;
     }
 
     @Override
@@ -31,30 +38,35 @@ public class ExecutionStatusTracker extends RobotDefaultAgentEventListener {
     @Override
     public void handleSuiteStarted(final SuiteStartedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
-                store -> store.suiteStarted(event.getName(), event.getPath(), event.getMode(), event.getNumberOfTests(),
-                        event.getChildrenTests(), event.getChildrenSuites(), event.getChildrenPaths()));
+                store -> store.suiteStarted(worker, event.getName(), event.getPath(), event.getMode(),
+                        event.getNumberOfTests(), event.getChildrenTests(), event.getChildrenSuites(),
+                        event.getChildrenPaths()));
     }
 
     @Override
     public void handleSuiteEnded(final SuiteEndedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
-                store -> store.suiteEnded(event.getElapsedTime(), event.getStatus(), event.getErrorMessage()));
+                store -> store.suiteEnded(worker, event.getElapsedTime(), event.getStatus(), event.getErrorMessage()));
     }
 
     @Override
     public void handleTestStarted(final TestStartedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
-                store -> store.testStarted(event.getName(), event.getResolvedName()));
+                store -> store.testStarted(worker, event.getName(), event.getResolvedName()));
     }
 
     @Override
     public void handleTestEnded(final TestEndedEvent event) {
         testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
-                store -> store.testEnded(event.getElapsedTime(), event.getStatus(), event.getErrorMessage()));
+                store -> store.testEnded(worker, event.getElapsedTime(), event.getStatus(), event.getErrorMessage()));
     }
 
     @Override
     public void handleOutputFile(final OutputFileEvent event) {
+        if (worker != ExecutionStatusStore.NO_WORKER) {
+            // outputs of parallel workers are combined after execution, so the combined output is reported then
+            return;
+        }
         testsLaunchContext.performOnExecutionData(ExecutionStatusStore.class,
                 store -> store.setOutputFilePath(event.getPath().orElse(null)));
     }
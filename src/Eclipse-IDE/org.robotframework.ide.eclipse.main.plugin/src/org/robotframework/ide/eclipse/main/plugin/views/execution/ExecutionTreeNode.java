@@ -9,8 +9,12 @@ import static java.util.stream.Collectors.summingInt;
 import static java.util.stream.Collectors.toList;
 
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -30,8 +34,8 @@ public class ExecutionTreeNode {
 
     private final ExecutionTreeNode parent;
 
-    private final List<ExecutionTreeNode> suites;
-    private final List<ExecutionTreeNode> tests;
+    private final Children suites;
+    private final Children tests;
 
     private DynamicFlag dynamic;
 
@@ -49,8 +53,8 @@ public class ExecutionTreeNode {
     private ExecutionTreeNode(final ExecutionTreeNode parent, final ElementKind kind, final String name,
             final URI path, final DynamicFlag dynamic, final int numberOfTests) {
         this.parent = parent;
-        this.suites = new ArrayList<>();
-        this.tests = new ArrayList<>();
+        this.suites = new Children();
+        this.tests = new Children();
         this.dynamic = dynamic;
 
         this.name = name;
@@ -84,7 +88,7 @@ public class ExecutionTreeNode {
     }
 
     public List<ExecutionTreeNode> getChildren() {
-        return Stream.concat(suites.stream(), tests.stream()).collect(toList());
+        return Stream.concat(suites.nodes.stream(), tests.nodes.stream()).collect(toList());
     }
 
     public void addChildren(final ExecutionTreeNode... children) {
@@ -97,20 +101,24 @@ public class ExecutionTreeNode {
         }
     }
 
+    /**
+     * Returns number of times children were added or reordered, so that callers are able to tell
+     * whether the structure of children changed.
+     */
+    int getChildrenModificationsCount() {
+        return suites.modifications + tests.modifications;
+    }
+
     public boolean hasSuites() {
-        return !suites.isEmpty();
+        return !suites.nodes.isEmpty();
     }
 
     public boolean hasTests() {
-        return !tests.isEmpty();
+        return !tests.nodes.isEmpty();
     }
 
     public ExecutionTreeNode getSuiteOrCreateIfMissing(final String name, final int totalTestsInSuite) {
-        final ExecutionTreeNode suiteNode = suites.stream()
-                .filter(n -> n.status == null)
-                .filter(n -> n.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        final ExecutionTreeNode suiteNode = suites.findNotExecuted(name);
         if (suiteNode != null) {
             ensureIsProperlyOrdered(suites, suiteNode);
             return suiteNode;
@@ -125,11 +133,7 @@ public class ExecutionTreeNode {
     }
 
     public ExecutionTreeNode getTestOrCreateIfMissing(final String name, final String resolvedTestName) {
-        final ExecutionTreeNode testNode = tests.stream()
-                .filter(n -> n.status == null)
-                .filter(n -> n.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        final ExecutionTreeNode testNode = tests.findNotExecuted(name);
         if (testNode != null) {
             ensureIsProperlyOrdered(tests, testNode);
             testNode.resolvedName = resolvedTestName;
@@ -145,17 +149,8 @@ public class ExecutionTreeNode {
         return newNode;
     }
 
-    private void ensureIsProperlyOrdered(final List<ExecutionTreeNode> children, final ExecutionTreeNode child) {
-        final int index = children.indexOf(child);
-        int firstWithoutStatus = 0;
-        for (int i = 0; i < children.size(); i++) {
-            if (!children.get(i).getStatus().isPresent()) {
-                firstWithoutStatus = i;
-                break;
-            }
-        }
-        if (index != firstWithoutStatus) {
-            children.add(firstWithoutStatus, children.remove(index));
+    private void ensureIsProperlyOrdered(final Children children, final ExecutionTreeNode child) {
+        if (children.moveToFirstWithoutStatus(child)) {
             this.dynamic = DynamicFlag.OTHER;
         }
     }
@@ -250,6 +245,51 @@ public class ExecutionTreeNode {
         return elapsedTime;
     }
 
+    /**
+     * Children of single kind. Those without status are indexed by name and the position of first
+     * one is remembered, as statuses are never reset; this way starting next child does not require
+     * scanning all of them, which matters for suites having thousands of tests.
+     */
+    private static final class Children {
+
+        private final List<ExecutionTreeNode> nodes = new ArrayList<>();
+
+        private final Map<String, Deque<ExecutionTreeNode>> nodesWithoutStatus = new HashMap<>();
+
+        private int firstWithoutStatus = 0;
+
+        private int modifications = 0;
+
+        void add(final ExecutionTreeNode node) {
+            nodes.add(node);
+            modifications++;
+            if (node.status == null) {
+                nodesWithoutStatus.computeIfAbsent(node.getName(), k -> new ArrayDeque<>()).addLast(node);
+            }
+        }
+
+        ExecutionTreeNode findNotExecuted(final String name) {
+            final Deque<ExecutionTreeNode> candidates = nodesWithoutStatus.getOrDefault(name, new ArrayDeque<>());
+            while (!candidates.isEmpty() && candidates.peekFirst().status != null) {
+                candidates.removeFirst();
+            }
+            return candidates.peekFirst();
+        }
+
+        boolean moveToFirstWithoutStatus(final ExecutionTreeNode child) {
+            while (nodes.get(firstWithoutStatus).status != null) {
+                firstWithoutStatus++;
+            }
+            if (nodes.get(firstWithoutStatus) != child) {
+                nodes.remove(child);
+                nodes.add(firstWithoutStatus, child);
+                modifications++;
+                return true;
+            }
+            return false;
+        }
+    }
+
     public static enum ElementKind {
         SUITE, TEST
     }
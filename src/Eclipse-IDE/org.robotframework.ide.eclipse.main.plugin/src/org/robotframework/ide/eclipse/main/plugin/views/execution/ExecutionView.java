@@ -44,6 +44,7 @@ import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestExecutionListener;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestsLaunch;
+import org.robotframework.ide.eclipse.main.plugin.views.execution.ExecutionTreeNode.ElementKind;
 import org.robotframework.ide.eclipse.main.plugin.views.execution.handler.ExecutionViewPropertyTester;
 import org.robotframework.ide.eclipse.main.plugin.views.execution.handler.GoToFileHandler.E4GoToFileHandler;
 import org.robotframework.ide.eclipse.main.plugin.views.execution.handler.ShowFailedOnlyHandler;
@@ -87,6 +88,8 @@ public class ExecutionView {
 
     private IActionBars actionBars;
 
+    private ExecutionTreeNode shownTree;
+
     public ExecutionView() {
         this(RedPlugin.getTestExecutionService());
     }
@@ -238,9 +241,7 @@ public class ExecutionView {
                 executor = Executors.newScheduledThreadPool(1);
                 final Runnable command = () -> {
                     if (elementsStore.checkDirtyAndReset()) {
-                        SwtThread.asyncExec(() -> {
-                            refreshEverything(elementsStore);
-                        });
+                        SwtThread.asyncExec(() -> refreshChanges(elementsStore));
                     }
                 };
                 executor.scheduleAtFixedRate(command, 0, 300, TimeUnit.MILLISECONDS);
@@ -256,6 +257,7 @@ public class ExecutionView {
     }
 
     private void resetControls() {
+        shownTree = null;
         executionViewer.setInput(null);
         messageText.setText("");
         hideFailureText();
@@ -278,9 +280,14 @@ public class ExecutionView {
         setProgress(elementsStore.getMode(), elementsStore.getCurrentTest(), elementsStore.getPassedTests(),
                 elementsStore.getFailedTests(), elementsStore.getTotalTests());
 
+        // whole tree is shown, so changes collected so far are not needed
+        elementsStore.takeNodesWithChangedChildren();
+        elementsStore.takeNodesWithChangedLabels();
+
         executionViewer.getTree().setRedraw(false);
         try {
             final ExecutionTreeNode root = elementsStore.getExecutionTree();
+            shownTree = root;
             executionViewer.setInput(root == null ? null : newArrayList(root));
             if (root != null) {
                 expandAllFailedOrRunning(root);
@@ -290,6 +297,36 @@ public class ExecutionView {
         }
     }
 
+    private void refreshChanges(final ExecutionStatusStore elementsStore) {
+        if (executionViewer.getTree().isDisposed()) {
+            return;
+        }
+        final ExecutionTreeNode root = elementsStore.getExecutionTree();
+        if (root == null || root != shownTree) {
+            refreshEverything(elementsStore);
+            return;
+        }
+
+        setProgress(elementsStore.getMode(), elementsStore.getCurrentTest(), elementsStore.getPassedTests(),
+                elementsStore.getFailedTests(), elementsStore.getTotalTests());
+
+        executionViewer.getTree().setRedraw(false);
+        try {
+            for (final ExecutionTreeNode node : elementsStore.takeNodesWithChangedChildren()) {
+                executionViewer.refresh(node, false);
+            }
+            final List<ExecutionTreeNode> nodesToUpdate = elementsStore.takeNodesWithChangedLabels();
+            executionViewer.update(nodesToUpdate.toArray(), null);
+
+            // same expansion as for whole tree: only failed or running suites are expanded
+            nodesToUpdate.stream()
+                    .filter(node -> node.getKind() == ElementKind.SUITE)
+                    .forEach(node -> executionViewer.setExpandedState(node, node.isFailed() || node.isRunning()));
+        } finally {
+            executionViewer.getTree().setRedraw(true);
+        }
+    }
+
     private void expandAllFailedOrRunning(final ExecutionTreeNode root) {
         final List<TreePath> elementsToExpand = new ArrayList<>();
         collectElementsToExpand(elementsToExpand, root);
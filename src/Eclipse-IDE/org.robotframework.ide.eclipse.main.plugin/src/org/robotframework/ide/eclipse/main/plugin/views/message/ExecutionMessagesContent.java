@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.views.message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyledTextContent;
+import org.eclipse.swt.custom.TextChangeListener;
+import org.eclipse.swt.custom.TextChangedEvent;
+
+/**
+ * Read-only content of message log text control. Widget asks only for lines which are currently
+ * visible, so the whole log is never copied into single string.
+ */
+class ExecutionMessagesContent implements StyledTextContent {
+
+    private final List<TextChangeListener> listeners = new ArrayList<>();
+
+    private ExecutionMessagesSnapshot messages = ExecutionMessagesSnapshot.EMPTY;
+
+    void setMessages(final ExecutionMessagesSnapshot messages) {
+        this.messages = messages;
+
+        final TextChangedEvent event = new TextChangedEvent(this);
+        for (final TextChangeListener listener : new ArrayList<>(listeners)) {
+            listener.textSet(event);
+        }
+    }
+
+    @Override
+    public void addTextChangeListener(final TextChangeListener listener) {
+        if (listener == null) {
+            SWT.error(SWT.ERROR_NULL_ARGUMENT);
+        }
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeTextChangeListener(final TextChangeListener listener) {
+        if (listener == null) {
+            SWT.error(SWT.ERROR_NULL_ARGUMENT);
+        }
+        listeners.remove(listener);
+    }
+
+    @Override
+    public int getCharCount() {
+        return messages.getCharCount();
+    }
+
+    @Override
+    public String getLine(final int lineIndex) {
+        return messages.getLine(lineIndex);
+    }
+
+    @Override
+    public int getLineAtOffset(final int offset) {
+        return messages.getLineAtOffset(offset);
+    }
+
+    @Override
+    public int getLineCount() {
+        return messages.getLineCount();
+    }
+
+    @Override
+    public String getLineDelimiter() {
+        return "\n";
+    }
+
+    @Override
+    public int getOffsetAtLine(final int lineIndex) {
+        return messages.getOffsetAtLine(lineIndex);
+    }
+
+    @Override
+    public String getTextRange(final int start, final int length) {
+        return messages.getTextRange(start, length);
+    }
+
+    @Override
+    public void replaceTextRange(final int start, final int replaceLength, final String text) {
+        // messages can only be appended by execution, so any edits are ignored
+    }
+
+    @Override
+    public void setText(final String text) {
+        setMessages(ExecutionMessagesSnapshot.of(text));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.views.message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable view of messages remembered by {@link ExecutionMessagesStore} at some moment. The text
+ * is kept in chunks of the same size (apart from the last one) shared with the store, so taking a
+ * snapshot does not copy the whole log and only the requested parts of it are materialized.
+ * Offsets handled by the store are absolute, i.e. counted from the first message ever appended;
+ * offsets and lines accepted by this class are relative to the first remembered character.
+ */
+final class ExecutionMessagesSnapshot {
+
+    static final ExecutionMessagesSnapshot EMPTY = of("");
+
+    private final List<String> chunks;
+
+    private final int chunkSize;
+
+    private final long chunksStart;
+
+    private final long start;
+
+    private final long end;
+
+    private final long[] linesStarts;
+
+    private final int firstLine;
+
+    private final int linesCount;
+
+    ExecutionMessagesSnapshot(final List<String> chunks, final int chunkSize, final long chunksStart,
+            final long start, final long end, final long[] linesStarts, final int firstLine, final int linesCount) {
+        this.chunks = chunks;
+        this.chunkSize = chunkSize;
+        this.chunksStart = chunksStart;
+        this.start = start;
+        this.end = end;
+        this.linesStarts = linesStarts;
+        this.firstLine = firstLine;
+        this.linesCount = linesCount;
+    }
+
+    static ExecutionMessagesSnapshot of(final String text) {
+        final List<String> chunks = new ArrayList<>();
+        chunks.add(text);
+        final long[] linesStarts = new long[(int) text.chars().filter(c -> c == '\n').count()];
+        int linesCount = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                linesStarts[linesCount++] = i + 1;
+            }
+        }
+        return new ExecutionMessagesSnapshot(chunks, Math.max(1, text.length()), 0, 0, text.length(), linesStarts, 0,
+                linesCount);
+    }
+
+    int getCharCount() {
+        return (int) (end - start);
+    }
+
+    int getLineCount() {
+        return linesCount + 1;
+    }
+
+    int getOffsetAtLine(final int line) {
+        return line == 0 ? 0 : (int) (linesStarts[firstLine + line - 1] - start);
+    }
+
+    int getLineAtOffset(final int offset) {
+        final long absoluteOffset = start + offset;
+
+        // number of lines starting at or before given offset
+        int low = 0;
+        int high = linesCount;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (linesStarts[firstLine + mid] <= absoluteOffset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    String getLine(final int line) {
+        final int lineStart = getOffsetAtLine(line);
+        final int lineEnd = line < linesCount ? getOffsetAtLine(line + 1) - 1 : getCharCount();
+        return getTextRange(lineStart, lineEnd - lineStart);
+    }
+
+    String getTextRange(final int offset, final int length) {
+        final StringBuilder text = new StringBuilder(length);
+
+        long position = start + offset;
+        final long rangeEnd = position + length;
+        while (position < rangeEnd) {
+            final String chunk = chunks.get((int) ((position - chunksStart) / chunkSize));
+            final int inChunkStart = (int) ((position - chunksStart) % chunkSize);
+            final int inChunkEnd = (int) Math.min(chunk.length(), inChunkStart + rangeEnd - position);
+            text.append(chunk, inChunkStart, inChunkEnd);
+            position += inChunkEnd - inChunkStart;
+        }
+        return text.toString();
+    }
+
+    String getText() {
+        return getTextRange(0, getCharCount());
+    }
+}
@@ -5,6 +5,10 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.views.message;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
@@ -13,16 +17,38 @@ import org.eclipse.ui.services.IDisposable;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.RedPreferences;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 
+/**
+ * Messages are kept in chunks of fixed size, so that forgetting the oldest ones when limit is
+ * reached only drops whole chunks instead of moving the remaining text. Starts of lines are
+ * remembered as well, so that the view is able to show only the visible lines using
+ * {@link ExecutionMessagesSnapshot}.
+ */
 class ExecutionMessagesStore implements IDisposable {
 
+    @VisibleForTesting
+    static final int CHUNK_SIZE = 64 * 1024;
+
     private Optional<Integer> limit;
     private IPreferenceChangeListener preferenceListener;
-    
-    private final StringBuilder message = new StringBuilder();
 
-    private boolean isOpen = false;
+    private final Deque<String> chunks = new ArrayDeque<>();
+    private final StringBuilder currentChunk = new StringBuilder();
+
+    // absolute offsets of: first chunk, first remembered character and end of messages
+    private long chunksStart = 0;
+    private long start = 0;
+    private long end = 0;
+
+    // taken snapshots are reading this array, so it is never modified below firstLine + linesCount
+    private long[] linesStarts = new long[1024];
+    private int firstLine = 0;
+    private int linesCount = 0;
+
+    // every process of parallel execution opens the store for itself
+    private int openedByProcesses = 0;
     private boolean isDirty = false;
 
     public ExecutionMessagesStore() {
@@ -50,35 +76,93 @@ class ExecutionMessagesStore implements IDisposable {
 
     synchronized void append(final String msg) {
         // can't change store state when store is closed
-        Preconditions.checkState(isOpen);
+        Preconditions.checkState(isOpen());
 
-        message.append(msg);
+        for (int i = 0; i < msg.length(); i++) {
+            if (msg.charAt(i) == '\n') {
+                addLineStart(end + i + 1);
+            }
+        }
+        end += msg.length();
+
+        int written = 0;
+        while (written < msg.length()) {
+            final int toWrite = Math.min(CHUNK_SIZE - currentChunk.length(), msg.length() - written);
+            currentChunk.append(msg, written, written + toWrite);
+            written += toWrite;
+
+            if (currentChunk.length() == CHUNK_SIZE) {
+                chunks.addLast(currentChunk.toString());
+                currentChunk.setLength(0);
+            }
+        }
         isDirty = true;
 
-        getLimit().map(limit -> message.length() - limit).filter(i -> i >= 0).ifPresent(end -> message.delete(0, end));
+        getLimit().ifPresent(this::forgetMessagesBeyond);
+    }
+
+    private void addLineStart(final long offset) {
+        if (firstLine + linesCount == linesStarts.length) {
+            final long[] newLinesStarts = new long[Math.max(1024, 2 * linesCount)];
+            System.arraycopy(linesStarts, firstLine, newLinesStarts, 0, linesCount);
+            linesStarts = newLinesStarts;
+            firstLine = 0;
+        }
+        linesStarts[firstLine + linesCount] = offset;
+        linesCount++;
+    }
+
+    private void forgetMessagesBeyond(final int limit) {
+        start = Math.max(start, end - limit);
+
+        while (!chunks.isEmpty() && chunksStart + CHUNK_SIZE <= start) {
+            chunks.removeFirst();
+            chunksStart += CHUNK_SIZE;
+        }
+        while (linesCount > 0 && linesStarts[firstLine] <= start) {
+            firstLine++;
+            linesCount--;
+        }
+    }
+
+    synchronized void clear() {
+        chunks.clear();
+        currentChunk.setLength(0);
+        currentChunk.trimToSize();
+        chunksStart = 0;
+        start = 0;
+        end = 0;
+        linesStarts = new long[1024];
+        firstLine = 0;
+        linesCount = 0;
     }
 
-    void clear() {
-        message.setLength(0);
-        message.trimToSize();
+    synchronized ExecutionMessagesSnapshot getSnapshot() {
+        final List<String> allChunks = new ArrayList<>(chunks.size() + 1);
+        allChunks.addAll(chunks);
+        allChunks.add(currentChunk.toString());
+        return new ExecutionMessagesSnapshot(allChunks, CHUNK_SIZE, chunksStart, start, end, linesStarts, firstLine,
+                linesCount);
     }
 
     String getMessage() {
-        return message.toString();
+        return getSnapshot().getText();
     }
 
-    boolean isOpen() {
-        return isOpen;
+    synchronized boolean isOpen() {
+        return openedByProcesses > 0;
     }
 
-    void open() {
-        isOpen = true;
+    synchronized void open() {
+        openedByProcesses++;
     }
 
-    void close() {
-        isOpen = false;
-        // we'll no longer write messages, so trim the data to save some memory
-        message.trimToSize();
+    synchronized void close() {
+        openedByProcesses = Math.max(0, openedByProcesses - 1);
+        if (openedByProcesses == 0) {
+            // we'll no longer write messages, so trim the data to save some memory
+            currentChunk.trimToSize();
+        }
     }
 
     @Override
@@ -92,4 +176,4 @@ class ExecutionMessagesStore implements IDisposable {
         isDirty = false;
         return wasDirty;
     }
-}
\ No newline at end of file
+}
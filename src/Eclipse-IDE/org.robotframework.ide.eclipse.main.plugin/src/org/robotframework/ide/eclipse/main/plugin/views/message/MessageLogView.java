@@ -36,6 +36,8 @@ public class MessageLogView {
 
     private StyledText styledText;
 
+    private final ExecutionMessagesContent content = new ExecutionMessagesContent();
+
     private final RobotTestExecutionService executionService;
 
     private final RobotTestExecutionListener executionListener = new ExecutionListener();
@@ -70,6 +72,7 @@ public class MessageLogView {
         parent.setLayout(layout);
 
         styledText = new StyledText(parent, SWT.H_SCROLL | SWT.V_SCROLL);
+        styledText.setContent(content);
         styledText.setFont(JFaceResources.getTextFont());
         styledText.setEditable(false);
 
@@ -97,7 +100,7 @@ public class MessageLogView {
                 // ok we've tried waiting for shutdown
             }
         }
-        SwtThread.syncExec(() -> setMessage(""));
+        SwtThread.syncExec(() -> setMessages(ExecutionMessagesSnapshot.EMPTY));
 
         // this launch may be currently running, so we have to synchronize in order
         // to get proper state of messages, as other threads may change it in the meantime
@@ -107,14 +110,13 @@ public class MessageLogView {
 
             if (launch.isTerminated()) {
                 // since the given launch is terminated it will not change anymore
-                SwtThread.syncExec(() -> setMessage(messagesStore.getMessage()));
+                SwtThread.syncExec(() -> setMessages(messagesStore.getSnapshot()));
             } else {
                 executor = Executors.newScheduledThreadPool(1);
                 final Runnable command = () -> {
                     if (messagesStore.checkDirtyAndReset()) {
-                        SwtThread.asyncExec(() -> {
-                            setMessage(messagesStore.getMessage());
-                        });
+                        final ExecutionMessagesSnapshot messages = messagesStore.getSnapshot();
+                        SwtThread.asyncExec(() -> setMessages(messages));
                     }
                 };
                 executor.scheduleAtFixedRate(command, 0, 300, TimeUnit.MILLISECONDS);
@@ -122,13 +124,13 @@ public class MessageLogView {
         }
     }
 
-    private void setMessage(final String message) {
+    private void setMessages(final ExecutionMessagesSnapshot messages) {
         if (styledText == null || styledText.isDisposed()) {
             return;
         }
         styledText.setRedraw(false);
         try {
-            styledText.setText(message);
+            content.setMessages(messages);
             styledText.setTopIndex(styledText.getLineCount() - 1);
         } finally {
             styledText.setRedraw(true);
@@ -5,6 +5,9 @@
  */
 package org.rf.ide.core;
 
+import com.google.common.base.Strings;
+import com.google.common.primitives.Ints;
+
 /**
  * @author Michal Anglart
  */
@@ -14,6 +17,8 @@ public class RedSystemProperties {
 
     public static final String RED_SHOW_SESSION_CONSOLE = "red.showSessionConsole";
 
+    public static final String RED_SESSION_SERVERS_POOL_SIZE = "red.sessionServersPoolSize";
+
     public static boolean shouldConnectToRunningServer() {
         return System.getProperty(RED_CONNECT_TO_SERVER_AT) != null;
     }
@@ -26,6 +31,14 @@ public class RedSystemProperties {
         return Boolean.valueOf(System.getProperty(RED_SHOW_SESSION_CONSOLE));
     }
 
+    public static int getSessionServersPoolSize() {
+        final Integer poolSize = Ints.tryParse(Strings.nullToEmpty(System.getProperty(RED_SESSION_SERVERS_POOL_SIZE)));
+        if (poolSize == null) {
+            return Math.min(4, Runtime.getRuntime().availableProcessors());
+        }
+        return Math.max(1, poolSize);
+    }
+
     public static boolean isWindowsPlatform() {
         return System.getProperty("os.name").toLowerCase().contains("win");
     }
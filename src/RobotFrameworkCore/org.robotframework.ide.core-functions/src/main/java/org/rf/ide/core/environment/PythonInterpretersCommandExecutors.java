@@ -8,14 +8,21 @@ package org.rf.ide.core.environment;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.rf.ide.core.RedSystemProperties;
 import org.rf.ide.core.environment.PythonInstallationDirectoryFinder.PythonInstallationDirectory;
 import org.rf.ide.core.environment.RobotCommandRpcExecutor.ExternalRobotCommandRpcExecutor;
 import org.rf.ide.core.environment.RobotCommandRpcExecutor.InternalRobotCommandRpcExecutor;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+
 /**
  * @author Michal Anglart
  */
@@ -32,10 +39,25 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
 
     private final Map<String, RobotCommandRpcExecutor> executors = new HashMap<>();
 
+    private final ListMultimap<String, RobotCommandRpcExecutor> statelessExecutors = ArrayListMultimap.create();
+
+    private final Set<RobotCommandRpcExecutor> discardedExecutors = Collections
+            .newSetFromMap(new IdentityHashMap<>());
+
     private final List<PythonProcessListener> processListeners = new ArrayList<>();
 
+    private final Function<PythonInstallationDirectory, RobotCommandRpcExecutor> internalExecutorsFactory;
+
     private PythonInterpretersCommandExecutors() {
         // instance of this class should not be created outside
+        this.internalExecutorsFactory = location -> new InternalRobotCommandRpcExecutor(location.getInterpreter(),
+                location.getInterpreterPath(), this::getListeners);
+    }
+
+    @VisibleForTesting
+    PythonInterpretersCommandExecutors(
+            final Function<PythonInstallationDirectory, RobotCommandRpcExecutor> internalExecutorsFactory) {
+        this.internalExecutorsFactory = internalExecutorsFactory;
     }
 
     List<PythonProcessListener> getListeners() {
@@ -58,6 +80,14 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
         if (executor != null) {
             executor.kill();
         }
+        for (final RobotCommandRpcExecutor statelessExecutor : statelessExecutors.removeAll(interpreterPath)) {
+            if (!statelessExecutor.isAlive() && statelessExecutor.getReservations() > 0) {
+                // executor is still being started, so it will be killed once it is released
+                discardedExecutors.add(statelessExecutor);
+            } else {
+                statelessExecutor.kill();
+            }
+        }
     }
 
     @Override
@@ -67,8 +97,7 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
             executor = RedSystemProperties.shouldConnectToRunningServer()
                     ? new ExternalRobotCommandRpcExecutor(location.getInterpreter(),
                             RedSystemProperties.getSessionServerAddress())
-                    : new InternalRobotCommandRpcExecutor(location.getInterpreter(), location.getInterpreterPath(),
-                            this::getListeners);
+                    : internalExecutorsFactory.apply(location);
             executor.initialize();
             executor.establishConnection();
             executors.put(location.getInterpreterPath(), executor);
@@ -77,4 +106,65 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
         }
         return executor;
     }
+
+    @Override
+    public <T> T executeStatelessCommand(final PythonInstallationDirectory location,
+            final Function<RobotCommandExecutor, T> command) {
+        final RobotCommandRpcExecutor executor = reserveStatelessExecutor(location);
+        try {
+            // additional servers are started outside of the lock, so that other commands are not blocked
+            prepareStatelessExecutor(executor);
+            return command.apply(executor);
+        } finally {
+            releaseStatelessExecutor(executor);
+        }
+    }
+
+    private synchronized RobotCommandRpcExecutor reserveStatelessExecutor(final PythonInstallationDirectory location) {
+        final RobotCommandRpcExecutor mainExecutor = (RobotCommandRpcExecutor) getRobotCommandExecutor(location);
+        if (RedSystemProperties.shouldConnectToRunningServer()) {
+            mainExecutor.reserve();
+            return mainExecutor;
+        }
+
+        final List<RobotCommandRpcExecutor> additionalExecutors = statelessExecutors
+                .get(location.getInterpreterPath());
+        // reserved executors which are not alive are still being started
+        additionalExecutors.removeIf(executor -> !executor.isAlive() && executor.getReservations() == 0);
+
+        RobotCommandRpcExecutor leastBusyExecutor = mainExecutor;
+        for (final RobotCommandRpcExecutor executor : additionalExecutors) {
+            if (executor.getReservations() < leastBusyExecutor.getReservations()) {
+                leastBusyExecutor = executor;
+            }
+        }
+
+        // additional servers are created only when all the running ones are busy
+        if (leastBusyExecutor.getReservations() > 0
+                && additionalExecutors.size() + 1 < RedSystemProperties.getSessionServersPoolSize()) {
+            leastBusyExecutor = internalExecutorsFactory.apply(location);
+            additionalExecutors.add(leastBusyExecutor);
+        }
+        leastBusyExecutor.reserve();
+        return leastBusyExecutor;
+    }
+
+    private static void prepareStatelessExecutor(final RobotCommandRpcExecutor executor) {
+        synchronized (executor) {
+            executor.initialize();
+            if (!executor.isAlive()) {
+                executor.establishConnection();
+            }
+        }
+    }
+
+    private synchronized void releaseStatelessExecutor(final RobotCommandRpcExecutor executor) {
+        executor.release();
+        if (discardedExecutors.contains(executor)) {
+            executor.kill();
+            if (executor.getReservations() == 0) {
+                discardedExecutors.remove(executor);
+            }
+        }
+    }
 }
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.apache.ws.commons.util.NamespaceContextImpl;
@@ -64,6 +65,8 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
 
     private final int timeoutInMillis;
 
+    private final AtomicInteger reservations = new AtomicInteger();
+
     private XmlRpcClient client;
 
     RobotCommandRpcExecutor(final SuiteExecutor interpreterType) {
@@ -83,6 +86,18 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
 
     abstract void kill();
 
+    void reserve() {
+        reservations.incrementAndGet();
+    }
+
+    void release() {
+        reservations.decrementAndGet();
+    }
+
+    int getReservations() {
+        return reservations.get();
+    }
+
     void connectToServer(final String serverUrl, final String interpreterPath) {
         try {
             client = createClient(new URL(serverUrl));
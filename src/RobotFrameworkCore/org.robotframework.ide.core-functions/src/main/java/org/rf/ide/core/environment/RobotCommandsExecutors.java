@@ -5,12 +5,21 @@
 */
 package org.rf.ide.core.environment;
 
+import java.util.function.Function;
+
 import org.rf.ide.core.environment.PythonInstallationDirectoryFinder.PythonInstallationDirectory;
 
 public interface RobotCommandsExecutors {
 
     RobotCommandExecutor getRobotCommandExecutor(PythonInstallationDirectory location);
 
+    /**
+     * Executes command which does not depend on the state of session server, so that such commands
+     * called concurrently may be handled by different servers. The executor is reserved for given
+     * command until it finishes.
+     */
+    <T> T executeStatelessCommand(PythonInstallationDirectory location, Function<RobotCommandExecutor, T> command);
+
     void resetExecutorFor(PythonInstallationDirectory location);
 
 }
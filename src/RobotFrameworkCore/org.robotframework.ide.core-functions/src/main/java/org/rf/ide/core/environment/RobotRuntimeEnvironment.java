@@ -98,8 +98,9 @@ public class RobotRuntimeEnvironment implements IRuntimeEnvironment {
 
     @Override
     public Optional<File> getModulePath(final String moduleName, final EnvironmentSearchPaths additionalPaths) {
-        final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
-        return Optional.of(executor.getModulePath(moduleName, additionalPaths)).map(this::tryToCanonical);
+        final File modulePath = executors.executeStatelessCommand(location,
+                executor -> executor.getModulePath(moduleName, additionalPaths));
+        return Optional.of(modulePath).map(this::tryToCanonical);
     }
 
     private File tryToCanonical(final File file) {
@@ -113,15 +114,19 @@ public class RobotRuntimeEnvironment implements IRuntimeEnvironment {
     @Override
     public void createLibdoc(final String libName, final File outputFile, final LibdocFormat format,
             final EnvironmentSearchPaths additionalPaths) {
-        final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
-        executor.createLibdoc(libName, outputFile, format, additionalPaths);
+        executors.executeStatelessCommand(location, executor -> {
+            executor.createLibdoc(libName, outputFile, format, additionalPaths);
+            return null;
+        });
     }
 
     @Override
     public void createLibdocInSeparateProcess(final String libName, final File outputFile, final LibdocFormat format,
             final EnvironmentSearchPaths additionalPaths) {
-        final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
-        executor.createLibdocInSeparateProcess(libName, outputFile, format, additionalPaths);
+        executors.executeStatelessCommand(location, executor -> {
+            executor.createLibdocInSeparateProcess(libName, outputFile, format, additionalPaths);
+            return null;
+        });
     }
 
     @Override
@@ -155,8 +160,8 @@ public class RobotRuntimeEnvironment implements IRuntimeEnvironment {
 
     @Override
     public List<String> getClassesFromModule(final File moduleLocation, final EnvironmentSearchPaths additionalPaths) {
-        final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
-        return executor.getClassesFromModule(moduleLocation, additionalPaths);
+        return executors.executeStatelessCommand(location,
+                executor -> executor.getClassesFromModule(moduleLocation, additionalPaths));
     }
 
     @Override
@@ -168,8 +173,8 @@ public class RobotRuntimeEnvironment implements IRuntimeEnvironment {
     @Override
     public Map<String, Object> getVariablesFromFile(final File source, final List<String> arguments,
             final EnvironmentSearchPaths additionalPaths) {
-        final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
-        return executor.getVariables(source, arguments, additionalPaths);
+        return executors.executeStatelessCommand(location,
+                executor -> executor.getVariables(source, arguments, additionalPaths));
     }
 
     @Override
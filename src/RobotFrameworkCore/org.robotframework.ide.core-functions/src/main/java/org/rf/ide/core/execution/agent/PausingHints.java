@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.agent;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Describes when debugging agent has to ask whether execution should continue. Everything else is
+ * decided by agent on its own, so that there is no round trip to RED on each keyword. Line
+ * breakpoints are identified by file name only, as paths seen by remote agent may differ from local
+ * ones; the exact breakpoint, its hit count and condition are still resolved by RED when asked.
+ * <p>
+ * Erroneous keyword calls are detected by RED only after keyword start is reported, so whenever
+ * pausing on error may happen (which is the case for default prompting strategy) agent still has to
+ * ask at keyword start points. It does not have to ask while already reported error is on the
+ * stack, because it is not reported again until erroneous frames are popped.
+ */
+public final class PausingHints {
+
+    private final boolean askOnEveryPoint;
+
+    private final boolean mayPauseOnError;
+
+    private final Map<String, Set<Integer>> lineBreakpoints;
+
+    private final boolean hasKeywordFailBreakpoints;
+
+    public PausingHints(final boolean askOnEveryPoint, final boolean mayPauseOnError,
+            final Map<String, ? extends Set<Integer>> lineBreakpoints, final boolean hasKeywordFailBreakpoints) {
+        this.askOnEveryPoint = askOnEveryPoint;
+        this.mayPauseOnError = mayPauseOnError;
+        this.lineBreakpoints = new TreeMap<>();
+        lineBreakpoints.forEach((fileName, lines) -> this.lineBreakpoints.put(fileName, new TreeSet<>(lines)));
+        this.hasKeywordFailBreakpoints = hasKeywordFailBreakpoints;
+    }
+
+    public boolean shouldAskOnEveryPoint() {
+        return askOnEveryPoint;
+    }
+
+    public boolean mayPauseOnError() {
+        return mayPauseOnError;
+    }
+
+    public Map<String, Set<Integer>> getLineBreakpoints() {
+        return lineBreakpoints;
+    }
+
+    public boolean hasKeywordFailBreakpoints() {
+        return hasKeywordFailBreakpoints;
+    }
+
+    public Map<String, Object> asArguments() {
+        return ImmutableMap.of("ask_always", askOnEveryPoint, "pause_on_error", mayPauseOnError,
+                "line_breakpoints", lineBreakpoints, "keyword_fail_breakpoints", hasKeywordFailBreakpoints);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj != null && obj.getClass() == PausingHints.class) {
+            final PausingHints that = (PausingHints) obj;
+            return this.askOnEveryPoint == that.askOnEveryPoint && this.mayPauseOnError == that.mayPauseOnError
+                    && this.lineBreakpoints.equals(that.lineBreakpoints)
+                    && this.hasKeywordFailBreakpoints == that.hasKeywordFailBreakpoints;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(askOnEveryPoint, mayPauseOnError, lineBreakpoints, hasKeywordFailBreakpoints);
+    }
+
+    @Override
+    public String toString() {
+        return "PausingHints [askOnEveryPoint=" + askOnEveryPoint + ", mayPauseOnError=" + mayPauseOnError
+                + ", lineBreakpoints=" + lineBreakpoints + ", hasKeywordFailBreakpoints=" + hasKeywordFailBreakpoints
+                + "]";
+    }
+}
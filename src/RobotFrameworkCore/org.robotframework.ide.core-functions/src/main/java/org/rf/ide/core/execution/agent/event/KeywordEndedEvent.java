@@ -28,7 +28,11 @@ public final class KeywordEndedEvent {
         final String keywordName = (String) attributes.get("kwname");
         final String keywordType = (String) attributes.get("type");
         final String status = (String) attributes.get("status");
+        return from(libOrResourceName, keywordName, keywordType, status);
+    }
 
+    public static KeywordEndedEvent from(final String libOrResourceName, final String keywordName,
+            final String keywordType, final String status) {
         if (libOrResourceName == null || keywordName == null || keywordType == null || status == null) {
             throw new IllegalArgumentException(
                     "Keyword ended event should have name of keyword and library, keyword type and status");
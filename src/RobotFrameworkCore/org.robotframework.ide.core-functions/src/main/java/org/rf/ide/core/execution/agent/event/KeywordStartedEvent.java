@@ -27,7 +27,11 @@ public final class KeywordStartedEvent {
         final String keywordName = (String) attributes.get("kwname");
         final String keywordType = (String) attributes.get("type");
         final String libraryName = (String) attributes.get("libname");
+        return from(keywordName, keywordType, libraryName);
+    }
 
+    public static KeywordStartedEvent from(final String keywordName, final String keywordType,
+            final String libraryName) {
         if (keywordName == null || keywordType == null || libraryName == null) {
             throw new IllegalArgumentException(
                     "Keyword started event should have name of keyword, its type and library name");
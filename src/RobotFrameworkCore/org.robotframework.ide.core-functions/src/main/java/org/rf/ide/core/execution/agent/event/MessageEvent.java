@@ -28,7 +28,10 @@ public final class MessageEvent {
         final String msg = (String) message.get("message");
         final String timestamp = (String) message.get("timestamp");
         final String level = (String) message.get("level");
+        return from(msg, timestamp, level);
+    }
 
+    public static MessageEvent from(final String msg, final String timestamp, final String level) {
         if (msg == null || timestamp == null || level == null) {
             throw new IllegalArgumentException("Message event has to have the content, timestamp and level");
         }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.agent.event;
+
+import java.io.Serializable;
+
+import com.google.common.base.Objects;
+
+/**
+ * Value of list or dictionary which was too big to be sent by agent at once. Only the size is
+ * known; elements can be requested from agent when needed.
+ */
+public final class VariableCollectionHandle implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean isDictionary;
+
+    private final int size;
+
+    public VariableCollectionHandle(final boolean isDictionary, final int size) {
+        this.isDictionary = isDictionary;
+        this.size = size;
+    }
+
+    public boolean isDictionary() {
+        return isDictionary;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj != null && obj.getClass() == VariableCollectionHandle.class) {
+            final VariableCollectionHandle that = (VariableCollectionHandle) obj;
+            return this.isDictionary == that.isDictionary && this.size == that.size;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(isDictionary, size);
+    }
+
+    @Override
+    public String toString() {
+        return (isDictionary ? "dict" : "list") + "[" + size + "]";
+    }
+}
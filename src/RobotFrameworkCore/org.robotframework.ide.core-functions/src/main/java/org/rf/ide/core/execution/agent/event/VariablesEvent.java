@@ -16,6 +16,11 @@ import org.rf.ide.core.testdata.model.table.variables.AVariable.VariableScope;
 
 import com.google.common.base.Objects;
 
+/**
+ * Variables of all the scopes seen by agent. Scope which did not change since previous event is
+ * sent as null, so its variables are not provided by this event. Big lists and dictionaries are
+ * sent as {@link VariableCollectionHandle} instead of actual elements.
+ */
 public final class VariablesEvent {
 
     public static VariablesEvent from(final Map<String, Object> eventMap) {
@@ -30,10 +35,13 @@ public final class VariablesEvent {
     }
 
     private static List<Map<Variable, VariableTypedValue>> extractVariableScopes(final List<?> arguments) {
-        final List<Map<String, Object>> vars = Events.ensureListOfOrderedMapOfStringsToObjects(arguments);
-
         final List<Map<Variable, VariableTypedValue>> typedVars = new ArrayList<>();
-        for (final Map<String, Object> frame : vars) {
+        for (final Object scopeVars : arguments) {
+            if (scopeVars == null) {
+                typedVars.add(null);
+                continue;
+            }
+            final Map<String, Object> frame = Events.ensureOrderedMapOfStringsToObjects((Map<?, ?>) scopeVars);
             final Map<Variable, VariableTypedValue> typedScope = new LinkedHashMap<>();
             for (final String name : frame.keySet()) {
                 final List<?> typeValScope = (List<?>) frame.get(name);
@@ -50,7 +58,13 @@ public final class VariablesEvent {
         final String type = (String) typeAndVal.get(0);
         final Object value = typeAndVal.get(1);
 
-        if (value instanceof List<?>) {
+        if (isCollectionHandle(value)) {
+            final List<?> kindAndSize = (List<?>) value;
+            final boolean isDictionary = "dict".equals(kindAndSize.get(0));
+            final int size = ((Number) kindAndSize.get(1)).intValue();
+            return new VariableTypedValue(type, new VariableCollectionHandle(isDictionary, size));
+
+        } else if (value instanceof List<?>) {
             final List<Object> newValue = new ArrayList<>();
             for (final Object elem : ((List<?>) value)) {
                 if (elem instanceof List<?>) {
@@ -77,6 +91,15 @@ public final class VariablesEvent {
         }
     }
 
+    private static boolean isCollectionHandle(final Object value) {
+        // elements of actual lists are always sent as [type, value] lists, so there is no ambiguity
+        if (value instanceof List<?>) {
+            final List<?> list = (List<?>) value;
+            return list.size() == 2 && list.get(0) instanceof String && list.get(1) instanceof Number;
+        }
+        return false;
+    }
+
 
     private final List<Map<Variable, VariableTypedValue>> variables;
 
@@ -87,6 +110,10 @@ public final class VariablesEvent {
         this.error = error;
     }
 
+    /**
+     * Returns variables of scopes ordered from the innermost one. Scopes which did not change
+     * since previous event are represented by null.
+     */
     public List<Map<Variable, VariableTypedValue>> getVariables() {
         return variables;
     }
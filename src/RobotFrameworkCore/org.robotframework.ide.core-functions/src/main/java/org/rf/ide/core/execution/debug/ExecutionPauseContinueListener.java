@@ -51,7 +51,7 @@ public class ExecutionPauseContinueListener extends RobotDefaultAgentEventListen
             final PausingPoint pausingPoint = event.getPausingPoint();
             event.responder()
                     .respond(controller.takeCurrentResponse(pausingPoint, currentlyFailedKeyword)
-                            .orElse(new ContinueExecution()));
+                            .orElseGet(this::createContinueResponse));
             currentlyFailedKeyword = null;
 
         } catch (final ResponseException e) {
@@ -59,6 +59,10 @@ public class ExecutionPauseContinueListener extends RobotDefaultAgentEventListen
         }
     }
 
+    private ContinueExecution createContinueResponse() {
+        return controller.getPausingHints().map(ContinueExecution::new).orElseGet(ContinueExecution::new);
+    }
+
     @Override
     public void handlePaused(final PausedEvent event) {
         controller.executionPaused();
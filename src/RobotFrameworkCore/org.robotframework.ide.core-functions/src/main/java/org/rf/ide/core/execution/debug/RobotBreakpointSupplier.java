@@ -8,6 +8,9 @@ package org.rf.ide.core.execution.debug;
 import java.net.URI;
 import java.util.Optional;
 
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+
 public class RobotBreakpointSupplier {
 
     @SuppressWarnings("unused")
@@ -19,4 +22,12 @@ public class RobotBreakpointSupplier {
     public Optional<RobotBreakpoint> keywordFailBreakpointFor(final String keywordName) {
         return Optional.empty();
     }
+
+    public SetMultimap<URI, Integer> getLineBreakpointsLocations() {
+        return ImmutableSetMultimap.of();
+    }
+
+    public boolean hasKeywordFailBreakpoints() {
+        return false;
+    }
 }
@@ -10,8 +10,10 @@ import static java.util.stream.Collectors.toList;
 
 import java.net.URI;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -26,6 +28,9 @@ public class Stacktrace implements Iterable<StackFrame> {
 
     private final Deque<StackFrame> frames = new ArrayDeque<>();
 
+    // variables of scopes as last seen, ordered from the outermost one
+    private List<Map<Variable, VariableTypedValue>> lastVariables = new ArrayList<>();
+
     public void push(final StackFrame frame) {
         frames.push(frame);
     }
@@ -100,11 +105,14 @@ public class Stacktrace implements Iterable<StackFrame> {
 
     void destroy() {
         frames.clear();
+        lastVariables = new ArrayList<>();
     }
 
     void updateVariables(final List<Map<Variable, VariableTypedValue>> variables) {
         final List<StackFrame> reversedFrames = reverse(stream().collect(toList()));
-        final List<Map<Variable, VariableTypedValue>> reversedVariables = reverse(variables);
+        final List<Map<Variable, VariableTypedValue>> reversedVariables = withUnchangedScopesFilled(
+                reverse(variables));
+        lastVariables = reversedVariables;
 
         StackFrameVariables parentVars = StackFrameVariables.newNonLocalVariables(reversedVariables.get(0));
         for (final StackFrame frame : reversedFrames) {
@@ -134,6 +142,24 @@ public class Stacktrace implements Iterable<StackFrame> {
         }
     }
 
+    private List<Map<Variable, VariableTypedValue>> withUnchangedScopesFilled(
+            final List<Map<Variable, VariableTypedValue>> variables) {
+        // agent does not send scopes which are the same as in previous event; the same map objects
+        // are reused, so that comparing them when computing deltas is cheap
+        final List<Map<Variable, VariableTypedValue>> filledVariables = new ArrayList<>();
+        for (int i = 0; i < variables.size(); i++) {
+            final Map<Variable, VariableTypedValue> vars = variables.get(i);
+            if (vars != null) {
+                filledVariables.add(vars);
+            } else if (i < lastVariables.size() && lastVariables.get(i) != null) {
+                filledVariables.add(lastVariables.get(i));
+            } else {
+                filledVariables.add(new LinkedHashMap<>());
+            }
+        }
+        return filledVariables;
+    }
+
     @Override
     public String toString() {
         return frames.toString();
@@ -10,6 +10,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
 
+import org.rf.ide.core.execution.agent.PausingHints;
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
 import org.rf.ide.core.execution.server.response.DisconnectExecution;
@@ -72,7 +73,18 @@ public class UserProcessController {
     }
 
     public void resume(final Runnable whenResponseIsSent) {
-        offer(new ResponseWithCallback(new ResumeExecution(), whenResponseIsSent));
+        final ResumeExecution response = getPausingHints().map(ResumeExecution::new)
+                .orElseGet(ResumeExecution::new);
+        offer(new ResponseWithCallback(response, whenResponseIsSent));
+    }
+
+    /**
+     * Hints are sent to the agent together with continue and resume responses, so that it is able
+     * to skip asking whether execution should continue at pausing points where it would not be
+     * suspended anyway.
+     */
+    public Optional<PausingHints> getPausingHints() {
+        return Optional.empty();
     }
 
     protected final void offer(final ResponseWithCallback response) {
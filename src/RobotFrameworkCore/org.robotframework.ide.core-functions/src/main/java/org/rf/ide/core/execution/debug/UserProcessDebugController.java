@@ -5,29 +5,38 @@
  */
 package org.rf.ide.core.execution.debug;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.rf.ide.core.execution.agent.PausingHints;
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
 import org.rf.ide.core.execution.debug.StackFrame.FrameCategory;
 import org.rf.ide.core.execution.server.response.ChangeVariable;
 import org.rf.ide.core.execution.server.response.EvaluateCondition;
 import org.rf.ide.core.execution.server.response.EvaluateExpression;
+import org.rf.ide.core.execution.server.response.ExpandVariable;
 import org.rf.ide.core.execution.server.response.PauseExecution;
 import org.rf.ide.core.execution.server.response.ServerResponse;
 import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
 
 public class UserProcessDebugController extends UserProcessController {
 
     private final DebuggerPreferences preferences;
     private final Stacktrace stacktrace;
+    private final RobotBreakpointSupplier breakpointSupplier;
 
     private final List<PauseReasonListener> pauseListeners = new ArrayList<>();
 
@@ -35,8 +44,14 @@ public class UserProcessDebugController extends UserProcessController {
     private SuspensionData susupensionData = null;
 
     public UserProcessDebugController(final Stacktrace stacktrace, final DebuggerPreferences preferences) {
+        this(stacktrace, preferences, new RobotBreakpointSupplier());
+    }
+
+    public UserProcessDebugController(final Stacktrace stacktrace, final DebuggerPreferences preferences,
+            final RobotBreakpointSupplier breakpointSupplier) {
         this.stacktrace = stacktrace;
         this.preferences = preferences;
+        this.breakpointSupplier = breakpointSupplier;
     }
 
     @VisibleForTesting
@@ -86,6 +101,9 @@ public class UserProcessDebugController extends UserProcessController {
         } else if (susupensionData.reason == SuspendReason.VARIABLE_CHANGE) {
             pauseListeners.stream().forEach(listener -> listener.pausedAfterVariableChange());
 
+        } else if (susupensionData.reason == SuspendReason.VARIABLE_EXPANSION) {
+            pauseListeners.stream().forEach(listener -> listener.pausedAfterVariableExpansion());
+
         } else if (susupensionData.reason == SuspendReason.ERRONEOUS_STATE) {
             final String error = (String) susupensionData.data[0];
             pauseListeners.stream().forEach(listener -> listener.pausedOnError(error));
@@ -107,6 +125,25 @@ public class UserProcessDebugController extends UserProcessController {
                 .orElseGet(() -> userSteppingResponse(pausingPoint));
     }
 
+    @Override
+    public Optional<PausingHints> getPausingHints() {
+        final Map<String, Set<Integer>> lineBreakpoints = new HashMap<>();
+        breakpointSupplier.getLineBreakpointsLocations().forEach((location, line) -> lineBreakpoints
+                .computeIfAbsent(getFileName(location), fileName -> new HashSet<>()).add(line));
+
+        // errors are not reported again until the frames already marked as erroneous are popped
+        final boolean mayPauseOnError = preferences.mayPauseOnError() && !frames().anyMatch(StackFrame::isMarkedError);
+
+        // agent has to ask on every pausing point when user is stepping or requested suspension
+        return Optional.of(new PausingHints(susupensionData != null, mayPauseOnError, lineBreakpoints,
+                breakpointSupplier.hasKeywordFailBreakpoints()));
+    }
+
+    private static String getFileName(final URI location) {
+        final String path = Strings.nullToEmpty(location.getPath());
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
     private Optional<ServerResponse> pauseOnErrorResponse(final PausingPoint pausingPoint) {
         if ((pausingPoint == PausingPoint.PRE_START_KEYWORD || pausingPoint == PausingPoint.START_KEYWORD)
                 && frames().map(StackFrame::getContext).anyMatch(StackFrameContext::isErroneous)
@@ -280,6 +317,12 @@ public class UserProcessDebugController extends UserProcessController {
         offer(new ResponseWithCallback(changeVarResponse, () -> {}));
     }
 
+    public void expandVariable(final StackFrame frame, final StackFrameVariable variable, final List<Object> path) {
+        final ExpandVariable expandVarResponse = new ExpandVariable(variable.getName(), frame.getLevel(), path);
+        susupensionData = new SuspensionData(SuspendReason.VARIABLE_EXPANSION);
+        offer(new ResponseWithCallback(expandVarResponse, () -> {}));
+    }
+
     public void evaluateRobotKeywordCall(final int exprId, final String keywordName, final List<String> arguments) {
         final EvaluateExpression evalResponse = EvaluateExpression.robot(exprId, keywordName, arguments);
         susupensionData = new SuspensionData(SuspendReason.EXPRESSION_EVALUATED);
@@ -310,6 +353,8 @@ public class UserProcessDebugController extends UserProcessController {
 
         public void pausedAfterVariableChange();
 
+        public void pausedAfterVariableExpansion();
+
         public void pausedAfterExpressionEvaluated();
     }
 
@@ -317,10 +362,18 @@ public class UserProcessDebugController extends UserProcessController {
 
         private final Supplier<Boolean> pauseOnError;
 
+        private final Supplier<Boolean> mayPauseOnError;
+
         private final boolean goIntoLibKeyword;
 
         public DebuggerPreferences(final Supplier<Boolean> pauseOnError, final boolean goIntoLibKeyword) {
+            this(pauseOnError, () -> true, goIntoLibKeyword);
+        }
+
+        public DebuggerPreferences(final Supplier<Boolean> pauseOnError, final Supplier<Boolean> mayPauseOnError,
+                final boolean goIntoLibKeyword) {
             this.pauseOnError = pauseOnError;
+            this.mayPauseOnError = mayPauseOnError;
             this.goIntoLibKeyword = goIntoLibKeyword;
         }
 
@@ -328,6 +381,14 @@ public class UserProcessDebugController extends UserProcessController {
             return pauseOnError.get();
         }
 
+        /**
+         * Tells whether {@link #shouldPauseOnError()} could return true at all. Contrary to it, the
+         * user is never asked for a decision here.
+         */
+        public boolean mayPauseOnError() {
+            return mayPauseOnError.get();
+        }
+
         public boolean shouldGoIntoLibKeywords() {
             return goIntoLibKeyword;
         }
@@ -348,7 +409,7 @@ public class UserProcessDebugController extends UserProcessController {
 
     @VisibleForTesting
     public enum SuspendReason {
-        USER_REQUEST, BREAKPOINT, STEPPING, VARIABLE_CHANGE, EXPRESSION_EVALUATED, ERRONEOUS_STATE
+        USER_REQUEST, BREAKPOINT, STEPPING, VARIABLE_CHANGE, VARIABLE_EXPANSION, EXPRESSION_EVALUATED, ERRONEOUS_STATE
     }
 
     @VisibleForTesting
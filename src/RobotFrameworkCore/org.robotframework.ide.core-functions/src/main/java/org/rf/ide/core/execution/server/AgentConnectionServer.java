@@ -19,15 +19,19 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
 
 import org.rf.ide.core.execution.agent.RobotAgentEventListener;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
 
 import com.google.common.base.Charsets;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 public class AgentConnectionServer {
 
-    public static final int RED_AGENT_PROTOCOL_VERSION = 4;
+    public static final int RED_AGENT_PROTOCOL_VERSION = 6;
 
     public static final String DEFAULT_CONNECTION_HOST = "127.0.0.1";
 
@@ -82,7 +86,17 @@ public class AgentConnectionServer {
     }
 
     public void start(final RobotAgentEventListener... eventsListeners) throws IOException {
-        AgentClient client = null;
+        start(1, clientIndex -> eventsListeners);
+    }
+
+    /**
+     * Accepts given number of clients, e.g. agents of parallel worker processes. Each client is
+     * handled in separate thread by listeners provided for its index, but only one event at a time
+     * is dispatched, so listeners may share state between clients without further synchronization.
+     */
+    public void start(final int clientsCount, final IntFunction<RobotAgentEventListener[]> eventsListenersProvider)
+            throws IOException {
+        final List<Thread> clientThreads = new ArrayList<>();
         try {
             serverSetupSemaphore.release();
 
@@ -91,35 +105,64 @@ public class AgentConnectionServer {
             serverSocket.setSoTimeout(timeoutInMillis);
 
             listeners.forEach(listener -> listener.serverEstablished(host, port));
-            try (Socket clientSocket = serverSocket.accept()) {
-
-                final int clientId = clientSocket.hashCode();
 
-                final BufferedReader eventsReader = new BufferedReader(
-                        new InputStreamReader(clientSocket.getInputStream(), Charsets.UTF_8));
-                final BufferedWriter eventsWriter = new BufferedWriter(
-                        new OutputStreamWriter(clientSocket.getOutputStream(), Charsets.UTF_8));
-
-                client = new AgentClient(clientId, new PrintWriter(eventsWriter));
-                final RobotAgentEventDispatcher eventsDispatcher = new RobotAgentEventDispatcher(
-                        client, eventsListeners);
-
-                listeners.forEach(listener -> listener.clientConnected(clientId));
-                eventsDispatcher.runEventsLoop(eventsReader);
-                listeners.forEach(listener -> listener.clientConnectionClosed(clientId));
-
-            } catch (final RobotAgentEventsListenerException e) {
-                listeners.forEach(listener -> listener.clientEventHandlingError(e));
-            } catch (final SocketTimeoutException e) {
-                listeners.forEach(listener -> listener.clientConnectionTimedOut(e));
-            } catch (final IOException e) {
-                listeners.forEach(listener -> listener.clientConnectionError(e));
+            final Lock eventsLock = new ReentrantLock();
+            for (int i = 0; i < clientsCount; i++) {
+                final Socket clientSocket;
+                try {
+                    clientSocket = serverSocket.accept();
+                } catch (final SocketTimeoutException e) {
+                    listeners.forEach(listener -> listener.clientConnectionTimedOut(e));
+                    break;
+                } catch (final IOException e) {
+                    listeners.forEach(listener -> listener.clientConnectionError(e));
+                    break;
+                }
+
+                final RobotAgentEventListener[] eventsListeners = eventsListenersProvider.apply(i);
+                if (clientsCount == 1) {
+                    handleClient(clientSocket, eventsLock, eventsListeners);
+                } else {
+                    final Thread clientThread = new Thread(
+                            () -> handleClient(clientSocket, eventsLock, eventsListeners),
+                            "Agent client " + (i + 1) + " handler");
+                    clientThread.setDaemon(true);
+                    clientThread.start();
+                    clientThreads.add(clientThread);
+                }
             }
+            clientThreads.forEach(Uninterruptibles::joinUninterruptibly);
+        } finally {
+            stop();
+        }
+    }
+
+    private void handleClient(final Socket clientSocket, final Lock eventsLock,
+            final RobotAgentEventListener[] eventsListeners) {
+        AgentClient client = null;
+        try (Socket socket = clientSocket) {
+            final int clientId = socket.hashCode();
+
+            final BufferedReader eventsReader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), Charsets.UTF_8));
+            final BufferedWriter eventsWriter = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), Charsets.UTF_8));
+
+            client = new AgentClient(clientId, new PrintWriter(eventsWriter));
+            final RobotAgentEventDispatcher eventsDispatcher = new RobotAgentEventDispatcher(client, eventsLock,
+                    eventsListeners);
+
+            listeners.forEach(listener -> listener.clientConnected(clientId));
+            eventsDispatcher.runEventsLoop(eventsReader);
+            listeners.forEach(listener -> listener.clientConnectionClosed(clientId));
+        } catch (final RobotAgentEventsListenerException e) {
+            listeners.forEach(listener -> listener.clientEventHandlingError(e));
+        } catch (final IOException e) {
+            listeners.forEach(listener -> listener.clientConnectionError(e));
         } finally {
             if (client != null) {
                 client.dispose();
             }
-            stop();
         }
     }
 
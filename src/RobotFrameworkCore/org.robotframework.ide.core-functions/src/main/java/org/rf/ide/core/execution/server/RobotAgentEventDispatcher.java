@@ -6,12 +6,15 @@
 package org.rf.ide.core.execution.server;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Collections.singletonMap;
 import static java.util.Collections.synchronizedList;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.rf.ide.core.execution.agent.RobotAgentEventListener;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
@@ -34,123 +37,168 @@ import org.rf.ide.core.execution.agent.event.TestStartedEvent;
 import org.rf.ide.core.execution.agent.event.VariablesEvent;
 import org.rf.ide.core.execution.agent.event.VersionsEvent;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Iterables;
 
 class RobotAgentEventDispatcher {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private final List<RobotAgentEventListener> eventsListeners;
 
     private final AgentClient client;
 
+    // dispatchers of clients connected to the same server are sharing the lock
+    private final Lock eventsLock;
+
     RobotAgentEventDispatcher(final AgentClient client, final RobotAgentEventListener... eventsListeners) {
+        this(client, new ReentrantLock(), eventsListeners);
+    }
+
+    RobotAgentEventDispatcher(final AgentClient client, final Lock eventsLock,
+            final RobotAgentEventListener... eventsListeners) {
         this.client = client;
+        this.eventsLock = eventsLock;
         this.eventsListeners = synchronizedList(newArrayList(eventsListeners));
     }
 
     void runEventsLoop(final BufferedReader eventReader) throws IOException, RobotAgentEventsListenerException {
         try {
-            for (final RobotAgentEventListener listener : eventsListeners) {
-                listener.eventsProcessingAboutToStart();
+            eventsLock.lock();
+            try {
+                for (final RobotAgentEventListener listener : eventsListeners) {
+                    listener.eventsProcessingAboutToStart();
+                }
+            } finally {
+                eventsLock.unlock();
             }
             eventsLoop(eventReader);
         } finally {
-            for (final RobotAgentEventListener listener : eventsListeners) {
-                listener.eventsProcessingFinished();
+            eventsLock.lock();
+            try {
+                for (final RobotAgentEventListener listener : eventsListeners) {
+                    listener.eventsProcessingFinished();
+                }
+            } finally {
+                eventsLock.unlock();
             }
         }
     }
 
     private void eventsLoop(final BufferedReader eventReader) throws IOException, RobotAgentEventsListenerException {
-        final ObjectMapper mapper = new ObjectMapper();
-        final TypeReference<Map<String, Object>> stringToObjectMapType = new TypeReference<Map<String, Object>>() {
-        };
-
-        String event = eventReader.readLine();
-        while (event != null && anyListenerIsHandlingEvents()) {
-            final Map<String, Object> eventMap = mapper.readValue(event, stringToObjectMapType);
-            final String eventType = getEventType(eventMap);
-            if (eventType == null) {
-                event = eventReader.readLine();
-                continue;
+        // events are read one after another from single parser, without splitting the stream into lines first
+        try (JsonParser parser = MAPPER.getFactory().createParser(eventReader)) {
+            JsonToken token = parser.nextToken();
+            while (token != null && anyListenerIsHandlingEvents()) {
+                eventsLock.lock();
+                try {
+                    dispatchEvent(parser);
+                } finally {
+                    eventsLock.unlock();
+                }
+                token = parser.nextToken();
             }
+        }
+    }
 
-            switch (eventType) {
-                case "agent_initializing":
-                    handleAgentInitializing();
-                    break;
-                case "version":
-                    handleVersion(eventMap);
-                    break;
-                case "ready_to_start":
-                    handleReadyToStart();
-                    break;
-                case "resource_import":
-                    handleResourceImport(eventMap);
-                    break;
-                case "library_import":
-                    handleLibraryImport(eventMap);
-                    break;
-                case "start_suite":
-                    handleStartSuite(eventMap);
-                    break;
-                case "end_suite":
-                    handleEndSuite(eventMap);
-                    break;
-                case "start_test":
-                    handleStartTest(eventMap);
-                    break;
-                case "end_test":
-                    handleEndTest(eventMap);
-                    break;
-                case "pre_start_keyword":
-                    handlePreStartKeyword(eventMap);
-                    break;
-                case "start_keyword":
-                    handleStartKeyword(eventMap);
-                    break;
-                case "pre_end_keyword":
-                    handlePreEndKeyword(eventMap);
-                    break;
-                case "end_keyword":
-                    handleEndKeyword(eventMap);
-                    break;
-                case "variables":
-                    handleVariables(eventMap);
-                    break;
-                case "should_continue":
-                    handleShouldContinue(eventMap);
-                    break;
-                case "condition_result":
-                    handleConditionResult(eventMap);
-                    break;
-                case "expression_result":
-                    handleExpressionResult(eventMap);
-                    break;
-                case "paused":
-                    handlePause();
-                    break;
-                case "resumed":
-                    handleResumed();
-                    break;
-                case "log_message":
-                    handleLogMessage(eventMap);
-                    break;
-                case "message":
-                    handleMessage(eventMap);
-                    break;
-                case "output_file":
-                    handleOutputFile(eventMap);
-                    break;
-                case "close":
-                    handleClose();
-                    break;
-                default:
-                    break;
-            }
+    private void dispatchEvent(final JsonParser parser) throws IOException {
+        // the type of event is read first, so that whole event does not have to be deserialized into generic map
+        // before dispatching; arguments are bound only for events which are actually carrying them
+        final String eventType = readEventType(parser);
+        if (eventType == null) {
+            parser.skipChildren();
+            return;
+        }
+        parser.nextToken();
+        dispatchEvent(parser, eventType);
+        skipToEventEnd(parser);
+    }
 
-            event = eventReader.readLine();
+    private void dispatchEvent(final JsonParser parser, final String eventType) throws IOException {
+
+        switch (eventType) {
+            case "agent_initializing":
+                parser.skipChildren();
+                handleAgentInitializing();
+                break;
+            case "version":
+                handleVersion(readEventArguments(parser));
+                break;
+            case "ready_to_start":
+                parser.skipChildren();
+                handleReadyToStart();
+                break;
+            case "resource_import":
+                handleResourceImport(readEventArguments(parser));
+                break;
+            case "library_import":
+                handleLibraryImport(readEventArguments(parser));
+                break;
+            case "start_suite":
+                handleStartSuite(readEventArguments(parser));
+                break;
+            case "end_suite":
+                handleEndSuite(readEventArguments(parser));
+                break;
+            case "start_test":
+                handleStartTest(readEventArguments(parser));
+                break;
+            case "end_test":
+                handleEndTest(readEventArguments(parser));
+                break;
+            case "pre_start_keyword":
+                handlePreStartKeyword(parser.readValueAs(KeywordArguments.class));
+                break;
+            case "start_keyword":
+                handleStartKeyword(parser.readValueAs(KeywordArguments.class));
+                break;
+            case "pre_end_keyword":
+                handlePreEndKeyword(parser.readValueAs(KeywordArguments.class));
+                break;
+            case "end_keyword":
+                handleEndKeyword(parser.readValueAs(KeywordArguments.class));
+                break;
+            case "variables":
+                handleVariables(readEventArguments(parser));
+                break;
+            case "should_continue":
+                handleShouldContinue(readEventArguments(parser));
+                break;
+            case "condition_result":
+                handleConditionResult(readEventArguments(parser));
+                break;
+            case "expression_result":
+                handleExpressionResult(readEventArguments(parser));
+                break;
+            case "paused":
+                parser.skipChildren();
+                handlePause();
+                break;
+            case "resumed":
+                parser.skipChildren();
+                handleResumed();
+                break;
+            case "log_message":
+                handleLogMessage(parser.readValueAs(MessageArguments.class));
+                break;
+            case "message":
+                handleMessage(parser.readValueAs(MessageArguments.class));
+                break;
+            case "output_file":
+                handleOutputFile(readEventArguments(parser));
+                break;
+            case "close":
+                parser.skipChildren();
+                handleClose();
+                break;
+            default:
+                parser.skipChildren();
+                break;
         }
     }
 
@@ -207,29 +255,29 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handlePreStartKeyword(final Map<String, Object> eventMap) {
-        final KeywordStartedEvent event = KeywordStartedEvent.fromPre(eventMap);
+    private void handlePreStartKeyword(final KeywordArguments arguments) {
+        final KeywordStartedEvent event = arguments.toStartedEvent();
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordAboutToStart(event);
         }
     }
 
-    private void handleStartKeyword(final Map<String, Object> eventMap) {
-        final KeywordStartedEvent event = KeywordStartedEvent.from(eventMap);
+    private void handleStartKeyword(final KeywordArguments arguments) {
+        final KeywordStartedEvent event = arguments.toStartedEvent();
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordStarted(event);
         }
     }
 
-    private void handlePreEndKeyword(final Map<String, Object> eventMap) {
-        final KeywordEndedEvent event = KeywordEndedEvent.fromPre(eventMap);
+    private void handlePreEndKeyword(final KeywordArguments arguments) {
+        final KeywordEndedEvent event = arguments.toEndedEvent();
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordAboutToEnd(event);
         }
     }
 
-    private void handleEndKeyword(final Map<String, Object> eventMap) {
-        final KeywordEndedEvent event = KeywordEndedEvent.from(eventMap);
+    private void handleEndKeyword(final KeywordArguments arguments) {
+        final KeywordEndedEvent event = arguments.toEndedEvent();
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordEnded(event);
         }
@@ -296,25 +344,38 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleLogMessage(final Map<String, Object> eventMap) {
-        final MessageEvent event = MessageEvent.fromLogMessage(eventMap);
+    private void handleLogMessage(final MessageArguments arguments) {
+        final MessageEvent event = arguments.toEvent();
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleLogMessage(event);
         }
     }
 
-    private void handleMessage(final Map<String, Object> eventMap) {
-        final MessageEvent event = MessageEvent.fromMessage(eventMap);
+    private void handleMessage(final MessageArguments arguments) {
+        final MessageEvent event = arguments.toEvent();
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleMessage(event);
         }
     }
 
-    private String getEventType(final Map<String, ?> eventMap) {
-        if (eventMap == null) {
+    private static String readEventType(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME) {
             return null;
         }
-        return Iterables.getFirst(eventMap.keySet(), null);
+        return parser.getCurrentName();
+    }
+
+    private static Map<String, Object> readEventArguments(final JsonParser parser) throws IOException {
+        return singletonMap(parser.getCurrentName(), parser.readValueAs(Object.class));
+    }
+
+    private static void skipToEventEnd(final JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token != null && token != JsonToken.END_OBJECT) {
+            parser.nextToken();
+            parser.skipChildren();
+            token = parser.nextToken();
+        }
     }
 
     private boolean anyListenerIsHandlingEvents() {
@@ -325,4 +386,70 @@ class RobotAgentEventDispatcher {
         }
         return false;
     }
+
+    /**
+     * Arguments of keyword events are bound directly, as those events are the most frequent ones.
+     * Only attributes needed by events are bound, everything else (keyword arguments, variables
+     * scopes etc.) is skipped.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({ "name", "attributes" })
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static final class KeywordArguments {
+
+        @JsonProperty
+        private String name;
+
+        @JsonProperty
+        private KeywordAttributes attributes = new KeywordAttributes();
+
+        KeywordStartedEvent toStartedEvent() {
+            return KeywordStartedEvent.from(attributes.kwname, attributes.type, attributes.libname);
+        }
+
+        KeywordEndedEvent toEndedEvent() {
+            return KeywordEndedEvent.from(attributes.libname, attributes.kwname, attributes.type, attributes.status);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static final class KeywordAttributes {
+
+        @JsonProperty
+        private String kwname;
+
+        @JsonProperty
+        private String type;
+
+        @JsonProperty
+        private String libname;
+
+        @JsonProperty
+        private String status;
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static final class MessageArguments {
+
+        @JsonProperty
+        private MessageAttributes attributes = new MessageAttributes();
+
+        MessageEvent toEvent() {
+            return MessageEvent.from(attributes.message, attributes.timestamp, attributes.level);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static final class MessageAttributes {
+
+        @JsonProperty
+        private String message;
+
+        @JsonProperty
+        private String timestamp;
+
+        @JsonProperty
+        private String level;
+    }
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server;
+
+import java.net.URI;
+import java.util.Optional;
+
+import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.event.OutputFileEvent;
+
+public class TestsOutputFileReader extends RobotDefaultAgentEventListener {
+
+    private Optional<URI> outputFile = Optional.empty();
+
+    public Optional<URI> getOutputFile() {
+        return outputFile;
+    }
+
+    @Override
+    public void handleOutputFile(final OutputFileEvent event) {
+        this.outputFile = event.getPath();
+    }
+}
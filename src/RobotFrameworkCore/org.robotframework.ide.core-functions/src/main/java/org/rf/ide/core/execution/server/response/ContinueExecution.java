@@ -9,6 +9,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.rf.ide.core.execution.agent.PausingHints;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
@@ -18,19 +20,34 @@ public final class ContinueExecution implements ServerResponseOnShouldContinue {
 
     private final ObjectMapper mapper;
 
+    private final PausingHints hints;
+
     public ContinueExecution() {
-        this(ResponseObjectsMapper.OBJECT_MAPPER);
+        this(ResponseObjectsMapper.OBJECT_MAPPER, null);
+    }
+
+    public ContinueExecution(final PausingHints hints) {
+        this(ResponseObjectsMapper.OBJECT_MAPPER, hints);
     }
 
     @VisibleForTesting
     ContinueExecution(final ObjectMapper mapper) {
+        this(mapper, null);
+    }
+
+    @VisibleForTesting
+    ContinueExecution(final ObjectMapper mapper, final PausingHints hints) {
         this.mapper = mapper;
+        this.hints = hints;
     }
 
     @Override
     public String toMessage() {
         try {
             final List<Object> arguments = new ArrayList<>();
+            if (hints != null) {
+                arguments.add(hints.asArguments());
+            }
             final Map<String, Object> value = ImmutableMap.of("continue", arguments);
 
             return mapper.writeValueAsString(value);
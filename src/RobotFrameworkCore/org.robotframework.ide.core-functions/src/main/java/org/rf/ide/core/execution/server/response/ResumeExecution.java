@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.rf.ide.core.execution.agent.PausingHints;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
@@ -18,19 +20,34 @@ public final class ResumeExecution implements ServerResponse {
 
     private final ObjectMapper mapper;
 
+    private final PausingHints hints;
+
     public ResumeExecution() {
-        this(ResponseObjectsMapper.OBJECT_MAPPER);
+        this(ResponseObjectsMapper.OBJECT_MAPPER, null);
+    }
+
+    public ResumeExecution(final PausingHints hints) {
+        this(ResponseObjectsMapper.OBJECT_MAPPER, hints);
     }
 
     @VisibleForTesting
     ResumeExecution(final ObjectMapper mapper) {
+        this(mapper, null);
+    }
+
+    @VisibleForTesting
+    ResumeExecution(final ObjectMapper mapper, final PausingHints hints) {
         this.mapper = mapper;
+        this.hints = hints;
     }
 
     @Override
     public String toMessage() {
         try {
             final List<Object> arguments = new ArrayList<>();
+            if (hints != null) {
+                arguments.add(hints.asArguments());
+            }
             final Map<String, Object> value = ImmutableMap.of("resume", arguments);
 
             return mapper.writeValueAsString(value);
@@ -8,11 +8,22 @@ package org.rf.ide.core.libraries;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import org.rf.ide.core.environment.IRuntimeEnvironment;
 
 public final class Documentation {
 
+    private static final Pattern DEPRECATION_PATTERN = Pattern.compile("^\\*deprecated[^\\n\\r]*\\*.*");
+
+    /**
+     * Checks whether given keyword documentation marks the keyword as deprecated, i.e. whether it
+     * starts with *DEPRECATED...* text.
+     */
+    public static boolean isDeprecating(final String documentation) {
+        return documentation != null && DEPRECATION_PATTERN.matcher(documentation.toLowerCase()).find();
+    }
+
     private final DocFormat format;
 
     private final String rawDocumentation;
@@ -7,7 +7,6 @@ package org.rf.ide.core.libraries;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
@@ -69,8 +68,7 @@ public class KeywordSpecification {
 
     public boolean isDeprecated() {
         if (isDeprecated == null) {
-            isDeprecated = Boolean.valueOf(documentation != null
-                    && Pattern.compile("^\\*deprecated[^\\n\\r]*\\*.*").matcher(documentation.toLowerCase()).find());
+            isDeprecated = Boolean.valueOf(Documentation.isDeprecating(documentation));
         }
         return isDeprecated.booleanValue();
     }
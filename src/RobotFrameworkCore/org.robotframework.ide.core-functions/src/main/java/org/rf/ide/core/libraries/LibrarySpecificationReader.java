@@ -5,25 +5,84 @@
  */
 package org.rf.ide.core.libraries;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 public class LibrarySpecificationReader {
 
+    // creating context is expensive, while it is thread-safe, so it is shared by all readings
+    private static JAXBContext jaxbContext;
+
     public static Optional<LibrarySpecification> readSpecification(final File file) {
-        if (file == null || !file.isFile() || !file.exists()) {
+        if (!isReadable(file)) {
             return Optional.empty();
         }
         try {
-            final JAXBContext jaxbContext = JAXBContext.newInstance(LibrarySpecification.class);
-            final Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
+            final Unmarshaller jaxbUnmarshaller = getJaxbContext().createUnmarshaller();
             return Optional.ofNullable((LibrarySpecification) jaxbUnmarshaller.unmarshal(file));
         } catch (final JAXBException e) {
             return Optional.empty();
         }
     }
+
+    /**
+     * Reads only the version of library from given specification file, without unmarshalling
+     * keywords and documentation.
+     */
+    public static Optional<String> readVersion(final File file) {
+        if (!isReadable(file)) {
+            return Optional.empty();
+        }
+        try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+            final XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+            final XMLStreamReader reader = factory.createXMLStreamReader(stream);
+            try {
+                int depth = 0;
+                while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        depth++;
+                        if (depth == 1 && !reader.getLocalName().equals("keywordspec")) {
+                            return Optional.empty();
+                        } else if (depth == 2 && reader.getLocalName().equals("version")) {
+                            return Optional.of(reader.getElementText());
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        depth--;
+                    }
+                }
+                return Optional.empty();
+            } finally {
+                reader.close();
+            }
+        } catch (final IOException | XMLStreamException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isReadable(final File file) {
+        return file != null && file.isFile() && file.exists();
+    }
+
+    private static synchronized JAXBContext getJaxbContext() throws JAXBException {
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(LibrarySpecification.class);
+        }
+        return jaxbContext;
+    }
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.FileRegion;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.BuildMessage;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.LineReader.Constant;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.ATokenRecognizer;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+import org.rf.ide.core.testdata.text.read.recognizer.TokenRecognizersIndex;
+import org.rf.ide.core.testdata.text.read.separators.Separator;
+
+/**
+ * Applies textual change directly to already parsed model, without reparsing whole content. Only
+ * changes which are placed inside single plain token or comment, including its start and end, and
+ * which cannot affect the way the line is split or recognized are supported: letters, digits and
+ * underscores inserted or removed without producing reserved words. Positions of all the elements
+ * placed after the change are shifted instead of being recomputed.
+ */
+public class IncrementalModelUpdater {
+
+    private static final String SPECIAL_CHARACTERS = "$@&%{}[]=#\\|*";
+
+    private static final Set<String> RESERVED_WORDS = Stream.of(RobotTokenType.values())
+            .flatMap(type -> type.getRepresentation().stream())
+            .filter(representation -> representation != null)
+            .map(IncrementalModelUpdater::normalize)
+            .collect(Collectors.toSet());
+
+    // recognizers are not thread-safe, so indexes are not shared between updaters
+    private final Map<RobotVersion, TokenRecognizersIndex> recognizersIndexes = new HashMap<>();
+
+    /**
+     * Tries to apply change to given output.
+     *
+     * @return true when model was updated, false when the change is not supported and the content
+     *         has to be fully reparsed
+     */
+    public boolean update(final RobotFileOutput output, final int offset, final int length, final String text) {
+        final Optional<ChangedToken> changedToken = prepareUpdate(output, offset, length, text);
+        changedToken.ifPresent(ChangedToken::apply);
+        return changedToken.isPresent();
+    }
+
+    /**
+     * Checks if the change can be applied to given output. The returned change should be applied
+     * after the document is changed, as long as the output was not modified in the meantime.
+     *
+     * @return change to apply or empty optional when content has to be fully reparsed
+     */
+    public synchronized Optional<ChangedToken> prepareUpdate(final RobotFileOutput output, final int offset,
+            final int length, final String insertedText) {
+        final String text = insertedText == null ? "" : insertedText;
+        if (output == null || !isPlain(text)) {
+            return Optional.empty();
+        }
+        final RobotFile fileModel = output.getFileModel();
+        final Optional<Integer> lineIndex = fileModel.getRobotLineIndexBy(offset);
+        if (!lineIndex.isPresent()) {
+            return Optional.empty();
+        }
+        final RobotLine line = fileModel.getFileContent().get(lineIndex.get());
+        final List<IRobotLineElement> elements = line.getLineElements();
+        for (int i = 0; i < elements.size(); i++) {
+            final IRobotLineElement element = elements.get(i);
+            if (element instanceof RobotToken && !element.getText().isEmpty()
+                    && element.getStartOffset() <= offset && offset + length <= element.getEndOffset()) {
+                final RobotToken token = (RobotToken) element;
+                final String oldText = token.getText();
+                final int start = offset - token.getStartOffset();
+                final String removed = oldText.substring(start, start + length);
+                final String newText = oldText.substring(0, start) + text + oldText.substring(start + length);
+
+                if (isPlain(removed) && (isComment(token) || hasNoSpecialCharacters(oldText))
+                        && !newText.contains("  ") && isNotReserved(oldText)
+                        && isNotReserved(newText) && isRecognizedSameWay(output, oldText, newText)) {
+                    return Optional.of(new ChangedToken(output, lineIndex.get(), i, offset, newText));
+                }
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isPlain(final String text) {
+        return text.chars().allMatch(c -> Character.isLetterOrDigit(c) || c == '_');
+    }
+
+    private static boolean isComment(final RobotToken token) {
+        return token.getTypes().contains(RobotTokenType.START_HASH_COMMENT)
+                || token.getTypes().contains(RobotTokenType.COMMENT_CONTINUE);
+    }
+
+    private static boolean hasNoSpecialCharacters(final String text) {
+        // variables, assignments, settings brackets, comments or escapes may be stored
+        // in the model in some other form than just the token itself
+        return text.chars().noneMatch(c -> SPECIAL_CHARACTERS.indexOf(c) >= 0);
+    }
+
+    private static boolean isNotReserved(final String text) {
+        return !RESERVED_WORDS.contains(normalize(text));
+    }
+
+    private static String normalize(final String text) {
+        return text.replaceAll("\\s", "").toUpperCase();
+    }
+
+    private boolean isRecognizedSameWay(final RobotFileOutput output, final String oldText, final String newText) {
+        final TokenRecognizersIndex recognizers = recognizersIndexes.computeIfAbsent(output.getRobotVersion(),
+                TokenRecognizersIndex::create);
+        return recognizedTypes(recognizers, oldText).equals(recognizedTypes(recognizers, newText));
+    }
+
+    private static List<RobotTokenType> recognizedTypes(final TokenRecognizersIndex recognizers, final String text) {
+        final List<RobotTokenType> types = new ArrayList<>();
+        for (final ATokenRecognizer recognizer : recognizers.getCandidates(text)) {
+            if (recognizer.hasNext(text, FilePosition.NOT_SET, FilePosition.NOT_SET)) {
+                types.add(recognizer.getProducedType());
+            }
+        }
+        return types;
+    }
+
+    public static final class ChangedToken {
+
+        private final RobotFileOutput output;
+
+        private final int lineIndex;
+
+        private final int elementIndex;
+
+        private final int changeOffset;
+
+        private final String newText;
+
+        private ChangedToken(final RobotFileOutput output, final int lineIndex, final int elementIndex,
+                final int changeOffset, final String newText) {
+            this.output = output;
+            this.lineIndex = lineIndex;
+            this.elementIndex = elementIndex;
+            this.changeOffset = changeOffset;
+            this.newText = newText;
+        }
+
+        public void apply() {
+            final List<RobotLine> lines = output.getFileModel().getFileContent();
+            final RobotLine changedLine = lines.get(lineIndex);
+            final RobotToken token = (RobotToken) changedLine.getLineElements().get(elementIndex);
+            final int delta = newText.length() - token.getText().length();
+
+            final boolean wasDirty = token.isDirty();
+            token.setText(newText);
+            if (!wasDirty) {
+                token.clearDirtyFlag();
+            }
+
+            final List<IRobotLineElement> elements = changedLine.getLineElements();
+            for (int i = elementIndex + 1; i < elements.size(); i++) {
+                shift(elements.get(i), delta, delta);
+            }
+            shiftEndOfLine(changedLine, delta, delta);
+
+            for (int i = lineIndex + 1; i < lines.size(); i++) {
+                final RobotLine line = lines.get(i);
+                for (final IRobotLineElement element : line.getLineElements()) {
+                    shift(element, 0, delta);
+                }
+                shiftEndOfLine(line, 0, delta);
+            }
+            shiftBuildMessages(output.getBuildingMessages(), token.getLineNumber(), delta);
+        }
+
+        private static void shift(final IRobotLineElement element, final int columnDelta, final int offsetDelta) {
+            if (element.getStartOffset() == FilePosition.NOT_SET) {
+                return;
+            }
+            if (element instanceof RobotToken) {
+                final RobotToken token = (RobotToken) element;
+                token.setStartColumn(token.getStartColumn() + columnDelta);
+                token.setStartOffset(token.getStartOffset() + offsetDelta);
+
+            } else if (element instanceof Separator) {
+                final Separator separator = (Separator) element;
+                separator.setStartColumn(separator.getStartColumn() + columnDelta);
+                separator.setStartOffset(separator.getStartOffset() + offsetDelta);
+            }
+        }
+
+        private static void shiftEndOfLine(final RobotLine line, final int columnDelta, final int offsetDelta) {
+            final IRobotLineElement eol = line.getEndOfLine();
+            if (eol.getStartOffset() != FilePosition.NOT_SET) {
+                line.setEndOfLine(Constant.get(eol), eol.getStartOffset() + offsetDelta,
+                        eol.getStartColumn() + columnDelta);
+            }
+        }
+
+        private void shiftBuildMessages(final List<BuildMessage> messages, final int changedLine, final int delta) {
+            final Set<FileRegion> shiftedRegions = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (final BuildMessage message : messages) {
+                final FileRegion region = message.getFileRegion();
+                if (region != null && shiftedRegions.add(region)) {
+                    region.setStart(shift(region.getStart(), changedLine, delta));
+                    region.setEnd(shift(region.getEnd(), changedLine, delta));
+                }
+            }
+        }
+
+        private FilePosition shift(final FilePosition position, final int changedLine, final int delta) {
+            if (position == null || position.getOffset() <= changeOffset) {
+                return position;
+            }
+            final int column = position.getLine() == changedLine ? position.getColumn() + delta
+                    : position.getColumn();
+            return new FilePosition(position.getLine(), column, position.getOffset() + delta);
+        }
+    }
+}
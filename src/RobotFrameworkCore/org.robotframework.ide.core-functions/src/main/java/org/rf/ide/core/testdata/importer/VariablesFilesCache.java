@@ -0,0 +1,310 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Remembers variables obtained by interpreters from variable files, so that the same file imported
+ * with the same arguments by many suites is asked for only once. Variables are remembered for the
+ * given modification time and size of variable file; changes of python modules imported by it
+ * have to be reported with {@link #invalidate(File)}. Concurrent requests for the same variables
+ * are waiting for the one which asks the interpreter. The number of remembered imports is
+ * limited, the least recently used ones are forgotten first.
+ */
+public class VariablesFilesCache {
+
+    private static class InstanceHolder {
+
+        private static final VariablesFilesCache INSTANCE = new VariablesFilesCache();
+    }
+
+    public static VariablesFilesCache getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    private static final int MAXIMUM_SIZE = 500;
+
+    private static final Pattern IMPORT_PATTERN = Pattern.compile("^\\s*import\\s+(.+)$");
+
+    private static final Pattern FROM_IMPORT_PATTERN = Pattern
+            .compile("^\\s*from\\s+(\\.*)([\\w.]*)\\s+import\\s+(.+)$");
+
+    private static final Pattern MODULE_NAME_PATTERN = Pattern.compile("\\w+(\\.\\w+)*");
+
+    private final Map<ImportKey, VariablesImport> imports;
+
+    @VisibleForTesting
+    VariablesFilesCache() {
+        // apart from shared instance, this class is instantiated only in tests
+        this(MAXIMUM_SIZE);
+    }
+
+    @VisibleForTesting
+    VariablesFilesCache(final int maximumSize) {
+        this.imports = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .<ImportKey, VariablesImport> build()
+                .asMap();
+    }
+
+    public Map<String, Object> getVariablesFromFile(final IRuntimeEnvironment environment, final File source,
+            final List<String> arguments, final EnvironmentSearchPaths additionalPaths) {
+        final ImportKey key = new ImportKey(environment, source, arguments, additionalPaths);
+        imports.keySet().removeIf(importKey -> importKey.isOutdatedVersionOf(key));
+
+        final VariablesImport currentImport = imports.get(key);
+        if (currentImport != null) {
+            return waitFor(currentImport.variables);
+        }
+
+        final VariablesImport newImport = new VariablesImport(findDependencies(key));
+        final VariablesImport concurrentImport = imports.putIfAbsent(key, newImport);
+        if (concurrentImport != null) {
+            return waitFor(concurrentImport.variables);
+        }
+
+        try {
+            final Map<String, Object> variables = Collections
+                    .unmodifiableMap(environment.getVariablesFromFile(source, arguments, additionalPaths));
+            newImport.variables.complete(variables);
+            return variables;
+
+        } catch (final RuntimeException | Error e) {
+            // failures are not remembered, so the interpreter will be asked again next time
+            imports.remove(key, newImport);
+            newImport.variables.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Map<String, Object> waitFor(final CompletableFuture<Map<String, Object>> variablesImport) {
+        try {
+            return Uninterruptibles.getUninterruptibly(variablesImport);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+        }
+    }
+
+    /**
+     * Forgets variables imported from given file and from all the variable files which import it,
+     * directly or through other modules, when searched in directory of variable file or in its
+     * python paths.
+     */
+    public void invalidate(final File changedFile) {
+        try {
+            final Path changedPath = changedFile.getAbsoluteFile().toPath().normalize();
+            imports.values().removeIf(variablesImport -> variablesImport.dependencies.contains(changedPath));
+        } catch (final InvalidPathException e) {
+            imports.clear();
+        }
+    }
+
+    public void invalidateAll() {
+        imports.clear();
+    }
+
+    @VisibleForTesting
+    int size() {
+        return imports.size();
+    }
+
+    private static Set<Path> findDependencies(final ImportKey key) {
+        final Set<Path> dependencies = new HashSet<>();
+        try {
+            final Path sourcePath = key.source.toPath().normalize();
+            final List<Path> searchPaths = new ArrayList<>();
+            if (sourcePath.getParent() != null) {
+                searchPaths.add(sourcePath.getParent());
+            }
+            for (final String pythonPath : key.additionalPaths.getPythonPaths()) {
+                searchPaths.add(new File(pythonPath).getAbsoluteFile().toPath().normalize());
+            }
+
+            final Deque<Path> modulesToScan = new ArrayDeque<>();
+            dependencies.add(sourcePath);
+            modulesToScan.add(sourcePath);
+            while (!modulesToScan.isEmpty()) {
+                for (final Path importedPath : findImportedPaths(modulesToScan.poll(), searchPaths)) {
+                    // paths of modules which do not exist yet are remembered too, as they may be created later
+                    if (dependencies.add(importedPath) && Files.isRegularFile(importedPath)) {
+                        modulesToScan.add(importedPath);
+                    }
+                }
+            }
+        } catch (final InvalidPathException e) {
+            // imported modules are not known, so the variables are only forgotten when source file changes
+        }
+        return dependencies;
+    }
+
+    private static List<Path> findImportedPaths(final Path modulePath, final List<Path> searchPaths) {
+        final List<Path> importedPaths = new ArrayList<>();
+        if (!modulePath.toString().toLowerCase().endsWith(".py")) {
+            return importedPaths;
+        }
+        try (Stream<String> lines = Files.lines(modulePath, StandardCharsets.UTF_8)) {
+            lines.forEach(line -> {
+                final Matcher importMatcher = IMPORT_PATTERN.matcher(line);
+                final Matcher fromImportMatcher = FROM_IMPORT_PATTERN.matcher(line);
+                if (importMatcher.matches()) {
+                    for (final String moduleName : getImportedNames(importMatcher.group(1))) {
+                        for (final Path searchPath : searchPaths) {
+                            importedPaths.addAll(getModulePaths(searchPath, moduleName));
+                        }
+                    }
+
+                } else if (fromImportMatcher.matches()) {
+                    final int level = fromImportMatcher.group(1).length();
+                    final String packageName = fromImportMatcher.group(2);
+
+                    final List<Path> packageSearchPaths = new ArrayList<>();
+                    if (level == 0) {
+                        packageSearchPaths.addAll(searchPaths);
+                    } else {
+                        Path searchPath = modulePath.getParent();
+                        for (int i = 1; i < level && searchPath != null; i++) {
+                            searchPath = searchPath.getParent();
+                        }
+                        if (searchPath != null) {
+                            packageSearchPaths.add(searchPath);
+                        }
+                    }
+                    // imported names may be either submodules or attributes of the package
+                    final List<String> moduleNames = new ArrayList<>();
+                    for (final String name : getImportedNames(fromImportMatcher.group(3))) {
+                        moduleNames.add(packageName.isEmpty() ? name : packageName + "." + name);
+                    }
+                    if (!packageName.isEmpty()) {
+                        moduleNames.add(packageName);
+                    }
+                    for (final String moduleName : moduleNames) {
+                        for (final Path searchPath : packageSearchPaths) {
+                            importedPaths.addAll(getModulePaths(searchPath, moduleName));
+                        }
+                    }
+                }
+            });
+        } catch (final IOException | UncheckedIOException e) {
+            // the module is unreadable, so the interpreter will not import it either
+        }
+        return importedPaths;
+    }
+
+    private static List<String> getImportedNames(final String importedNames) {
+        final List<String> names = new ArrayList<>();
+        final String withoutComment = importedNames.split("#", 2)[0];
+        for (final String importedName : withoutComment.replaceAll("[()\\\\]", "").split(",")) {
+            final String name = importedName.trim().split("\\s+", 2)[0];
+            if (MODULE_NAME_PATTERN.matcher(name).matches()) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private static List<Path> getModulePaths(final Path searchPath, final String moduleName) {
+        // importing a.b module executes a/__init__.py and then either a/b.py or a/b/__init__.py
+        final List<Path> paths = new ArrayList<>();
+        Path packagePath = searchPath;
+        for (final String name : moduleName.split("\\.")) {
+            paths.add(packagePath.resolve(name + ".py"));
+            packagePath = packagePath.resolve(name);
+            paths.add(packagePath.resolve("__init__.py"));
+        }
+        return paths;
+    }
+
+    private static final class VariablesImport {
+
+        private final CompletableFuture<Map<String, Object>> variables = new CompletableFuture<>();
+
+        private final Set<Path> dependencies;
+
+        VariablesImport(final Set<Path> dependencies) {
+            this.dependencies = dependencies;
+        }
+    }
+
+    private static final class ImportKey {
+
+        private final IRuntimeEnvironment environment;
+
+        private final File source;
+
+        private final long lastModified;
+
+        private final long size;
+
+        private final List<String> arguments;
+
+        private final EnvironmentSearchPaths additionalPaths;
+
+        ImportKey(final IRuntimeEnvironment environment, final File source, final List<String> arguments,
+                final EnvironmentSearchPaths additionalPaths) {
+            this.environment = environment;
+            this.source = source.getAbsoluteFile();
+            this.lastModified = source.lastModified();
+            this.size = source.length();
+            this.arguments = new ArrayList<>(arguments);
+            this.additionalPaths = new EnvironmentSearchPaths(additionalPaths.getClassPaths(),
+                    additionalPaths.getPythonPaths());
+        }
+
+        boolean isOutdatedVersionOf(final ImportKey that) {
+            return this.source.equals(that.source)
+                    && (this.lastModified != that.lastModified || this.size != that.size);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj != null && obj.getClass() == ImportKey.class) {
+                final ImportKey that = (ImportKey) obj;
+                return this.environment.equals(that.environment) && this.source.equals(that.source)
+                        && this.lastModified == that.lastModified && this.size == that.size
+                        && this.arguments.equals(that.arguments) && this.additionalPaths.equals(that.additionalPaths);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(environment, source, lastModified, size, arguments, additionalPaths);
+        }
+    }
+}
@@ -40,6 +40,17 @@ public class VariablesImporter {
 
     private static final Pattern ILLEGAL_PATH_TEXT = Pattern.compile("\\s+([\\\\]|/)");
 
+    private final VariablesFilesCache variablesFilesCache;
+
+    public VariablesImporter() {
+        this(VariablesFilesCache.getInstance());
+    }
+
+    @VisibleForTesting
+    VariablesImporter(final VariablesFilesCache variablesFilesCache) {
+        this.variablesFilesCache = variablesFilesCache;
+    }
+
     public List<VariablesFileImportReference> importVariables(final PathsProvider pathsProvider,
             final RobotProjectHolder robotProject, final RobotFileOutput robotFile) {
 
@@ -93,7 +104,7 @@ public class VariablesImporter {
                     }
 
                     if (varImportRef == null) {
-                        // could not find import reference in project, so will ask interpreter
+                        // could not find import reference in project, so will ask interpreter (or take cached answer)
                         Map<String, Object> variablesFromFile = new HashMap<>();
                         try {
                             final List<String> pythonPaths = pathsProvider.provideUserSearchPaths()
@@ -101,9 +112,9 @@ public class VariablesImporter {
                                     .map(File::getAbsolutePath)
                                     .collect(toList());
 
-                            variablesFromFile = robotProject.getRuntimeEnvironment()
-                                    .getVariablesFromFile(varFile, varFileArguments,
-                                            new EnvironmentSearchPaths(new ArrayList<>(), pythonPaths));
+                            variablesFromFile = variablesFilesCache.getVariablesFromFile(
+                                    robotProject.getRuntimeEnvironment(), varFile, varFileArguments,
+                                    new EnvironmentSearchPaths(new ArrayList<>(), pythonPaths));
                         } catch (final Exception e) {
                             reportError(String.format("Problem importing variable file '%s'. %s", path, e.getMessage()),
                                     currentRobotFile, varImport, robotFile);
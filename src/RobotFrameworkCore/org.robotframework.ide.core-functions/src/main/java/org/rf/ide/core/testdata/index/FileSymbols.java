@@ -0,0 +1,290 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.index;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.rf.ide.core.libraries.Documentation;
+import org.rf.ide.core.libraries.KeywordSpecification;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.testdata.model.IDocumentationHolder;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.presenter.DocumentationServiceHandler;
+import org.rf.ide.core.testdata.model.table.LocalSetting;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.setting.AImported;
+import org.rf.ide.core.testdata.model.table.setting.LibraryImport;
+import org.rf.ide.core.testdata.model.table.variables.AVariable;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Skeleton of robot file: names of everything what is declared inside it together with the imports.
+ * It is identified by file path, modification time and size, so that it can be used instead of
+ * parsing the file as long as the file was not changed.
+ */
+public final class FileSymbols {
+
+    private final String path;
+
+    private final long lastModified;
+
+    private final long size;
+
+    private final List<KeywordSymbol> keywords;
+
+    private final List<String> variables;
+
+    private final List<String> testCases;
+
+    private final List<String> tasks;
+
+    private final List<ImportSymbol> imports;
+
+    @JsonCreator
+    public FileSymbols(@JsonProperty("path") final String path, @JsonProperty("lastModified") final long lastModified,
+            @JsonProperty("size") final long size, @JsonProperty("keywords") final List<KeywordSymbol> keywords,
+            @JsonProperty("variables") final List<String> variables,
+            @JsonProperty("testCases") final List<String> testCases, @JsonProperty("tasks") final List<String> tasks,
+            @JsonProperty("imports") final List<ImportSymbol> imports) {
+        this.path = path;
+        this.lastModified = lastModified;
+        this.size = size;
+        this.keywords = keywords == null ? new ArrayList<>() : keywords;
+        this.variables = variables == null ? new ArrayList<>() : variables;
+        this.testCases = testCases == null ? new ArrayList<>() : testCases;
+        this.tasks = tasks == null ? new ArrayList<>() : tasks;
+        this.imports = imports == null ? new ArrayList<>() : imports;
+    }
+
+    public static FileSymbols create(final File file, final RobotFile model) {
+        final List<KeywordSymbol> keywords = model.getKeywordTable()
+                .getKeywords()
+                .stream()
+                .map(KeywordSymbol::create)
+                .collect(toList());
+        final List<String> variables = model.getVariableTable()
+                .getVariables()
+                .stream()
+                .map(AVariable::getDeclaration)
+                .map(RobotToken::getText)
+                .collect(toList());
+        final List<String> testCases = model.getTestCaseTable()
+                .getTestCases()
+                .stream()
+                .map(testCase -> testCase.getName().getText())
+                .collect(toList());
+        final List<String> tasks = model.getTasksTable()
+                .getTasks()
+                .stream()
+                .map(task -> task.getName().getText())
+                .collect(toList());
+        final List<ImportSymbol> imports = model.getSettingTable()
+                .getImports()
+                .stream()
+                .map(ImportSymbol::create)
+                .collect(toList());
+        return new FileSymbols(file.getAbsolutePath(), file.lastModified(), file.length(), keywords, variables,
+                testCases, tasks, imports);
+    }
+
+    /**
+     * Creates symbols of libspec file: keywords of the library described by given specification.
+     */
+    public static FileSymbols create(final File file, final LibrarySpecification specification) {
+        final List<KeywordSymbol> keywords = specification.getKeywordsStream()
+                .map(KeywordSymbol::create)
+                .collect(toList());
+        return new FileSymbols(file.getAbsolutePath(), file.lastModified(), file.length(), keywords,
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public List<KeywordSymbol> getKeywords() {
+        return keywords;
+    }
+
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    public List<String> getTestCases() {
+        return testCases;
+    }
+
+    public List<String> getTasks() {
+        return tasks;
+    }
+
+    public List<ImportSymbol> getImports() {
+        return imports;
+    }
+
+    /**
+     * Checks whether those symbols were taken from current content of given file.
+     */
+    public boolean isUpToDate(final File file) {
+        return path.equals(file.getAbsolutePath()) && lastModified == file.lastModified() && size == file.length();
+    }
+
+    /**
+     * Checks whether files importing the file of those symbols would see the same definitions in
+     * both files, i.e. whether keywords, variables and imports are the same.
+     */
+    public boolean exposesSameDefinitions(final FileSymbols other) {
+        return other != null && keywords.equals(other.keywords) && variables.equals(other.variables)
+                && imports.equals(other.imports);
+    }
+
+    public static final class KeywordSymbol {
+
+        private final String name;
+
+        private final List<String> arguments;
+
+        private final boolean deprecated;
+
+        @JsonCreator
+        public KeywordSymbol(@JsonProperty("name") final String name,
+                @JsonProperty("arguments") final List<String> arguments,
+                @JsonProperty("deprecated") final boolean deprecated) {
+            this.name = name;
+            this.arguments = arguments == null ? new ArrayList<>() : arguments;
+            this.deprecated = deprecated;
+        }
+
+        private static KeywordSymbol create(final UserKeyword keyword) {
+            final List<String> arguments = keyword.getArguments()
+                    .stream()
+                    .map(LocalSetting::getTokensWithoutDeclaration)
+                    .flatMap(List::stream)
+                    .map(RobotToken::getText)
+                    .collect(toList());
+            final boolean deprecated = keyword.getDocumentation()
+                    .stream()
+                    .findFirst()
+                    .map(setting -> setting.adaptTo(IDocumentationHolder.class))
+                    .map(DocumentationServiceHandler::toShowConsolidated)
+                    .map(Documentation::isDeprecating)
+                    .orElse(false);
+            return new KeywordSymbol(keyword.getName().getText(), arguments, deprecated);
+        }
+
+        private static KeywordSymbol create(final KeywordSpecification keyword) {
+            return new KeywordSymbol(keyword.getName(), new ArrayList<>(keyword.getArguments()),
+                    keyword.isDeprecated());
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getArguments() {
+            return arguments;
+        }
+
+        public boolean isDeprecated() {
+            return deprecated;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj != null && obj.getClass() == getClass()) {
+                final KeywordSymbol that = (KeywordSymbol) obj;
+                return this.name.equals(that.name) && this.arguments.equals(that.arguments)
+                        && this.deprecated == that.deprecated;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, arguments, deprecated);
+        }
+    }
+
+    public static final class ImportSymbol {
+
+        private final String type;
+
+        private final String pathOrName;
+
+        private final List<String> arguments;
+
+        @JsonCreator
+        public ImportSymbol(@JsonProperty("type") final String type,
+                @JsonProperty("pathOrName") final String pathOrName,
+                @JsonProperty("arguments") final List<String> arguments) {
+            this.type = type;
+            this.pathOrName = pathOrName;
+            this.arguments = arguments == null ? new ArrayList<>() : arguments;
+        }
+
+        private static ImportSymbol create(final AImported imported) {
+            final String pathOrName = imported.getPathOrName() == null ? "" : imported.getPathOrName().getText();
+            final List<String> arguments = imported.getArguments().stream().map(RobotToken::getText).collect(toList());
+            if (imported instanceof LibraryImport) {
+                ((LibraryImport) imported).getAlias()
+                        .getElementTokens()
+                        .stream()
+                        .map(RobotToken::getText)
+                        .forEach(arguments::add);
+            }
+            return new ImportSymbol(imported.getType().name(), pathOrName, arguments);
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        @JsonIgnore
+        public AImported.Type getImportType() {
+            return AImported.Type.valueOf(type);
+        }
+
+        public String getPathOrName() {
+            return pathOrName;
+        }
+
+        public List<String> getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj != null && obj.getClass() == getClass()) {
+                final ImportSymbol that = (ImportSymbol) obj;
+                return this.type.equals(that.type) && this.pathOrName.equals(that.pathOrName)
+                        && this.arguments.equals(that.arguments);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, pathOrName, arguments);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Index of symbols declared in robot files, which can be stored on disk and read back, so that the
+ * skeletons of files do not have to be obtained by parsing them again after restart.
+ * <p>
+ * Stored symbols do not contain positions of definitions, so they are only able to answer what
+ * given file declares. Consumers which need model elements, like definition locators, search or
+ * navigator, still have to parse the files.
+ */
+public class SymbolsIndex {
+
+    // increased whenever the content of stored symbols changes, so that outdated index is not used
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<String, FileSymbols> symbols = new ConcurrentHashMap<>();
+
+    private volatile boolean isDirty = false;
+
+    public static SymbolsIndex readFrom(final File indexFile) {
+        final SymbolsIndex index = new SymbolsIndex();
+        if (indexFile.isFile()) {
+            try {
+                final StoredIndex stored = new ObjectMapper().readValue(indexFile, StoredIndex.class);
+                if (stored.version == FORMAT_VERSION) {
+                    stored.files.forEach(fileSymbols -> index.symbols.put(fileSymbols.getPath(), fileSymbols));
+                }
+            } catch (final IOException e) {
+                // corrupted index is dropped and will be recreated
+            }
+        }
+        return index;
+    }
+
+    public synchronized void writeTo(final File indexFile) throws IOException {
+        if (isDirty) {
+            isDirty = false;
+            final StoredIndex stored = new StoredIndex(FORMAT_VERSION, new ArrayList<>(symbols.values()));
+            try {
+                new ObjectMapper().writeValue(indexFile, stored);
+            } catch (final IOException e) {
+                isDirty = true;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns symbols stored for given file regardless of whether the file was modified after they
+     * were stored.
+     */
+    public Optional<FileSymbols> get(final File file) {
+        return Optional.ofNullable(symbols.get(file.getAbsolutePath()));
+    }
+
+    /**
+     * Returns symbols stored for given file only if the file was not modified after they were
+     * stored.
+     */
+    public Optional<FileSymbols> getUpToDate(final File file) {
+        return get(file).filter(fileSymbols -> fileSymbols.isUpToDate(file));
+    }
+
+    /**
+     * Stores given symbols and returns the ones which were previously stored for the same file.
+     */
+    public Optional<FileSymbols> put(final FileSymbols fileSymbols) {
+        isDirty = true;
+        return Optional.ofNullable(symbols.put(fileSymbols.getPath(), fileSymbols));
+    }
+
+    public void remove(final File file) {
+        if (symbols.remove(file.getAbsolutePath()) != null) {
+            isDirty = true;
+        }
+    }
+
+    public int size() {
+        return symbols.size();
+    }
+
+    private static final class StoredIndex {
+
+        private final int version;
+
+        private final List<FileSymbols> files;
+
+        @JsonCreator
+        StoredIndex(@JsonProperty("version") final int version,
+                @JsonProperty("files") final List<FileSymbols> files) {
+            this.version = version;
+            this.files = files == null ? new ArrayList<>() : files;
+        }
+
+        @JsonProperty("version")
+        int getVersion() {
+            return version;
+        }
+
+        @JsonProperty("files")
+        List<FileSymbols> getFiles() {
+            return files;
+        }
+    }
+}
@@ -70,15 +70,18 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
 
     public Optional<Integer> getRobotLineIndexBy(final int offset) {
         if (offset >= 0) {
-            final List<RobotLine> robotLines = getFileContent();
-
-            for (int lineIndex = 0; lineIndex < robotLines.size(); lineIndex++) {
-                final RobotLine line = robotLines.get(lineIndex);
-                final int eolStartOffset = line.getEndOfLine().getStartOffset();
-                final int start = (line.getLineElements().isEmpty()) ? eolStartOffset
-                        : line.getLineElements().get(0).getStartOffset();
-                final int end = eolStartOffset + line.getEndOfLine().getText().length();
-                if (start <= offset && offset < end || end == offset && eolStartOffset == end) {
+            // lines are ordered by offsets, so the first line which ends at or after given offset is found
+            // using binary search; whole content is scanned only when lines surrounding it are not matching,
+            // which may happen when offsets of lines are not set
+            final int candidateIndex = findFirstLineEndingAtOrAfter(offset);
+            final int candidatesEnd = Math.min(candidateIndex + 2, fileContent.size());
+            for (int lineIndex = candidateIndex; lineIndex < candidatesEnd; lineIndex++) {
+                if (containsOffset(fileContent.get(lineIndex), offset)) {
+                    return Optional.of(lineIndex);
+                }
+            }
+            for (int lineIndex = 0; lineIndex < fileContent.size(); lineIndex++) {
+                if (containsOffset(fileContent.get(lineIndex), offset)) {
                     return Optional.of(lineIndex);
                 }
             }
@@ -86,6 +89,32 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
         return Optional.empty();
     }
 
+    private int findFirstLineEndingAtOrAfter(final int offset) {
+        int low = 0;
+        int high = fileContent.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (getEndOffset(fileContent.get(middle)) < offset) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static boolean containsOffset(final RobotLine line, final int offset) {
+        final int eolStartOffset = line.getEndOfLine().getStartOffset();
+        final int start = (line.getLineElements().isEmpty()) ? eolStartOffset
+                : line.getLineElements().get(0).getStartOffset();
+        final int end = getEndOffset(line);
+        return start <= offset && offset < end || end == offset && eolStartOffset == end;
+    }
+
+    private static int getEndOffset(final RobotLine line) {
+        return line.getEndOfLine().getStartOffset() + line.getEndOfLine().getText().length();
+    }
+
     public SettingTable getSettingTable() {
         return (SettingTable) tables.get(RobotTokenType.SETTINGS_TABLE_HEADER);
     }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.keyword;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+import org.rf.ide.core.testdata.model.table.keywords.names.EmbeddedKeywordNamesSupport;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+
+/**
+ * Index of keywords used by {@link KeywordSearcher} in order to limit the keywords which has to be
+ * matched against searched name. Ordinary keywords are mapped by their unified names, both with
+ * and without source prefix. Keywords with embedded arguments (or with names which would be
+ * matched by regular expression anyway) are filtered by literal prefix of the name placed before
+ * first argument.
+ */
+public class KeywordSearchIndex<T extends SearchableKeyword> {
+
+    private final List<T> keywords;
+
+    private final ListMultimap<String, Integer> byUnifiedName = ArrayListMultimap.create();
+
+    private final ListMultimap<String, Integer> byLiteralPrefix = ArrayListMultimap.create();
+
+    public KeywordSearchIndex(final Collection<T> keywords) {
+        this.keywords = new ArrayList<>(keywords);
+
+        for (int i = 0; i < this.keywords.size(); i++) {
+            final T keyword = this.keywords.get(i);
+            final String keywordName = QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()).toLowerCase();
+            final boolean isEmbeddedKeywordName = EmbeddedKeywordNamesSupport.hasEmbeddedArguments(keywordName);
+
+            index(i, keywordName, isEmbeddedKeywordName);
+            if (keyword.getSourceNameInUse() != null) {
+                final String prefixedKeywordName = keyword.getSourceNameInUse().toLowerCase() + "." + keywordName;
+                index(i, isEmbeddedKeywordName ? prefixedKeywordName
+                        : QualifiedKeywordName.unifyDefinition(prefixedKeywordName), isEmbeddedKeywordName);
+            }
+        }
+    }
+
+    private void index(final int position, final String name, final boolean isEmbeddedKeywordName) {
+        if (isEmbeddedKeywordName || name.indexOf('$') != -1) {
+            byLiteralPrefix.put(EmbeddedKeywordNamesSupport.getLiteralPrefix(name), position);
+        } else {
+            byUnifiedName.put(fold(name), position);
+        }
+    }
+
+    public List<T> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns keywords, in the order they were given, which may be matching any of given names.
+     * The returned keywords still have to be matched against names.
+     */
+    public List<T> getCandidates(final List<String> names) {
+        final BitSet positions = new BitSet(keywords.size());
+        for (final String name : names) {
+            final String unifiedName = QualifiedKeywordName.unifyDefinition(name);
+            byUnifiedName.get(fold(unifiedName)).forEach(positions::set);
+
+            for (final String literalPrefix : byLiteralPrefix.keySet()) {
+                if (EmbeddedKeywordNamesSupport.mayMatchIgnoreCase(literalPrefix, name)
+                        || EmbeddedKeywordNamesSupport.mayMatchIgnoreCase(literalPrefix, unifiedName)) {
+                    byLiteralPrefix.get(literalPrefix).forEach(positions::set);
+                }
+            }
+        }
+
+        final List<T> candidates = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            candidates.add(keywords.get(i));
+        }
+        return candidates;
+    }
+
+    private static String fold(final String name) {
+        // names are compared with String.equalsIgnoreCase, which compares characters case
+        // by case, so each character is mapped to the same value used in such comparison
+        final char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+}
@@ -11,6 +11,8 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
 import com.google.common.collect.TreeRangeSet;
@@ -20,6 +22,16 @@ import com.google.common.collect.TreeRangeSet;
  */
 public class EmbeddedKeywordNamesSupport {
 
+    // compiled patterns are reused, as the same definitions are matched against many occurrences
+    private static final Cache<String, Optional<Pattern>> DEFINITION_PATTERNS = CacheBuilder.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    private static final Cache<String, Optional<Pattern>> DEFINITION_PATTERNS_FOR_VARIABLES = CacheBuilder
+            .newBuilder()
+            .maximumSize(10_000)
+            .build();
+
     public static boolean hasVariablesUsed(final String occurrenceName) {
         return !findEmbeddedArgumentsRanges(occurrenceName).isEmpty();
     }
@@ -76,25 +88,64 @@ public class EmbeddedKeywordNamesSupport {
             return false;
         }
 
-        try {
-            if (hasVariablesUsed(occurrenceName)) {
-                // There is a variable used in occurrence - we'll change all variables to ordinary
-                // dots and try if they matches regex with variables replaced by .+ regex
-                final String occurrenceNameWithoutVariables = substituteVariablesWithRegex(occurrenceName, s -> s,
-                        (n, r) -> ".");
-                final String regex = "(?iu)^"
-                        + substituteVariablesWithRegex(definitionName, Pattern::quote, (n, r) -> ".+") + "$";
-                return Pattern.matches(regex, occurrenceNameWithoutVariables);
+        if (hasVariablesUsed(occurrenceName)) {
+            // There is a variable used in occurrence - we'll change all variables to ordinary
+            // dots and try if they matches regex with variables replaced by .+ regex
+            final String occurrenceNameWithoutVariables = substituteVariablesWithDots(occurrenceName);
+            return getPattern(DEFINITION_PATTERNS_FOR_VARIABLES, definitionName, (n, r) -> ".+")
+                    .map(pattern -> pattern.matcher(occurrenceNameWithoutVariables).matches())
+                    .orElse(false);
+
+        } else {
+            return getPattern(DEFINITION_PATTERNS, definitionName,
+                    EmbeddedKeywordNamesSupport::getEmbeddedArgumentRegex)
+                            .map(pattern -> pattern.matcher(occurrenceName).matches())
+                            .orElse(false);
+        }
+    }
 
-            } else {
-                final String regex = "(?iu)^" + substituteVariablesWithRegex(definitionName, Pattern::quote,
-                        EmbeddedKeywordNamesSupport::getEmbeddedArgumentRegex) + "$";
-                return Pattern.matches(regex, occurrenceName);
-            }
+    /**
+     * @return literal part of definition placed before first embedded argument, limited to ASCII
+     *         characters
+     */
+    public static String getLiteralPrefix(final String definitionName) {
+        final RangeSet<Integer> varRanges = findEmbeddedArgumentsRanges(definitionName);
+        final int end = varRanges.isEmpty() ? definitionName.length()
+                : varRanges.span().lowerEndpoint();
+        int i = 0;
+        while (i < end && definitionName.charAt(i) < 128) {
+            i++;
+        }
+        return definitionName.substring(0, i);
+    }
 
-        } catch (final PatternSyntaxException e) {
-            return false;
+    /**
+     * @return false when given occurrence is for sure not matching any definition starting with
+     *         given literal prefix (see {@link #getLiteralPrefix(String)}), true otherwise
+     */
+    public static boolean mayMatchIgnoreCase(final String literalPrefix, final String occurrenceName) {
+        return occurrenceName.regionMatches(true, 0, literalPrefix, 0, literalPrefix.length())
+                || hasVariablesUsed(occurrenceName) && substituteVariablesWithDots(occurrenceName)
+                        .regionMatches(true, 0, literalPrefix, 0, literalPrefix.length());
+    }
+
+    private static String substituteVariablesWithDots(final String occurrenceName) {
+        return substituteVariablesWithRegex(occurrenceName, s -> s, (n, r) -> ".");
+    }
+
+    private static Optional<Pattern> getPattern(final Cache<String, Optional<Pattern>> cache,
+            final String definitionName, final BiFunction<String, Range<Integer>, String> regexExtractor) {
+        Optional<Pattern> pattern = cache.getIfPresent(definitionName);
+        if (pattern == null) {
+            try {
+                pattern = Optional.of(Pattern.compile(
+                        "(?iu)^" + substituteVariablesWithRegex(definitionName, Pattern::quote, regexExtractor) + "$"));
+            } catch (final PatternSyntaxException e) {
+                pattern = Optional.empty();
+            }
+            cache.put(definitionName, pattern);
         }
+        return pattern;
     }
 
     private static String substituteVariablesWithRegex(final String definitionName,
@@ -6,6 +6,7 @@
 package org.rf.ide.core.testdata.text.read;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -156,8 +157,7 @@ public class EndOfLineBuilder {
             this.lineNumber = lineNumber;
             this.startColumn = startColumn;
             this.startOffset = startOffset;
-            this.types = new ArrayList<>(0);
-            this.types.add(type);
+            this.types = type.asTypesList();
         }
 
         @Override
@@ -279,6 +279,9 @@ public class EndOfLineBuilder {
 
         private final List<VersionAvailabilityInfo> representation = new ArrayList<>(0);
 
+        // shared by all end of line elements of this type, since there are as many of them as lines in files
+        private final List<IRobotTokenType> asTypesList = Collections.singletonList(this);
+
         private EndOfLineTypes(final VersionAvailabilityInfo... representations) {
             for (final VersionAvailabilityInfo vInfo : representations) {
                 representation.add(vInfo);
@@ -291,6 +294,10 @@ public class EndOfLineBuilder {
             return text;
         }
 
+        private List<IRobotTokenType> asTypesList() {
+            return asTypesList;
+        }
+
         @Override
         public List<VersionAvailabilityInfo> getVersionAvailabilityInfos() {
             return representation;
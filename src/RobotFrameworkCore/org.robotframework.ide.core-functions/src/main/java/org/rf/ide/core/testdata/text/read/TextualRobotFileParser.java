@@ -53,12 +53,7 @@ import org.rf.ide.core.testdata.text.read.postfixes.PostProcessingFixActions;
 import org.rf.ide.core.testdata.text.read.recognizer.ATokenRecognizer;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
-import org.rf.ide.core.testdata.text.read.recognizer.SettingsRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.TableHeadersRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.TaskRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.TestCaseRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.UserKeywordRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.VariablesDeclarationRecognizersProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.TokenRecognizersIndex;
 import org.rf.ide.core.testdata.text.read.separators.ALineSeparator;
 import org.rf.ide.core.testdata.text.read.separators.Separator;
 import org.rf.ide.core.testdata.text.read.separators.TokenSeparatorBuilder;
@@ -67,7 +62,7 @@ import com.google.common.annotations.VisibleForTesting;
 
 public class TextualRobotFileParser {
 
-    private final List<ATokenRecognizer> recognizers = new ArrayList<>();
+    private TokenRecognizersIndex recognizers;
 
     private final List<IParsingMapper> mappers = new ArrayList<>();
 
@@ -147,13 +142,7 @@ public class TextualRobotFileParser {
     }
 
     private void initializeRecognizersAndMappers(final RobotVersion robotVersion) {
-        recognizers.clear();
-        recognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
-        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new TaskRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(robotVersion));
+        recognizers = TokenRecognizersIndex.create(robotVersion);
 
         mappers.clear();
         mappers.addAll(new SettingsMapperProvider().getMappers(robotVersion));
@@ -526,7 +515,7 @@ public class TextualRobotFileParser {
     private List<RobotToken> recognize(final FilePosition fp, final String text) {
         final List<RobotToken> possibleRobotTokens = new ArrayList<>();
 
-        for (final ATokenRecognizer rec : recognizers) {
+        for (final ATokenRecognizer rec : recognizers.getCandidates(text)) {
             if (rec.hasNext(text, fp.getLine(), fp.getColumn())) {
                 final RobotToken token = rec.next();
                 token.setStartColumn(token.getStartColumn() + fp.getColumn());
@@ -17,7 +17,11 @@ public abstract class AExecutableElementSettingsRecognizer extends ATokenRecogni
     private static final Pattern BRACKET_EXTRACTION = Pattern.compile("(?!\\[)([^\\]])+(?!\\\\])");
 
     protected AExecutableElementSettingsRecognizer(final RobotTokenType type) {
-        super(build(buildVariants(type)), type);
+        this(buildVariants(type), type);
+    }
+
+    private AExecutableElementSettingsRecognizer(final List<String> settingNameVariants, final RobotTokenType type) {
+        super(build(settingNameVariants), type, buildRequiredCharacters(settingNameVariants));
     }
 
     private static List<String> buildVariants(final RobotTokenType type) {
@@ -40,6 +44,19 @@ public abstract class AExecutableElementSettingsRecognizer extends ATokenRecogni
         return variants;
     }
 
+    private static String buildRequiredCharacters(final List<String> settingNameVariants) {
+        if (settingNameVariants.isEmpty()) {
+            return "";
+        }
+        final StringBuilder required = new StringBuilder("[]");
+        for (final char c : settingNameVariants.get(0).toLowerCase().toCharArray()) {
+            if (settingNameVariants.stream().allMatch(variant -> variant.toLowerCase().indexOf(c) >= 0)) {
+                required.append(c);
+            }
+        }
+        return required.toString();
+    }
+
     private static Pattern build(final List<String> settingNameVariants) {
         final StringBuilder patternText = new StringBuilder();
         if (!settingNameVariants.isEmpty()) {
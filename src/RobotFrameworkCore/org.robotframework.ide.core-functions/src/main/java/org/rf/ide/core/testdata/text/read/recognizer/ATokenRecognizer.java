@@ -28,9 +28,22 @@ public abstract class ATokenRecognizer {
 
     private String text;
 
+    private final String requiredCharacters;
+
     protected ATokenRecognizer(final Pattern pattern, final RobotTokenType type) {
+        this(pattern, type, "");
+    }
+
+    /**
+     * @param requiredCharacters
+     *            characters which all have to be present in text in order for pattern to be found,
+     *            letters are compared ignoring case; empty string means that text has to be always
+     *            matched against the pattern
+     */
+    protected ATokenRecognizer(final Pattern pattern, final RobotTokenType type, final String requiredCharacters) {
         this.pattern = pattern;
         this.type = type;
+        this.requiredCharacters = requiredCharacters;
     }
 
     public RobotTokenType getProducedType() {
@@ -41,6 +54,10 @@ public abstract class ATokenRecognizer {
         return pattern;
     }
 
+    public String getRequiredCharacters() {
+        return requiredCharacters;
+    }
+
     public boolean isApplicableFor(@SuppressWarnings("unused") final RobotVersion robotVersion) {
         return true;
     }
@@ -24,9 +24,15 @@ import com.google.common.collect.Range;
 
 public class RobotToken implements IRobotLineElement, Serializable {
 
-    private static final long serialVersionUID = -7333635148571215189L;
+    private static final long serialVersionUID = 6203394578516128473L;
 
-    private FilePosition fp = new FilePosition(NOT_SET, NOT_SET, NOT_SET);
+    // position is kept in primitive fields instead of FilePosition object, as there are lots of tokens
+    // in the model and their positions are set one coordinate at a time while parsing
+    private int lineNumber = NOT_SET;
+
+    private int startColumn = NOT_SET;
+
+    private int startOffset = NOT_SET;
 
     private String text = "";
 
@@ -99,28 +105,28 @@ public class RobotToken implements IRobotLineElement, Serializable {
 
     @Override
     public int getLineNumber() {
-        return fp.getLine();
+        return lineNumber;
     }
 
     public void setLineNumber(final int lineNumber) {
-        fp = new FilePosition(lineNumber, fp.getColumn(), fp.getOffset());
+        this.lineNumber = lineNumber;
     }
 
     @Override
     public int getStartColumn() {
-        return fp.getColumn();
+        return startColumn;
     }
 
     public void setStartColumn(final int startColumn) {
-        fp = new FilePosition(fp.getLine(), startColumn, fp.getOffset());
+        this.startColumn = startColumn;
     }
 
     @Override
     public int getEndColumn() {
         int endColumn = NOT_SET;
 
-        if (fp.getColumn() != NOT_SET) {
-            endColumn = fp.getColumn() + text.length();
+        if (startColumn != NOT_SET) {
+            endColumn = startColumn + text.length();
         }
 
         return endColumn;
@@ -132,12 +138,12 @@ public class RobotToken implements IRobotLineElement, Serializable {
     }
 
     public void setStartOffset(final int startOffset) {
-        fp = new FilePosition(fp.getLine(), fp.getColumn(), startOffset);
+        this.startOffset = startOffset;
     }
 
     @Override
     public int getStartOffset() {
-        return fp.getOffset();
+        return startOffset;
     }
 
     public int getLength() {
@@ -191,16 +197,19 @@ public class RobotToken implements IRobotLineElement, Serializable {
 
     @Override
     public String toString() {
-        return String.format("RobotToken [filePosition=%s, text=%s, types=%s, isDirty=%s]", fp, text, types, isDirty);
+        return String.format("RobotToken [filePosition=%s, text=%s, types=%s, isDirty=%s]", getFilePosition(), text,
+                types, isDirty);
     }
 
     @Override
     public FilePosition getFilePosition() {
-        return fp;
+        return new FilePosition(lineNumber, startColumn, startOffset);
     }
 
     public void setFilePosition(final FilePosition fp) {
-        this.fp = fp;
+        this.lineNumber = fp.getLine();
+        this.startColumn = fp.getColumn();
+        this.startOffset = fp.getOffset();
     }
 
     public FilePosition getEndFilePosition() {
@@ -208,7 +217,7 @@ public class RobotToken implements IRobotLineElement, Serializable {
     }
 
     public FileRegion getFileRegion() {
-        return new FileRegion(fp.copy(), new FilePosition(getLineNumber(), getEndColumn(), getEndOffset()));
+        return new FileRegion(getFilePosition(), new FilePosition(getLineNumber(), getEndColumn(), getEndOffset()));
     }
 
     @Override
@@ -241,9 +250,9 @@ public class RobotToken implements IRobotLineElement, Serializable {
         t.types.clear();
         t.types.addAll(getTypes());
         if (posInclude) {
-            t.fp = this.fp.copy();
-        } else {
-            t.fp = FilePosition.createNotSet();
+            t.lineNumber = this.lineNumber;
+            t.startColumn = this.startColumn;
+            t.startOffset = this.startOffset;
         }
         t.clearDirtyFlag();
 
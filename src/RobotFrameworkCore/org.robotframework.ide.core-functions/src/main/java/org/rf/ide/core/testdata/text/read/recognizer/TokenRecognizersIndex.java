@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rf.ide.core.environment.RobotVersion;
+
+/**
+ * Groups recognizers by characters required by their patterns, so that for given text only those
+ * recognizers are consulted which are able to find anything in it. Characters present in text are
+ * collected in single scan, afterwards each recognizer is checked with simple bitmask comparison
+ * instead of running its regular expression.
+ */
+public class TokenRecognizersIndex {
+
+    public static TokenRecognizersIndex create(final RobotVersion robotVersion) {
+        final List<ATokenRecognizer> recognizers = new ArrayList<>();
+        recognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new TaskRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(robotVersion));
+        return new TokenRecognizersIndex(recognizers);
+    }
+
+    private final List<ATokenRecognizer> recognizers;
+
+    private final long[] requiredLowMasks;
+
+    private final long[] requiredHighMasks;
+
+    public TokenRecognizersIndex(final List<ATokenRecognizer> recognizers) {
+        this.recognizers = new ArrayList<>(recognizers);
+        this.requiredLowMasks = new long[recognizers.size()];
+        this.requiredHighMasks = new long[recognizers.size()];
+
+        for (int i = 0; i < recognizers.size(); i++) {
+            final String required = recognizers.get(i).getRequiredCharacters();
+            for (int j = 0; j < required.length(); j++) {
+                final char c = normalize(required.charAt(j));
+                if (c < 64) {
+                    requiredLowMasks[i] |= 1L << c;
+                } else if (c < 128) {
+                    requiredHighMasks[i] |= 1L << c - 64;
+                }
+            }
+        }
+    }
+
+    public List<ATokenRecognizer> getRecognizers() {
+        return recognizers;
+    }
+
+    /**
+     * Returns recognizers, in the order they were given, which patterns may be found in given text.
+     */
+    public List<ATokenRecognizer> getCandidates(final String text) {
+        long lowMask = 0L;
+        long highMask = 0L;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = normalize(text.charAt(i));
+            if (c < 64) {
+                lowMask |= 1L << c;
+            } else if (c < 128) {
+                highMask |= 1L << c - 64;
+            }
+        }
+
+        final List<ATokenRecognizer> candidates = new ArrayList<>();
+        for (int i = 0; i < recognizers.size(); i++) {
+            if ((lowMask & requiredLowMasks[i]) == requiredLowMasks[i]
+                    && (highMask & requiredHighMasks[i]) == requiredHighMasks[i]) {
+                candidates.add(recognizers.get(i));
+            }
+        }
+        return candidates;
+    }
+
+    private static char normalize(final char c) {
+        // whitespaces are not required, since patterns are matching any kind of them
+        if (Character.isWhitespace(c)) {
+            return Character.MAX_VALUE;
+        }
+        return 'A' <= c && c <= 'Z' ? (char) (c + 'a' - 'A') : c;
+    }
+}
@@ -16,7 +16,7 @@ public class KeywordsTableHeaderRecognizer extends ATokenRecognizer {
             + createUpperLowerCaseWord("Keywords") + "|" + createUpperLowerCaseWord("Keyword") + ")([\\s]*[*])*");
 
     public KeywordsTableHeaderRecognizer() {
-        super(EXPECTED, RobotTokenType.KEYWORDS_TABLE_HEADER);
+        super(EXPECTED, RobotTokenType.KEYWORDS_TABLE_HEADER, "*Keyword");
     }
 
     @Override
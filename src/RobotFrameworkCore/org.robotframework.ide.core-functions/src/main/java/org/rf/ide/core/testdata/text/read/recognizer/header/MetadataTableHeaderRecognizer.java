@@ -17,7 +17,7 @@ public class MetadataTableHeaderRecognizer extends ATokenRecognizer {
             .compile("[ ]?([*][\\s]*)+[\\s]*" + createUpperLowerCaseWordWithSpacesInside("Metadata") + "([\\s]*[*])*");
 
     public MetadataTableHeaderRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTINGS_TABLE_HEADER);
+        super(EXPECTED, RobotTokenType.SETTINGS_TABLE_HEADER, "*Metadata");
     }
 
     @Override
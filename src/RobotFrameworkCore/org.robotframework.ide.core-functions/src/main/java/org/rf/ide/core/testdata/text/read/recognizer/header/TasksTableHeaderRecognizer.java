@@ -17,7 +17,7 @@ public class TasksTableHeaderRecognizer extends ATokenRecognizer {
             + "|" + createUpperLowerCaseWord("Task") + ")([\\s]*[*])*");
 
     public TasksTableHeaderRecognizer() {
-        super(EXPECTED, RobotTokenType.TASKS_TABLE_HEADER);
+        super(EXPECTED, RobotTokenType.TASKS_TABLE_HEADER, "*Task");
     }
 
     @Override
@@ -17,7 +17,7 @@ public class TestCasesTableHeaderRecognizer extends ATokenRecognizer {
                     + createUpperLowerCaseWord("Cases") + "|" + createUpperLowerCaseWord("Case") + ")([\\s]*[*])*");
 
     public TestCasesTableHeaderRecognizer() {
-        super(EXPECTED, RobotTokenType.TEST_CASES_TABLE_HEADER);
+        super(EXPECTED, RobotTokenType.TEST_CASES_TABLE_HEADER, "*Test Case");
     }
 
     @Override
@@ -19,7 +19,7 @@ public class UserKeywordsTableHeaderRecognizer extends ATokenRecognizer {
                     + createUpperLowerCaseWordWithSpacesInside("Keyword") + ")([\\s]*[*])*");
 
     public UserKeywordsTableHeaderRecognizer() {
-        super(EXPECTED, RobotTokenType.KEYWORDS_TABLE_HEADER);
+        super(EXPECTED, RobotTokenType.KEYWORDS_TABLE_HEADER, "*User Keyword");
     }
 
     @Override
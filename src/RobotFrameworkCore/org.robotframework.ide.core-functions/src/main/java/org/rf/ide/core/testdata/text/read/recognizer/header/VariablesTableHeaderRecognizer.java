@@ -16,7 +16,7 @@ public class VariablesTableHeaderRecognizer extends ATokenRecognizer {
             + createUpperLowerCaseWord("Variables") + "|" + createUpperLowerCaseWord("Variable") + ")([\\s]*[*])*");
 
     public VariablesTableHeaderRecognizer() {
-        super(EXPECTED, RobotTokenType.VARIABLES_TABLE_HEADER);
+        super(EXPECTED, RobotTokenType.VARIABLES_TABLE_HEADER, "*Variable");
     }
 
     @Override
@@ -17,7 +17,7 @@ public class KeywordDocumentationRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Documentation") + "\\s*\\]))");
 
     public KeywordDocumentationRecognizer() {
-        super(EXPECTED, RobotTokenType.KEYWORD_SETTING_DOCUMENTATION);
+        super(EXPECTED, RobotTokenType.KEYWORD_SETTING_DOCUMENTATION, "[Documentation]");
     }
 
     @Override
@@ -18,7 +18,7 @@ public class KeywordPostconditionRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Postcondition") + "\\s*\\]))");
 
     public KeywordPostconditionRecognizer() {
-        super(EXPECTED, RobotTokenType.KEYWORD_SETTING_TEARDOWN);
+        super(EXPECTED, RobotTokenType.KEYWORD_SETTING_TEARDOWN, "[Postcondition]");
     }
 
     @Override
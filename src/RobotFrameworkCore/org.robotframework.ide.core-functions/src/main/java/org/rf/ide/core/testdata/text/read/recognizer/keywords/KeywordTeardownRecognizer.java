@@ -17,7 +17,7 @@ public class KeywordTeardownRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Teardown") + "\\s*\\]))");
 
     public KeywordTeardownRecognizer() {
-        super(EXPECTED, RobotTokenType.KEYWORD_SETTING_TEARDOWN);
+        super(EXPECTED, RobotTokenType.KEYWORD_SETTING_TEARDOWN, "[Teardown]");
     }
 
     @Override
@@ -19,7 +19,7 @@ public class LibraryDeclarationRecognizer extends ATokenRecognizer {
 
 
     public LibraryDeclarationRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_LIBRARY_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_LIBRARY_DECLARATION, "Library");
     }
 
 
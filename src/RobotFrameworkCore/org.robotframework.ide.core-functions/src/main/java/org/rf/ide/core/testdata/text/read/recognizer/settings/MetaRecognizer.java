@@ -16,7 +16,7 @@ public class MetaRecognizer extends ATokenRecognizer {
     public static final Pattern EXPECTED = Pattern.compile("[ ]?(" + createUpperLowerCaseWord("Meta") + ":)");
 
     public MetaRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_METADATA_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_METADATA_DECLARATION, "Meta:");
     }
 
     @Override
@@ -16,7 +16,7 @@ public class MetadataRecognizer extends ATokenRecognizer {
             + "|" + createUpperLowerCaseWord("Metadata") + ")");
 
     public MetadataRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_METADATA_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_METADATA_DECLARATION, "Metadata");
     }
 
     @Override
@@ -19,7 +19,7 @@ public class ResourceDeclarationRecognizer extends ATokenRecognizer {
 
 
     public ResourceDeclarationRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_RESOURCE_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_RESOURCE_DECLARATION, "Resource");
     }
 
 
@@ -19,7 +19,7 @@ public class SettingDocumentRecognizer extends ATokenRecognizer {
             + "|" + createUpperLowerCaseWord("Document") + ")");
 
     public SettingDocumentRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_DOCUMENTATION_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_DOCUMENTATION_DECLARATION, "Document");
     }
 
     @Override
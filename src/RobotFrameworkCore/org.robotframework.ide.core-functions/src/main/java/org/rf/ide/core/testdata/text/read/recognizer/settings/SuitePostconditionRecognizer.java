@@ -20,7 +20,7 @@ public class SuitePostconditionRecognizer extends ATokenRecognizer {
 
 
     public SuitePostconditionRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_SUITE_TEARDOWN_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_SUITE_TEARDOWN_DECLARATION, "Suite Postcondition");
     }
 
     @Override
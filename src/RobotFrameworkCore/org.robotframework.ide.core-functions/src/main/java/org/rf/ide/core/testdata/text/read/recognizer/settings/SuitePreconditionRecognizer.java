@@ -19,7 +19,7 @@ public class SuitePreconditionRecognizer extends ATokenRecognizer {
             + createUpperLowerCaseWord("Precondition") + "([\\s]*:)?");
 
     public SuitePreconditionRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_SUITE_SETUP_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_SUITE_SETUP_DECLARATION, "Suite Precondition");
     }
 
     @Override
@@ -19,7 +19,7 @@ public class SuiteTeardownRecognizer extends ATokenRecognizer {
 
 
     public SuiteTeardownRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_SUITE_TEARDOWN_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_SUITE_TEARDOWN_DECLARATION, "Suite Teardown");
     }
 
 
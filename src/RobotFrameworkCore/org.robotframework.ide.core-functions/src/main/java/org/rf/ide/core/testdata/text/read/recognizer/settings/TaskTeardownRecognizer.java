@@ -17,7 +17,7 @@ public class TaskTeardownRecognizer extends ATokenRecognizer {
             "[ ]?" + createUpperLowerCaseWord("Task") + "[\\s]+" + createUpperLowerCaseWord("Teardown") + "([\\s]*:)?");
 
     public TaskTeardownRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TASK_TEARDOWN_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TASK_TEARDOWN_DECLARATION, "Task Teardown");
     }
 
     @Override
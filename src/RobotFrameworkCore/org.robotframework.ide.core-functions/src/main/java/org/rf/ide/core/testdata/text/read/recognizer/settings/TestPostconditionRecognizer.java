@@ -20,7 +20,7 @@ public class TestPostconditionRecognizer extends ATokenRecognizer {
 
 
     public TestPostconditionRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TEST_TEARDOWN_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TEST_TEARDOWN_DECLARATION, "Test Postcondition");
     }
 
     @Override
@@ -19,7 +19,7 @@ public class TestSetupRecognizer extends ATokenRecognizer {
 
 
     public TestSetupRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TEST_SETUP_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TEST_SETUP_DECLARATION, "Test Setup");
     }
 
 
@@ -21,7 +21,7 @@ public class TestTemplateRecognizer extends ATokenRecognizer {
 
 
     public TestTemplateRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TEST_TEMPLATE_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TEST_TEMPLATE_DECLARATION, "Test Template");
     }
 
 
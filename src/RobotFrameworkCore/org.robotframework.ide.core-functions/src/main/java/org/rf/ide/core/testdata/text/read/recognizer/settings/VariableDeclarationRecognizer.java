@@ -19,7 +19,7 @@ public class VariableDeclarationRecognizer extends ATokenRecognizer {
 
 
     public VariableDeclarationRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_VARIABLES_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_VARIABLES_DECLARATION, "Variables");
     }
 
 
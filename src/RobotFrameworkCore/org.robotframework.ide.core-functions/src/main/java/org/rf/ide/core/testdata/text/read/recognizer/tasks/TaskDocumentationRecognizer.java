@@ -18,7 +18,7 @@ public class TaskDocumentationRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Documentation") + "\\s*\\]))");
 
     public TaskDocumentationRecognizer() {
-        super(EXPECTED, RobotTokenType.TASK_SETTING_DOCUMENTATION);
+        super(EXPECTED, RobotTokenType.TASK_SETTING_DOCUMENTATION, "[Documentation]");
     }
 
     @Override
@@ -18,7 +18,7 @@ public class TaskSetupRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Setup") + "\\s*\\]))");
 
     public TaskSetupRecognizer() {
-        super(EXPECTED, RobotTokenType.TASK_SETTING_SETUP);
+        super(EXPECTED, RobotTokenType.TASK_SETTING_SETUP, "[Setup]");
     }
 
     @Override
@@ -18,7 +18,7 @@ public class TaskTemplateRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Template") + "\\s*\\]))");
 
     public TaskTemplateRecognizer() {
-        super(EXPECTED, RobotTokenType.TASK_SETTING_TEMPLATE);
+        super(EXPECTED, RobotTokenType.TASK_SETTING_TEMPLATE, "[Template]");
     }
 
     @Override
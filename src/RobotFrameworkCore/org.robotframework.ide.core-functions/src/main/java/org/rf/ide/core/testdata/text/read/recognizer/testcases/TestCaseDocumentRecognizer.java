@@ -18,7 +18,7 @@ public class TestCaseDocumentRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Document") + "\\s*\\]))");
 
     public TestCaseDocumentRecognizer() {
-        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_DOCUMENTATION);
+        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_DOCUMENTATION, "[Document]");
     }
 
     @Override
@@ -18,7 +18,7 @@ public class TestCasePreconditionRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Precondition") + "\\s*\\]))");
 
     public TestCasePreconditionRecognizer() {
-        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_SETUP);
+        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_SETUP, "[Precondition]");
     }
 
     @Override
@@ -17,7 +17,7 @@ public class TestCaseTeardownRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Teardown") + "\\s*\\]))");
 
     public TestCaseTeardownRecognizer() {
-        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_TEARDOWN);
+        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_TEARDOWN, "[Teardown]");
     }
 
     @Override
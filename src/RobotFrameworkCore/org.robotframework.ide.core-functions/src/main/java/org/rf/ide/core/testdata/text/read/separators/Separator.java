@@ -48,7 +48,11 @@ public class Separator implements IRobotLineElement {
         return sep;
     }
 
-    private FilePosition fp = new FilePosition(NOT_SET, NOT_SET, NOT_SET);
+    private int lineNumber = NOT_SET;
+
+    private int startColumn = NOT_SET;
+
+    private int startOffset = NOT_SET;
 
     private String raw = "";
 
@@ -113,40 +117,40 @@ public class Separator implements IRobotLineElement {
 
     @Override
     public int getLineNumber() {
-        return fp.getLine();
+        return lineNumber;
     }
 
     public void setLineNumber(final int lineNumber) {
-        fp = new FilePosition(lineNumber, fp.getColumn(), fp.getOffset());
+        this.lineNumber = lineNumber;
     }
 
     @Override
     public int getStartColumn() {
-        return fp.getColumn();
+        return startColumn;
     }
 
     public void setStartColumn(final int startColumn) {
-        fp = new FilePosition(fp.getLine(), startColumn, fp.getOffset());
+        this.startColumn = startColumn;
     }
 
     @Override
     public int getEndColumn() {
         int endColumn = NOT_SET;
 
-        if (fp.getColumn() != NOT_SET) {
-            endColumn = fp.getColumn() + text.length();
+        if (startColumn != NOT_SET) {
+            endColumn = startColumn + text.length();
         }
 
         return endColumn;
     }
 
     public void setStartOffset(final int startOffset) {
-        fp = new FilePosition(fp.getLine(), fp.getColumn(), startOffset);
+        this.startOffset = startOffset;
     }
 
     @Override
     public int getStartOffset() {
-        return fp.getOffset();
+        return startOffset;
     }
 
     @Override
@@ -190,12 +194,12 @@ public class Separator implements IRobotLineElement {
 
     @Override
     public String toString() {
-        return String.format("Separator [filePos=%s, text=%s, type=%s]", fp, text, type);
+        return String.format("Separator [filePos=%s, text=%s, type=%s]", getFilePosition(), text, type);
     }
 
     @Override
     public FilePosition getFilePosition() {
-        return fp;
+        return new FilePosition(lineNumber, startColumn, startOffset);
     }
 
     @Override
@@ -260,9 +264,9 @@ public class Separator implements IRobotLineElement {
         t.setRaw(getRaw());
         t.type = this.type;
         if (posInclude) {
-            t.fp = this.fp.copy();
-        } else {
-            t.fp = FilePosition.createNotSet();
+            t.lineNumber = this.lineNumber;
+            t.startColumn = this.startColumn;
+            t.startOffset = this.startOffset;
         }
         t.clearDirtyFlag();
 
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.validation;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Results of validation stored between validation runs, so that only files which changed or which
+ * import changed files directly or indirectly have to be validated again. For each validated file
+ * the content hash, the files it imports and the reported problems are kept. Content hashes of
+ * imported files are kept too. The whole cache is dropped when it was stored with different
+ * signature, which should describe everything else what validation results depend on.
+ */
+public class ValidationCache {
+
+    // increased whenever the content of stored cache changes, so that outdated cache is not used
+    private static final int FORMAT_VERSION = 1;
+
+    private final String signature;
+
+    private final Map<String, String> hashes;
+
+    private final Map<String, ValidatedFile> validatedFiles;
+
+    // files written during validation run (e.g. libspecs) are hashed after validation when storing
+    private final Map<String, Optional<String>> storedHashes = new HashMap<>();
+
+    @VisibleForTesting
+    ValidationCache(final String signature) {
+        this(signature, new HashMap<>(), new HashMap<>());
+    }
+
+    private ValidationCache(final String signature, final Map<String, String> hashes,
+            final Map<String, ValidatedFile> validatedFiles) {
+        this.signature = signature;
+        this.hashes = hashes;
+        this.validatedFiles = validatedFiles;
+    }
+
+    public static ValidationCache readFrom(final File cacheFile, final String signature) {
+        if (cacheFile.isFile()) {
+            try {
+                final StoredCache stored = new ObjectMapper().readValue(cacheFile, StoredCache.class);
+                if (stored.version == FORMAT_VERSION && signature.equals(stored.signature)) {
+                    final Map<String, ValidatedFile> validatedFiles = new HashMap<>();
+                    stored.files.forEach(file -> validatedFiles.put(file.path, file));
+                    return new ValidationCache(signature, stored.hashes, validatedFiles);
+                }
+            } catch (final IOException e) {
+                // corrupted cache is dropped and will be recreated
+            }
+        }
+        return new ValidationCache(signature);
+    }
+
+    public synchronized void writeTo(final File cacheFile) throws IOException {
+        final StoredCache stored = new StoredCache(FORMAT_VERSION, signature, hashes,
+                new ArrayList<>(validatedFiles.values()));
+        new ObjectMapper().writeValue(cacheFile, stored);
+    }
+
+    /**
+     * Returns those of given files which have to be validated: the ones which were not validated
+     * before, which have changed, which import changed or removed file directly or indirectly, or
+     * which imports could not be fully resolved.
+     */
+    public synchronized Set<File> findFilesToValidate(final Collection<File> files) {
+        return findFilesToValidate(files, new ArrayList<>());
+    }
+
+    /**
+     * Returns files to validate as {@link #findFilesToValidate(Collection)} does, treating also
+     * given files as changed, e.g. when they are about to be rewritten.
+     */
+    public synchronized Set<File> findFilesToValidate(final Collection<File> files,
+            final Collection<File> changedFiles) {
+        final Set<String> changedPaths = new LinkedHashSet<>();
+        changedFiles.stream().map(File::getAbsolutePath).forEach(changedPaths::add);
+        for (final String path : hashes.keySet()) {
+            if (!hash(new File(path)).equals(Optional.of(hashes.get(path)))) {
+                changedPaths.add(path);
+            }
+        }
+
+        final SetMultimap<String, String> importingFiles = HashMultimap.create();
+        for (final ValidatedFile file : validatedFiles.values()) {
+            file.imports.forEach(imported -> importingFiles.put(imported, file.path));
+        }
+        final Set<String> affectedPaths = new LinkedHashSet<>(changedPaths);
+        final Queue<String> pathsToVisit = new ArrayDeque<>(changedPaths);
+        while (!pathsToVisit.isEmpty()) {
+            for (final String importingPath : importingFiles.get(pathsToVisit.poll())) {
+                if (affectedPaths.add(importingPath)) {
+                    pathsToVisit.add(importingPath);
+                }
+            }
+        }
+
+        final Set<File> filesToValidate = new LinkedHashSet<>();
+        for (final File file : files) {
+            final String path = file.getAbsolutePath();
+            final ValidatedFile validatedFile = validatedFiles.get(path);
+            if (validatedFile == null || validatedFile.hasUnresolvedImports || affectedPaths.contains(path)) {
+                filesToValidate.add(file);
+            }
+        }
+        return filesToValidate;
+    }
+
+    public synchronized List<CachedProblem> getProblems(final File file) {
+        return Optional.ofNullable(validatedFiles.get(file.getAbsolutePath()))
+                .map(validatedFile -> validatedFile.problems)
+                .orElseGet(ArrayList::new);
+    }
+
+    /**
+     * Stores results of validation for given file together with the files it imports. Imports
+     * which could not be resolved should be reported, so that the file is always validated. Results
+     * should be stored for all the files which had to be validated, otherwise files depending on
+     * the same changed files as stored ones could be treated as up to date in next run.
+     */
+    public synchronized void store(final File file, final Collection<File> imports,
+            final boolean hasUnresolvedImports, final List<CachedProblem> problems) {
+        final String path = file.getAbsolutePath();
+        final List<String> importedPaths = imports.stream().map(File::getAbsolutePath).distinct().collect(toList());
+        validatedFiles.put(path, new ValidatedFile(path, importedPaths, hasUnresolvedImports, problems));
+
+        Stream.concat(Stream.of(path), importedPaths.stream()).forEach(p -> {
+            final Optional<String> hash = storedHashes.computeIfAbsent(p, filePath -> hash(new File(filePath)));
+            if (hash.isPresent()) {
+                hashes.put(p, hash.get());
+            } else {
+                hashes.remove(p);
+            }
+        });
+    }
+
+    /**
+     * Forgets files which are not validated anymore, e.g. were removed, together with hashes of
+     * files which are not imported by any of remaining files.
+     */
+    public synchronized void retainOnly(final Collection<File> files) {
+        final Set<String> paths = files.stream().map(File::getAbsolutePath).collect(toSet());
+        validatedFiles.keySet().retainAll(paths);
+
+        final Set<String> trackedPaths = new LinkedHashSet<>(validatedFiles.keySet());
+        validatedFiles.values().forEach(file -> trackedPaths.addAll(file.imports));
+        hashes.keySet().retainAll(trackedPaths);
+    }
+
+    @VisibleForTesting
+    int size() {
+        return validatedFiles.size();
+    }
+
+    /**
+     * Hashes the content of given file; directories (e.g. python packages) are hashed together with
+     * all the files inside. Returns empty optional for files which do not exist.
+     */
+    public static Optional<String> hash(final File file) {
+        try {
+            if (file.isFile()) {
+                return Optional.of(Hashing.sha256().hashBytes(Files.readAllBytes(file.toPath())).toString());
+
+            } else if (file.isDirectory()) {
+                final Hasher hasher = Hashing.sha256().newHasher();
+                try (Stream<Path> paths = Files.walk(file.toPath())) {
+                    for (final Path path : paths.filter(Files::isRegularFile).sorted().collect(toList())) {
+                        hasher.putString(file.toPath().relativize(path).toString(), StandardCharsets.UTF_8);
+                        hasher.putBytes(Files.readAllBytes(path));
+                    }
+                }
+                return Optional.of(hasher.hash().toString());
+            }
+        } catch (final IOException e) {
+            // file which cannot be read is treated as missing one
+        }
+        return Optional.empty();
+    }
+
+    public static final class CachedProblem {
+
+        private final int line;
+
+        private final String message;
+
+        private final String severity;
+
+        @JsonCreator
+        public CachedProblem(@JsonProperty("line") final int line, @JsonProperty("message") final String message,
+                @JsonProperty("severity") final String severity) {
+            this.line = line;
+            this.message = message;
+            this.severity = severity;
+        }
+
+        @JsonProperty("line")
+        public int getLine() {
+            return line;
+        }
+
+        @JsonProperty("message")
+        public String getMessage() {
+            return message;
+        }
+
+        @JsonProperty("severity")
+        public String getSeverity() {
+            return severity;
+        }
+    }
+
+    private static final class ValidatedFile {
+
+        private final String path;
+
+        private final List<String> imports;
+
+        private final boolean hasUnresolvedImports;
+
+        private final List<CachedProblem> problems;
+
+        @JsonCreator
+        ValidatedFile(@JsonProperty("path") final String path, @JsonProperty("imports") final List<String> imports,
+                @JsonProperty("hasUnresolvedImports") final boolean hasUnresolvedImports,
+                @JsonProperty("problems") final List<CachedProblem> problems) {
+            this.path = path;
+            this.imports = imports == null ? new ArrayList<>() : imports;
+            this.hasUnresolvedImports = hasUnresolvedImports;
+            this.problems = problems == null ? new ArrayList<>() : problems;
+        }
+
+        @JsonProperty("path")
+        String getPath() {
+            return path;
+        }
+
+        @JsonProperty("imports")
+        List<String> getImports() {
+            return imports;
+        }
+
+        @JsonProperty("hasUnresolvedImports")
+        boolean hasUnresolvedImports() {
+            return hasUnresolvedImports;
+        }
+
+        @JsonProperty("problems")
+        List<CachedProblem> getProblems() {
+            return problems;
+        }
+    }
+
+    private static final class StoredCache {
+
+        private final int version;
+
+        private final String signature;
+
+        private final Map<String, String> hashes;
+
+        private final List<ValidatedFile> files;
+
+        @JsonCreator
+        StoredCache(@JsonProperty("version") final int version, @JsonProperty("signature") final String signature,
+                @JsonProperty("hashes") final Map<String, String> hashes,
+                @JsonProperty("files") final List<ValidatedFile> files) {
+            this.version = version;
+            this.signature = signature;
+            this.hashes = hashes == null ? new HashMap<>() : hashes;
+            this.files = files == null ? new ArrayList<>() : files;
+        }
+
+        @JsonProperty("version")
+        int getVersion() {
+            return version;
+        }
+
+        @JsonProperty("signature")
+        String getSignature() {
+            return signature;
+        }
+
+        @JsonProperty("hashes")
+        Map<String, String> getHashes() {
+            return hashes;
+        }
+
+        @JsonProperty("files")
+        List<ValidatedFile> getFiles() {
+            return files;
+        }
+    }
+}
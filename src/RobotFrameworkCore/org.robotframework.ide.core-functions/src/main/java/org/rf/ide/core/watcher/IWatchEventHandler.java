@@ -5,12 +5,19 @@
  */
 package org.rf.ide.core.watcher;
 
+import java.nio.file.Path;
+import java.util.Set;
+
 /**
  * @author mmarzec
  */
 public interface IWatchEventHandler {
 
-    void handleModifyEvent(final String fileName);
+    /**
+     * Called once for the burst of changes with absolute paths of all the files registered by this
+     * handler which were modified during it.
+     */
+    void handleModifyEvents(final Set<Path> modifiedFiles);
 
     void watchServiceInterrupted();
 }
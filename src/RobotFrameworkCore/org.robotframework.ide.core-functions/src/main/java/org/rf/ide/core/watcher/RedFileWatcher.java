@@ -5,8 +5,6 @@
  */
 package org.rf.ide.core.watcher;
 
-import static com.google.common.collect.Lists.newArrayList;
-
 import java.io.IOException;
 import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.FileSystems;
@@ -15,23 +13,36 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
 
 /**
+ * Watches registered files for modifications. Changes are collected per watched directory and are
+ * reported when there were no more changes in any directory for the time of debounce window, so
+ * that the burst of changes (e.g. caused by checking out another branch) is reported once. All the
+ * changes reported at the same moment are passed to each handler in single batch.
+ *
  * @author mmarzec
  */
 public class RedFileWatcher {
 
+    private static final long DEFAULT_DEBOUNCE_WINDOW_MILLIS = 400;
+
+    // changes which keep coming to the directory are reported anyway after this many windows
+    private static final int MAX_DEBOUNCE_WINDOWS = 10;
+
     private static class InstanceHolder {
 
-        private static final RedFileWatcher INSTANCE = new RedFileWatcher();
+        private static final RedFileWatcher INSTANCE = new RedFileWatcher(DEFAULT_DEBOUNCE_WINDOW_MILLIS);
     }
 
     public static RedFileWatcher getInstance() {
@@ -40,182 +51,221 @@ public class RedFileWatcher {
 
     private WatchService watcher;
 
-    private final List<String> registeredDirs = new ArrayList<>();
+    private final Map<Path, WatchKey> watchedDirs = new HashMap<>();
 
-    private final Map<String, Collection<IWatchEventHandler>> registeredFiles = Collections
-            .synchronizedMap(new HashMap<>());
+    private final Map<Path, Set<IWatchEventHandler>> registeredFiles = new HashMap<>();
 
-    private final LinkedBlockingQueue<String> modifiedFilesQueue = new LinkedBlockingQueue<>(100);
+    private volatile long debounceWindowMillis;
 
-    private final AtomicBoolean isEventProducerThreadStarted = new AtomicBoolean(false);
-
-    private final AtomicBoolean isEventConsumerThreadStarted = new AtomicBoolean(false);
+    @VisibleForTesting
+    RedFileWatcher(final long debounceWindowMillis) {
+        // apart from shared instance, this class is instantiated only in tests
+        this.debounceWindowMillis = debounceWindowMillis;
+    }
 
-    private RedFileWatcher() {
-        // instance of this class should not be created outside
+    public void setDebounceWindow(final long debounceWindowMillis) {
+        this.debounceWindowMillis = debounceWindowMillis;
     }
 
-    public synchronized void registerPath(final Path fileDir, final String fileName,
-            final IWatchEventHandler watchEventHandler) {
+    public synchronized void registerFile(final Path file, final IWatchEventHandler watchEventHandler) {
+        final Path filePath = file.toAbsolutePath().normalize();
+        final Path fileDir = filePath.getParent();
+        if (fileDir == null) {
+            return;
+        }
 
         setupWatcher();
 
-        if (watcher != null && fileDir != null && fileName != null) {
+        if (watcher != null) {
             try {
-                if (!registeredDirs.contains(fileDir.toString()) && isEventProducerThreadStarted.get()
-                        && isEventConsumerThreadStarted.get()) {
-                    fileDir.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY);
-                    registeredDirs.add(fileDir.toString());
-                }
-                final Collection<IWatchEventHandler> handlers = registeredFiles.get(fileName);
-                if (handlers == null) {
-                    registeredFiles.put(fileName, newArrayList(watchEventHandler));
-                } else {
-                    if (!handlers.contains(watchEventHandler)) {
-                        handlers.add(watchEventHandler);
-                    }
+                if (!watchedDirs.containsKey(fileDir)) {
+                    watchedDirs.put(fileDir, fileDir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY));
                 }
+                registeredFiles.computeIfAbsent(filePath, path -> new LinkedHashSet<>()).add(watchEventHandler);
             } catch (final IOException e) {
-                e.printStackTrace();
+                // the directory cannot be watched, so there will be no events for this file
             }
         }
     }
 
-    public synchronized void unregisterFile(final String fileName, final IWatchEventHandler watchEventHandler) {
-        if (fileName != null) {
-            final Collection<IWatchEventHandler> handlers = registeredFiles.get(fileName);
-            if (handlers != null && !handlers.isEmpty()) {
-                if (handlers.size() == 1 && handlers.contains(watchEventHandler)) {
-                    registeredFiles.remove(fileName);
-                } else {
-                    handlers.remove(watchEventHandler);
+    public synchronized void unregisterFile(final Path file, final IWatchEventHandler watchEventHandler) {
+        final Path filePath = file.toAbsolutePath().normalize();
+        final Set<IWatchEventHandler> handlers = registeredFiles.get(filePath);
+        if (handlers != null) {
+            handlers.remove(watchEventHandler);
+            if (handlers.isEmpty()) {
+                registeredFiles.remove(filePath);
+
+                final Path fileDir = filePath.getParent();
+                if (registeredFiles.keySet().stream().noneMatch(path -> fileDir.equals(path.getParent()))) {
+                    final WatchKey key = watchedDirs.remove(fileDir);
+                    if (key != null) {
+                        key.cancel();
+                    }
                 }
             }
         }
     }
 
     public void closeWatchService() {
-        try {
-            if (watcher != null) {
+        final Set<IWatchEventHandler> handlers = new LinkedHashSet<>();
+        synchronized (this) {
+            if (watcher == null) {
+                return;
+            }
+            try {
                 watcher.close();
+            } catch (final IOException e) {
+                // nothing to do
+            } finally {
+                watcher = null;
             }
-        } catch (final IOException e) {
-            // nothing to do
-        } finally {
-            watcher = null;
+            watchedDirs.clear();
+            registeredFiles.values().forEach(handlers::addAll);
+            registeredFiles.clear();
         }
+        handlers.forEach(IWatchEventHandler::watchServiceInterrupted);
     }
 
     private void setupWatcher() {
         if (watcher == null) {
-            registeredDirs.clear();
-            modifiedFilesQueue.clear();
             try {
                 watcher = FileSystems.getDefault().newWatchService();
             } catch (final IOException e) {
-                e.printStackTrace();
+                return;
             }
+            final WatchService service = watcher;
+            final Thread watchingThread = new Thread(() -> watchChanges(service), "RED file watcher");
+            watchingThread.setDaemon(true);
+            watchingThread.start();
         }
-        setupWatchEventProducerThread();
-        setupWatchEventConsumerThread();
     }
 
-    private void setupWatchEventProducerThread() {
-        if (!isEventProducerThreadStarted.getAndSet(true)) {
-            new Thread(() -> {
-
-                while (true) {
-                    if (watcher == null) {
-                        break;
-                    }
-                    WatchKey key;
-                    try {
-                        key = watcher.take();
-                    } catch (InterruptedException | ClosedWatchServiceException e) {
-                        break;
-                    }
-                    for (final WatchEvent<?> eventFromKey : key.pollEvents()) {
-                        final WatchEvent.Kind<?> kind = eventFromKey.kind();
-                        final Path eventContext = (Path) eventFromKey.context();
-
-                        if (kind == StandardWatchEventKinds.OVERFLOW) {
-                            continue;
-                        } else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-
-                            final String fileName = eventContext.getFileName().toString();
-                            if (registeredFiles.get(fileName) != null) {
-                                try {
-                                    if (!modifiedFilesQueue.contains(fileName)) {
-                                        modifiedFilesQueue.put(fileName);
-                                    }
-                                } catch (final InterruptedException e) {
-                                    break;
-                                }
-                            }
-                        }
-                    }
-                    final boolean valid = key.reset();
-                    if (!valid) {
-                        break;
-                    }
+    private void watchChanges(final WatchService service) {
+        final Map<Path, DirectoryChanges> pendingChanges = new HashMap<>();
+        try {
+            while (true) {
+                final WatchKey key = pendingChanges.isEmpty() ? service.take()
+                        : service.poll(timeToNextReport(pendingChanges), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    collectChanges(key, pendingChanges);
                 }
-                isEventProducerThreadStarted.set(false);
-                closeWatchService();
-                sendWatchServiceInterruptedEvent();
-            }).start();
-        }
-    }
-
-    private void setupWatchEventConsumerThread() {
-        if (!isEventConsumerThreadStarted.getAndSet(true)) {
-            new Thread(() -> {
-                while (true) {
-                    try {
-                        final String fileName = modifiedFilesQueue.take();
-                        final Collection<IWatchEventHandler> eventHandlers = registeredFiles.get(fileName);
-                        if (eventHandlers != null && !eventHandlers.isEmpty()) {
-                            for (final IWatchEventHandler watchEventHandler : eventHandlers) {
-                                watchEventHandler.handleModifyEvent(fileName);
-                            }
-                        }
-                        waitForAndRemovePossibleDuplicatedEvents(fileName);
-                    } catch (final InterruptedException e) {
-                        break;
-                    }
+                reportChanges(takeSettledChanges(pendingChanges));
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException e) {
+            // watching ends when service gets closed
+        }
+    }
+
+    private void collectChanges(final WatchKey key, final Map<Path, DirectoryChanges> pendingChanges) {
+        final Path dir = (Path) key.watchable();
+        final Set<Path> modifiedFiles = new LinkedHashSet<>();
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // some events were lost, so every registered file in the directory could be changed
+                modifiedFiles.addAll(getRegisteredFilesInside(dir));
+            } else {
+                final Path file = dir.resolve((Path) event.context());
+                if (isRegistered(file)) {
+                    modifiedFiles.add(file);
                 }
-                isEventConsumerThreadStarted.set(false);
-                closeWatchService();
-                sendWatchServiceInterruptedEvent();
-            }).start();
+            }
+        }
+        if (!key.reset()) {
+            synchronized (this) {
+                watchedDirs.remove(dir, key);
+            }
+        }
+        if (!modifiedFiles.isEmpty()) {
+            pendingChanges.computeIfAbsent(dir, d -> new DirectoryChanges()).add(modifiedFiles);
         }
     }
 
-    private void waitForAndRemovePossibleDuplicatedEvents(final String fileName) {
-        try {
-            Thread.sleep(400);
-        } catch (final InterruptedException e) {
-            return;
+    private synchronized boolean isRegistered(final Path file) {
+        return registeredFiles.containsKey(file);
+    }
+
+    private synchronized Set<Path> getRegisteredFilesInside(final Path dir) {
+        final Set<Path> files = new LinkedHashSet<>();
+        for (final Path file : registeredFiles.keySet()) {
+            if (dir.equals(file.getParent())) {
+                files.add(file);
+            }
         }
-        String nextFileName = modifiedFilesQueue.peek();
-        if (nextFileName != null && nextFileName.equals(fileName)) {
-            modifiedFilesQueue.remove();
-            try {
-                Thread.sleep(200);
-            } catch (final InterruptedException e) {
-                return;
+        return files;
+    }
+
+    private long timeToNextReport(final Map<Path, DirectoryChanges> pendingChanges) {
+        final long now = System.currentTimeMillis();
+        final long lastChangeTime = getLastChangeTime(pendingChanges);
+        long timeToWait = debounceWindowMillis;
+        for (final DirectoryChanges changes : pendingChanges.values()) {
+            timeToWait = Math.min(timeToWait, changes.reportTime(lastChangeTime, debounceWindowMillis) - now);
+        }
+        return Math.max(timeToWait, 0);
+    }
+
+    private Set<Path> takeSettledChanges(final Map<Path, DirectoryChanges> pendingChanges) {
+        final long now = System.currentTimeMillis();
+        final long lastChangeTime = getLastChangeTime(pendingChanges);
+        final Set<Path> modifiedFiles = new LinkedHashSet<>();
+        final Iterator<DirectoryChanges> iterator = pendingChanges.values().iterator();
+        while (iterator.hasNext()) {
+            final DirectoryChanges changes = iterator.next();
+            if (changes.reportTime(lastChangeTime, debounceWindowMillis) <= now) {
+                modifiedFiles.addAll(changes.files);
+                iterator.remove();
             }
-            nextFileName = modifiedFilesQueue.peek();
-            if (nextFileName != null && nextFileName.equals(fileName)) {
-                modifiedFilesQueue.remove();
+        }
+        return modifiedFiles;
+    }
+
+    private static long getLastChangeTime(final Map<Path, DirectoryChanges> pendingChanges) {
+        long lastChangeTime = 0;
+        for (final DirectoryChanges changes : pendingChanges.values()) {
+            lastChangeTime = Math.max(lastChangeTime, changes.lastChangeTime);
+        }
+        return lastChangeTime;
+    }
+
+    private void reportChanges(final Set<Path> modifiedFiles) {
+        final Map<IWatchEventHandler, Set<Path>> filesToReport = new LinkedHashMap<>();
+        synchronized (this) {
+            for (final Path file : modifiedFiles) {
+                for (final IWatchEventHandler handler : registeredFiles.getOrDefault(file, Collections.emptySet())) {
+                    filesToReport.computeIfAbsent(handler, h -> new LinkedHashSet<>()).add(file);
+                }
+            }
+        }
+        for (final Entry<IWatchEventHandler, Set<Path>> entry : filesToReport.entrySet()) {
+            try {
+                entry.getKey().handleModifyEvents(Collections.unmodifiableSet(entry.getValue()));
+            } catch (final RuntimeException e) {
+                // failing handler should not stop reporting changes to other ones
             }
         }
     }
 
-    private void sendWatchServiceInterruptedEvent() {
-        registeredFiles.forEach((file, eventHandlers) -> {
-            if (eventHandlers != null) {
-                eventHandlers.forEach(IWatchEventHandler::watchServiceInterrupted);
+    private static final class DirectoryChanges {
+
+        private final Set<Path> files = new LinkedHashSet<>();
+
+        private long firstChangeTime = -1;
+
+        private long lastChangeTime;
+
+        void add(final Set<Path> modifiedFiles) {
+            lastChangeTime = System.currentTimeMillis();
+            if (firstChangeTime < 0) {
+                firstChangeTime = lastChangeTime;
             }
-        });
+            files.addAll(modifiedFiles);
+        }
+
+        long reportTime(final long lastChangeInAnyDirTime, final long debounceWindowMillis) {
+            return Math.min(lastChangeInAnyDirTime + debounceWindowMillis,
+                    firstChangeTime + MAX_DEBOUNCE_WINDOWS * debounceWindowMillis);
+        }
     }
 }
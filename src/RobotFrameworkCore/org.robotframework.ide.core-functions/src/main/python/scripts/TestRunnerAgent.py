@@ -86,7 +86,9 @@ def _is_logged(level):
 
         
 def _fix_unicode(max_length, data):
-    if sys.version_info < (3, 0, 0) and isinstance(data, unicode):
+    if isinstance(data, _CollectionHandle):
+        return data
+    elif sys.version_info < (3, 0, 0) and isinstance(data, unicode):
         return _truncate(max_length, data.encode('utf-8'))
     elif sys.version_info < (3, 0, 0) and isinstance(data, basestring):
         return _truncate(max_length, data.encode('unicode_escape'))
@@ -110,18 +112,73 @@ def _truncate(max_length, s):
     return s[:max_length] + ' <truncated>' if 0 < max_length and max_length < len(s) else s
 
 
-def _label_with_types(data):
+class _CollectionHandle(list):
+    # sent as [kind, size] instead of list or dictionary elements, which can be requested later by RED;
+    # handles of different collections are not equal, so scope holding other collection is sent again
+
+    def __init__(self, kind, size, collection_id):
+        list.__init__(self, [kind, size])
+        self.kind = kind
+        self.size = size
+        self.collection_id = collection_id
+
+    def __eq__(self, other):
+        if isinstance(other, _CollectionHandle):
+            return (self.kind, self.size, self.collection_id) == (other.kind, other.size, other.collection_id)
+        return list.__eq__(self, other)
+
+    def __ne__(self, other):
+        return not self == other
+
+    def __hash__(self):
+        return hash((self.kind, self.size, self.collection_id))
+
+
+MAX_ELEMENTS_SENT_PER_VARIABLE = 100
+
+
+def _label_with_types(data, expanded_paths=None, path=(), budget=None):
+    # when expanded paths are given only collections which were expanded or fit into
+    # remaining budget of elements are labeled, other ones are replaced by handles
     value_type = type(data).__name__
+    if expanded_paths is not None and isinstance(data, (Mapping, list, tuple)):
+        if budget is None:
+            budget = [MAX_ELEMENTS_SENT_PER_VARIABLE]
+        if path not in expanded_paths:
+            if len(data) > budget[0]:
+                kind = 'dict' if isinstance(data, Mapping) else 'list'
+                return (value_type, _CollectionHandle(kind, len(data), id(data)))
+            budget[0] -= len(data)
+
+    def label(el, key):
+        return _label_with_types(el, expanded_paths, path + (_to_path_element(key),), budget)
+
     if isinstance(data, Mapping):
-        return (value_type, dict((k, _label_with_types(data[k])) for k in data))
+        return (value_type, dict((k, label(data[k], k)) for k in data))
     elif isinstance(data, list):
-        return (value_type, list(_label_with_types(el) for el in data))
+        return (value_type, list(label(el, i) for i, el in enumerate(data)))
     elif isinstance(data, tuple):
-        return (value_type, tuple(list(_label_with_types(el) for el in data)))
+        return (value_type, tuple(list(label(el, i) for i, el in enumerate(data))))
     else:
         return (value_type, data)
 
 
+def _to_path_element(key_or_index):
+    if sys.version_info < (3, 0, 0) and isinstance(key_or_index, basestring):
+        return key_or_index
+    return str(key_or_index)
+
+
+def _unchanged_scopes_omitted(previous_scopes, scopes):
+    # scopes are ordered from the innermost one, so they are matched starting from the outermost
+    offset = len(previous_scopes) - len(scopes)
+    result = []
+    for i, scope in enumerate(scopes):
+        j = i + offset
+        result.append(None if 0 <= j < len(previous_scopes) and previous_scopes[j] == scope else scope)
+    return result
+
+
 def _extract_source_path(source):
     if 'file:' in source:
         source = source[source.index('file:') + 5:]
@@ -204,6 +261,30 @@ def _format_file_name(name):
     return name.title() if name.islower() else name
 
 
+def _is_pausing_possible(hints, pausing_point, attrs):
+    # without hints from RED we have to ask at every pausing point
+    if hints is None or hints['ask_always']:
+        return True
+    elif pausing_point == PausingPoint.PRE_START_KEYWORD:
+        return hints['pause_on_error'] or _may_hit_line_breakpoint(hints['line_breakpoints'], attrs)
+    elif pausing_point == PausingPoint.START_KEYWORD:
+        return hints['pause_on_error']
+    elif pausing_point == PausingPoint.PRE_END_KEYWORD:
+        return hints['keyword_fail_breakpoints'] and attrs.get('status') == 'FAIL'
+    else:
+        return False
+
+
+def _may_hit_line_breakpoint(line_breakpoints, attrs):
+    if not line_breakpoints:
+        return False
+    source, line = attrs.get('source'), attrs.get('lineno')
+    if not source or not line:
+        # keyword location is not known in older Robot versions, so any breakpoint could be hit
+        return True
+    return line in line_breakpoints.get(os.path.basename(source), [])
+
+
 class RedResponseMessage:
     
     DO_START = 'do_start'
@@ -218,6 +299,7 @@ class RedResponseMessage:
     EVALUATE_CONDITION = 'evaluate_condition'
     GET_VARIABLES = 'get_variables'
     CHANGE_VARIABLE = 'change_variable'
+    EXPAND_VARIABLE = 'expand_variable'
     EVALUATE_EXPRESSION = 'evaluate_expression'
     
 class AgentEventMessage:
@@ -271,7 +353,7 @@ class TestRunnerAgent:
     
     CONNECTION_SLEEP_BETWEEN_TRIALS = 2
     
-    RED_AGENT_PROTOCOL_VERSION = 4
+    RED_AGENT_PROTOCOL_VERSION = 6
 
     def __init__(self, *args):
         if len(args) == 1:
@@ -282,6 +364,9 @@ class TestRunnerAgent:
             host, port, connection_timeout = args[0], int(args[1]), int(args[2])
 
         self._last_pause_check = time.time()
+        self._pausing_hints = None
+        self._expanded_variables = set()
+        self._last_sent_scopes = []
         self._is_connected, self.sock, self.decoder_encoder = self._connect(host, port, connection_timeout)
         
         if self._is_connected:
@@ -388,27 +473,33 @@ class TestRunnerAgent:
         json_obj = self._encode_to_json((name, attrs_copy))
         if self._mode == AgentMode.DEBUG:
             self._send_to_server_json(AgentEventMessage.PRE_START_KEYWORD, json_obj)
-            if self._should_pause(PausingPoint.PRE_START_KEYWORD):
-                self._wait_for_resume()
+            if self._should_ask_for_pause(PausingPoint.PRE_START_KEYWORD, attrs):
+                if self._should_pause(PausingPoint.PRE_START_KEYWORD):
+                    self._wait_for_resume()
 
         self._send_to_server_json(AgentEventMessage.START_KEYWORD, json_obj)
-        if self._should_ask_for_pause_on_start():
+        if self._should_ask_for_pause_on_start(attrs):
             if self._should_pause(PausingPoint.START_KEYWORD):
                 self._wait_for_resume()
             
-    def _should_ask_for_pause_on_start(self):
+    def _should_ask_for_pause_on_start(self, attrs):
         if not self._is_connected:
             return False
-        elif self._mode == AgentMode.RUN:
-            # in run mode we will check for pause only from time to time (in at least 2 sec intervals)
+        elif self._should_ask_for_pause(PausingPoint.START_KEYWORD, attrs):
+            return True
+        else:
+            # otherwise we will check for pause only from time to time (in at least 2 sec intervals)
             current_time = time.time()
             if current_time - self._last_pause_check > 2:
                 self._last_pause_check = current_time
                 return True
             else:
                 return False
-        else:
-            return True
+
+    def _should_ask_for_pause(self, pausing_point, attrs):
+        # in debug mode RED sends hints telling at which points the execution could be paused
+        return self._is_connected and self._mode == AgentMode.DEBUG \
+            and _is_pausing_possible(self._pausing_hints, pausing_point, attrs)
 
     def end_keyword(self, name, attrs):
         if not self._is_connected:
@@ -422,17 +513,15 @@ class TestRunnerAgent:
         json_obj = self._encode_to_json((name, attrs_copy))
         if self._mode == AgentMode.DEBUG:
             self._send_to_server_json(AgentEventMessage.PRE_END_KEYWORD, json_obj)
-            if self._should_pause(PausingPoint.PRE_END_KEYWORD):
-                self._wait_for_resume()
+            if self._should_ask_for_pause(PausingPoint.PRE_END_KEYWORD, attrs):
+                if self._should_pause(PausingPoint.PRE_END_KEYWORD):
+                    self._wait_for_resume()
         
         self._send_to_server_json(AgentEventMessage.END_KEYWORD, json_obj)
-        if self._should_ask_for_pause_on_end():
+        if self._should_ask_for_pause(PausingPoint.END_KEYWORD, attrs):
             if self._should_pause(PausingPoint.END_KEYWORD):
                 self._wait_for_resume()
             
-    def _should_ask_for_pause_on_end(self):
-        return self._is_connected and self._mode == AgentMode.DEBUG
-            
     def _should_pause(self, pausing_point):
         self._send_to_server(AgentEventMessage.SHOULD_CONTINUE, {'pausing_point' : pausing_point})
         
@@ -456,12 +545,17 @@ class TestRunnerAgent:
                 self._close_connection()
                 return False
             elif response_name == RedResponseMessage.CONTINUE:
+                self._update_pausing_hints(response[RedResponseMessage.CONTINUE])
                 return False
             elif response_name == RedResponseMessage.PAUSE:
                 return True
             elif response_name == RedResponseMessage.EVALUATE_CONDITION:
                 return self._evaluate_condition(response)
 
+    def _update_pausing_hints(self, arguments):
+        if arguments:
+            self._pausing_hints = arguments[0]
+
     def _interrupt(self):
         import signal
         from robot.running import signalhandler
@@ -512,14 +606,19 @@ class TestRunnerAgent:
             RedResponseMessage.DISCONNECT] 
         if self._mode == AgentMode.DEBUG:
             possible_responses.append(RedResponseMessage.CHANGE_VARIABLE)
+            possible_responses.append(RedResponseMessage.EXPAND_VARIABLE)
             possible_responses.append(RedResponseMessage.EVALUATE_EXPRESSION)
         
+        # frames are identified by their index, so expansions requested during previous pause
+        # could point to variables of completely different keyword now
+        self._expanded_variables = set()
         self._send_variables()
         while True:
             self._send_to_server(AgentEventMessage.PAUSED)
             response_name, response = self._wait_for_reponse(*possible_responses)
         
             if response_name == RedResponseMessage.RESUME:
+                self._update_pausing_hints(response[RedResponseMessage.RESUME])
                 self._send_to_server(AgentEventMessage.RESUMED)
                 return
             elif response_name == RedResponseMessage.TERMINATE:
@@ -538,6 +637,12 @@ class TestRunnerAgent:
                 except ValueError as e:
                     self._print_error_message(str(e))
                     self._send_variables(str(e))
+            elif response_name == RedResponseMessage.EXPAND_VARIABLE:
+                arguments = response[RedResponseMessage.EXPAND_VARIABLE]
+                path = tuple(_to_path_element(el) for el in arguments['path'])
+                # adding one because globals are not taken into account
+                self._expanded_variables.add((arguments['level'] + 1, arguments['name'], path))
+                self._send_variables()
             elif response_name == RedResponseMessage.EVALUATE_EXPRESSION:
                 # evaluation could have changed some variables so we need to send them
                 self._evaluate_expression_and_send_result(response)
@@ -614,7 +719,9 @@ class TestRunnerAgent:
             raise RuntimeError('Requested to change value in ' + val_kind + ' object type, but ' + type(object).__name__ + ' found')
 
     def _send_variables(self, error=None):
-        vars = self._collect_variables()
+        scopes = self._collect_variables()
+        vars = _unchanged_scopes_omitted(self._last_sent_scopes, scopes)
+        self._last_sent_scopes = scopes
         if error:
             self._send_to_server(AgentEventMessage.VARIABLES, {'var_scopes': vars, 'error': error})
         else:
@@ -655,7 +762,8 @@ class TestRunnerAgent:
                     frame_vars[var] = (type_name, type_name + '@' + str(id(value)), identified_scope)
                 else:
                     try:
-                        labeled = _label_with_types(value)
+                        expanded_paths = set(key[2] for key in self._expanded_variables if key[:2] == (i, var))
+                        labeled = _label_with_types(value, expanded_paths)
                         fixed = _fix_unicode(self._max_lenght, labeled)
                         if isinstance(value, (list, tuple, Mapping)):
                             frame_vars[var] = (fixed[0], fixed[1], identified_scope)
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.environment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.RedSystemProperties;
+import org.rf.ide.core.environment.PythonInstallationDirectoryFinder.PythonInstallationDirectory;
+
+public class PythonInterpretersCommandExecutorsTest {
+
+    private final PythonInstallationDirectory location = new PythonInstallationDirectory(
+            new File("python_location").toURI(), SuiteExecutor.Python);
+
+    @AfterEach
+    public void afterTest() {
+        System.clearProperty(RedSystemProperties.RED_SESSION_SERVERS_POOL_SIZE);
+    }
+
+    @Test
+    public void statelessCommandIsExecutedByMainExecutor_whenItIsNotBusy() {
+        setPoolSize(4);
+        final List<FakeRobotCommandRpcExecutor> createdExecutors = new ArrayList<>();
+        final PythonInterpretersCommandExecutors executors = new PythonInterpretersCommandExecutors(
+                creatingFactory(createdExecutors));
+
+        final RobotCommandExecutor mainExecutor = executors.getRobotCommandExecutor(location);
+        final RobotCommandExecutor usedExecutor = executors.executeStatelessCommand(location, Function.identity());
+
+        assertThat(usedExecutor).isSameAs(mainExecutor);
+        assertThat(createdExecutors).hasSize(1);
+        assertThat(createdExecutors.get(0).getReservations()).isZero();
+    }
+
+    @Test
+    public void additionalExecutorsAreStarted_onlyWhenAllExecutorsAreBusy() {
+        setPoolSize(3);
+        final List<FakeRobotCommandRpcExecutor> createdExecutors = new ArrayList<>();
+        final PythonInterpretersCommandExecutors executors = new PythonInterpretersCommandExecutors(
+                creatingFactory(createdExecutors));
+
+        final RobotCommandRpcExecutor mainExecutor = (RobotCommandRpcExecutor) executors
+                .getRobotCommandExecutor(location);
+        mainExecutor.reserve();
+
+        final RobotCommandRpcExecutor firstAdditional = (RobotCommandRpcExecutor) executors
+                .executeStatelessCommand(location, Function.identity());
+        assertThat(createdExecutors).hasSize(2);
+        assertThat(firstAdditional).isSameAs(createdExecutors.get(1));
+        assertThat(firstAdditional.isAlive()).isTrue();
+
+        assertThat(executors.executeStatelessCommand(location, Function.identity())).isSameAs(firstAdditional);
+        assertThat(createdExecutors).hasSize(2);
+
+        firstAdditional.reserve();
+        final RobotCommandRpcExecutor secondAdditional = (RobotCommandRpcExecutor) executors
+                .executeStatelessCommand(location, Function.identity());
+        assertThat(createdExecutors).hasSize(3);
+        assertThat(secondAdditional).isSameAs(createdExecutors.get(2));
+    }
+
+    @Test
+    public void leastBusyExecutorIsUsed_whenPoolIsFull() {
+        setPoolSize(2);
+        final List<FakeRobotCommandRpcExecutor> createdExecutors = new ArrayList<>();
+        final PythonInterpretersCommandExecutors executors = new PythonInterpretersCommandExecutors(
+                creatingFactory(createdExecutors));
+
+        final RobotCommandRpcExecutor mainExecutor = (RobotCommandRpcExecutor) executors
+                .getRobotCommandExecutor(location);
+        mainExecutor.reserve();
+        final RobotCommandRpcExecutor additional = (RobotCommandRpcExecutor) executors
+                .executeStatelessCommand(location, Function.identity());
+        additional.reserve();
+        additional.reserve();
+
+        assertThat(executors.executeStatelessCommand(location, Function.identity())).isSameAs(mainExecutor);
+
+        mainExecutor.reserve();
+        mainExecutor.reserve();
+
+        assertThat(executors.executeStatelessCommand(location, Function.identity())).isSameAs(additional);
+        assertThat(createdExecutors).hasSize(2);
+    }
+
+    @Test
+    public void noAdditionalExecutorsAreStarted_whenPoolSizeIsOne() {
+        setPoolSize(1);
+        final List<FakeRobotCommandRpcExecutor> createdExecutors = new ArrayList<>();
+        final PythonInterpretersCommandExecutors executors = new PythonInterpretersCommandExecutors(
+                creatingFactory(createdExecutors));
+
+        final RobotCommandRpcExecutor mainExecutor = (RobotCommandRpcExecutor) executors
+                .getRobotCommandExecutor(location);
+        mainExecutor.reserve();
+
+        assertThat(executors.executeStatelessCommand(location, Function.identity())).isSameAs(mainExecutor);
+        assertThat(createdExecutors).hasSize(1);
+    }
+
+    @Test
+    public void executorsAreKilled_whenExecutorsAreReset() {
+        setPoolSize(2);
+        final List<FakeRobotCommandRpcExecutor> createdExecutors = new ArrayList<>();
+        final PythonInterpretersCommandExecutors executors = new PythonInterpretersCommandExecutors(
+                creatingFactory(createdExecutors));
+
+        final RobotCommandRpcExecutor mainExecutor = (RobotCommandRpcExecutor) executors
+                .getRobotCommandExecutor(location);
+        mainExecutor.reserve();
+        executors.executeStatelessCommand(location, Function.identity());
+
+        executors.resetExecutorFor(location);
+
+        assertThat(createdExecutors).hasSize(2).noneMatch(FakeRobotCommandRpcExecutor::isAlive);
+    }
+
+    @Test
+    public void additionalExecutorIsKilledOnceItIsStarted_whenExecutorsAreResetDuringStartup() throws Exception {
+        setPoolSize(2);
+        final CountDownLatch startingLatch = new CountDownLatch(1);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<FakeRobotCommandRpcExecutor> createdExecutors = new ArrayList<>();
+        final PythonInterpretersCommandExecutors executors = new PythonInterpretersCommandExecutors(loc -> {
+            final FakeRobotCommandRpcExecutor executor = createdExecutors.isEmpty()
+                    ? new FakeRobotCommandRpcExecutor()
+                    : new FakeRobotCommandRpcExecutor(startingLatch, startLatch);
+            createdExecutors.add(executor);
+            return executor;
+        });
+
+        final RobotCommandRpcExecutor mainExecutor = (RobotCommandRpcExecutor) executors
+                .getRobotCommandExecutor(location);
+        mainExecutor.reserve();
+
+        final ExecutorService commandsExecutor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<RobotCommandExecutor> usedExecutor = commandsExecutor
+                    .submit(() -> executors.executeStatelessCommand(location, Function.identity()));
+            assertThat(startingLatch.await(5, TimeUnit.SECONDS)).isTrue();
+
+            executors.resetExecutorFor(location);
+            startLatch.countDown();
+
+            assertThat(usedExecutor.get(5, TimeUnit.SECONDS)).isSameAs(createdExecutors.get(1));
+            assertThat(createdExecutors).hasSize(2).noneMatch(FakeRobotCommandRpcExecutor::isAlive);
+            assertThat(createdExecutors.get(1).getReservations()).isZero();
+        } finally {
+            commandsExecutor.shutdownNow();
+        }
+    }
+
+    private static void setPoolSize(final int size) {
+        System.setProperty(RedSystemProperties.RED_SESSION_SERVERS_POOL_SIZE, String.valueOf(size));
+    }
+
+    private static Function<PythonInstallationDirectory, RobotCommandRpcExecutor> creatingFactory(
+            final List<FakeRobotCommandRpcExecutor> createdExecutors) {
+        return loc -> {
+            final FakeRobotCommandRpcExecutor executor = new FakeRobotCommandRpcExecutor();
+            createdExecutors.add(executor);
+            return executor;
+        };
+    }
+
+    private static class FakeRobotCommandRpcExecutor extends RobotCommandRpcExecutor {
+
+        private final CountDownLatch startingLatch;
+
+        private final CountDownLatch startLatch;
+
+        private volatile boolean isAlive;
+
+        FakeRobotCommandRpcExecutor() {
+            this(new CountDownLatch(0), new CountDownLatch(0));
+        }
+
+        FakeRobotCommandRpcExecutor(final CountDownLatch startingLatch, final CountDownLatch startLatch) {
+            super(SuiteExecutor.Python);
+            this.startingLatch = startingLatch;
+            this.startLatch = startLatch;
+        }
+
+        @Override
+        void initialize() {
+            // nothing to initialize
+        }
+
+        @Override
+        void establishConnection() {
+            startingLatch.countDown();
+            try {
+                startLatch.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            isAlive = true;
+        }
+
+        @Override
+        boolean isAlive() {
+            return isAlive;
+        }
+
+        @Override
+        void kill() {
+            isAlive = false;
+        }
+    }
+}
@@ -7,7 +7,11 @@ package org.rf.ide.core.environment;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -15,6 +19,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -22,6 +27,7 @@ import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 import org.rf.ide.core.environment.PythonInstallationDirectoryFinder.PythonInstallationDirectory;
+import org.rf.ide.core.libraries.LibrarySpecification.LibdocFormat;
 
 public class RobotRuntimeEnvironmentTest {
 
@@ -91,12 +97,47 @@ public class RobotRuntimeEnvironmentTest {
         assertThat(stdLibNames).containsExactly("BuiltIn", "Dialogs", "XML");
     }
 
+    @Test
+    public void statelessCommandsAreExecutedByStatelessExecutor_whileOtherCommandsByMainExecutor() {
+        final PythonInstallationDirectory location = new PythonInstallationDirectory(
+                URI.create("file:///path/to/python"), SuiteExecutor.Python);
+        final EnvironmentSearchPaths searchPaths = new EnvironmentSearchPaths();
+        final File source = new File(tempDir, "source");
+
+        final RobotCommandExecutor mainExecutor = mock(RobotCommandExecutor.class);
+        final RobotCommandExecutor statelessExecutor = mock(RobotCommandExecutor.class);
+        final RobotCommandsExecutors executors = mock(RobotCommandsExecutors.class);
+        when(executors.getRobotCommandExecutor(location)).thenReturn(mainExecutor);
+        when(executors.executeStatelessCommand(eq(location), any()))
+                .thenAnswer(invocation -> invocation.<Function<RobotCommandExecutor, ?>> getArgument(1)
+                        .apply(statelessExecutor));
+
+        final RobotRuntimeEnvironment env = new RobotRuntimeEnvironment(executors, location, "3.0.0");
+        env.createLibdoc("lib", source, LibdocFormat.XML, searchPaths);
+        env.createLibdocInSeparateProcess("lib", source, LibdocFormat.XML, searchPaths);
+        env.getVariablesFromFile(source, newArrayList(), searchPaths);
+        env.getClassesFromModule(source, searchPaths);
+
+        verify(statelessExecutor).createLibdoc("lib", source, LibdocFormat.XML, searchPaths);
+        verify(statelessExecutor).createLibdocInSeparateProcess("lib", source, LibdocFormat.XML, searchPaths);
+        verify(statelessExecutor).getVariables(source, newArrayList(), searchPaths);
+        verify(statelessExecutor).getClassesFromModule(source, searchPaths);
+        verifyZeroInteractions(mainExecutor);
+
+        env.stopAutoDiscovering();
+
+        verify(mainExecutor).stopAutoDiscovering();
+    }
+
     private RobotRuntimeEnvironment createEnvironment(final RobotCommandExecutor executor) {
         final PythonInstallationDirectory location = new PythonInstallationDirectory(
                 URI.create("file:///path/to/python"), SuiteExecutor.Python);
 
         final RobotCommandsExecutors executors = mock(RobotCommandsExecutors.class);
         when(executors.getRobotCommandExecutor(location)).thenReturn(executor);
+        when(executors.executeStatelessCommand(eq(location), any()))
+                .thenAnswer(invocation -> invocation.<Function<RobotCommandExecutor, ?>> getArgument(1)
+                        .apply(executor));
 
         return new RobotRuntimeEnvironment(executors, location, "3.0.0");
     }
@@ -0,0 +1,43 @@
+/*
+* Copyright 2020 Nokia Solutions and Networks
+* Licensed under the Apache License, Version 2.0,
+* see license.txt file for details.
+*/
+package org.rf.ide.core.execution.agent.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class VariableCollectionHandleTest {
+
+    @Test
+    public void gettersTests() {
+        assertThat(new VariableCollectionHandle(true, 10).isDictionary()).isTrue();
+        assertThat(new VariableCollectionHandle(false, 10).isDictionary()).isFalse();
+        assertThat(new VariableCollectionHandle(false, 10).getSize()).isEqualTo(10);
+    }
+
+    @Test
+    public void equalsTests() {
+        assertThat(new VariableCollectionHandle(true, 1)).isEqualTo(new VariableCollectionHandle(true, 1));
+        assertThat(new VariableCollectionHandle(false, 2)).isEqualTo(new VariableCollectionHandle(false, 2));
+
+        assertThat(new VariableCollectionHandle(true, 1)).isNotEqualTo(new VariableCollectionHandle(false, 1));
+        assertThat(new VariableCollectionHandle(true, 1)).isNotEqualTo(new VariableCollectionHandle(true, 2));
+        assertThat(new VariableCollectionHandle(true, 1)).isNotEqualTo(new Object());
+        assertThat(new VariableCollectionHandle(true, 1)).isNotEqualTo(null);
+    }
+
+    @Test
+    public void hashCodeTests() {
+        assertThat(new VariableCollectionHandle(true, 3).hashCode())
+                .isEqualTo(new VariableCollectionHandle(true, 3).hashCode());
+    }
+
+    @Test
+    public void stringRepresentationTests() {
+        assertThat(new VariableCollectionHandle(false, 5).toString()).isEqualTo("list[5]");
+        assertThat(new VariableCollectionHandle(true, 7).toString()).isEqualTo("dict[7]");
+    }
+}
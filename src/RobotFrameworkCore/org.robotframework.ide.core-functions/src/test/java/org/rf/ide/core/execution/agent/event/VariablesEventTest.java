@@ -120,6 +120,44 @@ public class VariablesEventTest {
         assertThat(event.getVariables()).isEqualTo(expectedVars);
     }
 
+    @Test
+    public void eventIsProperlyConstructed_whenThereAreCollectionHandlesInside() {
+        final Map<String, Object> scope1 = new LinkedHashMap<>();
+        scope1.put("@{b}", typeValueScope("list", newArrayList("list", 1000), "suite"));
+        scope1.put("&{c}", typeValueScope("dict",
+                ImmutableMap.of("a", typeValue("DotDict", newArrayList("dict", 500))), "local"));
+
+        final Map<String, Object> eventMap = ImmutableMap.of("variables",
+                newArrayList(ImmutableMap.of("var_scopes", newArrayList(scope1))));
+        final VariablesEvent event = VariablesEvent.from(eventMap);
+
+        final List<Map<Variable, VariableTypedValue>> expectedVars = newArrayList(
+                ImmutableMap.of(
+                    new Variable("@{b}", VariableScope.TEST_SUITE),
+                        new VariableTypedValue("list", new VariableCollectionHandle(false, 1000)),
+                    new Variable("&{c}", VariableScope.LOCAL),
+                        new VariableTypedValue("dict", ImmutableMap.of("a",
+                                new VariableTypedValue("DotDict", new VariableCollectionHandle(true, 500))))));
+
+        assertThat(event.getVariables()).isEqualTo(expectedVars);
+    }
+
+    @Test
+    public void eventIsProperlyConstructed_whenSomeScopesAreUnchanged() {
+        final Map<String, Object> scope1 = new LinkedHashMap<>();
+        scope1.put("${a}", newArrayList("int", 1, "local"));
+
+        final Map<String, Object> eventMap = ImmutableMap.of("variables",
+                newArrayList(ImmutableMap.of("var_scopes", newArrayList(scope1, null, null))));
+        final VariablesEvent event = VariablesEvent.from(eventMap);
+
+        final List<Map<Variable, VariableTypedValue>> expectedVars = newArrayList(
+                ImmutableMap.of(new Variable("${a}", VariableScope.LOCAL), new VariableTypedValue("int", 1)), null,
+                null);
+
+        assertThat(event.getVariables()).isEqualTo(expectedVars);
+    }
+
     @Test
     public void eventIsProperlyConstructed_whenNoErrorIsProvided() {
         final Map<String, Object> scope1 = new LinkedHashMap<>();
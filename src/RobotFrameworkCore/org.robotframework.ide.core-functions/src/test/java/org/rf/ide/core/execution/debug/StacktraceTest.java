@@ -537,6 +537,47 @@ public class StacktraceTest {
                 .isEqualTo(new StackFrameVariable(VariableScope.LOCAL, false, "${local}", "int", 7));
     }
 
+    @Test
+    public void updatingVariablesOnStackTest_whenSomeScopesAreUnchangedSincePreviousUpdate() {
+        final Map<Variable, VariableTypedValue> globalVars = new HashMap<>();
+        globalVars.put(new Variable("${global}", VariableScope.GLOBAL), new VariableTypedValue("int", 10));
+
+        final Map<Variable, VariableTypedValue> suiteVars = new HashMap<>();
+        suiteVars.put(new Variable("${global}", VariableScope.GLOBAL), new VariableTypedValue("int", 10));
+        suiteVars.put(new Variable("${suite}", VariableScope.TEST_SUITE), new VariableTypedValue("int", 9));
+
+        final Map<Variable, VariableTypedValue> testVars = new HashMap<>();
+        testVars.put(new Variable("${global}", VariableScope.GLOBAL), new VariableTypedValue("int", 10));
+        testVars.put(new Variable("${suite}", VariableScope.TEST_SUITE), new VariableTypedValue("int", 9));
+        testVars.put(new Variable("${test}", VariableScope.TEST_CASE), new VariableTypedValue("int", 8));
+
+        final Map<Variable, VariableTypedValue> changedTestVars = new HashMap<>();
+        changedTestVars.put(new Variable("${global}", VariableScope.GLOBAL), new VariableTypedValue("int", 10));
+        changedTestVars.put(new Variable("${suite}", VariableScope.TEST_SUITE), new VariableTypedValue("int", 9));
+        changedTestVars.put(new Variable("${test}", VariableScope.TEST_CASE), new VariableTypedValue("int", 7));
+
+        final StackFrame suiteFrame = frame(FrameCategory.SUITE, 0);
+        final StackFrame testFrame = frame(FrameCategory.TEST, 1);
+
+        final Stacktrace stacktrace = new Stacktrace();
+        stacktrace.push(suiteFrame);
+        stacktrace.push(testFrame);
+
+        stacktrace.updateVariables(newArrayList(testVars, suiteVars, globalVars));
+        stacktrace.updateVariables(newArrayList(changedTestVars, null, null));
+
+        assertThat(suiteFrame.getVariables().getVariables()).containsOnlyKeys("${global}", "${suite}");
+        assertThat(suiteFrame.getVariables().getVariables().get("${suite}"))
+                .isEqualTo(new StackFrameVariable(VariableScope.TEST_SUITE, false, "${suite}", "int", 9));
+        assertThat(suiteFrame.getLastDelta().get().isUnchanged("${global}")).isTrue();
+        assertThat(suiteFrame.getLastDelta().get().isUnchanged("${suite}")).isTrue();
+
+        assertThat(testFrame.getVariables().getVariables()).containsOnlyKeys("${global}", "${suite}", "${test}");
+        assertThat(testFrame.getVariables().getVariables().get("${test}"))
+                .isEqualTo(new StackFrameVariable(VariableScope.TEST_CASE, false, "${test}", "int", 7));
+        assertThat(testFrame.getLastDelta().get().isChanged("${test}")).isTrue();
+    }
+
     private static StackFrame frame() {
         return frame("frame");
     }
@@ -7,6 +7,7 @@ package org.rf.ide.core.execution.debug;
 
 import static com.google.common.base.Predicates.not;
 import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -14,14 +15,17 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.net.URI;
 import java.util.Optional;
 import java.util.concurrent.FutureTask;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.rf.ide.core.execution.agent.PausingHints;
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
+import org.rf.ide.core.execution.agent.event.VariableCollectionHandle;
 import org.rf.ide.core.execution.debug.StackFrame.FrameCategory;
 import org.rf.ide.core.execution.debug.UserProcessController.ResponseWithCallback;
 import org.rf.ide.core.execution.debug.UserProcessDebugController.DebuggerPreferences;
@@ -34,6 +38,7 @@ import org.rf.ide.core.execution.server.response.ChangeVariable;
 import org.rf.ide.core.execution.server.response.DisconnectExecution;
 import org.rf.ide.core.execution.server.response.EvaluateCondition;
 import org.rf.ide.core.execution.server.response.EvaluateExpression;
+import org.rf.ide.core.execution.server.response.ExpandVariable;
 import org.rf.ide.core.execution.server.response.PauseExecution;
 import org.rf.ide.core.execution.server.response.ResumeExecution;
 import org.rf.ide.core.execution.server.response.ServerResponse;
@@ -41,6 +46,9 @@ import org.rf.ide.core.execution.server.response.TerminateExecution;
 import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 import org.rf.ide.core.testdata.model.table.variables.AVariable.VariableScope;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+
 public class UserProcessDebugControllerTest {
 
     @Test
@@ -193,6 +201,26 @@ public class UserProcessDebugControllerTest {
         verifyNoMoreInteractions(listener1, listener2);
     }
 
+    @Test
+    public void whenExecutionPausesWithControllerBeingInVariableExpansionState_listenersAreNotified() {
+        final Stacktrace stack = new Stacktrace();
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+
+        final PauseReasonListener listener1 = mock(PauseReasonListener.class);
+        final PauseReasonListener listener2 = mock(PauseReasonListener.class);
+
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        controller.whenSuspended(listener1);
+        controller.whenSuspended(listener2);
+        controller.setSuspensionData(new SuspensionData(SuspendReason.VARIABLE_EXPANSION));
+
+        controller.executionPaused();
+
+        verify(listener1).pausedAfterVariableExpansion();
+        verify(listener2).pausedAfterVariableExpansion();
+        verifyNoMoreInteractions(listener1, listener2);
+    }
+
     @Test
     public void whenExecutionPausesWithControllerBeingErrorDetectedState_listenersAreNotified() {
         final Stacktrace stack = new Stacktrace();
@@ -1266,6 +1294,28 @@ public class UserProcessDebugControllerTest {
         assertThat(controller.getSuspensionData().data).isEmpty();
     }
 
+    @Test
+    public void whenVariableExpansionIsRequested_properResponseIsQueued() {
+        final Stacktrace stack = new Stacktrace();
+        stack.push(new StackFrame("Suite", FrameCategory.SUITE, 0, context()));
+        stack.push(new StackFrame("Test", FrameCategory.TEST, 1, context()));
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.TEST_SUITE, false, "var", "list",
+                new VariableCollectionHandle(false, 1000));
+        controller.expandVariable(stack.peekCurrentFrame().get(), variable, newArrayList(5));
+
+        assertThat(controller.manualUserResponse).hasSize(1);
+        final Optional<ServerResponse> response = controller.takeCurrentResponse(PausingPoint.START_KEYWORD, null);
+
+        assertThat(controller.manualUserResponse).isEmpty();
+        assertThat(response).containsInstanceOf(ExpandVariable.class);
+        assertThat(controller.getSuspensionData().reason).isEqualTo(SuspendReason.VARIABLE_EXPANSION);
+        assertThat(controller.getSuspensionData().data).isEmpty();
+    }
+
     @Test
     public void whenRobotExpressionEvaluationIsRequested_properResponseIsQueued() {
         final Stacktrace stack = new Stacktrace();
@@ -1348,6 +1398,47 @@ public class UserProcessDebugControllerTest {
         verify(callback).run();
     }
 
+    @Test
+    public void pausingHintsDescribeBreakpointsAndErrorsPausing_whenNotSuspending() {
+        final RobotBreakpointSupplier breakpointSupplier = mock(RobotBreakpointSupplier.class);
+        when(breakpointSupplier.getLineBreakpointsLocations()).thenReturn(ImmutableSetMultimap.of(
+                URI.create("file:///dir/suite.robot"), 3, URI.create("file:///dir/suite.robot"), 7,
+                URI.create("file:///other/res.robot"), 1));
+        when(breakpointSupplier.hasKeywordFailBreakpoints()).thenReturn(true);
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, () -> false, true);
+
+        final UserProcessDebugController controller = new UserProcessDebugController(new Stacktrace(), prefs,
+                breakpointSupplier);
+
+        assertThat(controller.getPausingHints()).contains(new PausingHints(false, false,
+                ImmutableMap.of("suite.robot", newHashSet(3, 7), "res.robot", newHashSet(1)), true));
+    }
+
+    @Test
+    public void pausingHintsDoNotAllowPausingOnError_whenErroneousFrameIsAlreadyMarked() {
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, () -> true, true);
+        final Stacktrace stack = new Stacktrace();
+        stack.push(new StackFrame("Suite", FrameCategory.SUITE, 0, context()));
+
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        assertThat(controller.getPausingHints()).contains(new PausingHints(false, true, ImmutableMap.of(), false));
+
+        stack.peekCurrentFrame().get().mark(StackFrameMarker.ERROR);
+        assertThat(controller.getPausingHints()).contains(new PausingHints(false, false, ImmutableMap.of(), false));
+    }
+
+    @Test
+    public void pausingHintsRequireAskingOnEveryPoint_whenSteppingWasRequested() {
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, () -> true, true);
+
+        final UserProcessDebugController controller = new UserProcessDebugController(new Stacktrace(), prefs);
+        controller.stepInto(() -> {}, () -> {});
+
+        assertThat(controller.getPausingHints())
+                .contains(new PausingHints(true, true, ImmutableMap.of(), false));
+        assertThat(controller.manualUserResponse).hasSize(1);
+    }
+
     private static StackFrameContext context() {
         return mock(StackFrameContext.class);
     }
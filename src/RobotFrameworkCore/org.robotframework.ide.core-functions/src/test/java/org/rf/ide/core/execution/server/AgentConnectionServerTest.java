@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -164,6 +165,49 @@ public class AgentConnectionServerTest {
         verifyNoMoreInteractions(serverStatusListener);
     }
 
+    @Test
+    public void connectionsOfAllClientsAreHandledByTheirListeners_whenServerAcceptsMultipleClients() throws Exception {
+        final String host = "127.0.0.1";
+        final int port = findFreePort();
+
+        final AgentServerStatusListener serverStatusListener = mock(AgentServerStatusListener.class);
+        final RobotAgentEventListener robotEventListener1 = mock(RobotAgentEventListener.class);
+        final RobotAgentEventListener robotEventListener2 = mock(RobotAgentEventListener.class);
+        when(robotEventListener1.isHandlingEvents()).thenReturn(true);
+        when(robotEventListener2.isHandlingEvents()).thenReturn(true);
+
+        final AgentConnectionServer server = new AgentConnectionServer(host, port);
+        server.addStatusListener(serverStatusListener);
+
+        final RobotAgentEventListener[][] clientsListeners = { { robotEventListener1 }, { robotEventListener2 } };
+
+        final Thread serverThread = new Thread(() -> {
+            try {
+                server.start(2, i -> clientsListeners[i]);
+            } catch (final IOException e) {
+            }
+        });
+        final Thread clientThread = new Thread(() -> {
+            try {
+                writeToSocket(host, port, ImmutableMap.of("ready_to_start", 0));
+                writeToSocket(host, port, ImmutableMap.of("ready_to_start", 0));
+            } catch (final IOException e) {
+            }
+        });
+        serverThread.start();
+        clientThread.start();
+
+        serverThread.join();
+        clientThread.join();
+
+        verify(robotEventListener1).handleAgentIsReadyToStart(any(ReadyToStartEvent.class));
+        verify(robotEventListener2).handleAgentIsReadyToStart(any(ReadyToStartEvent.class));
+        verify(serverStatusListener).serverEstablished(host, port);
+        verify(serverStatusListener, times(2)).clientConnected(anyInt());
+        verify(serverStatusListener, times(2)).clientConnectionClosed(anyInt());
+        verifyNoMoreInteractions(serverStatusListener);
+    }
+
     @Test
     public void exceptionIsThrown_whenHostCannotBeReached() throws Exception {
         final String host = "123456789";
@@ -7,8 +7,11 @@ package org.rf.ide.core.execution.server;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -25,6 +28,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.rf.ide.core.execution.agent.LogLevel;
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener;
@@ -63,7 +67,7 @@ public class RobotAgentEventDispatcherTest {
         final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null);
 
         final BufferedReader reader = mock(BufferedReader.class);
-        when(reader.readLine()).thenThrow(IOException.class);
+        when(reader.read(any(char[].class), anyInt(), anyInt())).thenThrow(IOException.class);
 
         assertThatIOException().isThrownBy(() -> dispatcher.runEventsLoop(reader));
     }
@@ -603,6 +607,57 @@ public class RobotAgentEventDispatcherTest {
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    public void listenerIsNotifiedAboutEveryKnownEvent_whenManyEventsComeInStream() throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final Object attributes1 = ImmutableMap.of("message", "msg1", "timestamp", "time1", "level", "INFO");
+        final Object attributes2 = ImmutableMap.of("message", "msg2", "timestamp", "time2", "level", "WARN");
+        final String json = String.join("\n",
+                toJson(ImmutableMap.of("log_message", newArrayList(attributes1))),
+                toJson(ImmutableMap.of("some_event", newArrayList(ImmutableMap.of("x", newArrayList(1, 2))))),
+                toJson(null),
+                toJson(ImmutableMap.of("resumed", 0)),
+                toJson(ImmutableMap.of("log_message", newArrayList(attributes2))));
+        dispatcher.runEventsLoop(readerFor(json));
+
+        final InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).eventsProcessingAboutToStart();
+        inOrder.verify(listener).handleLogMessage(new MessageEvent("msg1", LogLevel.INFO, "time1"));
+        inOrder.verify(listener).handleResumed();
+        inOrder.verify(listener).handleLogMessage(new MessageEvent("msg2", LogLevel.WARN, "time2"));
+        inOrder.verify(listener).eventsProcessingFinished();
+        verify(listener, atLeast(1)).isHandlingEvents();
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void listenerIsNotifiedAboutEveryEvent_whenEventsAreNotSeparatedWithLines() throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final Object attributes = ImmutableMap.of("kwname", "kw", "libname", "lib", "type", "Keyword", "status",
+                "PASS", "args", newArrayList("1", "2"));
+        final String json = toJson(ImmutableMap.of("start_keyword", newArrayList("kw", attributes)))
+                + toJson(ImmutableMap.of("paused", newArrayList()))
+                + toJson(ImmutableMap.of("end_keyword", newArrayList("kw", attributes)));
+        dispatcher.runEventsLoop(readerFor(json));
+
+        final InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).eventsProcessingAboutToStart();
+        inOrder.verify(listener).handleKeywordStarted(new KeywordStartedEvent("kw", "Keyword", "lib"));
+        inOrder.verify(listener).handlePaused(new PausedEvent(null));
+        inOrder.verify(listener).handleKeywordEnded(new KeywordEndedEvent("lib", "kw", "Keyword", Status.PASS));
+        inOrder.verify(listener).eventsProcessingFinished();
+        verify(listener, atLeast(1)).isHandlingEvents();
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     public void listenerIsNotifiedAboutOutputFileEvent() throws Exception {
         final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.agent.event.OutputFileEvent;
+
+public class TestsOutputFileReaderTest {
+
+    @Test
+    public void outputFileIsEmpty_whenNoEventWasHandled() {
+        final TestsOutputFileReader reader = new TestsOutputFileReader();
+
+        assertThat(reader.getOutputFile()).isEmpty();
+    }
+
+    @Test
+    public void outputFileIsReturnedAsIs_whenItIsStoredInEvent() throws Exception {
+        final TestsOutputFileReader reader = new TestsOutputFileReader();
+        reader.handleOutputFile(new OutputFileEvent(new URI("file:///output.xml")));
+
+        assertThat(reader.getOutputFile()).isEqualTo(Optional.of(new URI("file:///output.xml")));
+    }
+}
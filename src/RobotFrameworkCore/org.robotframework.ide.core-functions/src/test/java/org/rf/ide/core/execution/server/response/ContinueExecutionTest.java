@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.execution.server.response;
 
+import static com.google.common.collect.Sets.newHashSet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
@@ -12,10 +13,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.agent.PausingHints;
 import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
 
 public class ContinueExecutionTest {
 
@@ -24,6 +27,15 @@ public class ContinueExecutionTest {
         assertThat(new ContinueExecution().toMessage()).isEqualTo("{\"continue\":[]}");
     }
 
+    @Test
+    public void properMessageIsConstructed_forContinueExecutionMessageWithPausingHints() {
+        final PausingHints hints = new PausingHints(false, true, ImmutableMap.of("a.robot", newHashSet(7, 3)), true);
+
+        assertThat(new ContinueExecution(hints).toMessage()).isEqualTo("{\"continue\":[{\"ask_always\":false,"
+                + "\"pause_on_error\":true,\"line_breakpoints\":{\"a.robot\":[3,7]},"
+                + "\"keyword_fail_breakpoints\":true}]}");
+    }
+
     @Test
     public void mapperJsonProcessingExceptionIsWrappedAsResponseException() throws JsonProcessingException {
         final ObjectMapper mapper = mock(ObjectMapper.class);
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server.response;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ExpandVariableTest {
+
+    @Test
+    public void properMessageIsConstructed_forVariableExpandMessage() {
+        assertThat(new ExpandVariable("${a}", 1, newArrayList()).toMessage())
+                .isEqualTo("{\"expand_variable\":{\"name\":\"${a}\",\"level\":1,\"path\":[]}}");
+        assertThat(new ExpandVariable("&{b}", 3, newArrayList("x", 2)).toMessage())
+                .isEqualTo("{\"expand_variable\":{\"name\":\"&{b}\",\"level\":3,\"path\":[\"x\",2]}}");
+    }
+
+    @Test
+    public void mapperJsonProcessingExceptionIsWrappedAsResponseException() throws Exception {
+        final ObjectMapper mapper = mock(ObjectMapper.class);
+        when(mapper.writeValueAsString(any(Object.class))).thenThrow(JsonProcessingException.class);
+
+        final ExpandVariable response = new ExpandVariable(mapper, "${a}", 1, newArrayList());
+
+        assertThatExceptionOfType(ResponseException.class).isThrownBy(response::toMessage);
+    }
+}
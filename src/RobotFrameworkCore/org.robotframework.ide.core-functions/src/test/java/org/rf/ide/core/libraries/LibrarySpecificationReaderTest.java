@@ -56,4 +56,34 @@ public class LibrarySpecificationReaderTest {
         });
     }
 
+    @Test
+    public void testReadingVersionOfIncorrectFile() throws Exception {
+        assertThat(LibrarySpecificationReader.readVersion(null)).isNotPresent();
+        assertThat(LibrarySpecificationReader.readVersion(new File("not_existing_file"))).isNotPresent();
+
+        final File file = new File(tempDir, "file");
+        file.createNewFile();
+        assertThat(LibrarySpecificationReader.readVersion(file)).isNotPresent();
+
+        final File otherXmlFile = new File(tempDir, "other.xml");
+        Files.write("<other><version>1.0</version></other>".getBytes(), otherXmlFile);
+        assertThat(LibrarySpecificationReader.readVersion(otherXmlFile)).isNotPresent();
+    }
+
+    @Test
+    public void testReadingVersionOfCorrectFile() throws Exception {
+        final File file = new File(tempDir, "libspec");
+        final String content = "<keywordspec name=\"TestLib\" format=\"ROBOT\">"
+                + "<kw name=\"Some Keyword\"><version>2.0</version><doc></doc></kw>"
+                + "<version>1.0</version><scope>global</scope>"
+                + "</keywordspec>";
+        Files.write(content.getBytes(), file);
+        assertThat(LibrarySpecificationReader.readVersion(file)).hasValue("1.0");
+
+        final File fileWithoutVersion = new File(tempDir, "libspec_without_version");
+        Files.write("<keywordspec name=\"TestLib\"><scope>global</scope></keywordspec>".getBytes(),
+                fileWithoutVersion);
+        assertThat(LibrarySpecificationReader.readVersion(fileWithoutVersion)).isNotPresent();
+    }
+
 }
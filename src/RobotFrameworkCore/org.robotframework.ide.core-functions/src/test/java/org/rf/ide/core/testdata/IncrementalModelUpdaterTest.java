@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+
+public class IncrementalModelUpdaterTest {
+
+    private static final String CONTENT = "*** Test Cases ***\n"
+            + "case\n"
+            + "    Log    message    # comment here\n"
+            + "    ${x}=    Some Keyword    arg\n"
+            + "    FXOR    ${i}    IXN    1\n"
+            + "*** Keywords ***\n"
+            + "Some Keyword\n"
+            + "    [Arguments]    ${a}\n"
+            + "    Log Many    ${a}    x y z\n";
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "message, 3, 0, abc",
+            "message, 0, 0, x",
+            "message, 7, 0, x",
+            "message, 0, 7, other",
+            "Log Many, 8, 0, Y",
+            "message, 3, 2, ''",
+            "message, 1, 5, MESS",
+            "'# comment here', 3, 0, ooo",
+            "Some Keyword, 2, 2, X",
+            "Some Keyword, 6, 0, Other_",
+            "Log Many, 5, 1, 123",
+            "Log Many, 1, 1, ''" }, emptyValue = "")
+    public void modelIsUpdatedSameWayAsWhenParsedFromScratch_whenChangeIsInsideSingleTokenOrAtItsBoundary(
+            final String token, final int inTokenOffset, final int length, final String text) {
+        final int offset = CONTENT.lastIndexOf(token) + inTokenOffset;
+        final RobotFileOutput output = parse(CONTENT);
+
+        final boolean updated = new IncrementalModelUpdater().update(output, offset, length, text);
+
+        assertThat(updated).isTrue();
+        final String changedContent = CONTENT.substring(0, offset) + text + CONTENT.substring(offset + length);
+        assertThat(describe(output)).isEqualTo(describe(parse(changedContent)));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "message, 3, 0, ' '",
+            "message, 7, 0, ' '",
+            "message, 3, 0, $",
+            "message, 3, 0, '\n'",
+            "message, 3, 0, #",
+            "${x}=, 2, 1, y",
+            "FXOR, 1, 1, ''",
+            "IXN, 1, 1, ''",
+            "x y z, 2, 1, ''",
+            "Log Many, 1, 2, ibrary",
+            "*** Keywords ***, 5, 0, x" }, emptyValue = "")
+    public void modelIsNotUpdated_whenChangeMayAffectTheWayContentIsParsed(final String token,
+            final int inTokenOffset, final int length, final String text) {
+        final int offset = CONTENT.lastIndexOf(token) + inTokenOffset;
+        final RobotFileOutput output = parse(CONTENT);
+        final List<String> before = describe(output);
+
+        final boolean updated = new IncrementalModelUpdater().update(output, offset, length, text);
+
+        assertThat(updated).isFalse();
+        assertThat(describe(output)).isEqualTo(before);
+    }
+
+    @Test
+    public void tokensOfModelElementsAreUpdated_whenChangeIsApplied() {
+        final RobotFileOutput output = parse(CONTENT);
+
+        new IncrementalModelUpdater().update(output, CONTENT.lastIndexOf("Some Keyword") + 4, 0, "Other");
+
+        final UserKeyword keyword = output.getFileModel().getKeywordTable().getKeywords().get(0);
+        assertThat(keyword.getName().getText()).isEqualTo("SomeOther Keyword");
+        assertThat(keyword.getName().isDirty()).isFalse();
+        assertThat(keyword.getBeginPosition().getOffset()).isEqualTo(CONTENT.lastIndexOf("Some Keyword"));
+    }
+
+    private static RobotFileOutput parse(final String content) {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        return parser.parseEditorContent(content, new File("f.robot"));
+    }
+
+    private static List<String> describe(final RobotFileOutput output) {
+        return output.getFileModel()
+                .getFileContent()
+                .stream()
+                .flatMap(line -> Stream.concat(line.elementsStream(), Stream.of(line.getEndOfLine())))
+                .map(IncrementalModelUpdaterTest::describe)
+                .collect(toList());
+    }
+
+    private static String describe(final IRobotLineElement element) {
+        return element.getText() + "@" + element.getLineNumber() + ":" + element.getStartColumn() + ":"
+                + element.getStartOffset() + element.getTypes();
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.importer;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
+
+import com.google.common.collect.ImmutableMap;
+
+public class VariablesFilesCacheTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void interpreterIsAskedOnlyOnce_whenTheSameFileIsImportedWithTheSameArguments() throws IOException {
+        final File varFile = createFile("vars.py", "a = 1");
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+        when(environment.getVariablesFromFile(any(), any(), any())).thenReturn(ImmutableMap.of("a", "1"));
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        final Map<String, Object> variables1 = cache.getVariablesFromFile(environment, varFile, newArrayList("x"),
+                new EnvironmentSearchPaths());
+        final Map<String, Object> variables2 = cache.getVariablesFromFile(environment, varFile, newArrayList("x"),
+                new EnvironmentSearchPaths());
+
+        assertThat(variables1).containsOnly(entry("a", "1"));
+        assertThat(variables2).isSameAs(variables1);
+        verify(environment, times(1)).getVariablesFromFile(any(), any(), any());
+    }
+
+    @Test
+    public void interpreterIsAskedAgain_whenArgumentsOrPathsOrInterpreterAreDifferent() throws IOException {
+        final File varFile = createFile("vars.py", "a = 1");
+        final IRuntimeEnvironment environment1 = mock(IRuntimeEnvironment.class);
+        final IRuntimeEnvironment environment2 = mock(IRuntimeEnvironment.class);
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        cache.getVariablesFromFile(environment1, varFile, newArrayList("x"), new EnvironmentSearchPaths());
+        cache.getVariablesFromFile(environment1, varFile, newArrayList("y"), new EnvironmentSearchPaths());
+        cache.getVariablesFromFile(environment1, varFile, newArrayList("y"),
+                new EnvironmentSearchPaths(new ArrayList<>(), newArrayList(tempDir.getPath())));
+        cache.getVariablesFromFile(environment2, varFile, newArrayList("x"), new EnvironmentSearchPaths());
+
+        verify(environment1, times(3)).getVariablesFromFile(any(), any(), any());
+        verify(environment2, times(1)).getVariablesFromFile(any(), any(), any());
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void interpreterIsAskedAgainAndOutdatedVariablesAreForgotten_whenFileWasModified() throws IOException {
+        final File varFile = createFile("vars.py", "a = 1");
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        cache.getVariablesFromFile(environment, varFile, new ArrayList<>(), new EnvironmentSearchPaths());
+        Files.write(varFile.toPath(), "a = 1\nb = 2".getBytes());
+        cache.getVariablesFromFile(environment, varFile, new ArrayList<>(), new EnvironmentSearchPaths());
+
+        verify(environment, times(2)).getVariablesFromFile(any(), any(), any());
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void variablesAreForgotten_whenFilesWhichMayBeImportedByVariableFileAreChanged() throws IOException {
+        final File dir = new File(tempDir, "dir");
+        final File otherDir = new File(tempDir, "other");
+        final File libsDir = new File(tempDir, "libs");
+        dir.mkdir();
+        otherDir.mkdir();
+        libsDir.mkdir();
+        final File varFile = createFile("dir/vars.py", "import common");
+        final File otherVarFile = createFile("other/vars.py", "import module.common");
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        cache.getVariablesFromFile(environment, varFile, new ArrayList<>(), new EnvironmentSearchPaths());
+        cache.getVariablesFromFile(environment, otherVarFile, new ArrayList<>(),
+                new EnvironmentSearchPaths(new ArrayList<>(), newArrayList(libsDir.getPath())));
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.invalidate(new File(dir, "common.py"));
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidate(new File(libsDir, "module/common.py"));
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void variablesAreNotForgotten_whenFilesWhichAreNotImportedByVariableFileAreChanged() throws IOException {
+        final File dir = new File(tempDir, "dir");
+        dir.mkdir();
+        final File varFile = createFile("dir/vars.py", "import os", "from common import value");
+        createFile("dir/common.py", "value = 1");
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        cache.getVariablesFromFile(environment, varFile, new ArrayList<>(), new EnvironmentSearchPaths());
+
+        cache.invalidate(new File(dir, "other.py"));
+        cache.invalidate(new File(dir, "nested/common.py"));
+        cache.invalidate(new File(tempDir, "common.py"));
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidate(new File(dir, "common.py"));
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void variablesAreForgotten_whenModulesImportedIndirectlyByVariableFileAreChanged() throws IOException {
+        new File(tempDir, "pkg").mkdir();
+        final File varFile = createFile("vars.py", "from pkg.values import (a,", "    b)");
+        createFile("pkg/__init__.py", "");
+        createFile("pkg/values.py", "from .helpers import compute  # comment");
+        createFile("pkg/helpers.py", "import json");
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        cache.getVariablesFromFile(environment, varFile, new ArrayList<>(), new EnvironmentSearchPaths());
+
+        cache.invalidate(new File(tempDir, "pkg/other.py"));
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidate(new File(tempDir, "pkg/helpers.py"));
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void leastRecentlyUsedVariablesAreForgotten_whenCacheIsFull() throws IOException {
+        final File varFile1 = createFile("vars1.py", "a = 1");
+        final File varFile2 = createFile("vars2.py", "b = 2");
+        final File varFile3 = createFile("vars3.py", "c = 3");
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+
+        final VariablesFilesCache cache = new VariablesFilesCache(2);
+        cache.getVariablesFromFile(environment, varFile1, new ArrayList<>(), new EnvironmentSearchPaths());
+        cache.getVariablesFromFile(environment, varFile2, new ArrayList<>(), new EnvironmentSearchPaths());
+        cache.getVariablesFromFile(environment, varFile1, new ArrayList<>(), new EnvironmentSearchPaths());
+        cache.getVariablesFromFile(environment, varFile3, new ArrayList<>(), new EnvironmentSearchPaths());
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.getVariablesFromFile(environment, varFile1, new ArrayList<>(), new EnvironmentSearchPaths());
+        verify(environment, times(1)).getVariablesFromFile(varFile1, new ArrayList<>(), new EnvironmentSearchPaths());
+        cache.getVariablesFromFile(environment, varFile2, new ArrayList<>(), new EnvironmentSearchPaths());
+        verify(environment, times(2)).getVariablesFromFile(varFile2, new ArrayList<>(), new EnvironmentSearchPaths());
+    }
+
+    @Test
+    public void failuresAreNotRemembered() throws IOException {
+        final File varFile = createFile("vars.py", "a = ");
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+        when(environment.getVariablesFromFile(any(), any(), any())).thenThrow(new RuntimeEnvironmentException("e"))
+                .thenReturn(ImmutableMap.of("a", "1"));
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        assertThatExceptionOfType(RuntimeEnvironmentException.class).isThrownBy(
+                () -> cache.getVariablesFromFile(environment, varFile, new ArrayList<>(), new EnvironmentSearchPaths()));
+        final Map<String, Object> variables = cache.getVariablesFromFile(environment, varFile, new ArrayList<>(),
+                new EnvironmentSearchPaths());
+
+        assertThat(variables).containsOnly(entry("a", "1"));
+        verify(environment, times(2)).getVariablesFromFile(any(), any(), any());
+    }
+
+    @Test
+    public void errorsAreNotRemembered() throws IOException {
+        final File varFile = createFile("vars.py", "a = 1");
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+        when(environment.getVariablesFromFile(any(), any(), any())).thenThrow(new OutOfMemoryError())
+                .thenReturn(ImmutableMap.of("a", "1"));
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        assertThatExceptionOfType(OutOfMemoryError.class).isThrownBy(
+                () -> cache.getVariablesFromFile(environment, varFile, new ArrayList<>(), new EnvironmentSearchPaths()));
+        assertThat(cache.size()).isZero();
+        final Map<String, Object> variables = cache.getVariablesFromFile(environment, varFile, new ArrayList<>(),
+                new EnvironmentSearchPaths());
+
+        assertThat(variables).containsOnly(entry("a", "1"));
+        verify(environment, times(2)).getVariablesFromFile(any(), any(), any());
+    }
+
+    @Test
+    public void concurrentRequestsAreFailing_whenInterpreterCallEndsWithError() throws Exception {
+        final File varFile = createFile("vars.py", "a = 1");
+        final CountDownLatch callStarted = new CountDownLatch(1);
+        final CountDownLatch callMayFinish = new CountDownLatch(1);
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+        when(environment.getVariablesFromFile(any(), any(), any())).thenAnswer(invocation -> {
+            callStarted.countDown();
+            callMayFinish.await();
+            throw new StackOverflowError();
+        });
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Map<String, Object>> first = executor.submit(() -> cache.getVariablesFromFile(environment,
+                    varFile, new ArrayList<>(), new EnvironmentSearchPaths()));
+            callStarted.await(5, TimeUnit.SECONDS);
+            final Future<Map<String, Object>> second = executor.submit(() -> cache.getVariablesFromFile(environment,
+                    varFile, new ArrayList<>(), new EnvironmentSearchPaths()));
+            callMayFinish.countDown();
+
+            assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                    .withCauseInstanceOf(StackOverflowError.class);
+            assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                    .withCauseInstanceOf(StackOverflowError.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentRequestsForTheSameVariablesAreWaitingForSingleInterpreterCall() throws Exception {
+        final File varFile = createFile("vars.py", "a = 1");
+        final CountDownLatch callStarted = new CountDownLatch(1);
+        final CountDownLatch callMayFinish = new CountDownLatch(1);
+        final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+        when(environment.getVariablesFromFile(any(), any(), any())).thenAnswer(invocation -> {
+            callStarted.countDown();
+            callMayFinish.await();
+            return ImmutableMap.of("a", "1");
+        });
+
+        final VariablesFilesCache cache = new VariablesFilesCache();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Map<String, Object>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.getVariablesFromFile(environment, varFile, new ArrayList<>(),
+                    new EnvironmentSearchPaths())));
+            callStarted.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.getVariablesFromFile(environment, varFile, new ArrayList<>(),
+                        new EnvironmentSearchPaths())));
+            }
+            callMayFinish.countDown();
+
+            for (final Future<Map<String, Object>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsOnly(entry("a", "1"));
+            }
+            verify(environment, times(1)).getVariablesFromFile(any(), any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private File createFile(final String path, final String... lines) throws IOException {
+        final File file = new File(tempDir, path);
+        Files.write(file.toPath(), String.join("\n", lines).getBytes());
+        return file;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.libraries.KeywordSpecification;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.index.FileSymbols.ImportSymbol;
+import org.rf.ide.core.testdata.index.FileSymbols.KeywordSymbol;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+
+public class SymbolsIndexTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void symbolsAreTakenFromParsedModel() throws Exception {
+        final File file = createFile("res.robot", "*** Settings ***", "Library  Collections  WITH NAME  C",
+                "Resource  other.robot", "Variables  vars.py  arg", "*** Variables ***", "${a}  1", "@{b}  1  2",
+                "*** Test Cases ***", "case", "  kw1", "*** Keywords ***", "kw1", "  [Arguments]  ${x}  ${y}=1",
+                "  Log  ${x}", "kw2", "  [Documentation]  *DEPRECATED* use kw1", "  No Operation");
+
+        final FileSymbols symbols = FileSymbols.create(file, parse(file));
+
+        assertThat(symbols.getPath()).isEqualTo(file.getAbsolutePath());
+        assertThat(symbols.isUpToDate(file)).isTrue();
+        assertThat(symbols.getKeywords()).containsExactly(
+                new KeywordSymbol("kw1", ImmutableList.of("${x}", "${y}=1"), false),
+                new KeywordSymbol("kw2", ImmutableList.of(), true));
+        assertThat(symbols.getVariables()).containsExactly("${a}", "@{b}");
+        assertThat(symbols.getTestCases()).containsExactly("case");
+        assertThat(symbols.getTasks()).isEmpty();
+        assertThat(symbols.getImports()).containsExactly(
+                new ImportSymbol("LIBRARY", "Collections", ImmutableList.of("WITH NAME", "C")),
+                new ImportSymbol("RESOURCE", "other.robot", ImmutableList.of()),
+                new ImportSymbol("VARIABLES", "vars.py", ImmutableList.of("arg")));
+    }
+
+    @Test
+    public void symbolsAreTakenFromLibrarySpecification() throws Exception {
+        final File file = createFile("lib.libspec", "<keywordspec/>");
+        final LibrarySpecification specification = LibrarySpecification.create("lib",
+                KeywordSpecification.create("kw1", "a", "b=1"), KeywordSpecification.create("kw2"));
+        specification.getKeywords().get(1).setDocumentation("*DEPRECATED* use kw1");
+
+        final FileSymbols symbols = FileSymbols.create(file, specification);
+
+        assertThat(symbols.getPath()).isEqualTo(file.getAbsolutePath());
+        assertThat(symbols.getKeywords()).containsExactly(
+                new KeywordSymbol("kw1", ImmutableList.of("a", "b=1"), false),
+                new KeywordSymbol("kw2", ImmutableList.of(), true));
+        assertThat(symbols.getVariables()).isEmpty();
+        assertThat(symbols.getImports()).isEmpty();
+
+        specification.getKeywords().get(0).setDocumentation("changed documentation");
+        assertThat(FileSymbols.create(file, specification).exposesSameDefinitions(symbols)).isTrue();
+
+        specification.getKeywords().get(0).setArguments(ImmutableList.of("a"));
+        assertThat(FileSymbols.create(file, specification).exposesSameDefinitions(symbols)).isFalse();
+    }
+
+    @Test
+    public void exposedDefinitionsAreTheSame_whenOnlyBodiesAndTestsAreChanged() throws Exception {
+        final File file = createFile("res.robot", "*** Variables ***", "${a}  1", "*** Keywords ***", "kw",
+                "  [Arguments]  ${x}", "  Log  ${x}");
+        final FileSymbols symbols = FileSymbols.create(file, parse(file));
+
+        createFile("res.robot", "*** Variables ***", "${a}  2", "*** Test Cases ***", "case", "*** Keywords ***",
+                "kw", "  [Arguments]  ${x}", "  Log Many  ${x}  ${a}");
+        final FileSymbols changedSymbols = FileSymbols.create(file, parse(file));
+
+        assertThat(changedSymbols.exposesSameDefinitions(symbols)).isTrue();
+
+        createFile("res.robot", "*** Variables ***", "${a}  2", "*** Keywords ***", "kw", "  [Arguments]  ${y}");
+        assertThat(FileSymbols.create(file, parse(file)).exposesSameDefinitions(symbols)).isFalse();
+    }
+
+    @Test
+    public void symbolsAreOnlyProvidedWhenUpToDate_ifRequested() throws Exception {
+        final File file = createFile("res.robot", "*** Keywords ***", "kw");
+        final SymbolsIndex index = new SymbolsIndex();
+        index.put(FileSymbols.create(file, parse(file)));
+
+        assertThat(index.get(file)).isPresent();
+        assertThat(index.getUpToDate(file)).isPresent();
+
+        createFile("res.robot", "*** Keywords ***", "kw", "other kw");
+        file.setLastModified(file.lastModified() + 2000);
+
+        assertThat(index.get(file)).isPresent();
+        assertThat(index.getUpToDate(file)).isEmpty();
+
+        index.remove(file);
+        assertThat(index.get(file)).isEmpty();
+    }
+
+    @Test
+    public void indexIsWrittenAndReadBack() throws Exception {
+        final File file1 = createFile("res1.robot", "*** Settings ***", "Resource  res2.robot", "*** Keywords ***",
+                "kw", "  [Arguments]  ${x}");
+        final File file2 = createFile("res2.robot", "*** Variables ***", "${a}  1");
+        final File indexFile = new File(tempDir, "symbols.json");
+
+        final SymbolsIndex index = new SymbolsIndex();
+        index.put(FileSymbols.create(file1, parse(file1)));
+        index.put(FileSymbols.create(file2, parse(file2)));
+        index.writeTo(indexFile);
+
+        final SymbolsIndex readIndex = SymbolsIndex.readFrom(indexFile);
+        assertThat(readIndex.size()).isEqualTo(2);
+        assertThat(readIndex.getUpToDate(file1).get().exposesSameDefinitions(index.get(file1).get())).isTrue();
+        assertThat(readIndex.getUpToDate(file2).get().exposesSameDefinitions(index.get(file2).get())).isTrue();
+    }
+
+    @Test
+    public void emptyIndexIsRead_whenFileDoesNotExistOrIsCorrupted() throws Exception {
+        assertThat(SymbolsIndex.readFrom(new File(tempDir, "missing.json")).size()).isEqualTo(0);
+        assertThat(SymbolsIndex.readFrom(createFile("corrupted.json", "{ \"version\" : 1, \"files\" : [")).size())
+                .isEqualTo(0);
+        assertThat(SymbolsIndex.readFrom(createFile("other.json", "{ \"version\" : 0, \"files\" : [] }")).size())
+                .isEqualTo(0);
+    }
+
+    private File createFile(final String name, final String... lines) throws Exception {
+        final File file = new File(tempDir, name);
+        Files.asCharSink(file, StandardCharsets.UTF_8).write(String.join("\n", lines));
+        return file;
+    }
+
+    private static RobotFile parse(final File file) {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        return parser.parse(file).get(0).getFileModel();
+    }
+}
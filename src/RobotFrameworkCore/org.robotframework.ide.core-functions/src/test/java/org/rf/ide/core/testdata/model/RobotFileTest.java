@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.text.read.LineReader.Constant;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+public class RobotFileTest {
+
+    @Test
+    public void lineIndexIsNotFound_whenFileIsEmpty() {
+        final RobotFile file = new RobotFile(new RobotFileOutput(RobotVersion.from("3.1")));
+
+        assertThat(file.getRobotLineIndexBy(0)).isEmpty();
+        assertThat(file.getRobotLineBy(0)).isEmpty();
+    }
+
+    @Test
+    public void lineIndexIsFoundForEveryOffsetInsideFile() {
+        final RobotFile file = new RobotFile(new RobotFileOutput(RobotVersion.from("3.1")));
+        file.addNewLine(line(file, 0, 0, "abc", Constant.LF));
+        file.addNewLine(line(file, 1, 4, null, Constant.CR, Constant.LF));
+        file.addNewLine(line(file, 2, 6, "de", Constant.LF));
+        file.addNewLine(line(file, 3, 9, "fgh", Constant.EOF));
+
+        assertThat(file.getRobotLineIndexBy(-1)).isEmpty();
+        assertThat(file.getRobotLineIndexBy(0)).hasValue(0);
+        assertThat(file.getRobotLineIndexBy(2)).hasValue(0);
+        assertThat(file.getRobotLineIndexBy(3)).hasValue(0);
+        assertThat(file.getRobotLineIndexBy(4)).hasValue(1);
+        assertThat(file.getRobotLineIndexBy(5)).hasValue(1);
+        assertThat(file.getRobotLineIndexBy(6)).hasValue(2);
+        assertThat(file.getRobotLineIndexBy(8)).hasValue(2);
+        assertThat(file.getRobotLineIndexBy(9)).hasValue(3);
+        assertThat(file.getRobotLineIndexBy(11)).hasValue(3);
+        assertThat(file.getRobotLineIndexBy(12)).hasValue(3);
+        assertThat(file.getRobotLineIndexBy(13)).isEmpty();
+        assertThat(file.getRobotLineBy(7)).hasValue(file.getFileContent().get(2));
+    }
+
+    @Test
+    public void lineIndexIsFound_whenOffsetsOfPrecedingLinesAreNotSet() {
+        final RobotFile file = new RobotFile(new RobotFileOutput(RobotVersion.from("3.1")));
+        file.addNewLine(new RobotLine(0, file));
+        file.addNewLine(new RobotLine(1, file));
+        file.addNewLine(line(file, 2, 0, "abc", Constant.EOF));
+
+        assertThat(file.getRobotLineIndexBy(1)).hasValue(2);
+    }
+
+    @Test
+    public void lineIndexIsFound_whenOffsetsOfFollowingLinesAreNotSet() {
+        final RobotFile file = new RobotFile(new RobotFileOutput(RobotVersion.from("3.1")));
+        file.addNewLine(line(file, 0, 0, "abc", Constant.LF));
+        file.addNewLine(new RobotLine(1, file));
+        file.addNewLine(new RobotLine(2, file));
+        file.addNewLine(new RobotLine(3, file));
+
+        assertThat(file.getRobotLineIndexBy(1)).hasValue(0);
+    }
+
+    @Test
+    public void lineIndexIsNotFound_whenOffsetIsPlacedBetweenLines() {
+        final RobotFile file = new RobotFile(new RobotFileOutput(RobotVersion.from("3.1")));
+        file.addNewLine(line(file, 0, 0, "abc", Constant.LF));
+        file.addNewLine(line(file, 1, 10, "de", Constant.EOF));
+
+        assertThat(file.getRobotLineIndexBy(6)).isEmpty();
+        assertThat(file.getRobotLineIndexBy(10)).hasValue(1);
+    }
+
+    private static RobotLine line(final RobotFile file, final int lineNumber, final int offset, final String text,
+            final Constant... eol) {
+        final RobotLine line = new RobotLine(lineNumber, file);
+        int length = 0;
+        if (text != null) {
+            final RobotToken token = RobotToken.create(text, lineNumber, 0);
+            token.setStartOffset(offset);
+            line.addLineElement(token);
+            length = text.length();
+        }
+        line.setEndOfLine(newArrayList(eol), offset + length, length);
+        return line;
+    }
+}
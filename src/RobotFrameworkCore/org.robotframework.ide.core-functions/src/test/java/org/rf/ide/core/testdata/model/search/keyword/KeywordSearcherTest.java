@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.keyword;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+
+import com.google.common.collect.ListMultimap;
+
+public class KeywordSearcherTest {
+
+    private static final Keyword LOG = new Keyword("BuiltIn", "Log");
+
+    private static final Keyword LOG_MANY = new Keyword("BuiltIn", "Log Many");
+
+    private static final Keyword OTHER_LOG = new Keyword("Other", "log_");
+
+    private static final Keyword USER_KW = new Keyword(null, "User Keyword");
+
+    private static final Keyword EMBEDDED = new Keyword("res", "Open ${page} page");
+
+    private static final Keyword EMBEDDED_WITH_REGEX = new Keyword("res", "Wait ${n:\\d+} seconds");
+
+    private static final Keyword DOLLAR = new Keyword("lib", "Pay $");
+
+    private static final List<Keyword> KEYWORDS = newArrayList(LOG, LOG_MANY, OTHER_LOG, USER_KW, EMBEDDED,
+            EMBEDDED_WITH_REGEX, DOLLAR);
+
+    @Test
+    public void keywordsAreFoundByNormalizedName() {
+        assertThat(find("Log").values()).containsExactly(LOG, OTHER_LOG);
+        assertThat(find("l_O g").values()).containsExactly(LOG, OTHER_LOG);
+        assertThat(find("logmany").values()).containsExactly(LOG_MANY);
+        assertThat(find("User Keyword").values()).containsExactly(USER_KW);
+        assertThat(find("Pay $").values()).containsExactly(DOLLAR);
+        assertThat(find("Unknown").isEmpty()).isTrue();
+    }
+
+    @Test
+    public void keywordsAreFoundByNameWithSourcePrefix() {
+        assertThat(find("BuiltIn.Log").asMap()).containsOnlyKeys("builtin.log", "log");
+        assertThat(find("BuiltIn.Log").get("builtin.log")).containsExactly(LOG);
+        assertThat(find("Built_In.Log Many").get("builtin.logmany")).containsExactly(LOG_MANY);
+        assertThat(find("lib.Pay $").get("lib.pay$")).containsExactly(DOLLAR);
+        assertThat(find("Other.Log Many").values()).containsExactly(LOG_MANY);
+    }
+
+    @Test
+    public void keywordsAreFoundByGherkinPrefixedName() {
+        assertThat(find("Given User Keyword").get("userkeyword")).containsExactly(USER_KW);
+        assertThat(find("when builtin.log").get("builtin.log")).containsExactly(LOG);
+    }
+
+    @Test
+    public void keywordsWithEmbeddedArgumentsAreFoundByMatchingName() {
+        assertThat(find("Open main page").values()).containsExactly(EMBEDDED);
+        assertThat(find("res.open ${x} page").get("res.open ${x} page")).containsExactly(EMBEDDED);
+        assertThat(find("Then wait 10 seconds").values()).containsExactly(EMBEDDED_WITH_REGEX);
+        assertThat(find("wait ten seconds").isEmpty()).isTrue();
+        assertThat(find("Open main").isEmpty()).isTrue();
+    }
+
+    @Test
+    public void sameResultsAreReturned_whenIndexIsReusedForManySearches() {
+        final KeywordSearchIndex<Keyword> index = new KeywordSearchIndex<>(KEYWORDS);
+        final KeywordSearcher searcher = new KeywordSearcher();
+
+        for (final String name : newArrayList("Log", "BuiltIn.Log", "Open main page", "User Keyword", "x")) {
+            assertThat(searcher.findKeywords(new HashMap<>(), index, name, false))
+                    .isEqualTo(searcher.findKeywords(new HashMap<>(), KEYWORDS, name, false));
+        }
+    }
+
+    @Test
+    public void onlyKeywordsWhichMayMatchAreIndexCandidates() {
+        final KeywordSearchIndex<Keyword> index = new KeywordSearchIndex<>(KEYWORDS);
+
+        assertThat(index.getCandidates(newArrayList("log"))).containsExactly(LOG, OTHER_LOG);
+        assertThat(index.getCandidates(newArrayList("other.log", "log"))).containsExactly(LOG, OTHER_LOG);
+        assertThat(index.getCandidates(newArrayList("open x"))).containsExactly(EMBEDDED);
+        assertThat(index.getCandidates(newArrayList("res.wait 5 seconds"))).containsExactly(EMBEDDED_WITH_REGEX);
+        assertThat(index.getCandidates(newArrayList("unknown"))).isEmpty();
+    }
+
+    private static ListMultimap<String, Keyword> find(final String name) {
+        return new KeywordSearcher().findKeywords(new HashMap<>(), KEYWORDS, name, false);
+    }
+
+    private static class Keyword implements SearchableKeyword {
+
+        private final String source;
+
+        private final String name;
+
+        Keyword(final String source, final String name) {
+            this.source = source;
+            this.name = name;
+        }
+
+        @Override
+        public String getSourceNameInUse() {
+            return source;
+        }
+
+        @Override
+        public String getKeywordName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return source + "." + name;
+        }
+    }
+}
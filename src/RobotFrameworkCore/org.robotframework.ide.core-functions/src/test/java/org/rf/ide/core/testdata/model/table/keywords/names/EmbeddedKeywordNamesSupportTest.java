@@ -134,6 +134,28 @@ public class EmbeddedKeywordNamesSupportTest {
         assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("Łączę ${x}", "ŁąCzĘ z SeRwErEm")).isTrue();
     }
 
+    @Test
+    public void literalPrefixIsTakenFromBeginningOfDefinitionUpToFirstArgument() {
+        assertThat(EmbeddedKeywordNamesSupport.getLiteralPrefix("")).isEmpty();
+        assertThat(EmbeddedKeywordNamesSupport.getLiteralPrefix("abc")).isEqualTo("abc");
+        assertThat(EmbeddedKeywordNamesSupport.getLiteralPrefix("a$b")).isEqualTo("a$b");
+        assertThat(EmbeddedKeywordNamesSupport.getLiteralPrefix("${x} abc")).isEmpty();
+        assertThat(EmbeddedKeywordNamesSupport.getLiteralPrefix("lib.abc ${x} def ${y}")).isEqualTo("lib.abc ");
+        assertThat(EmbeddedKeywordNamesSupport.getLiteralPrefix("abŁcd ${x}")).isEqualTo("ab");
+    }
+
+    @Test
+    public void occurrenceMayMatch_onlyWhenItStartsWithLiteralPrefixOfDefinition() {
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("", "abc")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("abc ", "abc def")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("abc ", "ABC DEF")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("lib.", "lib${x}a kw")).isTrue();
+
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("abc ", "abc")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("abc ", "xabc def")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.mayMatchIgnoreCase("abc ", "${x} def")).isFalse();
+    }
+
     @Test
     public void variableRangesAreFoundProperly() {
         assertThat(EmbeddedKeywordNamesSupport.findEmbeddedArgumentsRanges("")).is(empty());
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.FileRegion;
+
+public class RobotTokenTest {
+
+    @Test
+    public void positionIsNotSet_forNewToken() {
+        final RobotToken token = RobotToken.create("text");
+
+        assertThat(token.getFilePosition()).isEqualTo(FilePosition.createNotSet());
+        assertThat(token.getLineNumber()).isEqualTo(FilePosition.NOT_SET);
+        assertThat(token.getStartColumn()).isEqualTo(FilePosition.NOT_SET);
+        assertThat(token.getEndColumn()).isEqualTo(FilePosition.NOT_SET);
+        assertThat(token.getStartOffset()).isEqualTo(FilePosition.NOT_SET);
+    }
+
+    @Test
+    public void positionIsComposedOfSeparatelySetCoordinates() {
+        final RobotToken token = RobotToken.create("text");
+        token.setLineNumber(3);
+        token.setStartColumn(4);
+        token.setStartOffset(20);
+
+        assertThat(token.getFilePosition()).isEqualTo(new FilePosition(3, 4, 20));
+        assertThat(token.getEndColumn()).isEqualTo(8);
+        assertThat(token.getEndOffset()).isEqualTo(24);
+        assertThat(token.getFileRegion())
+                .isEqualTo(new FileRegion(new FilePosition(3, 4, 20), new FilePosition(3, 8, 24)));
+    }
+
+    @Test
+    public void positionIsTakenFromGivenFilePosition() {
+        final RobotToken token = RobotToken.create("text", new FilePosition(1, 2, 3));
+
+        assertThat(token.getLineNumber()).isEqualTo(1);
+        assertThat(token.getStartColumn()).isEqualTo(2);
+        assertThat(token.getStartOffset()).isEqualTo(3);
+
+        token.setStartColumn(5);
+        assertThat(token.getFilePosition()).isEqualTo(new FilePosition(1, 5, 3));
+    }
+
+    @Test
+    public void positionIsCopiedOnlyWhenRequested() {
+        final RobotToken token = RobotToken.create("text", new FilePosition(1, 2, 3), RobotTokenType.KEYWORD_NAME);
+
+        final RobotToken copy = token.copy();
+        assertThat(copy).isNotSameAs(token);
+        assertThat(copy.getText()).isEqualTo("text");
+        assertThat(copy.getTypes()).containsExactly(RobotTokenType.KEYWORD_NAME);
+        assertThat(copy.getFilePosition()).isEqualTo(new FilePosition(1, 2, 3));
+
+        final RobotToken copyWithoutPosition = token.copyWithoutPosition();
+        assertThat(copyWithoutPosition.getText()).isEqualTo("text");
+        assertThat(copyWithoutPosition.getTypes()).containsExactly(RobotTokenType.KEYWORD_NAME);
+        assertThat(copyWithoutPosition.getFilePosition()).isEqualTo(FilePosition.createNotSet());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.rf.ide.core.environment.RobotVersion;
+
+public class TokenRecognizersIndexTest {
+
+    @Test
+    public void recognizersWithoutRequiredCharacters_areAlwaysCandidates() {
+        final ATokenRecognizer rec = new DummyRecognizer(Pattern.compile("x"), "");
+        final TokenRecognizersIndex index = new TokenRecognizersIndex(newArrayList(rec));
+
+        assertThat(index.getCandidates("")).containsExactly(rec);
+        assertThat(index.getCandidates("abc")).containsExactly(rec);
+    }
+
+    @Test
+    public void recognizersAreCandidates_onlyWhenAllRequiredCharactersArePresent_ignoringCaseAndWhitespaces() {
+        final ATokenRecognizer rec1 = new DummyRecognizer(Pattern.compile("x"), "[Ab c]");
+        final ATokenRecognizer rec2 = new DummyRecognizer(Pattern.compile("x"), "*");
+        final ATokenRecognizer rec3 = new DummyRecognizer(Pattern.compile("x"), "a");
+        final TokenRecognizersIndex index = new TokenRecognizersIndex(newArrayList(rec1, rec2, rec3));
+
+        assertThat(index.getCandidates("")).isEmpty();
+        assertThat(index.getCandidates("[abc]")).containsExactly(rec1, rec3);
+        assertThat(index.getCandidates("[ABC]")).containsExactly(rec1, rec3);
+        assertThat(index.getCandidates("[a\tb\tc]")).containsExactly(rec1, rec3);
+        assertThat(index.getCandidates("[ab]")).containsExactly(rec3);
+        assertThat(index.getCandidates("** a **")).containsExactly(rec2, rec3);
+        assertThat(index.getCandidates("ąćę")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2.8", "2.9", "3.0", "3.1", "3.2" })
+    public void indexedRecognizersFindSameTokens_asRegularExpressionsOfAllRecognizers(final String version) {
+        final RobotVersion robotVersion = RobotVersion.from(version);
+
+        for (final String text : generateTexts()) {
+            final List<String> expected = recognize(allRecognizers(robotVersion), text);
+            final List<String> actual = recognize(
+                    new TokenRecognizersIndex(allRecognizers(robotVersion)).getCandidates(text), text);
+
+            assertThat(actual).as("tokens recognized in '%s'", text).isEqualTo(expected);
+        }
+    }
+
+    private static List<String> recognize(final List<ATokenRecognizer> recognizers, final String text) {
+        final List<String> tokens = new ArrayList<>();
+        for (final ATokenRecognizer rec : recognizers) {
+            if (rec.hasNext(text, 1, 0)) {
+                final RobotToken token = rec.next();
+                tokens.add(token.getTypes() + ":" + token.getStartColumn() + ":" + token.getText());
+            }
+        }
+        return tokens;
+    }
+
+    private static List<ATokenRecognizer> allRecognizers(final RobotVersion robotVersion) {
+        final List<ATokenRecognizer> recognizers = new ArrayList<>();
+        recognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new TaskRecognizersProvider().getRecognizers(robotVersion));
+        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(robotVersion));
+        return recognizers;
+    }
+
+    private static Set<String> generateTexts() {
+        final Set<String> texts = new LinkedHashSet<>();
+        for (final RobotTokenType type : RobotTokenType.values()) {
+            for (final String representation : type.getRepresentation()) {
+                if (representation == null) {
+                    continue;
+                }
+                final String withoutBrackets = representation.replaceAll("[\\[\\]]", "");
+                for (final String text : newArrayList(representation, withoutBrackets)) {
+                    texts.add(text);
+                    texts.add(text.toUpperCase());
+                    texts.add(text.toLowerCase());
+                    texts.add(text + ":");
+                    texts.add(" " + text);
+                    texts.add("x " + text);
+                    texts.add(text.replace(' ', '\t'));
+                    texts.add("[ " + text + " ]");
+                    texts.add("*** " + text + " ***");
+                    texts.add("*" + text);
+                    texts.add("${" + text + "}");
+                    texts.add("@{" + text);
+                    texts.add("# " + text);
+                    texts.add("... " + text);
+                }
+            }
+        }
+        final String alphabet = "*[]{}$@&%#.: \tabcdefgiklmnoprstuvwyABCDEFGIKLMNOPRSTUVWYąę";
+        final Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            final StringBuilder text = new StringBuilder();
+            final int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            texts.add(text.toString());
+        }
+        return texts;
+    }
+
+    private static class DummyRecognizer extends ATokenRecognizer {
+
+        private final String requiredCharacters;
+
+        DummyRecognizer(final Pattern pattern, final String requiredCharacters) {
+            super(pattern, RobotTokenType.UNKNOWN, requiredCharacters);
+            this.requiredCharacters = requiredCharacters;
+        }
+
+        @Override
+        public ATokenRecognizer newInstance() {
+            return new DummyRecognizer(getPattern(), requiredCharacters);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.validation;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.validation.ValidationCache.CachedProblem;
+
+import com.google.common.io.Files;
+
+public class ValidationCacheTest {
+
+    @TempDir
+    File tempDir;
+
+    private File suite;
+
+    private File resource;
+
+    private File library;
+
+    private File otherSuite;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        suite = createFile("suite.robot", "suite content");
+        resource = createFile("res.robot", "resource content");
+        library = createFile("lib.py", "library content");
+        otherSuite = createFile("other.robot", "other content");
+    }
+
+    @Test
+    public void allFilesHaveToBeValidated_whenNothingIsCached() throws Exception {
+        final ValidationCache cache = new ValidationCache("sig");
+
+        assertThat(cache.findFilesToValidate(newArrayList(suite, resource, otherSuite))).containsExactly(suite,
+                resource, otherSuite);
+    }
+
+    @Test
+    public void noFilesHaveToBeValidated_whenNothingHasChanged() throws Exception {
+        final File cacheFile = storeValidationResults(new ValidationCache("sig"));
+
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "sig");
+        assertThat(cache.findFilesToValidate(newArrayList(suite, resource, otherSuite))).isEmpty();
+    }
+
+    @Test
+    public void changedFileAndFilesImportingItTransitivelyHaveToBeValidated() throws Exception {
+        final File cacheFile = storeValidationResults(new ValidationCache("sig"));
+        Files.asCharSink(library, StandardCharsets.UTF_8).write("changed library content");
+
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "sig");
+        assertThat(cache.findFilesToValidate(newArrayList(suite, resource, otherSuite))).containsExactly(suite,
+                resource);
+    }
+
+    @Test
+    public void filesImportingFileKnownToBeChangedHaveToBeValidated_evenWhenItsContentIsTheSame() throws Exception {
+        final File cacheFile = storeValidationResults(new ValidationCache("sig"));
+
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "sig");
+        assertThat(cache.findFilesToValidate(newArrayList(suite, resource, otherSuite), newArrayList(library)))
+                .containsExactly(suite, resource);
+    }
+
+    @Test
+    public void filesImportingRemovedFileHaveToBeValidated() throws Exception {
+        final File cacheFile = storeValidationResults(new ValidationCache("sig"));
+        resource.delete();
+
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "sig");
+        assertThat(cache.findFilesToValidate(newArrayList(suite, otherSuite))).containsExactly(suite);
+    }
+
+    @Test
+    public void filesWithUnresolvedImportsHaveToBeValidatedAlways() throws Exception {
+        final ValidationCache cache = new ValidationCache("sig");
+        cache.store(suite, newArrayList(), true, newArrayList());
+        cache.store(otherSuite, newArrayList(), false, newArrayList());
+
+        assertThat(cache.findFilesToValidate(newArrayList(suite, otherSuite))).containsExactly(suite);
+    }
+
+    @Test
+    public void newFilesHaveToBeValidated() throws Exception {
+        final File cacheFile = storeValidationResults(new ValidationCache("sig"));
+        final File newSuite = createFile("new.robot", "new content");
+
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "sig");
+        assertThat(cache.findFilesToValidate(newArrayList(suite, resource, otherSuite, newSuite)))
+                .containsExactly(newSuite);
+    }
+
+    @Test
+    public void cacheIsDropped_whenSignatureIsDifferent() throws Exception {
+        final File cacheFile = storeValidationResults(new ValidationCache("sig"));
+
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "other_sig");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.findFilesToValidate(newArrayList(suite, otherSuite))).containsExactly(suite, otherSuite);
+    }
+
+    @Test
+    public void cacheIsDropped_whenFileIsCorrupted() throws Exception {
+        final File cacheFile = createFile("cache.json", "{ corrupted");
+
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "sig");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void problemsAreReadFromCache() throws Exception {
+        final File cacheFile = storeValidationResults(new ValidationCache("sig"));
+
+        final ValidationCache cache = ValidationCache.readFrom(cacheFile, "sig");
+        final List<CachedProblem> problems = cache.getProblems(suite);
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).getLine()).isEqualTo(3);
+        assertThat(problems.get(0).getMessage()).isEqualTo("Unknown keyword");
+        assertThat(problems.get(0).getSeverity()).isEqualTo("error");
+        assertThat(cache.getProblems(otherSuite)).isEmpty();
+        assertThat(cache.getProblems(library)).isEmpty();
+    }
+
+    @Test
+    public void filesWhichAreNotRetainedAreRemovedFromCache() throws Exception {
+        final ValidationCache cache = new ValidationCache("sig");
+        storeValidationResults(cache);
+        cache.retainOnly(newArrayList(otherSuite));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getProblems(suite)).isEmpty();
+        assertThat(cache.findFilesToValidate(newArrayList(suite, otherSuite))).containsExactly(suite);
+    }
+
+    @Test
+    public void directoriesAreHashedTogetherWithTheirContent() throws Exception {
+        final File dir = new File(tempDir, "package");
+        dir.mkdir();
+        final File module = new File(dir, "module.py");
+        Files.asCharSink(module, StandardCharsets.UTF_8).write("content");
+
+        final String hash = ValidationCache.hash(dir).get();
+        assertThat(ValidationCache.hash(dir)).hasValue(hash);
+
+        Files.asCharSink(module, StandardCharsets.UTF_8).write("changed content");
+        assertThat(ValidationCache.hash(dir).get()).isNotEqualTo(hash);
+        assertThat(ValidationCache.hash(new File(tempDir, "not_existing"))).isEmpty();
+    }
+
+    private File storeValidationResults(final ValidationCache cache) throws IOException {
+        cache.store(suite, newArrayList(resource), false,
+                newArrayList(new CachedProblem(3, "Unknown keyword", "error")));
+        cache.store(resource, newArrayList(library), false, newArrayList());
+        cache.store(otherSuite, newArrayList(), false, newArrayList());
+
+        final File cacheFile = new File(tempDir, "cache.json");
+        cache.writeTo(cacheFile);
+        return cacheFile;
+    }
+
+    private File createFile(final String name, final String content) throws IOException {
+        final File file = new File(tempDir, name);
+        Files.asCharSink(file, StandardCharsets.UTF_8).write(content);
+        return file;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.watcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RedFileWatcherTest {
+
+    private static final long DEBOUNCE_WINDOW = 500;
+
+    @TempDir
+    File tempDir;
+
+    private RedFileWatcher watcher;
+
+    @BeforeEach
+    public void beforeTest() {
+        watcher = new RedFileWatcher(DEBOUNCE_WINDOW);
+    }
+
+    @AfterEach
+    public void afterTest() {
+        watcher.closeWatchService();
+    }
+
+    @Test
+    public void modificationOfRegisteredFileIsReported() throws Exception {
+        final Path file = createFile("dir", "lib.py");
+        final BatchesCollectingHandler handler = new BatchesCollectingHandler();
+        watcher.registerFile(file, handler);
+
+        modify(file);
+
+        assertThat(handler.nextBatch()).containsOnly(file);
+        assertThat(handler.noMoreBatches()).isTrue();
+    }
+
+    @Test
+    public void filesAreDistinguishedByPath_whenTheyHaveSameName() throws Exception {
+        final Path file1 = createFile("dir1", "lib.py");
+        final Path file2 = createFile("dir2", "lib.py");
+        final BatchesCollectingHandler handler = new BatchesCollectingHandler();
+        watcher.registerFile(file1, handler);
+
+        modify(file2);
+        modify(file1);
+
+        assertThat(handler.nextBatch()).containsOnly(file1);
+        assertThat(handler.noMoreBatches()).isTrue();
+    }
+
+    @Test
+    public void burstOfChangesInManyDirectoriesIsReportedInSingleBatch() throws Exception {
+        final Set<Path> files = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 20; j++) {
+                files.add(createFile("dir" + i, "lib" + j + ".py"));
+            }
+        }
+        final BatchesCollectingHandler handler = new BatchesCollectingHandler();
+        for (final Path file : files) {
+            watcher.registerFile(file, handler);
+        }
+
+        for (int k = 0; k < 5; k++) {
+            for (final Path file : files) {
+                modify(file);
+            }
+        }
+
+        assertThat(handler.nextBatch()).containsOnlyElementsOf(files).hasSameSizeAs(files);
+        assertThat(handler.noMoreBatches()).isTrue();
+    }
+
+    @Test
+    public void eachHandlerIsNotifiedOnlyAboutItsFiles() throws Exception {
+        final Path file1 = createFile("dir", "lib1.py");
+        final Path file2 = createFile("dir", "lib2.py");
+        final Path file3 = createFile("dir", "lib3.py");
+        final BatchesCollectingHandler handler1 = new BatchesCollectingHandler();
+        final BatchesCollectingHandler handler2 = new BatchesCollectingHandler();
+        watcher.registerFile(file1, handler1);
+        watcher.registerFile(file2, handler1);
+        watcher.registerFile(file2, handler2);
+        watcher.registerFile(file3, handler2);
+
+        modify(file1);
+        modify(file2);
+        modify(file3);
+
+        assertThat(handler1.nextBatch()).containsOnly(file1, file2);
+        assertThat(handler2.nextBatch()).containsOnly(file2, file3);
+    }
+
+    @Test
+    public void modificationOfUnregisteredFileIsNotReported() throws Exception {
+        final Path file1 = createFile("dir", "lib1.py");
+        final Path file2 = createFile("dir", "lib2.py");
+        final BatchesCollectingHandler handler = new BatchesCollectingHandler();
+        watcher.registerFile(file1, handler);
+        watcher.registerFile(file2, handler);
+        watcher.unregisterFile(file1, handler);
+
+        modify(file1);
+        modify(file2);
+
+        assertThat(handler.nextBatch()).containsOnly(file2);
+        assertThat(handler.noMoreBatches()).isTrue();
+    }
+
+    @Test
+    public void handlersAreNotifiedAboutInterruption_whenServiceIsClosed() throws Exception {
+        final Path file = createFile("dir", "lib.py");
+        final BatchesCollectingHandler handler = new BatchesCollectingHandler();
+        watcher.registerFile(file, handler);
+
+        watcher.closeWatchService();
+
+        assertThat(handler.interrupted.get()).isTrue();
+    }
+
+    private Path createFile(final String dirName, final String fileName) throws IOException {
+        final File dir = new File(tempDir, dirName);
+        dir.mkdirs();
+        final File file = new File(dir, fileName);
+        file.createNewFile();
+        return file.toPath().toAbsolutePath().normalize();
+    }
+
+    private static void modify(final Path file) throws IOException {
+        Files.write(file, "x".getBytes(), StandardOpenOption.APPEND);
+    }
+
+    private static class BatchesCollectingHandler implements IWatchEventHandler {
+
+        private final BlockingQueue<Set<Path>> batches = new LinkedBlockingQueue<>();
+
+        private final AtomicBoolean interrupted = new AtomicBoolean(false);
+
+        @Override
+        public void handleModifyEvents(final Set<Path> modifiedFiles) {
+            batches.add(modifiedFiles);
+        }
+
+        @Override
+        public void watchServiceInterrupted() {
+            interrupted.set(true);
+        }
+
+        Set<Path> nextBatch() throws InterruptedException {
+            // polling watch services (e.g. on macOS) may need few seconds to notice changes
+            final Set<Path> batch = batches.poll(20, TimeUnit.SECONDS);
+            assertThat(batch).isNotNull();
+            return batch;
+        }
+
+        boolean noMoreBatches() throws InterruptedException {
+            return batches.poll(3 * DEBOUNCE_WINDOW, TimeUnit.MILLISECONDS) == null;
+        }
+    }
+}
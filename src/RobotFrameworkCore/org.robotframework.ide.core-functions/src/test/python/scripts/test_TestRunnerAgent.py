@@ -3,6 +3,12 @@ import unittest
 from TestRunnerAgent import _truncate
 from TestRunnerAgent import _extract_source_path
 from TestRunnerAgent import _collect_children_paths
+from TestRunnerAgent import _is_pausing_possible
+from TestRunnerAgent import _label_with_types
+from TestRunnerAgent import _fix_unicode
+from TestRunnerAgent import _unchanged_scopes_omitted
+from TestRunnerAgent import MAX_ELEMENTS_SENT_PER_VARIABLE
+from TestRunnerAgent import PausingPoint
 
 
 
@@ -108,3 +114,133 @@ class ChildrenPathsCollectingTests(unittest.TestCase):
         
         self.assertEqual([], _collect_children_paths(suites, source))
         
+
+
+class PausingHintsTests(unittest.TestCase):
+
+    def _hints(self, ask_always=False, pause_on_error=False, line_breakpoints={}, keyword_fail_breakpoints=False):
+        return {'ask_always': ask_always,
+                'pause_on_error': pause_on_error,
+                'line_breakpoints': line_breakpoints,
+                'keyword_fail_breakpoints': keyword_fail_breakpoints}
+
+    def test_pausing_is_possible_everywhere_when_there_are_no_hints(self):
+        for point in [PausingPoint.PRE_START_KEYWORD, PausingPoint.START_KEYWORD,
+                      PausingPoint.PRE_END_KEYWORD, PausingPoint.END_KEYWORD]:
+            self.assertTrue(_is_pausing_possible(None, point, {}))
+
+    def test_pausing_is_possible_everywhere_when_asking_always_is_hinted(self):
+        hints = self._hints(ask_always=True)
+        for point in [PausingPoint.PRE_START_KEYWORD, PausingPoint.START_KEYWORD,
+                      PausingPoint.PRE_END_KEYWORD, PausingPoint.END_KEYWORD]:
+            self.assertTrue(_is_pausing_possible(hints, point, {}))
+
+    def test_pausing_is_not_possible_when_nothing_is_hinted(self):
+        hints = self._hints()
+        for point in [PausingPoint.PRE_START_KEYWORD, PausingPoint.START_KEYWORD,
+                      PausingPoint.PRE_END_KEYWORD, PausingPoint.END_KEYWORD]:
+            self.assertFalse(_is_pausing_possible(hints, point, {'status': 'FAIL'}))
+
+    def test_pausing_on_error_is_possible_only_when_keyword_starts(self):
+        hints = self._hints(pause_on_error=True)
+
+        self.assertTrue(_is_pausing_possible(hints, PausingPoint.PRE_START_KEYWORD, {}))
+        self.assertTrue(_is_pausing_possible(hints, PausingPoint.START_KEYWORD, {}))
+        self.assertFalse(_is_pausing_possible(hints, PausingPoint.PRE_END_KEYWORD, {}))
+        self.assertFalse(_is_pausing_possible(hints, PausingPoint.END_KEYWORD, {}))
+
+    def test_line_breakpoint_is_matched_by_file_name_and_line_when_keyword_location_is_known(self):
+        hints = self._hints(line_breakpoints={'suite.robot': [3, 7]})
+
+        self.assertTrue(_is_pausing_possible(hints, PausingPoint.PRE_START_KEYWORD,
+                                             {'source': '/dir/suite.robot', 'lineno': 7}))
+        self.assertFalse(_is_pausing_possible(hints, PausingPoint.PRE_START_KEYWORD,
+                                              {'source': '/dir/suite.robot', 'lineno': 5}))
+        self.assertFalse(_is_pausing_possible(hints, PausingPoint.PRE_START_KEYWORD,
+                                              {'source': '/dir/other.robot', 'lineno': 7}))
+        self.assertFalse(_is_pausing_possible(hints, PausingPoint.START_KEYWORD,
+                                              {'source': '/dir/suite.robot', 'lineno': 7}))
+
+    def test_any_line_breakpoint_could_be_hit_when_keyword_location_is_unknown(self):
+        self.assertTrue(_is_pausing_possible(self._hints(line_breakpoints={'suite.robot': [3]}),
+                                             PausingPoint.PRE_START_KEYWORD, {}))
+        self.assertFalse(_is_pausing_possible(self._hints(line_breakpoints={}),
+                                              PausingPoint.PRE_START_KEYWORD, {}))
+
+    def test_keyword_fail_breakpoint_could_be_hit_only_when_keyword_failed(self):
+        hints = self._hints(keyword_fail_breakpoints=True)
+
+        self.assertTrue(_is_pausing_possible(hints, PausingPoint.PRE_END_KEYWORD, {'status': 'FAIL'}))
+        self.assertFalse(_is_pausing_possible(hints, PausingPoint.PRE_END_KEYWORD, {'status': 'PASS'}))
+        self.assertFalse(_is_pausing_possible(hints, PausingPoint.END_KEYWORD, {'status': 'FAIL'}))
+
+
+class VariablesLabelingTests(unittest.TestCase):
+
+    def _label_and_fix(self, value, expanded_paths=set()):
+        return _fix_unicode(0, _label_with_types(value, expanded_paths))
+
+    def test_all_elements_are_labeled_when_expanded_paths_are_not_given(self):
+        value = list(range(MAX_ELEMENTS_SENT_PER_VARIABLE + 1))
+
+        labeled = _fix_unicode(0, _label_with_types(value))
+
+        self.assertEqual('list', labeled[0])
+        self.assertEqual(MAX_ELEMENTS_SENT_PER_VARIABLE + 1, len(labeled[1]))
+
+    def test_small_collections_are_labeled_with_elements(self):
+        self.assertEqual(('list', [('int', '1'), ('str', 'a')]), self._label_and_fix([1, 'a']))
+        self.assertEqual(('dict', {'k': ('tuple', (('int', '2'),))}), self._label_and_fix({'k': (2,)}))
+
+    def test_big_collections_are_labeled_as_handles(self):
+        big_list = list(range(MAX_ELEMENTS_SENT_PER_VARIABLE + 1))
+        big_dict = dict((str(i), i) for i in big_list)
+
+        self.assertEqual(('list', ['list', MAX_ELEMENTS_SENT_PER_VARIABLE + 1]), self._label_and_fix(big_list))
+        self.assertEqual(('dict', ['dict', MAX_ELEMENTS_SENT_PER_VARIABLE + 1]), self._label_and_fix(big_dict))
+        self.assertEqual(('list', [('int', '1'), ('list', ['list', MAX_ELEMENTS_SENT_PER_VARIABLE + 1])]),
+                         self._label_and_fix([1, big_list]))
+
+    def test_nested_collections_are_labeled_as_handles_when_elements_limit_is_exceeded(self):
+        half = list(range(MAX_ELEMENTS_SENT_PER_VARIABLE // 2))
+
+        labeled = self._label_and_fix([half, half, half])
+
+        self.assertEqual('list', labeled[1][0][0])
+        self.assertEqual(len(half), len(labeled[1][0][1]))
+        self.assertEqual(('list', ['list', len(half)]), labeled[1][2])
+
+    def test_expanded_collections_are_labeled_with_elements(self):
+        big_list = list(range(MAX_ELEMENTS_SENT_PER_VARIABLE + 1))
+
+        labeled = self._label_and_fix({'key': [big_list]}, set([(), ('key',), ('key', '0')]))
+
+        self.assertEqual(MAX_ELEMENTS_SENT_PER_VARIABLE + 1, len(labeled[1]['key'][1][0][1]))
+
+
+class UnchangedScopesOmittingTests(unittest.TestCase):
+
+    def test_all_scopes_are_kept_when_nothing_was_sent_before(self):
+        self.assertEqual([{'${a}': 1}, {}], _unchanged_scopes_omitted([], [{'${a}': 1}, {}]))
+
+    def test_unchanged_scopes_are_omitted(self):
+        previous = [{'${local}': 1}, {'${test}': 2}, {'${global}': 3}]
+        current = [{'${local}': 1}, {'${test}': 5}, {'${global}': 3}]
+
+        self.assertEqual([None, {'${test}': 5}, None], _unchanged_scopes_omitted(previous, current))
+
+    def test_scopes_with_handles_of_different_collections_are_not_omitted(self):
+        big_list = list(range(MAX_ELEMENTS_SENT_PER_VARIABLE + 1))
+        other_big_list = list(range(MAX_ELEMENTS_SENT_PER_VARIABLE + 1))
+        previous = [{'${a}': _label_with_types(big_list, set())}]
+
+        self.assertEqual([None], _unchanged_scopes_omitted(previous, [{'${a}': _label_with_types(big_list, set())}]))
+        self.assertEqual([{'${a}': ('list', ['list', MAX_ELEMENTS_SENT_PER_VARIABLE + 1])}],
+                         _unchanged_scopes_omitted(previous, [{'${a}': _label_with_types(other_big_list, set())}]))
+
+    def test_scopes_are_matched_starting_from_outermost_one(self):
+        previous = [{'${test}': 2}, {'${global}': 3}]
+        current = [{'${test}': 2}, {'${test}': 2}, {'${global}': 3}]
+
+        self.assertEqual([{'${test}': 2}, None, None], _unchanged_scopes_omitted(previous, current))
+        self.assertEqual([None, None], _unchanged_scopes_omitted(current, previous))